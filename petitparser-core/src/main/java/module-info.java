@@ -1,4 +1,6 @@
 module petitparser.core {
+  requires static java.compiler;
+
   exports org.petitparser.context;
   exports org.petitparser.parser;
   exports org.petitparser.parser.actions;
@@ -8,7 +8,7 @@ public class Context {
   /**
    * The input buffer.
    */
-  protected final String buffer;
+  protected final CharSequence buffer;
 
   /**
    * The current position.
@@ -16,20 +16,37 @@ public class Context {
   protected final int position;
 
   /**
-   * Constructs an immutable parse context.
+   * The line index of the buffer, shared by all contexts of a parse.
+   */
+  protected final LineIndex lineIndex;
+
+  /**
+   * Constructs an immutable parse context with a new line index.
    *
    * @param buffer   the buffer this context is using
    * @param position the position this context is pointing at
    */
-  public Context(String buffer, int position) {
+  public Context(CharSequence buffer, int position) {
+    this(buffer, position, new LineIndex(buffer));
+  }
+
+  /**
+   * Constructs an immutable parse context.
+   *
+   * @param buffer    the buffer this context is using
+   * @param position  the position this context is pointing at
+   * @param lineIndex the line index of the buffer
+   */
+  public Context(CharSequence buffer, int position, LineIndex lineIndex) {
     this.buffer = buffer;
     this.position = position;
+    this.lineIndex = lineIndex;
   }
 
   /**
    * Returns the input buffer.
    */
-  public String getBuffer() {
+  public CharSequence getBuffer() {
     return buffer;
   }
 
@@ -40,6 +57,13 @@ public class Context {
     return position;
   }
 
+  /**
+   * Returns the line index of the buffer.
+   */
+  public LineIndex getLineIndex() {
+    return lineIndex;
+  }
+
   /**
    * Returns a successful parse result at the current position.
    *
@@ -56,7 +80,7 @@ public class Context {
    * @param position the position of the parse result
    */
   public Success success(Object value, int position) {
-    return new Success(buffer, position, value);
+    return new Success(buffer, position, value, lineIndex);
   }
 
   /**
@@ -75,12 +99,12 @@ public class Context {
    * @param position the position of the parse result
    */
   public Failure failure(String message, int position) {
-    return new Failure(buffer, position, message);
+    return new Failure(buffer, position, message, lineIndex);
   }
 
   @Override
   public String toString() {
-    int[] tuple = Token.lineAndColumnOf(buffer, position);
+    int[] tuple = lineIndex.lineAndColumnOf(position);
     return getClass().getSimpleName() + "[" + tuple[0] + ":" + tuple[1] + "]";
   }
 }
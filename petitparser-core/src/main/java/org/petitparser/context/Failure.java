@@ -7,11 +7,17 @@ public class Failure extends Result {
 
   private final String message;
 
-  public Failure(String buffer, int position, String message) {
+  public Failure(CharSequence buffer, int position, String message) {
     super(buffer, position);
     this.message = message;
   }
 
+  public Failure(CharSequence buffer, int position, String message,
+      LineIndex lineIndex) {
+    super(buffer, position, lineIndex);
+    this.message = message;
+  }
+
   @Override
   public String getMessage() {
     return message;
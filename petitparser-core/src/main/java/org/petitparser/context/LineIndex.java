@@ -0,0 +1,90 @@
+package org.petitparser.context;
+
+import java.util.Arrays;
+
+/**
+ * An index of the line starts in an input buffer.
+ *
+ * <p>The index is built lazily with a single scan over the buffer and then
+ * converts positions to lines and columns using a binary search. Newlines are
+ * detected platform independently, the same way as {@link Token#NEWLINE_PARSER}
+ * does. A parse creates one index for its buffer, that is shared by all the
+ * tokens and results of that parse, see {@link Context#getLineIndex()}.
+ */
+public final class LineIndex {
+
+  private final CharSequence buffer;
+  private volatile int[] starts;
+
+  /**
+   * Constructs the line index of {@code buffer}.
+   */
+  public LineIndex(CharSequence buffer) {
+    this.buffer = buffer;
+  }
+
+  /**
+   * Returns the buffer this index refers to.
+   */
+  public CharSequence getBuffer() {
+    return buffer;
+  }
+
+  private int[] starts() {
+    int[] starts = this.starts;
+    if (starts == null) {
+      this.starts = starts = scan(buffer);
+    }
+    return starts;
+  }
+
+  private static int[] scan(CharSequence buffer) {
+    int[] starts = new int[16];
+    int lines = 1;
+    int length = buffer.length();
+    for (int position = 0; position < length; position++) {
+      char value = buffer.charAt(position);
+      if (value == '\r' && position + 1 < length
+          && buffer.charAt(position + 1) == '\n') {
+        position++;
+      } else if (value != '\n' && value != '\r') {
+        continue;
+      }
+      if (lines == starts.length) {
+        starts = Arrays.copyOf(starts, 2 * lines);
+      }
+      starts[lines++] = position + 1;
+    }
+    return Arrays.copyOf(starts, lines);
+  }
+
+  /**
+   * Returns the number of lines.
+   */
+  public int getLineCount() {
+    return starts().length;
+  }
+
+  /**
+   * Returns the line number (starting at 1) of {@code position}.
+   */
+  public int getLine(int position) {
+    int index = Arrays.binarySearch(starts(), position);
+    return index < 0 ? -index - 1 : index + 1;
+  }
+
+  /**
+   * Returns the column number (starting at 1) of {@code position}.
+   */
+  public int getColumn(int position) {
+    return position - starts()[getLine(position) - 1] + 1;
+  }
+
+  /**
+   * Returns the line and column tuple of {@code position}.
+   */
+  public int[] lineAndColumnOf(int position) {
+    int line = getLine(position);
+    return new int[]{line, position - starts()[line - 1] + 1};
+  }
+}
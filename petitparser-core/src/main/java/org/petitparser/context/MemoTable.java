@@ -0,0 +1,175 @@
+package org.petitparser.context;
+
+import java.util.Arrays;
+
+/**
+ * A mutable table of parse results keyed by input position.
+ *
+ * <p>The table uses open addressing over primitive {@code int} positions, so
+ * neither the lookup nor the insertion box the keys. For every position the
+ * table keeps the stop position (as returned by {@link
+ * org.petitparser.parser.Parser#fastParseOn(CharSequence, int)}) and optionally the
+ * full {@link Result}.
+ */
+public final class MemoTable implements Session.Releasable {
+
+  /**
+   * Returned by {@link #getStop(int)} if the position is not memoized.
+   */
+  public static final int UNKNOWN = -2;
+
+  private static final int FREE = -1;
+
+  private int[] keys;
+  private int[] stops;
+  private Result[] results;
+  private int shift;
+  private int size;
+  private int hits;
+  private int misses;
+
+  public MemoTable() {
+    this(16);
+  }
+
+  public MemoTable(int capacity) {
+    allocate(Integer.highestOneBit(Math.max(4, capacity - 1) << 1));
+  }
+
+  /**
+   * Returns the number of memoized positions.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the memoized {@link Result} at {@code position}, or {@code null}.
+   */
+  public Result get(int position) {
+    int index = indexOf(position);
+    Result result = keys[index] == FREE ? null : results[index];
+    if (result == null) {
+      misses++;
+    } else {
+      hits++;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the memoized stop position at {@code position}, {@code -1} for a
+   * memoized failure, or {@link #UNKNOWN}.
+   */
+  public int getStop(int position) {
+    int index = indexOf(position);
+    if (keys[index] == FREE) {
+      misses++;
+      return UNKNOWN;
+    }
+    hits++;
+    return stops[index];
+  }
+
+  /**
+   * Returns the number of lookups that found a memoized position.
+   */
+  public int getHitCount() {
+    return hits;
+  }
+
+  /**
+   * Returns the number of lookups that did not find a memoized position.
+   */
+  public int getMissCount() {
+    return misses;
+  }
+
+  /**
+   * Memoizes the {@code result} at {@code position}.
+   */
+  public void put(int position, Result result) {
+    int index = insert(position);
+    stops[index] = result.isSuccess() ? result.getPosition() : -1;
+    results[index] = result;
+  }
+
+  /**
+   * Memoizes the {@code stop} position (or {@code -1} for failure) at
+   * {@code position}.
+   */
+  public void putStop(int position, int stop) {
+    int index = insert(position);
+    stops[index] = stop;
+  }
+
+  /**
+   * Removes the memoized positions before {@code position}, and shrinks the
+   * table to the remaining positions.
+   */
+  @Override
+  public void release(int position) {
+    int remaining = 0;
+    for (int key : keys) {
+      if (key != FREE && key >= position) {
+        remaining++;
+      }
+    }
+    if (remaining < size) {
+      rehash(position, Math.max(16, Integer.highestOneBit(remaining) << 2));
+      size = remaining;
+    }
+  }
+
+  private int insert(int position) {
+    int index = indexOf(position);
+    if (keys[index] == FREE) {
+      if (2 * (size + 1) > keys.length) {
+        grow();
+        index = indexOf(position);
+      }
+      keys[index] = position;
+      size++;
+    }
+    return index;
+  }
+
+  private int indexOf(int position) {
+    int mask = keys.length - 1;
+    int index = position * 0x9E3779B9 >>> shift;
+    while (keys[index] != FREE && keys[index] != position) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  private void grow() {
+    rehash(0, 2 * keys.length);
+  }
+
+  /**
+   * Moves the positions from {@code start} into a table of {@code length}.
+   */
+  private void rehash(int start, int length) {
+    int[] oldKeys = keys;
+    int[] oldStops = stops;
+    Result[] oldResults = results;
+    allocate(length);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != FREE && oldKeys[i] >= start) {
+        int index = indexOf(oldKeys[i]);
+        keys[index] = oldKeys[i];
+        stops[index] = oldStops[i];
+        results[index] = oldResults[i];
+      }
+    }
+  }
+
+  private void allocate(int length) {
+    keys = new int[length];
+    stops = new int[length];
+    results = new Result[length];
+    shift = Integer.numberOfLeadingZeros(length) + 1;
+    Arrays.fill(keys, FREE);
+  }
+}
@@ -12,6 +12,15 @@ public class ParseError extends RuntimeException {
     this.failure = failure;
   }
 
+  /**
+   * Constructs a parse error, optionally without filling in the (expensive)
+   * stack trace.
+   */
+  public ParseError(Failure failure, boolean stackTrace) {
+    super(failure.getMessage(), null, stackTrace, stackTrace);
+    this.failure = failure;
+  }
+
   /**
    * Return the parse {@link Context} causing this error.
    */
@@ -0,0 +1,350 @@
+package org.petitparser.context;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A mutable parse state.
+ *
+ * <p>In contrast to the immutable {@link Context} that is copied on every
+ * parse step, a single instance of this class is threaded through all parsers
+ * and updated in place: a successful parser advances the position and stores
+ * its value, a failing parser moves the position to the failure and stores its
+ * message. The state can be reused for multiple parses using {@link
+ * #reset(CharSequence, int)}.
+ *
+ * <p>Failures are signalled without allocating any objects. In addition to the
+ * last failure, the state keeps a register of the farthest position any
+ * parser failed at together with the messages of all parsers that failed
+ * there, see {@link #toFarthestFailure()}.
+ */
+public final class ParseState {
+
+  private CharSequence buffer;
+  private LineIndex lineIndex;
+  private int position;
+  private Object value;
+  private String message;
+
+  private int farthestPosition;
+  private String[] expected = new String[4];
+  private int expectedCount;
+  private int suspended;
+  private int discarding;
+
+  /**
+   * Constructs a mutable parse state.
+   *
+   * @param buffer   the buffer this state is using
+   * @param position the position this state is pointing at
+   */
+  public ParseState(CharSequence buffer, int position) {
+    reset(buffer, position);
+  }
+
+  /**
+   * Constructs a mutable parse state continuing from {@code context}, sharing
+   * its line index.
+   *
+   * @param context the context this state starts at
+   */
+  public ParseState(Context context) {
+    reset(context.getBuffer(), context.getPosition());
+    this.lineIndex = context.getLineIndex();
+  }
+
+  /**
+   * Resets this state to start parsing {@code buffer} at {@code position}.
+   */
+  public void reset(CharSequence buffer, int position) {
+    if (this.buffer != buffer) {
+      this.lineIndex = null;
+    }
+    this.buffer = buffer;
+    this.position = position;
+    this.value = null;
+    this.message = null;
+    this.farthestPosition = -1;
+    this.expectedCount = 0;
+    this.suspended = 0;
+    this.discarding = 0;
+  }
+
+  /**
+   * Returns the input buffer.
+   */
+  public CharSequence getBuffer() {
+    return buffer;
+  }
+
+  /**
+   * Returns the line index of the buffer, created on first access and shared
+   * by all the tokens and results of the parse.
+   */
+  public LineIndex getLineIndex() {
+    if (lineIndex == null) {
+      lineIndex = new LineIndex(buffer);
+    }
+    return lineIndex;
+  }
+
+  /**
+   * Returns the current position.
+   */
+  public int getPosition() {
+    return position;
+  }
+
+  /**
+   * Moves the current position, for example to backtrack.
+   */
+  public void setPosition(int position) {
+    this.position = position;
+  }
+
+  /**
+   * Returns the value of the last successful parse step.
+   *
+   * @param <T> The type of the value.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getValue() {
+    return (T) value;
+  }
+
+  /**
+   * Returns the message of the last failed parse step.
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Records a successful parse step at the current position, always returns
+   * {@code true}.
+   *
+   * @param value the value of the parse step
+   */
+  public boolean success(Object value) {
+    this.value = value;
+    return true;
+  }
+
+  /**
+   * Records a successful parse step, always returns {@code true}.
+   *
+   * @param value    the value of the parse step
+   * @param position the position after the parse step
+   */
+  public boolean success(Object value, int position) {
+    this.value = value;
+    this.position = position;
+    return true;
+  }
+
+  /**
+   * Records a failed parse step at the current position, always returns
+   * {@code false}.
+   *
+   * @param message the error message of the parse step
+   */
+  public boolean failure(String message) {
+    this.message = message;
+    expect(position, message);
+    return false;
+  }
+
+  /**
+   * Records a failed parse step, always returns {@code false}.
+   *
+   * @param message  the error message of the parse step
+   * @param position the position of the failure
+   */
+  public boolean failure(String message, int position) {
+    this.message = message;
+    this.position = position;
+    expect(position, message);
+    return false;
+  }
+
+  /**
+   * Records a failed parse step without registering its message as expected
+   * at the {@link #getFarthestPosition() farthest position}, always returns
+   * {@code false}. Use this for failures that do not stem from the input,
+   * such as a cut off recursion.
+   *
+   * @param message  the error message of the parse step
+   * @param position the position of the failure
+   */
+  public boolean silentFailure(String message, int position) {
+    this.message = message;
+    this.position = position;
+    return false;
+  }
+
+  /**
+   * Registers {@code message} as expected at {@code position}, without
+   * recording a failure. Use this for parsers that succeed where the input
+   * stops matching, such as repetitions that scan characters.
+   *
+   * @param message  the error message of the input that did not match
+   * @param position the position of the input that did not match
+   */
+  public void expected(String message, int position) {
+    expect(position, message);
+  }
+
+  /**
+   * Returns the farthest position any parser failed at, or {@code -1}.
+   */
+  public int getFarthestPosition() {
+    return farthestPosition;
+  }
+
+  /**
+   * Returns the distinct messages of the parsers that failed at the {@link
+   * #getFarthestPosition() farthest position}, in the order they failed.
+   */
+  public List<String> getExpected() {
+    return Collections.unmodifiableList(
+        Arrays.asList(Arrays.copyOf(expected, expectedCount)));
+  }
+
+  /**
+   * Suspends registering the messages of failures as expected, until the
+   * matching call of {@link #resumeExpected()}. Use this around lookaheads,
+   * whose failures do not tell what the input is expected to contain, or
+   * when the register is not needed at all. Calls can be nested.
+   */
+  public void suspendExpected() {
+    suspended++;
+  }
+
+  /**
+   * Resumes registering the messages of failures as expected, see {@link
+   * #suspendExpected()}.
+   */
+  public void resumeExpected() {
+    suspended--;
+  }
+
+  /**
+   * Tests if the messages of failures are registered as expected, see {@link
+   * #suspendExpected()}.
+   */
+  public boolean isExpecting() {
+    return suspended == 0;
+  }
+
+  /**
+   * Signals parsers that their values are discarded until the matching call
+   * of {@link #keepValues()}, so that they can skip building them. The value
+   * of a successful parse step is unspecified meanwhile. Calls can be nested.
+   */
+  public void discardValues() {
+    discarding++;
+  }
+
+  /**
+   * Signals parsers to build their values again, see {@link
+   * #discardValues()}.
+   */
+  public void keepValues() {
+    discarding--;
+  }
+
+  /**
+   * Tests if the values of successful parse steps are discarded, see {@link
+   * #discardValues()}.
+   */
+  public boolean isDiscardingValues() {
+    return discarding > 0;
+  }
+
+  /**
+   * Signals parsers to build their values, even within calls of {@link
+   * #discardValues()}, until the matching call of {@link
+   * #resumeDiscarding(int)} with the returned token. Memoizing parsers use
+   * this, so that the results they cache can be reused in either mode.
+   */
+  public int suspendDiscarding() {
+    int previous = discarding;
+    discarding = 0;
+    return previous;
+  }
+
+  /**
+   * Restores discarding values as before the matching call of {@link
+   * #suspendDiscarding()}, that returned {@code token}.
+   */
+  public void resumeDiscarding(int token) {
+    discarding = token;
+  }
+
+  private void expect(int position, String message) {
+    if (suspended > 0 || position < farthestPosition) {
+      return;
+    }
+    if (position > farthestPosition) {
+      farthestPosition = position;
+      expectedCount = 0;
+    } else {
+      for (int i = 0; i < expectedCount; i++) {
+        if (Objects.equals(expected[i], message)) {
+          return;
+        }
+      }
+    }
+    if (expectedCount == expected.length) {
+      expected = Arrays.copyOf(expected, 2 * expectedCount);
+    }
+    expected[expectedCount++] = message;
+  }
+
+  /**
+   * Returns an immutable context at the current position.
+   */
+  public Context toContext() {
+    return new Context(buffer, position, getLineIndex());
+  }
+
+  /**
+   * Returns an immutable result of the last parse step, that was either
+   * {@code successful} or not.
+   */
+  public Result toResult(boolean successful) {
+    return successful ? new Success(buffer, position, value, getLineIndex()) :
+        new Failure(buffer, position, message, getLineIndex());
+  }
+
+  /**
+   * Returns an immutable failure at the {@link #getFarthestPosition() farthest
+   * position}, with the {@link #getExpected() expected} messages joined by
+   * {@code " OR "}.
+   */
+  public Failure toFarthestFailure() {
+    return expectedCount == 0 ?
+        new Failure(buffer, position, message, getLineIndex()) :
+        new Failure(buffer, farthestPosition, String.join(" OR ",
+            Arrays.asList(expected).subList(0, expectedCount)),
+            getLineIndex());
+  }
+
+  /**
+   * Updates this state from an immutable {@code result}, returns {@code true}
+   * if the result is a success.
+   */
+  public boolean apply(Result result) {
+    return result.isSuccess() ?
+        success(result.get(), result.getPosition()) :
+        failure(result.getMessage(), result.getPosition());
+  }
+
+  @Override
+  public String toString() {
+    int[] tuple = getLineIndex().lineAndColumnOf(position);
+    return getClass().getSimpleName() + "[" + tuple[0] + ":" + tuple[1] + "]";
+  }
+}
@@ -5,10 +5,14 @@ package org.petitparser.context;
  */
 public abstract class Result extends Context {
 
-  public Result(String buffer, int position) {
+  public Result(CharSequence buffer, int position) {
     super(buffer, position);
   }
 
+  public Result(CharSequence buffer, int position, LineIndex lineIndex) {
+    super(buffer, position, lineIndex);
+  }
+
   /**
    * Returns {@code true} if this result indicates a parse success.
    */
@@ -0,0 +1,128 @@
+package org.petitparser.context;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The mutable state shared by all parsers during a single top-level parse call.
+ *
+ * <p>Parsers are immutable and can be shared between threads, thus any state
+ * that only lives for the duration of a parse (such as memoization tables) is
+ * attached to a session. A session is opened on the current thread by the
+ * top-level entry points of {@link org.petitparser.parser.Parser}, if a
+ * parser of the graph {@link org.petitparser.parser.Parser#usesSession()
+ * uses one}, and is discarded as soon as the parse call returns. An already
+ * open session on the same buffer is reused.
+ *
+ * <p>The session also tracks the position of the last {@link
+ * org.petitparser.parser.combinators.CutParser cut}: no parser backtracks to
+ * a position before it, thus state kept for such positions can be released.
+ */
+public final class Session {
+
+  private static final ThreadLocal<Session> CURRENT = new ThreadLocal<>();
+
+  /**
+   * Returns the session active on the current thread, or {@code null}.
+   */
+  public static Session current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Opens a new session on {@code buffer} for the current thread. Returns the
+   * previously active session, that must be restored using {@link
+   * #close(Session)}.
+   */
+  public static Session open(CharSequence buffer) {
+    Session previous = CURRENT.get();
+    CURRENT.set(new Session(buffer));
+    return previous;
+  }
+
+  /**
+   * Closes the currently active session and restores the {@code previous}
+   * one, as returned by {@link #open(CharSequence)}.
+   */
+  public static void close(Session previous) {
+    if (previous == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+
+  /**
+   * Tests if backtracking to {@code position} would cross a cut in the
+   * session active on the current thread. Parsers that recover from a
+   * failure, such as choices and repetitions, must not recover then.
+   */
+  public static boolean isCommitted(int position) {
+    Session session = CURRENT.get();
+    return session != null && session.cut > position;
+  }
+
+  /**
+   * A value attached to a session that keeps state for input positions.
+   */
+  public interface Releasable {
+
+    /**
+     * Releases the state kept for the positions before {@code position}.
+     */
+    void release(int position);
+  }
+
+  private final CharSequence buffer;
+  private Map<Object, Object> values;
+  private int cut;
+
+  private Session(CharSequence buffer) {
+    this.buffer = buffer;
+  }
+
+  /**
+   * Returns the input buffer of this session.
+   */
+  public CharSequence getBuffer() {
+    return buffer;
+  }
+
+  /**
+   * Returns the value associated with {@code key}, creating it with the
+   * {@code factory} when accessed for the first time in this session.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Function<Object, T> factory) {
+    if (values == null) {
+      values = new IdentityHashMap<>();
+    }
+    return (T) values.computeIfAbsent(key, factory);
+  }
+
+  /**
+   * Returns the position of the last cut, or {@code 0}.
+   */
+  public int getCut() {
+    return cut;
+  }
+
+  /**
+   * Records a cut at {@code position} and releases the state the {@link
+   * Releasable} values keep for the positions before.
+   */
+  public void cut(int position) {
+    if (position <= cut) {
+      return;
+    }
+    cut = position;
+    if (values != null) {
+      for (Object value : values.values()) {
+        if (value instanceof Releasable) {
+          ((Releasable) value).release(position);
+        }
+      }
+    }
+  }
+}
@@ -7,11 +7,17 @@ public class Success extends Result {
 
   private final Object result;
 
-  public Success(String buffer, int position, Object result) {
+  public Success(CharSequence buffer, int position, Object result) {
     super(buffer, position);
     this.result = result;
   }
 
+  public Success(CharSequence buffer, int position, Object result,
+      LineIndex lineIndex) {
+    super(buffer, position, lineIndex);
+    this.result = result;
+  }
+
   @Override
   public boolean isSuccess() {
     return true;
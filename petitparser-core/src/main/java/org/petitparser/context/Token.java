@@ -2,7 +2,6 @@ package org.petitparser.context;
 
 import org.petitparser.parser.Parser;
 
-import java.util.List;
 import java.util.Objects;
 
 import static org.petitparser.parser.primitive.CharacterParser.of;
@@ -19,7 +18,7 @@ public class Token {
   /**
    * The backing buffer of the token.
    */
-  private final String buffer;
+  private final CharSequence buffer;
 
   /**
    * The start position of the token in the buffer.
@@ -36,21 +35,36 @@ public class Token {
    */
   private final Object value;
 
+  /**
+   * The line index of the backing buffer.
+   */
+  private final LineIndex lineIndex;
+
   /**
    * Constructs a token from the parsed value, the input buffer, and the start
    * and stop position in the input buffer.
    */
-  public Token(String buffer, int start, int stop, Object value) {
+  public Token(CharSequence buffer, int start, int stop, Object value) {
+    this(buffer, start, stop, value, new LineIndex(buffer));
+  }
+
+  /**
+   * Constructs a token from the parsed value, the input buffer, the start and
+   * stop position in the input buffer, and the line index of the buffer.
+   */
+  public Token(CharSequence buffer, int start, int stop, Object value,
+      LineIndex lineIndex) {
     this.buffer = buffer;
     this.start = start;
     this.stop = stop;
     this.value = value;
+    this.lineIndex = lineIndex;
   }
 
   /**
    * The backing buffer of the token.
    */
-  public String getBuffer() {
+  public CharSequence getBuffer() {
     return buffer;
   }
 
@@ -58,7 +72,7 @@ public class Token {
    * The consumed input of the token.
    */
   public String getInput() {
-    return buffer.substring(start, stop);
+    return buffer.subSequence(start, stop).toString();
   }
 
   /**
@@ -90,23 +104,30 @@ public class Token {
     return (T) value;
   }
 
+  /**
+   * The line index of the backing buffer.
+   */
+  public LineIndex getLineIndex() {
+    return lineIndex;
+  }
+
   /**
    * The line number of the token.
    */
   public int getLine() {
-    return lineAndColumnOf(buffer, start)[0];
+    return lineIndex.getLine(start);
   }
 
   /**
    * The column number of this token.
    */
   public int getColumn() {
-    return lineAndColumnOf(buffer, start)[1];
+    return lineIndex.getColumn(start);
   }
 
   @Override
   public String toString() {
-    int[] tuple = lineAndColumnOf(buffer, start);
+    int[] tuple = lineIndex.lineAndColumnOf(start);
     return "Token[" + tuple[0] + ":" + tuple[1] + "]: " + value;
   }
 
@@ -149,16 +170,7 @@ public class Token {
    * Converts the {@code position} index in a {@code buffer} to a line and
    * column tuple.
    */
-  public static int[] lineAndColumnOf(String buffer, int position) {
-    List<Token> tokens = NEWLINE_PARSER.token().matchesSkipping(buffer);
-    int line = 1, offset = 0;
-    for (Token token : tokens) {
-      if (position < token.stop) {
-        return new int[]{line, position - offset + 1};
-      }
-      line++;
-      offset = token.stop;
-    }
-    return new int[]{line, position - offset + 1};
+  public static int[] lineAndColumnOf(CharSequence buffer, int position) {
+    return new LineIndex(buffer).lineAndColumnOf(position);
   }
 }
@@ -1,7 +1,10 @@
 package org.petitparser.parser;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseError;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
+import org.petitparser.context.Session;
 import org.petitparser.context.Token;
 import org.petitparser.parser.actions.ActionParser;
 import org.petitparser.parser.actions.ContinuationParser;
@@ -10,18 +13,23 @@ import org.petitparser.parser.actions.TokenParser;
 import org.petitparser.parser.actions.TrimmingParser;
 import org.petitparser.parser.combinators.AndParser;
 import org.petitparser.parser.combinators.ChoiceParser;
+import org.petitparser.parser.combinators.CutParser;
 import org.petitparser.parser.combinators.EndOfInputParser;
+import org.petitparser.parser.combinators.MemoizedParser;
 import org.petitparser.parser.combinators.NotParser;
 import org.petitparser.parser.combinators.OptionalParser;
 import org.petitparser.parser.combinators.SequenceParser;
 import org.petitparser.parser.combinators.SettableParser;
 import org.petitparser.parser.primitive.CharacterParser;
+import org.petitparser.parser.primitive.CharacterPredicate;
 import org.petitparser.parser.repeating.GreedyRepeatingParser;
 import org.petitparser.parser.repeating.LazyRepeatingParser;
 import org.petitparser.parser.repeating.PossessiveRepeatingParser;
 import org.petitparser.parser.repeating.RepeatingParser;
+import org.petitparser.parser.repeating.SeparatedByParser;
 import org.petitparser.utils.FailureJoiner;
 import org.petitparser.utils.Functions;
+import org.petitparser.utils.Mirror;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -29,7 +37,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.petitparser.parser.primitive.CharacterParser.any;
 
@@ -38,6 +48,25 @@ import static org.petitparser.parser.primitive.CharacterParser.any;
  */
 public abstract class Parser {
 
+  /**
+   * Counts the modifications of all parser graphs, see {@link
+   * #replace(Parser, Parser)}.
+   */
+  private static final AtomicInteger MODIFICATIONS = new AtomicInteger();
+
+  /**
+   * Caches if a parser of the graph {@link #usesSession() uses a session}:
+   * the number of modifications the graph was analyzed at shifted left by
+   * one, plus one if it does; or {@code -1} if it was not analyzed yet.
+   */
+  private volatile long sessionAnalysis = -1;
+
+  /**
+   * Set if this parser is part of an analyzed graph with a parser that {@link
+   * #recordsCuts() records cuts}. Written before {@link #sessionAnalysis}.
+   */
+  private boolean committing;
+
   /**
    * Primitive method doing the actual parsing.
    *
@@ -49,6 +78,24 @@ public abstract class Parser {
    */
   public abstract Result parseOn(Context context);
 
+  /**
+   * Primitive method doing the actual parsing.
+   *
+   * <p>This method is an alternative to {@link #parseOn(Context)} that
+   * updates a single mutable {@code state} in place, instead of allocating a
+   * new immutable result for every parse step. It returns {@code true} and
+   * leaves the position and value of the successful parse in the state, or
+   * returns {@code false} and leaves the position and message of the failure
+   * in the state.
+   *
+   * <p>The method is overridden in all concrete subclasses to implement the
+   * optimized logic. Subclasses don't necessarily have to override this
+   * method, since it is emulated using {@link #parseOn(Context)}.
+   */
+  public boolean parseOn(ParseState state) {
+    return state.apply(parseOn(state.toContext()));
+  }
+
   /**
    * Primitive method doing the actual parsing.
    *
@@ -64,7 +111,7 @@ public abstract class Parser {
    * <p>Subclasses don't necessarily have to override this method, since it is
    * emulated using its slower brother.
    */
-  public int fastParseOn(String buffer, int position) {
+  public int fastParseOn(CharSequence buffer, int position) {
     Result result = parseOn(new Context(buffer, position));
     return result.isSuccess() ? result.getPosition() : -1;
   }
@@ -72,25 +119,123 @@ public abstract class Parser {
   /**
    * Returns the parse result of the {@code input}.
    */
-  public Result parse(String input) {
-    return parseOn(new Context(input, 0));
+  public Result parse(CharSequence input) {
+    if (needsSession(input)) {
+      Session previous = Session.open(input);
+      try {
+        return parse(input);
+      } finally {
+        Session.close(previous);
+      }
+    }
+    ParseState state = new ParseState(input, 0);
+    state.suspendExpected();
+    return state.toResult(parseOn(state));
+  }
+
+  /**
+   * Returns the parse result of the {@code input}. In case of a failure, the
+   * result reports the farthest position any parser failed at together with
+   * the messages of all parsers that failed there, instead of the failure of
+   * the last alternative tried. Intermediate failures are not allocated.
+   */
+  public Result parseFarthest(CharSequence input) {
+    if (needsSession(input)) {
+      Session previous = Session.open(input);
+      try {
+        return parseFarthest(input);
+      } finally {
+        Session.close(previous);
+      }
+    }
+    ParseState state = new ParseState(input, 0);
+    return parseOn(state) ? state.toResult(true) : state.toFarthestFailure();
+  }
+
+  /**
+   * Returns the value parsed from the {@code input}, or throws a {@link
+   * ParseError} without stack trace that reports the farthest failure.
+   *
+   * @param <T> The type of the value.
+   */
+  public <T> T parseValue(CharSequence input) {
+    if (needsSession(input)) {
+      Session previous = Session.open(input);
+      try {
+        return parseValue(input);
+      } finally {
+        Session.close(previous);
+      }
+    }
+    ParseState state = new ParseState(input, 0);
+    if (parseOn(state)) {
+      return state.getValue();
+    }
+    throw new ParseError(state.toFarthestFailure(), false);
+  }
+
+  /**
+   * Returns the parse result of the range between {@code start} and {@code
+   * end} of the {@code input}, without copying the input. Positions in the
+   * result refer to the complete {@code input}.
+   */
+  public Result parse(CharSequence input, int start, int end) {
+    CharSequence buffer = truncate(input, start, end);
+    if (needsSession(buffer)) {
+      Session previous = Session.open(buffer);
+      try {
+        ParseState state = new ParseState(buffer, start);
+        state.suspendExpected();
+        return state.toResult(parseOn(state));
+      } finally {
+        Session.close(previous);
+      }
+    }
+    ParseState state = new ParseState(buffer, start);
+    state.suspendExpected();
+    return state.toResult(parseOn(state));
   }
 
   /**
    * Tests if the {@code input} can be successfully parsed.
    */
-  public boolean accept(String input) {
+  public boolean accept(CharSequence input) {
+    if (needsSession(input)) {
+      Session previous = Session.open(input);
+      try {
+        return accept(input);
+      } finally {
+        Session.close(previous);
+      }
+    }
     return fastParseOn(input, 0) >= 0;
   }
 
+  /**
+   * Tests if the range between {@code start} and {@code end} of the {@code
+   * input} can be successfully parsed.
+   */
+  public boolean accept(CharSequence input, int start, int end) {
+    CharSequence buffer = truncate(input, start, end);
+    if (needsSession(buffer)) {
+      Session previous = Session.open(buffer);
+      try {
+        return fastParseOn(buffer, start) >= 0;
+      } finally {
+        Session.close(previous);
+      }
+    }
+    return fastParseOn(buffer, start) >= 0;
+  }
+
   /**
    * Returns a list of all successful overlapping parses of the {@code input}.
    */
   @SuppressWarnings("unchecked")
-  public <T> List<T> matches(String input) {
+  public <T> List<T> matches(CharSequence input) {
     List<Object> list = new ArrayList<>();
     and().mapWithSideEffects(list::add).seq(any()).or(any()).star()
-        .fastParseOn(input, 0);
+        .accept(input);
     return (List<T>) list;
   }
 
@@ -99,9 +244,9 @@ public abstract class Parser {
    * input}.
    */
   @SuppressWarnings("unchecked")
-  public <T> List<T> matchesSkipping(String input) {
+  public <T> List<T> matchesSkipping(CharSequence input) {
     List<Object> list = new ArrayList<>();
-    mapWithSideEffects(list::add).or(any()).star().fastParseOn(input, 0);
+    mapWithSideEffects(list::add).or(any()).star().accept(input);
     return (List<T>) list;
   }
 
@@ -122,6 +267,16 @@ public abstract class Parser {
     return new OptionalParser(this, otherwise);
   }
 
+  /**
+   * Returns a parser that memoizes the results of the receiver for each input
+   * position, so that backtracking into the receiver at an already visited
+   * position does not parse it again (packrat parsing). The memoized results
+   * only live for the duration of a single parse call.
+   */
+  public MemoizedParser memoize() {
+    return new MemoizedParser(this);
+  }
+
   /**
    * Returns a parser that accepts the receiver zero or more times. The
    * resulting parser returns a list of the parse results of the receiver.
@@ -276,6 +431,17 @@ public abstract class Parser {
     return new AndParser(this);
   }
 
+  /**
+   * Returns a parser that commits to the receiver once it succeeded: no
+   * parser backtracks to a position before its end, and the state kept for
+   * these positions is released. For example, after a keyword the remaining
+   * alternatives of a statement are not tried anymore, and a failure is
+   * reported within the statement.
+   */
+  public Parser cut() {
+    return new CutParser(this);
+  }
+
   /**
    * Returns a parser that is called with its current continuation.
    */
@@ -432,28 +598,27 @@ public abstract class Parser {
    * by a {@code separator}.
    */
   public Parser separatedBy(Parser separator) {
-    return new SequenceParser(this, new SequenceParser(separator, this).star())
-        .map((List<List<List<Object>>> input) -> {
-          List<Object> result = new ArrayList<>();
-          result.add(input.get(0));
-          input.get(1).forEach(result::addAll);
-          return result;
-        });
+    return separatedBy(separator, true, false);
   }
 
   /**
    * Returns a new parser that parses the receiver one or more times, separated
-   * and possibly ended by a {@code separator}."
+   * and possibly ended by a {@code separator}.
    */
   public Parser delimitedBy(Parser separator) {
-    return separatedBy(separator).seq(separator.optional())
-        .map((List<List<Object>> input) -> {
-          List<Object> result = new ArrayList<>(input.get(0));
-          if (input.get(1) != null) {
-            result.add(input.get(1));
-          }
-          return result;
-        });
+    return separatedBy(separator, true, true);
+  }
+
+  /**
+   * Returns a new parser that parses the receiver one or more times, separated
+   * by a {@code separator}. If {@code includeSeparators} is {@code false} the
+   * resulting list only contains the parsed elements. If {@code
+   * optionalSeparatorAtEnd} is {@code true} a trailing separator is accepted.
+   */
+  public Parser separatedBy(Parser separator, boolean includeSeparators,
+      boolean optionalSeparatorAtEnd) {
+    return new SeparatedByParser(this, separator, includeSeparators,
+        optionalSeparatorAtEnd);
   }
 
   /**
@@ -493,6 +658,44 @@ public abstract class Parser {
     return true;
   }
 
+  /**
+   * Returns a hash code of the properties compared by {@link
+   * #hasEqualProperties(Parser)}, so that parsers with equal properties have
+   * the same hash code.
+   *
+   * <p>Override this method together with {@link
+   * #hasEqualProperties(Parser)}.
+   */
+  protected int hashProperties() {
+    return 0;
+  }
+
+  /**
+   * Returns a structural fingerprint of the receiver, that combines its class
+   * and properties with the ones of its children up to a fixed depth. Parsers
+   * that are {@link #isEqualTo(Parser) equal} have the same fingerprint.
+   */
+  public int fingerprint() {
+    return fingerprint(2);
+  }
+
+  /**
+   * Returns a structural fingerprint of the receiver, that combines its class
+   * and properties with the ones of its children up to {@code depth} levels.
+   * At depth {@code 0} only the number of children is combined.
+   */
+  public int fingerprint(int depth) {
+    int result = 31 * getClass().hashCode() + hashProperties();
+    List<Parser> children = getChildren();
+    if (depth == 0) {
+      return 31 * result + children.size();
+    }
+    for (Parser child : children) {
+      result = 31 * result + child.fingerprint(depth - 1);
+    }
+    return result;
+  }
+
   /**
    * Compares the children of two parsers.
    *
@@ -513,6 +716,43 @@ public abstract class Parser {
     return true;
   }
 
+  /**
+   * Returns a predicate that is satisfied by every character this parser can
+   * start a successful parse with, or {@code null} if the parser might succeed
+   * without consuming any input or if this cannot be determined.
+   */
+  public CharacterPredicate getFirstCharacters() {
+    return firstCharactersOf(this, new HashSet<>());
+  }
+
+  /**
+   * Computes the first characters of this parser, see {@link
+   * #getFirstCharacters()}.
+   *
+   * <p>Override this method in subclasses that know what they consume first.
+   * The first characters of children are computed with {@link
+   * #firstCharactersOf(Parser, Set)}.
+   */
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return null;
+  }
+
+  /**
+   * Computes the first characters of {@code parser}, returns {@code null} if
+   * the parser is already being analyzed in {@code seen}.
+   */
+  protected static CharacterPredicate firstCharactersOf(
+      Parser parser, Set<Parser> seen) {
+    if (!seen.add(parser)) {
+      return null;
+    }
+    try {
+      return parser.firstCharacters(seen);
+    } finally {
+      seen.remove(parser);
+    }
+  }
+
   /**
    * Returns a list of directly referring parsers.
    */
@@ -525,7 +765,70 @@ public abstract class Parser {
    * nothing if the parser does not exist.
    */
   public void replace(Parser source, Parser target) {
-    // no referring parsers
+    MODIFICATIONS.incrementAndGet();
+  }
+
+  /**
+   * Returns a counter that changes whenever a parser graph is modified using
+   * {@link #replace(Parser, Parser)}. Parsers that cache information derived
+   * from their descendants use it to detect stale caches.
+   */
+  protected static int getModificationCount() {
+    return MODIFICATIONS.get();
+  }
+
+  /**
+   * Tests if this parser keeps state in the {@link Session} of a parse call,
+   * such as memo tables. The entry points like {@link #parse(CharSequence)}
+   * only open a session if a parser of the graph does.
+   */
+  public boolean usesSession() {
+    return false;
+  }
+
+  /**
+   * Tests if this parser records cuts in the {@link Session} of a parse call,
+   * see {@link CutParser}. Such parsers
+   * must also {@link #usesSession() use a session}.
+   */
+  public boolean recordsCuts() {
+    return false;
+  }
+
+  /**
+   * Tests if backtracking to {@code position} would cross a cut, see {@link
+   * Session#isCommitted(int)}. Parsers that recover from a failure use it, the
+   * session is only looked up if an entry point like {@link
+   * #parse(CharSequence)} found a parser that records cuts in the graph.
+   */
+  protected final boolean isCommitted(int position) {
+    return committing && Session.isCommitted(position);
+  }
+
+  /**
+   * Tests if parsing {@code buffer} needs to open a session: a parser of the
+   * graph uses one and no session is open on the buffer yet. The analysis of
+   * the graph is cached until a parser graph is modified. If the graph records
+   * cuts, its parsers are marked to check for them from then on.
+   */
+  private boolean needsSession(CharSequence buffer) {
+    long modifications = MODIFICATIONS.get() & 0xFFFFFFFFL;
+    long analysis = sessionAnalysis;
+    if (analysis < 0 || analysis >>> 1 != modifications) {
+      List<Parser> parsers = Mirror.of(this).stream()
+          .collect(Collectors.toList());
+      boolean uses = parsers.stream().anyMatch(Parser::usesSession);
+      if (parsers.stream().anyMatch(Parser::recordsCuts)) {
+        parsers.forEach(parser -> parser.committing = true);
+      }
+      analysis = modifications << 1 | (uses ? 1 : 0);
+      sessionAnalysis = analysis;
+    }
+    if ((analysis & 1) == 0) {
+      return false;
+    }
+    Session session = Session.current();
+    return session == null || session.getBuffer() != buffer;
   }
 
   /**
@@ -534,4 +837,56 @@ public abstract class Parser {
   public String toString() {
     return getClass().getSimpleName();
   }
+
+  /**
+   * Returns a view of {@code input} that ends at {@code end}, so that parsers
+   * see the end of input there without the range being copied.
+   */
+  private static CharSequence truncate(CharSequence input, int start, int end) {
+    if (start < 0 || start > end || end > input.length()) {
+      throw new IndexOutOfBoundsException(
+          "Invalid range " + start + ".." + end + " of " + input.length());
+    }
+    return end == input.length() ? input : new TruncatedSequence(input, end);
+  }
+
+  /**
+   * A zero-copy view of the first {@code length} characters of a buffer.
+   */
+  private static class TruncatedSequence implements CharSequence {
+
+    private final CharSequence buffer;
+    private final int length;
+
+    private TruncatedSequence(CharSequence buffer, int length) {
+      this.buffer = buffer;
+      this.length = length;
+    }
+
+    @Override
+    public int length() {
+      return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+      if (index >= length) {
+        throw new IndexOutOfBoundsException("Index " + index + " of " + length);
+      }
+      return buffer.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      if (end > length) {
+        throw new IndexOutOfBoundsException("Index " + end + " of " + length);
+      }
+      return buffer.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+      return buffer.subSequence(0, length).toString();
+    }
+  }
 }
@@ -1,11 +1,14 @@
 package org.petitparser.parser.actions;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 import org.petitparser.parser.combinators.DelegateParser;
+import org.petitparser.parser.primitive.CharacterPredicate;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -32,6 +35,21 @@ public class ActionParser<T, R> extends DelegateParser {
     this.hasSideEffects = hasSideEffects;
   }
 
+  /**
+   * Returns the function applied to the result of the delegate.
+   */
+  public Function<T, R> getFunction() {
+    return function;
+  }
+
+  /**
+   * Returns {@code true}, if the function has side-effects and must be
+   * evaluated even when the result is not used.
+   */
+  public boolean hasSideEffects() {
+    return hasSideEffects;
+  }
+
   @Override
   public Result parseOn(Context context) {
     Result result = delegate.parseOn(context);
@@ -43,10 +61,27 @@ public class ActionParser<T, R> extends DelegateParser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    if (state.isDiscardingValues() && !hasSideEffects) {
+      return delegate.parseOn(state);
+    }
+    return delegate.parseOn(state) &&
+        state.success(function.apply(state.getValue()));
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return firstCharactersOf(delegate, seen);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     // If we know to have side-effects, we have to fall back to the slow mode.
-    return hasSideEffects ? super.fastParseOn(buffer, position) :
-        delegate.fastParseOn(buffer, position);
+    if (hasSideEffects) {
+      Result result = parseOn(new Context(buffer, position));
+      return result.isSuccess() ? result.getPosition() : -1;
+    }
+    return delegate.fastParseOn(buffer, position);
   }
 
   @Override
@@ -56,6 +91,11 @@ public class ActionParser<T, R> extends DelegateParser {
         hasSideEffects == ((ActionParser<T, R>) other).hasSideEffects;
   }
 
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() + Objects.hash(function, hasSideEffects);
+  }
+
   @Override
   public ActionParser<T, R> copy() {
     return new ActionParser<>(delegate, function, hasSideEffects);
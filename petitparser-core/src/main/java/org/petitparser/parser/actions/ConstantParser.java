@@ -0,0 +1,109 @@
+package org.petitparser.parser.actions;
+
+import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Result;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.combinators.DelegateParser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A parser that returns a constant value, if its delegate succeeds.
+ *
+ * <p>Since the value of the delegate is not used, it is not built: with a
+ * message the delegate is run in recognizer mode (see {@link
+ * Parser#fastParseOn(CharSequence, int)}) and fails with the message at the
+ * start (like {@link FlattenParser}); without a message the delegate is run
+ * once with a {@link ParseState} that {@link ParseState#discardValues()
+ * discards values}, so that it reports its own failure.
+ */
+public class ConstantParser extends DelegateParser {
+
+  protected final Object value;
+  protected final String message;
+
+  public ConstantParser(Parser delegate, Object value) {
+    this(delegate, value, null);
+  }
+
+  public ConstantParser(Parser delegate, Object value, String message) {
+    super(delegate);
+    this.value = value;
+    this.message = message;
+  }
+
+  /**
+   * Returns the constant value of this parser.
+   */
+  public Object getValue() {
+    return value;
+  }
+
+  /**
+   * Returns the error message of this parser, or {@code null} if the
+   * failure of the delegate is reported.
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  @Override
+  public Result parseOn(Context context) {
+    if (message == null) {
+      Result result = delegate.parseOn(context);
+      return result.isSuccess() ? result.success(value) : result;
+    }
+    int position =
+        delegate.fastParseOn(context.getBuffer(), context.getPosition());
+    return position < 0 ? context.failure(message) :
+        context.success(value, position);
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    if (message == null) {
+      state.discardValues();
+      boolean success = delegate.parseOn(state);
+      state.keepValues();
+      return success && state.success(value);
+    }
+    int position = delegate.fastParseOn(state.getBuffer(), state.getPosition());
+    return position < 0 ? state.failure(message) :
+        state.success(value, position);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    return delegate.fastParseOn(buffer, position);
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return firstCharactersOf(delegate, seen);
+  }
+
+  @Override
+  protected boolean hasEqualProperties(Parser other) {
+    return super.hasEqualProperties(other) &&
+        Objects.equals(value, ((ConstantParser) other).value) &&
+        Objects.equals(message, ((ConstantParser) other).message);
+  }
+
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() + Objects.hash(value, message);
+  }
+
+  @Override
+  public ConstantParser copy() {
+    return new ConstantParser(delegate, value, message);
+  }
+
+  @Override
+  public String toString() {
+    return super.toString() + "[" + value + ", " + message + "]";
+  }
+}
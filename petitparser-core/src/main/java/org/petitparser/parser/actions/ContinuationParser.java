@@ -1,6 +1,7 @@
 package org.petitparser.parser.actions;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 import org.petitparser.parser.combinators.DelegateParser;
@@ -31,12 +32,29 @@ public class ContinuationParser extends DelegateParser {
     return handler.apply(super::parseOn, context);
   }
 
+  @Override
+  public boolean parseOn(ParseState state) {
+    // The handler works on immutable contexts, thus we have to convert.
+    return state.apply(parseOn(state.toContext()));
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    Result result = parseOn(new Context(buffer, position));
+    return result.isSuccess() ? result.getPosition() : -1;
+  }
+
   @Override
   protected boolean hasEqualProperties(Parser other) {
     return super.hasEqualProperties(other) &&
         Objects.equals(handler, ((ContinuationParser) other).handler);
   }
 
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() + Objects.hashCode(handler);
+  }
+
   @Override
   public ContinuationParser copy() {
     return new ContinuationParser(delegate, handler);
@@ -1,9 +1,13 @@
 package org.petitparser.parser.actions;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 import org.petitparser.parser.combinators.DelegateParser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+
+import java.util.Set;
 
 /**
  * A parser that answers a flat copy of the range my delegate parses.
@@ -21,13 +25,22 @@ public class FlattenParser extends DelegateParser {
     this.message = message;
   }
 
+  /**
+   * Returns the error message of this parser, or {@code null} if the
+   * failure of the delegate is reported.
+   */
+  public String getMessage() {
+    return message;
+  }
+
   @Override
   public Result parseOn(Context context) {
     if (message == null) {
       Result result = delegate.parseOn(context);
       if (result.isSuccess()) {
         String flattened = context.getBuffer()
-            .substring(context.getPosition(), result.getPosition());
+            .subSequence(context.getPosition(), result.getPosition())
+            .toString();
         return result.success(flattened);
       } else {
         return result;
@@ -39,12 +52,40 @@ public class FlattenParser extends DelegateParser {
       if (position < 0) {
         return context.failure(message);
       }
-      String output =
-          context.getBuffer().substring(context.getPosition(), position);
+      String output = context.getBuffer()
+          .subSequence(context.getPosition(), position).toString();
       return context.success(output, position);
     }
   }
 
+  @Override
+  public boolean parseOn(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    if (message == null) {
+      return delegate.parseOn(state) && (state.isDiscardingValues() ||
+          state.success(buffer.subSequence(start, state.getPosition())
+              .toString()));
+    } else {
+      int position = delegate.fastParseOn(buffer, start);
+      if (position < 0) {
+        return state.failure(message);
+      }
+      return state.success(buffer.subSequence(start, position).toString(),
+          position);
+    }
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    return delegate.fastParseOn(buffer, position);
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return firstCharactersOf(delegate, seen);
+  }
+
   @Override
   public FlattenParser copy() {
     return new FlattenParser(delegate, message);
@@ -1,10 +1,14 @@
 package org.petitparser.parser.actions;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.context.Token;
 import org.petitparser.parser.Parser;
 import org.petitparser.parser.combinators.DelegateParser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+
+import java.util.Set;
 
 /**
  * A parser that creates a token from the parsed input.
@@ -20,7 +24,7 @@ public class TokenParser extends DelegateParser {
     Result result = delegate.parseOn(context);
     if (result.isSuccess()) {
       Token token = new Token(context.getBuffer(), context.getPosition(),
-          result.getPosition(), result.get());
+          result.getPosition(), result.get(), context.getLineIndex());
       return result.success(token);
     } else {
       return result;
@@ -28,7 +32,21 @@ public class TokenParser extends DelegateParser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    int start = state.getPosition();
+    return delegate.parseOn(state) && (state.isDiscardingValues() ||
+        state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex())));
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return firstCharactersOf(delegate, seen);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     return delegate.fastParseOn(buffer, position);
   }
 
@@ -1,13 +1,16 @@
 package org.petitparser.parser.actions;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 import org.petitparser.parser.combinators.DelegateParser;
+import org.petitparser.parser.primitive.CharacterPredicate;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * A parser that silently consumes a before and after the delegate parser.
@@ -26,12 +29,12 @@ public class TrimmingParser extends DelegateParser {
 
   @Override
   public Result parseOn(Context context) {
-    String buffer = context.getBuffer();
+    CharSequence buffer = context.getBuffer();
 
     // Trim the left part:
     int before = consume(left, buffer, context.getPosition());
     if (before != context.getPosition()) {
-      context = new Context(buffer, before);
+      context = new Context(buffer, before, context.getLineIndex());
     }
 
     // Consume the delegate:
@@ -47,12 +50,30 @@ public class TrimmingParser extends DelegateParser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    state.setPosition(consume(left, buffer, state.getPosition()));
+    if (!delegate.parseOn(state)) {
+      return false;
+    }
+    state.setPosition(consume(right, buffer, state.getPosition()));
+    return true;
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     int result = delegate.fastParseOn(buffer, consume(left, buffer, position));
     return result < 0 ? result : consume(right, buffer, result);
   }
 
-  private int consume(Parser parser, String buffer, int position) {
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    CharacterPredicate trimmed = firstCharactersOf(left, seen);
+    CharacterPredicate first = firstCharactersOf(delegate, seen);
+    return trimmed == null || first == null ? null : trimmed.or(first);
+  }
+
+  private int consume(Parser parser, CharSequence buffer, int position) {
     for (; ; ) {
       int result = parser.fastParseOn(buffer, position);
       if (result < 0) {
@@ -0,0 +1,251 @@
+package org.petitparser.parser.combinators;
+
+import org.petitparser.context.Context;
+import org.petitparser.context.MemoTable;
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Result;
+import org.petitparser.context.Session;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A parser that decides at run-time whether to cache the results of its
+ * delegate for each input position.
+ *
+ * <p>The parser counts the re-entries of its delegate, that is activations at
+ * a position the delegate was already activated at during the same parse.
+ * Without caching, re-entries are detected with a set of positions attached
+ * to the {@link Session}; with caching, they are the cache hits. After every
+ * {@code window} activations, the parser caches the results like a {@link
+ * MemoizedParser}, if more than the {@code threshold} share of activations
+ * were re-entries, and stops caching otherwise. The same assumptions as for
+ * {@link MemoizedParser} apply.
+ */
+public class AdaptiveMemoizedParser extends DelegateParser {
+
+  /**
+   * The default number of activations between decisions.
+   */
+  public static final int DEFAULT_WINDOW = 1000;
+
+  /**
+   * The default share of re-entries above which results are cached.
+   */
+  public static final double DEFAULT_THRESHOLD = 0.1;
+
+  private final int window;
+  private final double threshold;
+  private final LongAdder activations = new LongAdder();
+  private final LongAdder reentries = new LongAdder();
+  private volatile boolean memoizing;
+  private int ticks;
+
+  public AdaptiveMemoizedParser(Parser delegate) {
+    this(delegate, DEFAULT_WINDOW, DEFAULT_THRESHOLD);
+  }
+
+  public AdaptiveMemoizedParser(Parser delegate, int window,
+      double threshold) {
+    super(delegate);
+    if (window <= 0) {
+      throw new IllegalArgumentException("Invalid window: " + window);
+    }
+    this.window = window;
+    this.threshold = threshold;
+  }
+
+  /**
+   * The state of the parser attached to a parse session.
+   */
+  private static class State implements Session.Releasable {
+    private final BitSet started = new BitSet();
+    private MemoTable table;
+
+    @Override
+    public void release(int position) {
+      started.clear(0, position);
+      if (table != null) {
+        table.release(position);
+      }
+    }
+  }
+
+  /**
+   * Records an activation at {@code position}, returns the memo table to use,
+   * or {@code null} if the results are not cached. The activations are only
+   * summed once the unsynchronized tick counter reaches the window, with
+   * concurrent parses it is an estimate that {@link #decide()} corrects.
+   */
+  private MemoTable activate(State state, int position) {
+    activations.increment();
+    if (++ticks >= window) {
+      decide();
+    }
+    if (memoizing) {
+      if (state.table == null) {
+        state.table = new MemoTable();
+      }
+      return state.table;
+    }
+    if (state.started.get(position)) {
+      reentries.increment();
+    } else {
+      state.started.set(position);
+    }
+    return null;
+  }
+
+  private synchronized void decide() {
+    long count = activations.sum();
+    if (count >= window) {
+      memoizing = reentries.sum() > threshold * count;
+      activations.reset();
+      reentries.reset();
+      ticks = 0;
+    } else {
+      ticks = (int) count;
+    }
+  }
+
+  private State stateOf(Session session) {
+    return session.get(this, key -> new State());
+  }
+
+  @Override
+  public Result parseOn(Context context) {
+    Session session = Session.current();
+    if (session == null || session.getBuffer() != context.getBuffer()) {
+      Session previous = Session.open(context.getBuffer());
+      try {
+        return parseOn(context);
+      } finally {
+        Session.close(previous);
+      }
+    }
+    int position = context.getPosition();
+    MemoTable table = activate(stateOf(session), position);
+    if (table == null) {
+      return delegate.parseOn(context);
+    }
+    Result result = table.get(position);
+    if (result == null) {
+      result = delegate.parseOn(context);
+      table.put(position, result);
+    } else {
+      reentries.increment();
+    }
+    return result;
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    Session session = Session.current();
+    if (session == null || session.getBuffer() != state.getBuffer()) {
+      Session previous = Session.open(state.getBuffer());
+      try {
+        return parseOn(state);
+      } finally {
+        Session.close(previous);
+      }
+    }
+    int position = state.getPosition();
+    MemoTable table = activate(stateOf(session), position);
+    if (table == null) {
+      return delegate.parseOn(state);
+    }
+    Result result = table.get(position);
+    if (result == null) {
+      int discarding = state.suspendDiscarding();
+      boolean success = delegate.parseOn(state);
+      state.resumeDiscarding(discarding);
+      table.put(position, state.toResult(success));
+      return success;
+    }
+    reentries.increment();
+    return state.apply(result);
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return firstCharactersOf(delegate, seen);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    Session session = Session.current();
+    if (session == null || session.getBuffer() != buffer) {
+      Session previous = Session.open(buffer);
+      try {
+        return fastParseOn(buffer, position);
+      } finally {
+        Session.close(previous);
+      }
+    }
+    MemoTable table = activate(stateOf(session), position);
+    if (table == null) {
+      return delegate.fastParseOn(buffer, position);
+    }
+    int result = table.getStop(position);
+    if (result == MemoTable.UNKNOWN) {
+      result = delegate.fastParseOn(buffer, position);
+      table.putStop(position, result);
+    } else {
+      reentries.increment();
+    }
+    return result;
+  }
+
+  @Override
+  public boolean usesSession() {
+    return true;
+  }
+
+  /**
+   * Tests if the results of the delegate are currently cached.
+   */
+  public boolean isMemoizing() {
+    return memoizing;
+  }
+
+  /**
+   * Returns the number of activations between decisions.
+   */
+  public int getWindow() {
+    return window;
+  }
+
+  /**
+   * Returns the share of re-entries above which results are cached.
+   */
+  public double getThreshold() {
+    return threshold;
+  }
+
+  @Override
+  protected boolean hasEqualProperties(Parser other) {
+    AdaptiveMemoizedParser otherAdaptive = (AdaptiveMemoizedParser) other;
+    return super.hasEqualProperties(other) &&
+        window == otherAdaptive.window &&
+        threshold == otherAdaptive.threshold;
+  }
+
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() + Objects.hash(window, threshold);
+  }
+
+  @Override
+  public AdaptiveMemoizedParser copy() {
+    return new AdaptiveMemoizedParser(delegate, window, threshold);
+  }
+
+  @Override
+  public String toString() {
+    return super.toString() + "[" + window + ", " + threshold + "]";
+  }
+}
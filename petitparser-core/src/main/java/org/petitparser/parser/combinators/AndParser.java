@@ -1,6 +1,7 @@
 package org.petitparser.parser.combinators;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 
@@ -25,7 +26,21 @@ public class AndParser extends DelegateParser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    int position = state.getPosition();
+    state.suspendExpected();
+    boolean success = delegate.parseOn(state);
+    state.resumeExpected();
+    if (success) {
+      state.setPosition(position);
+      return true;
+    } else {
+      return state.failure(state.getMessage(), state.getPosition());
+    }
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     int result = delegate.fastParseOn(buffer, position);
     return result < 0 ? -1 : position;
   }
@@ -2,18 +2,23 @@ package org.petitparser.parser.combinators;
 
 import org.petitparser.context.Context;
 import org.petitparser.context.Failure;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
+import org.petitparser.parser.primitive.CharacterPredicate;
 import org.petitparser.utils.FailureJoiner;
 
 import java.util.Arrays;
+import java.util.Set;
 
 /**
- * A parser that uses the first parser that succeeds.
+ * A parser that uses the first parser that succeeds. If an alternative fails
+ * after a {@link CutParser cut}, the remaining alternatives are not tried.
  */
 public class ChoiceParser extends ListParser {
 
   protected final FailureJoiner failureJoiner;
+  protected final boolean joinsFailures;
 
   public ChoiceParser(Parser... parsers) {
     this(new FailureJoiner.SelectLast(), parsers);
@@ -22,6 +27,7 @@ public class ChoiceParser extends ListParser {
   public ChoiceParser(FailureJoiner failureJoiner, Parser... parsers) {
     super(parsers);
     this.failureJoiner = failureJoiner;
+    this.joinsFailures = !(failureJoiner instanceof FailureJoiner.SelectLast);
     if (parsers.length == 0) {
       throw new IllegalArgumentException("Choice parser cannot be empty.");
     }
@@ -35,6 +41,9 @@ public class ChoiceParser extends ListParser {
       if (result.isFailure()) {
         failure = failure == null ? (Failure) result :
             failureJoiner.apply(failure, (Failure) result);
+        if (isCommitted(context.getPosition())) {
+          break;
+        }
       } else {
         return result;
       }
@@ -43,17 +52,92 @@ public class ChoiceParser extends ListParser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    int position = state.getPosition();
+    int failurePosition = -1;
+    String failureMessage = null;
+    for (Parser parser : parsers) {
+      state.setPosition(position);
+      if (parser.parseOn(state)) {
+        return true;
+      }
+      if (joinsFailures) {
+        if (failurePosition >= 0) {
+          joinFailure(state, failurePosition, failureMessage);
+        }
+        failurePosition = state.getPosition();
+        failureMessage = state.getMessage();
+      }
+      if (isCommitted(position)) {
+        break;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Joins the failure an alternative left in the {@code state} with the
+   * failure of the previous alternatives at {@code position} with {@code
+   * message}, and leaves the joined failure in the {@code state}. The
+   * messages were already registered as expected when the alternatives
+   * failed. For the joiners in {@link FailureJoiner} no intermediate {@link
+   * Failure} is allocated.
+   */
+  protected void joinFailure(ParseState state, int position, String message) {
+    Class<?> type = failureJoiner.getClass();
+    if (type == FailureJoiner.SelectFirst.class) {
+      state.silentFailure(message, position);
+    } else if (type == FailureJoiner.SelectFarthest.class) {
+      if (position > state.getPosition()) {
+        state.silentFailure(message, position);
+      }
+    } else if (type == FailureJoiner.SelectFarthestJoined.class) {
+      if (position > state.getPosition()) {
+        state.silentFailure(message, position);
+      } else if (position == state.getPosition()) {
+        state.silentFailure(message + ((FailureJoiner.SelectFarthestJoined)
+            failureJoiner).getMessageJoiner() + state.getMessage(), position);
+      }
+    } else {
+      Failure joined = failureJoiner.apply(
+          new Failure(state.getBuffer(), position, message),
+          (Failure) state.toResult(false));
+      state.silentFailure(joined.getMessage(), joined.getPosition());
+    }
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    CharacterPredicate result = CharacterPredicate.none();
+    for (Parser parser : parsers) {
+      CharacterPredicate first = firstCharactersOf(parser, seen);
+      if (first == null) {
+        return null;
+      }
+      result = result.or(first);
+    }
+    return result;
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     int result = -1;
     for (Parser parser : parsers) {
       result = parser.fastParseOn(buffer, position);
-      if (result >= 0) {
+      if (result >= 0 || isCommitted(position)) {
         return result;
       }
     }
     return result;
   }
 
+  /**
+   * Returns the strategy used to join the failures of the alternatives.
+   */
+  public FailureJoiner getFailureJoiner() {
+    return failureJoiner;
+  }
+
   @Override
   public ChoiceParser or(FailureJoiner failureJoiner, Parser... others) {
     Parser[] array = Arrays.copyOf(parsers, parsers.length + others.length);
@@ -0,0 +1,188 @@
+package org.petitparser.parser.combinators;
+
+import org.petitparser.context.Context;
+import org.petitparser.context.Failure;
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Result;
+import org.petitparser.parser.Parser;
+import org.petitparser.utils.FailureJoiner;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A choice parser that counts how often each alternative succeeds during a
+ * warm-up window of {@code window} activations. The counts are kept in
+ * striped {@link LongAdder}s, so that concurrent parses do not contend on
+ * shared counters. After the warm-up window the parser behaves like a plain
+ * {@link ChoiceParser}. Copies of the parser share the counts.
+ *
+ * @see org.petitparser.utils.Optimizer#reorderChoices()
+ */
+public class CountingChoiceParser extends ChoiceParser {
+
+  private final long window;
+  private final Counts counts;
+
+  public CountingChoiceParser(long window, Parser... parsers) {
+    this(new FailureJoiner.SelectLast(), window, parsers);
+  }
+
+  public CountingChoiceParser(FailureJoiner failureJoiner, long window,
+      Parser... parsers) {
+    this(failureJoiner, window, new Counts(parsers.length, window > 0),
+        parsers);
+  }
+
+  private CountingChoiceParser(FailureJoiner failureJoiner, long window,
+      Counts counts, Parser... parsers) {
+    super(failureJoiner, parsers);
+    this.window = window;
+    this.counts = counts;
+  }
+
+  /**
+   * The counts of the warm-up window. A parser and all its copies share a
+   * single instance, so that they count towards the same window.
+   */
+  private static class Counts {
+    private final LongAdder activations = new LongAdder();
+    private final LongAdder[] hits;
+    private boolean counting;
+    private long ticks;
+
+    Counts(int alternatives, boolean counting) {
+      this.hits = new LongAdder[alternatives];
+      for (int i = 0; i < alternatives; i++) {
+        hits[i] = new LongAdder();
+      }
+      this.counting = counting;
+    }
+  }
+
+  /**
+   * Registers an activation, returns {@code true} if it is within the warm-up
+   * window. The activations are summed only once the unsynchronized tick
+   * counter passes the window; it never runs ahead of the exact count, but
+   * can lag behind it with concurrent parses. The flag is read without
+   * synchronization as well, so other threads might count a few activations
+   * past the window.
+   */
+  private boolean activate() {
+    if (!counts.counting) {
+      return false;
+    }
+    counts.activations.increment();
+    if (++counts.ticks > window && counts.activations.sum() > window) {
+      counts.counting = false;
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public Result parseOn(Context context) {
+    if (!activate()) {
+      return super.parseOn(context);
+    }
+    Failure failure = null;
+    for (int i = 0; i < parsers.length; i++) {
+      Result result = parsers[i].parseOn(context);
+      if (result.isSuccess()) {
+        counts.hits[i].increment();
+        return result;
+      }
+      failure = failure == null ? (Failure) result :
+          failureJoiner.apply(failure, (Failure) result);
+      if (isCommitted(context.getPosition())) {
+        break;
+      }
+    }
+    return failure;
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    if (!activate()) {
+      return super.parseOn(state);
+    }
+    int position = state.getPosition();
+    int failurePosition = -1;
+    String failureMessage = null;
+    for (int i = 0; i < parsers.length; i++) {
+      state.setPosition(position);
+      if (parsers[i].parseOn(state)) {
+        counts.hits[i].increment();
+        return true;
+      }
+      if (joinsFailures) {
+        if (failurePosition >= 0) {
+          joinFailure(state, failurePosition, failureMessage);
+        }
+        failurePosition = state.getPosition();
+        failureMessage = state.getMessage();
+      }
+      if (isCommitted(position)) {
+        break;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    if (!activate()) {
+      return super.fastParseOn(buffer, position);
+    }
+    int result = -1;
+    for (int i = 0; i < parsers.length; i++) {
+      result = parsers[i].fastParseOn(buffer, position);
+      if (result >= 0) {
+        counts.hits[i].increment();
+        return result;
+      }
+      if (isCommitted(position)) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of activations in the warm-up window.
+   */
+  public long getWindow() {
+    return window;
+  }
+
+  /**
+   * Tests if the parser is still in its warm-up window.
+   */
+  public boolean isCounting() {
+    return counts.counting;
+  }
+
+  /**
+   * Returns the number of successes of each alternative so far.
+   */
+  public long[] getHits() {
+    return Arrays.stream(counts.hits).mapToLong(LongAdder::sum).toArray();
+  }
+
+  @Override
+  protected boolean hasEqualProperties(Parser other) {
+    return super.hasEqualProperties(other) &&
+        window == ((CountingChoiceParser) other).window;
+  }
+
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() + Long.hashCode(window);
+  }
+
+  @Override
+  public CountingChoiceParser copy() {
+    return new CountingChoiceParser(failureJoiner, window, counts,
+        Arrays.copyOf(parsers, parsers.length));
+  }
+}
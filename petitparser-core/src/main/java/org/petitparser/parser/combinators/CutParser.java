@@ -0,0 +1,85 @@
+package org.petitparser.parser.combinators;
+
+import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Result;
+import org.petitparser.context.Session;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+
+import java.util.Set;
+
+/**
+ * A parser that commits to the input consumed by its delegate.
+ *
+ * <p>If the delegate succeeds, the parser records a cut at the end of the
+ * delegate in the {@link Session} of the current parse call. From then on no
+ * parser backtracks to a position before the cut: a failure is not recovered
+ * by choices, optionals, or repetitions that started before the cut, but is
+ * reported as is. Memoized results and backtracking positions before the cut
+ * are released, which bounds the memory used to parse long inputs.
+ *
+ * <p>Parsers that are called without a session, or that restore the position
+ * after a success (lookaheads and left recursive productions), must not
+ * contain a cut.
+ */
+public class CutParser extends DelegateParser {
+
+  public CutParser(Parser delegate) {
+    super(delegate);
+  }
+
+  private static void cut(int position) {
+    Session session = Session.current();
+    if (session != null) {
+      session.cut(position);
+    }
+  }
+
+  @Override
+  public Result parseOn(Context context) {
+    Result result = delegate.parseOn(context);
+    if (result.isSuccess()) {
+      cut(result.getPosition());
+    }
+    return result;
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    if (delegate.parseOn(state)) {
+      cut(state.getPosition());
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    int result = delegate.fastParseOn(buffer, position);
+    if (result >= 0) {
+      cut(result);
+    }
+    return result;
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return firstCharactersOf(delegate, seen);
+  }
+
+  @Override
+  public boolean usesSession() {
+    return true;
+  }
+
+  @Override
+  public boolean recordsCuts() {
+    return true;
+  }
+
+  @Override
+  public CutParser copy() {
+    return new CutParser(delegate);
+  }
+}
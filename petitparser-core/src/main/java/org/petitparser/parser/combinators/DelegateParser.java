@@ -1,6 +1,7 @@
 package org.petitparser.parser.combinators;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 
@@ -25,6 +26,16 @@ public class DelegateParser extends Parser {
     return delegate.parseOn(context);
   }
 
+  @Override
+  public boolean parseOn(ParseState state) {
+    return delegate.parseOn(state);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    return delegate.fastParseOn(buffer, position);
+  }
+
   @Override
   public void replace(Parser source, Parser target) {
     super.replace(source, target);
@@ -1,6 +1,7 @@
 package org.petitparser.parser.combinators;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 
@@ -17,6 +18,13 @@ public class EndOfInputParser extends Parser {
     this.message = Objects.requireNonNull(message, "Undefined message");
   }
 
+  /**
+   * Returns the error message of this parser.
+   */
+  public String getMessage() {
+    return message;
+  }
+
   @Override
   public Result parseOn(Context context) {
     return context.getPosition() < context.getBuffer().length() ?
@@ -24,7 +32,13 @@ public class EndOfInputParser extends Parser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    return state.getPosition() < state.getBuffer().length() ?
+        state.failure(message) : state.success(null);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     return position < buffer.length() ? -1 : position;
   }
 
@@ -34,6 +48,11 @@ public class EndOfInputParser extends Parser {
         Objects.equals(message, ((EndOfInputParser) other).message);
   }
 
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() + Objects.hashCode(message);
+  }
+
   @Override
   public EndOfInputParser copy() {
     return new EndOfInputParser(message);
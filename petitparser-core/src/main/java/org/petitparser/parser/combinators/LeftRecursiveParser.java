@@ -0,0 +1,303 @@
+package org.petitparser.parser.combinators;
+
+import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Result;
+import org.petitparser.context.Session;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A parser that supports left recursion through its delegate by growing a
+ * seed, see Warth et al., "Packrat Parsers Can Support Left Recursion".
+ *
+ * <p>Every production that is part of a cycle of left recursive activations
+ * is wrapped into such a parser, see {@link
+ * org.petitparser.tools.GrammarDefinition}. The parsers memoize the results
+ * of their delegate for each input position, and a left recursive activation
+ * returns the current seed (initially a failure) instead of recursing
+ * forever. A parser that is activated left recursively becomes the head of a
+ * recursion at its position: it parses its delegate repeatedly, memoizing
+ * each result as the new seed, as long as the result consumes more input than
+ * the previous one. For a production like {@code expr := expr '+' term |
+ * term} the longest result is the left associative one.
+ *
+ * <p>The parsers activated at the position of a head while it grows are
+ * involved in its recursion: their results depend on the seed, thus they are
+ * parsed again in every round instead of being recalled from the previous
+ * one. Unlike in the original algorithm an involved parser can be the head of
+ * another recursion, so that interlocking cycles grow at every production
+ * they are entered.
+ *
+ * <p>The results and the state of the recursions are kept in the {@link
+ * Session} of the current parse call, like in a {@link MemoizedParser}.
+ */
+public class LeftRecursiveParser extends DelegateParser {
+
+  /**
+   * The message of the failure that cuts off the left recursion.
+   */
+  public static final String MESSAGE = "left recursion";
+
+  /**
+   * The session keys of the state of the parse modes with results, and of the
+   * recognizer mode (see {@link Parser#fastParseOn(CharSequence, int)}).
+   */
+  private static final Object RESULTS = new Object();
+  private static final Object STOPS = new Object();
+
+  public LeftRecursiveParser(Parser delegate) {
+    super(delegate);
+  }
+
+  /**
+   * The state of the left recursive parsers of a parse mode in a session.
+   */
+  private static class Recursions implements Session.Releasable {
+
+    /**
+     * The memoized entries of each parser by input position.
+     */
+    private final Map<Parser, Map<Integer, Entry>> memos =
+        new IdentityHashMap<>();
+
+    /**
+     * The last head of a recursion by input position, linked to the previous
+     * ones at the same position.
+     */
+    private final Map<Integer, Head> heads = new HashMap<>();
+
+    /**
+     * Orders the activations, the entries and the rounds of growing.
+     */
+    private long clock;
+
+    @Override
+    public void release(int position) {
+      for (Map<Integer, Entry> memo : memos.values()) {
+        memo.keySet().removeIf(key -> key < position);
+      }
+      heads.keySet().removeIf(key -> key < position);
+    }
+
+    /**
+     * Tests if an entry completed at {@code time} at {@code position} is
+     * still valid, that is it was not completed while a head at the position
+     * was growing, except in its last round.
+     */
+    private boolean isValid(int position, long time) {
+      for (Head head = heads.get(position); head != null;
+           head = head.previous) {
+        if (head.start < time && time < head.round) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * The memoized answer of a parser at a position, or its seed while the
+   * parser is active at the position.
+   */
+  private static class Entry {
+    private Object answer;
+    private long time;
+    private boolean active = true;
+    private boolean recursive;
+
+    Entry(Object answer, long time) {
+      this.answer = answer;
+      this.time = time;
+    }
+  }
+
+  /**
+   * The head of a recursion: the entries completed after its activation
+   * started and before its current round started are outdated.
+   */
+  private static class Head {
+    private final long start;
+    private final Head previous;
+    private long round;
+
+    Head(long start, Head previous) {
+      this.start = start;
+      this.previous = previous;
+    }
+  }
+
+  /**
+   * Parses the delegate at a fixed position in one of the parse modes. The
+   * answers are {@link Result}s, or stop positions in the recognizer mode.
+   */
+  private interface Mode {
+
+    /**
+     * Returns the answer of the delegate.
+     */
+    Object evaluate();
+
+    /**
+     * Returns the failure that cuts off the left recursion.
+     */
+    Object seed();
+  }
+
+  private static boolean isFailure(Object answer) {
+    return answer instanceof Result ? ((Result) answer).isFailure() :
+        (Integer) answer < 0;
+  }
+
+  private static int positionOf(Object answer) {
+    return answer instanceof Result ? ((Result) answer).getPosition() :
+        (Integer) answer;
+  }
+
+  /**
+   * Tests if {@code result} is the failure that cuts off the left recursion.
+   * The message is compared by identity, so that failures of the delegate do
+   * not match.
+   */
+  private static boolean isSeed(Result result) {
+    return result.isFailure() && result.getMessage() == MESSAGE;
+  }
+
+  /**
+   * Returns the answer of this parser at {@code position}.
+   */
+  private Object apply(Recursions recursions, Mode mode, int position) {
+    Map<Integer, Entry> memo =
+        recursions.memos.computeIfAbsent(this, key -> new HashMap<>());
+    Entry entry = memo.get(position);
+    if (entry != null) {
+      if (entry.active) {
+        entry.recursive = true;
+        return entry.answer;
+      } else if (recursions.isValid(position, entry.time)) {
+        return entry.answer;
+      }
+    }
+    entry = new Entry(mode.seed(), ++recursions.clock);
+    memo.put(position, entry);
+    Object answer = mode.evaluate();
+    if (entry.recursive && !isFailure(answer)) {
+      Head head = new Head(entry.time, recursions.heads.get(position));
+      recursions.heads.put(position, head);
+      do {
+        entry.answer = answer;
+        head.round = ++recursions.clock;
+        answer = mode.evaluate();
+      } while (!isFailure(answer) &&
+          positionOf(answer) > positionOf(entry.answer));
+      answer = entry.answer;
+    }
+    entry.answer = answer;
+    entry.time = ++recursions.clock;
+    entry.active = false;
+    return answer;
+  }
+
+  private Recursions recursionsOf(Session session, Object key) {
+    return session.get(key, each -> new Recursions());
+  }
+
+  @Override
+  public Result parseOn(Context context) {
+    Session session = Session.current();
+    if (session == null || session.getBuffer() != context.getBuffer()) {
+      Session previous = Session.open(context.getBuffer());
+      try {
+        return parseOn(context);
+      } finally {
+        Session.close(previous);
+      }
+    }
+    return (Result) apply(recursionsOf(session, RESULTS), new Mode() {
+      @Override
+      public Object evaluate() {
+        return delegate.parseOn(context);
+      }
+
+      @Override
+      public Object seed() {
+        return context.failure(MESSAGE);
+      }
+    }, context.getPosition());
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    Session session = Session.current();
+    if (session == null || session.getBuffer() != state.getBuffer()) {
+      Session previous = Session.open(state.getBuffer());
+      try {
+        return parseOn(state);
+      } finally {
+        Session.close(previous);
+      }
+    }
+    int position = state.getPosition();
+    int discarding = state.suspendDiscarding();
+    Result result = (Result) apply(recursionsOf(session, RESULTS), new Mode() {
+      @Override
+      public Object evaluate() {
+        state.setPosition(position);
+        return state.toResult(delegate.parseOn(state));
+      }
+
+      @Override
+      public Object seed() {
+        return new Context(state.getBuffer(), position, state.getLineIndex())
+            .failure(MESSAGE);
+      }
+    }, position);
+    state.resumeDiscarding(discarding);
+    return isSeed(result) ?
+        state.silentFailure(MESSAGE, position) : state.apply(result);
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return firstCharactersOf(delegate, seen);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    Session session = Session.current();
+    if (session == null || session.getBuffer() != buffer) {
+      Session previous = Session.open(buffer);
+      try {
+        return fastParseOn(buffer, position);
+      } finally {
+        Session.close(previous);
+      }
+    }
+    return (Integer) apply(recursionsOf(session, STOPS), new Mode() {
+      @Override
+      public Object evaluate() {
+        return delegate.fastParseOn(buffer, position);
+      }
+
+      @Override
+      public Object seed() {
+        return -1;
+      }
+    }, position);
+  }
+
+  @Override
+  public boolean usesSession() {
+    return true;
+  }
+
+  @Override
+  public LeftRecursiveParser copy() {
+    return new LeftRecursiveParser(delegate);
+  }
+}
@@ -0,0 +1,122 @@
+package org.petitparser.parser.combinators;
+
+import org.petitparser.context.Context;
+import org.petitparser.context.MemoTable;
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Result;
+import org.petitparser.context.Session;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+
+import java.util.Set;
+
+/**
+ * A parser that caches the results of its delegate for each input position
+ * (packrat parsing).
+ *
+ * <p>The cache is attached to the {@link Session} of the current parse call,
+ * thus the parser itself remains stateless and can be shared between threads.
+ * Memoization assumes that the delegate is free of side-effects, and that the
+ * values it returns are not modified by subsequent actions. The delegate
+ * always builds its values, even if the caller {@link
+ * ParseState#discardValues() discards them}, so that the cached results can
+ * be reused by all callers.
+ *
+ * <p>The cache also counts its hits and misses. To inspect them, open a
+ * session around the parse call and query {@link #getMemoTable()} before
+ * closing it.
+ */
+public class MemoizedParser extends DelegateParser {
+
+  public MemoizedParser(Parser delegate) {
+    super(delegate);
+  }
+
+  @Override
+  public Result parseOn(Context context) {
+    Session session = Session.current();
+    if (session == null || session.getBuffer() != context.getBuffer()) {
+      Session previous = Session.open(context.getBuffer());
+      try {
+        return parseOn(context);
+      } finally {
+        Session.close(previous);
+      }
+    }
+    MemoTable table = session.get(this, key -> new MemoTable());
+    Result result = table.get(context.getPosition());
+    if (result == null) {
+      result = delegate.parseOn(context);
+      table.put(context.getPosition(), result);
+    }
+    return result;
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    Session session = Session.current();
+    if (session == null || session.getBuffer() != state.getBuffer()) {
+      Session previous = Session.open(state.getBuffer());
+      try {
+        return parseOn(state);
+      } finally {
+        Session.close(previous);
+      }
+    }
+    MemoTable table = session.get(this, key -> new MemoTable());
+    int position = state.getPosition();
+    Result result = table.get(position);
+    if (result == null) {
+      int discarding = state.suspendDiscarding();
+      boolean success = delegate.parseOn(state);
+      state.resumeDiscarding(discarding);
+      table.put(position, state.toResult(success));
+      return success;
+    }
+    return state.apply(result);
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return firstCharactersOf(delegate, seen);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    Session session = Session.current();
+    if (session == null || session.getBuffer() != buffer) {
+      Session previous = Session.open(buffer);
+      try {
+        return fastParseOn(buffer, position);
+      } finally {
+        Session.close(previous);
+      }
+    }
+    MemoTable table = session.get(this, key -> new MemoTable());
+    int result = table.getStop(position);
+    if (result == MemoTable.UNKNOWN) {
+      result = delegate.fastParseOn(buffer, position);
+      table.putStop(position, result);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the cache of this parser in the session open on the current
+   * thread, or {@code null} if there is none.
+   */
+  public MemoTable getMemoTable() {
+    Session session = Session.current();
+    return session == null ? null : session.get(this, key -> null);
+  }
+
+  @Override
+  public boolean usesSession() {
+    return true;
+  }
+
+  @Override
+  public MemoizedParser copy() {
+    return new MemoizedParser(delegate);
+  }
+}
@@ -1,6 +1,7 @@
 package org.petitparser.parser.combinators;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 
@@ -19,6 +20,13 @@ public class NotParser extends DelegateParser {
     this.message = Objects.requireNonNull(message, "Undefined message");
   }
 
+  /**
+   * Returns the error message of this parser.
+   */
+  public String getMessage() {
+    return message;
+  }
+
   @Override
   public Result parseOn(Context context) {
     Result result = delegate.parseOn(context);
@@ -30,7 +38,20 @@ public class NotParser extends DelegateParser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    int position = state.getPosition();
+    state.suspendExpected();
+    boolean success = delegate.parseOn(state);
+    state.resumeExpected();
+    if (success) {
+      return state.failure(message, position);
+    } else {
+      return state.success(null, position);
+    }
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     int result = delegate.fastParseOn(buffer, position);
     return result < 0 ? position : -1;
   }
@@ -41,6 +62,11 @@ public class NotParser extends DelegateParser {
         Objects.equals(message, ((NotParser) other).message);
   }
 
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() + Objects.hash(message);
+  }
+
   @Override
   public NotParser copy() {
     return new NotParser(delegate, message);
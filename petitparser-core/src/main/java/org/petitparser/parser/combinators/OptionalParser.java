@@ -1,6 +1,7 @@
 package org.petitparser.parser.combinators;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 
@@ -18,10 +19,17 @@ public class OptionalParser extends DelegateParser {
     this.otherwise = otherwise;
   }
 
+  /**
+   * Returns the value returned if the delegate fails.
+   */
+  public Object getOtherwise() {
+    return otherwise;
+  }
+
   @Override
   public Result parseOn(Context context) {
     Result result = delegate.parseOn(context);
-    if (result.isSuccess()) {
+    if (result.isSuccess() || isCommitted(context.getPosition())) {
       return result;
     } else {
       return context.success(otherwise);
@@ -29,9 +37,16 @@ public class OptionalParser extends DelegateParser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    int position = state.getPosition();
+    return delegate.parseOn(state) || !isCommitted(position) &&
+        state.success(otherwise, position);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     int result = delegate.fastParseOn(buffer, position);
-    return result < 0 ? position : result;
+    return result < 0 && !isCommitted(position) ? position : result;
   }
 
   @Override
@@ -40,6 +55,11 @@ public class OptionalParser extends DelegateParser {
         Objects.equals(otherwise, ((OptionalParser) other).otherwise);
   }
 
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() + Objects.hashCode(otherwise);
+  }
+
   @Override
   public OptionalParser copy() {
     return new OptionalParser(delegate, otherwise);
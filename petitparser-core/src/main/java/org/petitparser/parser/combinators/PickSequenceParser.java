@@ -0,0 +1,166 @@
+package org.petitparser.parser.combinators;
+
+import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Result;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A parser that parses a sequence of parsers, but only keeps the values at
+ * some of the positions. With a single index the value at that position is
+ * returned, otherwise a list with the values at the given indexes is returned.
+ *
+ * @see SequenceParser#pick(int)
+ * @see SequenceParser#permute(int...)
+ */
+public class PickSequenceParser extends ListParser {
+
+  private final int[] indexes;
+  private final boolean permutation;
+
+  /**
+   * Constructs a sequence that returns the value at {@code index}.
+   */
+  public PickSequenceParser(int index, Parser... parsers) {
+    this(new int[]{index}, false, parsers);
+  }
+
+  /**
+   * Constructs a sequence that returns a list of the values at {@code
+   * indexes}.
+   */
+  public PickSequenceParser(int[] indexes, Parser... parsers) {
+    this(indexes, true, parsers);
+  }
+
+  private PickSequenceParser(int[] indexes, boolean permutation,
+      Parser... parsers) {
+    super(parsers);
+    this.indexes = new int[indexes.length];
+    for (int i = 0; i < indexes.length; i++) {
+      int index = indexes[i] < 0 ? parsers.length + indexes[i] : indexes[i];
+      if (index < 0 || index >= parsers.length) {
+        throw new IllegalArgumentException(
+            "Index " + indexes[i] + " out of range for " + parsers.length +
+                " parsers.");
+      }
+      this.indexes[i] = index;
+    }
+    this.permutation = permutation;
+  }
+
+  @Override
+  public Result parseOn(Context context) {
+    Context current = context;
+    Object value = null;
+    Object[] values = permutation ? new Object[parsers.length] : null;
+    for (int i = 0; i < parsers.length; i++) {
+      Result result = parsers[i].parseOn(current);
+      if (result.isFailure()) {
+        return result;
+      }
+      if (permutation) {
+        values[i] = result.get();
+      } else if (i == indexes[0]) {
+        value = result.get();
+      }
+      current = result;
+    }
+    return current.success(permutation ? valuesAt(values) : value);
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    if (!permutation || state.isDiscardingValues()) {
+      int index = indexes[0];
+      Object value = null;
+      for (int i = 0; i < parsers.length; i++) {
+        if (!parsers[i].parseOn(state)) {
+          return false;
+        }
+        if (i == index) {
+          value = state.getValue();
+        }
+      }
+      return state.success(value);
+    }
+    Object[] values = new Object[parsers.length];
+    for (int i = 0; i < parsers.length; i++) {
+      if (!parsers[i].parseOn(state)) {
+        return false;
+      }
+      values[i] = state.getValue();
+    }
+    return state.success(valuesAt(values));
+  }
+
+  private List<Object> valuesAt(Object[] values) {
+    List<Object> result = new ArrayList<>(indexes.length);
+    for (int index : indexes) {
+      result.add(values[index]);
+    }
+    return result;
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return parsers.length == 0 ? null : firstCharactersOf(parsers[0], seen);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    for (Parser parser : parsers) {
+      position = parser.fastParseOn(buffer, position);
+      if (position < 0) {
+        return position;
+      }
+    }
+    return position;
+  }
+
+  /**
+   * Returns the (non-negative) indexes of the values kept.
+   */
+  public int[] getIndexes() {
+    return indexes.clone();
+  }
+
+  /**
+   * Tests if this parser returns a list, rather than a single value.
+   */
+  public boolean isPermutation() {
+    return permutation;
+  }
+
+  @Override
+  protected boolean hasEqualProperties(Parser other) {
+    PickSequenceParser otherPick = (PickSequenceParser) other;
+    return super.hasEqualProperties(other) &&
+        permutation == otherPick.permutation &&
+        Arrays.equals(indexes, otherPick.indexes);
+  }
+
+  @Override
+  protected int hashProperties() {
+    return 31 * (31 * super.hashProperties() + Arrays.hashCode(indexes)) +
+        Boolean.hashCode(permutation);
+  }
+
+  @Override
+  public PickSequenceParser copy() {
+    return new PickSequenceParser(indexes, permutation,
+        Arrays.copyOf(parsers, parsers.length));
+  }
+
+  @Override
+  public String toString() {
+    return super.toString() + "[" + (permutation ? Arrays.toString(indexes) :
+        indexes[0]) + "]";
+  }
+}
@@ -0,0 +1,188 @@
+package org.petitparser.parser.combinators;
+
+import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Result;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+import org.petitparser.utils.FailureJoiner;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * A choice parser that uses the next input character to only try the
+ * alternatives that can start with it.
+ *
+ * <p>The first characters of each alternative are computed using {@link
+ * Parser#getFirstCharacters()}, and computed again when a parser graph was
+ * modified since. Alternatives that might succeed without consuming input, or
+ * whose first characters are unknown, are always tried. Since skipped
+ * alternatives are guaranteed to fail, the parser returns the same successes
+ * as the ordered {@link ChoiceParser}. If all candidates fail, the failure is
+ * completed to match the one of the ordered choice: with the default {@link
+ * FailureJoiner.SelectLast} only the last alternative is tried, if it was not
+ * a candidate; other joiners try all alternatives in order. A {@link
+ * ParseState} that registers the messages of failures as expected, as used
+ * to report the farthest failure, needs the failures of all alternatives in
+ * order and is thus not predicted.
+ */
+public class PredictiveChoiceParser extends ChoiceParser {
+
+  private static final int LATIN1 = 256;
+
+  /**
+   * The candidate alternatives for each next character.
+   */
+  private static final class Dispatch {
+
+    final int modifications;
+    final int[] all;
+    final int[] nullables;
+    final int[] others;
+    final int[][] latin1;
+
+    Dispatch(Parser[] parsers) {
+      this.modifications = getModificationCount();
+      CharacterPredicate[] firsts = new CharacterPredicate[parsers.length];
+      for (int i = 0; i < parsers.length; i++) {
+        CharacterPredicate first = parsers[i].getFirstCharacters();
+        firsts[i] = first == null ? null : first.compile();
+      }
+      this.all = IntStream.range(0, parsers.length).toArray();
+      this.nullables = candidates(index -> firsts[index] == null);
+      this.others = candidates(index -> firsts[index] == null ||
+          acceptsNonLatin1(firsts[index]));
+      this.latin1 = new int[LATIN1][];
+      for (int i = 0; i < LATIN1; i++) {
+        char character = (char) i;
+        latin1[i] = candidates(index -> firsts[index] == null ||
+            firsts[index].test(character));
+      }
+    }
+
+    /**
+     * Returns the indexes of the alternatives to try, shares the array of all
+     * indexes if all alternatives need to be tried.
+     */
+    private int[] candidates(IntPredicate predicate) {
+      int[] result = Arrays.stream(all).filter(predicate).toArray();
+      return Arrays.equals(result, all) ? all : result;
+    }
+
+    int[] candidates(CharSequence buffer, int position) {
+      if (position < buffer.length()) {
+        char value = buffer.charAt(position);
+        return value < LATIN1 ? latin1[value] : others;
+      }
+      return nullables;
+    }
+  }
+
+  private volatile Dispatch dispatch;
+
+  public PredictiveChoiceParser(Parser... parsers) {
+    this(new FailureJoiner.SelectLast(), parsers);
+  }
+
+  public PredictiveChoiceParser(FailureJoiner failureJoiner,
+      Parser... parsers) {
+    super(failureJoiner, parsers);
+    this.dispatch = new Dispatch(parsers);
+  }
+
+  private static boolean acceptsNonLatin1(CharacterPredicate predicate) {
+    for (int value = LATIN1; value <= Character.MAX_VALUE; value++) {
+      if (predicate.test((char) value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the dispatch tables, computes them again if a parser graph was
+   * modified since they were computed.
+   */
+  private Dispatch dispatch() {
+    Dispatch dispatch = this.dispatch;
+    if (dispatch.modifications != getModificationCount()) {
+      this.dispatch = dispatch = new Dispatch(parsers);
+    }
+    return dispatch;
+  }
+
+  /**
+   * Tests if the last alternative is the last of the {@code candidates}.
+   */
+  private boolean triedLast(int[] candidates) {
+    return candidates.length > 0 &&
+        candidates[candidates.length - 1] == parsers.length - 1;
+  }
+
+  @Override
+  public Result parseOn(Context context) {
+    int[] candidates = dispatch().candidates(context.getBuffer(),
+        context.getPosition());
+    Result result = null;
+    for (int index : candidates) {
+      result = parsers[index].parseOn(context);
+      if (result.isSuccess()) {
+        return result;
+      }
+      if (isCommitted(context.getPosition())) {
+        return result;
+      }
+    }
+    if (joinsFailures) {
+      return super.parseOn(context);
+    }
+    return triedLast(candidates) ? result :
+        parsers[parsers.length - 1].parseOn(context);
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    if (state.isExpecting()) {
+      return super.parseOn(state);
+    }
+    int position = state.getPosition();
+    int[] candidates = dispatch().candidates(state.getBuffer(), position);
+    for (int index : candidates) {
+      state.setPosition(position);
+      if (parsers[index].parseOn(state)) {
+        return true;
+      }
+      if (isCommitted(position)) {
+        return false;
+      }
+    }
+    if (joinsFailures) {
+      state.setPosition(position);
+      return super.parseOn(state);
+    }
+    if (triedLast(candidates)) {
+      return false;
+    }
+    state.setPosition(position);
+    return parsers[parsers.length - 1].parseOn(state);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    for (int index : dispatch().candidates(buffer, position)) {
+      int result = parsers[index].fastParseOn(buffer, position);
+      if (result >= 0 || isCommitted(position)) {
+        return result;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public PredictiveChoiceParser copy() {
+    return new PredictiveChoiceParser(failureJoiner,
+        Arrays.copyOf(parsers, parsers.length));
+  }
+}
@@ -1,12 +1,15 @@
 package org.petitparser.parser.combinators;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
+import org.petitparser.parser.primitive.CharacterPredicate;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 /**
  * A parser that parses a sequence of parsers.
@@ -33,7 +36,32 @@ public class SequenceParser extends ListParser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    if (state.isDiscardingValues()) {
+      for (Parser parser : parsers) {
+        if (!parser.parseOn(state)) {
+          return false;
+        }
+      }
+      return state.success(null);
+    }
+    List<Object> elements = new ArrayList<>(parsers.length);
+    for (Parser parser : parsers) {
+      if (!parser.parseOn(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    return state.success(elements);
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return parsers.length == 0 ? null : firstCharactersOf(parsers[0], seen);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     for (Parser parser : parsers) {
       position = parser.fastParseOn(buffer, position);
       if (position < 0) {
@@ -50,6 +78,35 @@ public class SequenceParser extends ListParser {
     return new SequenceParser(array);
   }
 
+  /**
+   * Returns a {@link PickSequenceParser} that only keeps the value at {@code
+   * index}, instead of building the list of all values.
+   */
+  @Override
+  public Parser pick(int index) {
+    return isIndex(index) ? new PickSequenceParser(index,
+        Arrays.copyOf(parsers, parsers.length)) : super.pick(index);
+  }
+
+  /**
+   * Returns a {@link PickSequenceParser} that only keeps the values at {@code
+   * indexes}, instead of building the list of all values.
+   */
+  @Override
+  public Parser permute(int... indexes) {
+    for (int index : indexes) {
+      if (!isIndex(index)) {
+        return super.permute(indexes);
+      }
+    }
+    return new PickSequenceParser(indexes,
+        Arrays.copyOf(parsers, parsers.length));
+  }
+
+  private boolean isIndex(int index) {
+    return -parsers.length <= index && index < parsers.length;
+  }
+
   @Override
   public SequenceParser copy() {
     return new SequenceParser(Arrays.copyOf(parsers, parsers.length));
@@ -1,8 +1,12 @@
 package org.petitparser.parser.combinators;
 
+import org.petitparser.context.ParseState;
 import org.petitparser.parser.Parser;
+import org.petitparser.parser.primitive.CharacterPredicate;
 import org.petitparser.parser.primitive.FailureParser;
 
+import java.util.Set;
+
 /**
  * A parser that can be set to behave like another parser.
  */
@@ -37,7 +41,17 @@ public class SettableParser extends DelegateParser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    return delegate.parseOn(state);
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return firstCharactersOf(delegate, seen);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     return delegate.fastParseOn(buffer, position);
   }
 
@@ -52,7 +66,7 @@ public class SettableParser extends DelegateParser {
    * Replace the current referred parser with a new {@code delegate}.
    */
   public void set(Parser delegate) {
-    this.delegate = delegate;
+    replace(this.delegate, delegate);
   }
 
   @Override
@@ -1,10 +1,12 @@
 package org.petitparser.parser.primitive;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Parses a single character.
@@ -12,11 +14,13 @@ import java.util.Objects;
 public class CharacterParser extends Parser {
 
   /**
-   * Returns a parser that accepts a specific {@link CharacterPredicate}.
+   * Returns a parser that accepts a specific {@link CharacterPredicate}. The
+   * predicate is {@link CharacterPredicate#compile() compiled} for speed, which
+   * leaves custom predicates unchanged.
    */
   public static CharacterParser of(
       CharacterPredicate predicate, String message) {
-    return new CharacterParser(predicate, message);
+    return new CharacterParser(predicate.compile(), message);
   }
 
   /**
@@ -84,7 +88,7 @@ public class CharacterParser extends Parser {
   }
 
   public static CharacterParser digit(String message) {
-    return new CharacterParser(Character::isDigit, message);
+    return new CharacterParser(Predicates.DIGIT, message);
   }
 
   /**
@@ -95,7 +99,7 @@ public class CharacterParser extends Parser {
   }
 
   public static CharacterParser letter(String message) {
-    return of(Character::isLetter, message);
+    return new CharacterParser(Predicates.LETTER, message);
   }
 
   /**
@@ -106,7 +110,7 @@ public class CharacterParser extends Parser {
   }
 
   public static CharacterParser lowerCase(String message) {
-    return of(Character::isLowerCase, message);
+    return new CharacterParser(Predicates.LOWER_CASE, message);
   }
 
   /**
@@ -144,7 +148,7 @@ public class CharacterParser extends Parser {
   }
 
   public static CharacterParser upperCase(String message) {
-    return of(Character::isUpperCase, message);
+    return new CharacterParser(Predicates.UPPER_CASE, message);
   }
 
   /**
@@ -155,7 +159,7 @@ public class CharacterParser extends Parser {
   }
 
   public static CharacterParser whitespace(String message) {
-    return of(Character::isWhitespace, message);
+    return new CharacterParser(Predicates.WHITESPACE, message);
   }
 
   /**
@@ -166,7 +170,26 @@ public class CharacterParser extends Parser {
   }
 
   public static CharacterParser word(String message) {
-    return of(Character::isLetterOrDigit, message);
+    return new CharacterParser(Predicates.WORD, message);
+  }
+
+  /**
+   * The compiled predicates of the built-in character classes, initialized on
+   * first use and shared by all parsers.
+   */
+  private static class Predicates {
+    static final CharacterPredicate DIGIT =
+        LookupCharacterPredicate.of(Character::isDigit);
+    static final CharacterPredicate LETTER =
+        LookupCharacterPredicate.of(Character::isLetter);
+    static final CharacterPredicate LOWER_CASE =
+        LookupCharacterPredicate.of(Character::isLowerCase);
+    static final CharacterPredicate UPPER_CASE =
+        LookupCharacterPredicate.of(Character::isUpperCase);
+    static final CharacterPredicate WHITESPACE =
+        LookupCharacterPredicate.of(Character::isWhitespace);
+    static final CharacterPredicate WORD =
+        LookupCharacterPredicate.of(Character::isLetterOrDigit);
   }
 
   private final CharacterPredicate matcher;
@@ -177,12 +200,27 @@ public class CharacterParser extends Parser {
     this.message = Objects.requireNonNull(message, "Undefined message");
   }
 
+  /**
+   * Returns the predicate of the characters this parser accepts.
+   */
+  public CharacterPredicate getPredicate() {
+    return matcher;
+  }
+
+  /**
+   * Returns the error message of this parser.
+   */
+  public String getMessage() {
+    return message;
+  }
+
   @Override
   public Result parseOn(Context context) {
-    String buffer = context.getBuffer();
+    CharSequence buffer = context.getBuffer();
     int position = context.getPosition();
     if (position < buffer.length()) {
-      char result = buffer.charAt(position);
+      char result = buffer instanceof String ?
+          ((String) buffer).charAt(position) : buffer.charAt(position);
       if (matcher.test(result)) {
         return context.success(result, position + 1);
       }
@@ -191,7 +229,32 @@ public class CharacterParser extends Parser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char result = buffer instanceof String ?
+          ((String) buffer).charAt(position) : buffer.charAt(position);
+      if (matcher.test(result)) {
+        return state.success(result, position + 1);
+      }
+    }
+    return state.failure(message);
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return matcher;
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    if (buffer instanceof String) {
+      // Keep the common case monomorphic, so that the JIT can inline it.
+      String string = (String) buffer;
+      return position < string.length() &&
+          matcher.test(string.charAt(position)) ? position + 1 : -1;
+    }
     return position < buffer.length() && matcher.test(buffer.charAt(position)) ?
         position + 1 : -1;
   }
@@ -209,6 +272,11 @@ public class CharacterParser extends Parser {
         Objects.equals(message, ((CharacterParser) other).message);
   }
 
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() + Objects.hash(matcher, message);
+  }
+
   @Override
   public CharacterParser copy() {
     return of(matcher, message);
@@ -16,7 +16,7 @@ public interface CharacterPredicate {
    * Returns a character predicate that matches any character.
    */
   static CharacterPredicate any() {
-    return value -> true;
+    return ConstantCharacterPredicate.ANY;
   }
 
   /**
@@ -34,7 +34,7 @@ public interface CharacterPredicate {
    * Returns a character predicate that matches no character.
    */
   static CharacterPredicate none() {
-    return value -> false;
+    return ConstantCharacterPredicate.NONE;
   }
 
   /**
@@ -52,7 +52,7 @@ public interface CharacterPredicate {
    * Returns a character predicate that matches the given {@code character}.
    */
   static CharacterPredicate of(char character) {
-    return value -> value == character;
+    return new SingleCharacterPredicate(character);
   }
 
   /**
@@ -60,7 +60,7 @@ public interface CharacterPredicate {
    * start} and {@code stop}.
    */
   static CharacterPredicate range(char start, char stop) {
-    return value -> start <= value && value <= stop;
+    return new RangeCharacterPredicate(start, stop);
   }
 
   /**
@@ -80,10 +80,17 @@ public interface CharacterPredicate {
         throw new IllegalArgumentException("Invalid sequence.");
       }
     }
-    return value -> {
-      int index = Arrays.binarySearch(starts, value);
-      return index >= 0 || index < -1 && value <= stops[-index - 2];
-    };
+    return new RangesCharacterPredicate(starts, stops);
+  }
+
+  /**
+   * Returns a character predicate equivalent to {@code predicate} that is
+   * backed by a lookup table. The {@code predicate} is evaluated once for every
+   * character, and thus must be free of side-effects. Use this to opt custom
+   * predicates into the optimization of {@link #compile()}.
+   */
+  static CharacterPredicate lookup(CharacterPredicate predicate) {
+    return LookupCharacterPredicate.of(predicate);
   }
 
   /**
@@ -124,6 +131,144 @@ public interface CharacterPredicate {
     return new NotCharacterPredicate(this);
   }
 
+  /**
+   * Returns a character predicate that matches the characters of this
+   * predicate and of {@code other}.
+   */
+  default CharacterPredicate or(CharacterPredicate other) {
+    return new OrCharacterPredicate(this, other);
+  }
+
+  /**
+   * Returns an equivalent character predicate that is optimized for speed.
+   *
+   * <p>Unless the predicate is already trivial to evaluate, the result is
+   * backed by a bitset with a table for the Latin-1 characters and a
+   * two-level table for the rest of the Basic Multilingual Plane. Only the
+   * built-in predicates are optimized: the default implementation returns the
+   * receiver, since custom predicates might have side-effects or depend on
+   * state. See {@link #lookup(CharacterPredicate)} to optimize them anyway.
+   */
+  default CharacterPredicate compile() {
+    return this;
+  }
+
+  /**
+   * The character predicate that matches all or no characters.
+   */
+  class ConstantCharacterPredicate implements CharacterPredicate {
+
+    static final ConstantCharacterPredicate ANY =
+        new ConstantCharacterPredicate(true);
+    static final ConstantCharacterPredicate NONE =
+        new ConstantCharacterPredicate(false);
+
+    private final boolean constant;
+
+    private ConstantCharacterPredicate(boolean constant) {
+      this.constant = constant;
+    }
+
+    @Override
+    public boolean test(char value) {
+      return constant;
+    }
+
+    @Override
+    public CharacterPredicate not() {
+      return constant ? NONE : ANY;
+    }
+
+    @Override
+    public CharacterPredicate or(CharacterPredicate other) {
+      return constant ? this : other;
+    }
+
+    @Override
+    public CharacterPredicate compile() {
+      return this;
+    }
+  }
+
+  /**
+   * The character predicate that matches a single character.
+   */
+  class SingleCharacterPredicate implements CharacterPredicate {
+
+    final char character;
+
+    public SingleCharacterPredicate(char character) {
+      this.character = character;
+    }
+
+    /**
+     * Returns the character this predicate matches.
+     */
+    public char getCharacter() {
+      return character;
+    }
+
+    @Override
+    public boolean test(char value) {
+      return value == character;
+    }
+
+    @Override
+    public CharacterPredicate compile() {
+      return this;
+    }
+  }
+
+  /**
+   * The character predicate that matches a range of characters.
+   */
+  class RangeCharacterPredicate implements CharacterPredicate {
+
+    final char start;
+    final char stop;
+
+    public RangeCharacterPredicate(char start, char stop) {
+      this.start = start;
+      this.stop = stop;
+    }
+
+    @Override
+    public boolean test(char value) {
+      return start <= value && value <= stop;
+    }
+
+    @Override
+    public CharacterPredicate compile() {
+      return this;
+    }
+  }
+
+  /**
+   * The character predicate that matches sorted, disjoint ranges of
+   * characters.
+   */
+  class RangesCharacterPredicate implements CharacterPredicate {
+
+    final char[] starts;
+    final char[] stops;
+
+    public RangesCharacterPredicate(char[] starts, char[] stops) {
+      this.starts = starts;
+      this.stops = stops;
+    }
+
+    @Override
+    public boolean test(char value) {
+      int index = Arrays.binarySearch(starts, value);
+      return index >= 0 || index < -1 && value <= stops[-index - 2];
+    }
+
+    @Override
+    public CharacterPredicate compile() {
+      return LookupCharacterPredicate.of(starts, stops);
+    }
+  }
+
   /**
    * The negated character predicate.
    */
@@ -144,5 +289,48 @@ public interface CharacterPredicate {
     public CharacterPredicate not() {
       return predicate;
     }
+
+    @Override
+    public CharacterPredicate compile() {
+      CharacterPredicate compiled = predicate.compile();
+      if (LookupCharacterPredicate.supports(compiled)) {
+        return LookupCharacterPredicate.of(compiled).not();
+      }
+      return compiled == predicate ? this :
+          new NotCharacterPredicate(compiled);
+    }
+  }
+
+  /**
+   * The character predicate that matches the characters of either of two
+   * predicates.
+   */
+  class OrCharacterPredicate implements CharacterPredicate {
+
+    private final CharacterPredicate first;
+    private final CharacterPredicate second;
+
+    public OrCharacterPredicate(CharacterPredicate first,
+        CharacterPredicate second) {
+      this.first = first;
+      this.second = second;
+    }
+
+    @Override
+    public boolean test(char value) {
+      return first.test(value) || second.test(value);
+    }
+
+    @Override
+    public CharacterPredicate compile() {
+      CharacterPredicate compiledFirst = first.compile();
+      CharacterPredicate compiledSecond = second.compile();
+      if (LookupCharacterPredicate.supports(compiledFirst) &&
+          LookupCharacterPredicate.supports(compiledSecond)) {
+        return LookupCharacterPredicate.of(compiledFirst).or(compiledSecond);
+      }
+      return compiledFirst == first && compiledSecond == second ? this :
+          new OrCharacterPredicate(compiledFirst, compiledSecond);
+    }
   }
 }
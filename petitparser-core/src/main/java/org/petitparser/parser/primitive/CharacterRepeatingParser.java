@@ -0,0 +1,35 @@
+package org.petitparser.parser.primitive;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses a span of {@code min} to {@code max} characters accepted by a
+ * predicate, and returns the list of characters.
+ *
+ * <p>The parser is equivalent to the possessive repetition of a {@link
+ * CharacterParser}, but scans the input in a single loop instead of calling
+ * the repeated parser for each character.
+ */
+public class CharacterRepeatingParser extends CharacterSpanParser {
+
+  public CharacterRepeatingParser(CharacterPredicate matcher, int min, int max,
+      String message) {
+    super(matcher, min, max, message);
+  }
+
+  @Override
+  protected Object valueOf(CharSequence buffer, int start, int stop) {
+    List<Character> characters = new ArrayList<>(stop - start);
+    for (int i = start; i < stop; i++) {
+      characters.add(buffer.charAt(i));
+    }
+    return characters;
+  }
+
+  @Override
+  public CharacterRepeatingParser copy() {
+    return new CharacterRepeatingParser(getPredicate(), getMin(), getMax(),
+        getMessage());
+  }
+}
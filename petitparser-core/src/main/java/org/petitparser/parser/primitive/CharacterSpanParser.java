@@ -0,0 +1,157 @@
+package org.petitparser.parser.primitive;
+
+import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Result;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.repeating.RepeatingParser;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Parses a span of {@code min} to {@code max} characters accepted by a
+ * predicate, and returns it as a string.
+ *
+ * <p>The parser is equivalent to the flattened repetition of a {@link
+ * CharacterParser}, but scans the input in a single loop. If fewer than
+ * {@code min} characters are accepted, it fails with its message at the first
+ * rejected character, like the repetition would. Otherwise, unless it
+ * stopped at {@code max}, it registers its message as expected at the first
+ * rejected character (see {@link ParseState#expected(String, int)}).
+ */
+public class CharacterSpanParser extends Parser {
+
+  private final CharacterPredicate matcher;
+  private final int min;
+  private final int max;
+  private final String message;
+
+  public CharacterSpanParser(CharacterPredicate matcher, int min, int max,
+      String message) {
+    this.matcher = Objects.requireNonNull(matcher, "Undefined matcher")
+        .compile();
+    this.min = min;
+    this.max = max;
+    this.message = Objects.requireNonNull(message, "Undefined message");
+    if (min < 0) {
+      throw new IllegalArgumentException("Invalid min repetitions: " + min);
+    }
+    if (max != RepeatingParser.UNBOUNDED && min > max) {
+      throw new IllegalArgumentException("Invalid max repetitions: " + max);
+    }
+  }
+
+  /**
+   * Returns the predicate of the characters this parser accepts.
+   */
+  public CharacterPredicate getPredicate() {
+    return matcher;
+  }
+
+  /**
+   * Returns the minimum number of characters.
+   */
+  public int getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the maximum number of characters, or {@link
+   * RepeatingParser#UNBOUNDED}.
+   */
+  public int getMax() {
+    return max;
+  }
+
+  /**
+   * Returns the error message of this parser.
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Returns the position after the accepted characters at {@code position}.
+   */
+  private int scan(CharSequence buffer, int position) {
+    int limit = buffer.length();
+    if (max != RepeatingParser.UNBOUNDED && max < limit - position) {
+      limit = position + max;
+    }
+    while (position < limit && matcher.test(buffer.charAt(position))) {
+      position++;
+    }
+    return position;
+  }
+
+  @Override
+  public Result parseOn(Context context) {
+    CharSequence buffer = context.getBuffer();
+    int start = context.getPosition();
+    int stop = scan(buffer, start);
+    if (stop - start < min) {
+      return context.failure(message, stop);
+    }
+    return context.success(valueOf(buffer, start, stop), stop);
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    int stop = scan(buffer, start);
+    if (stop - start < min) {
+      return state.failure(message, stop);
+    }
+    if (stop - start != max) {
+      state.expected(message, stop);
+    }
+    return state.success(valueOf(buffer, start, stop), stop);
+  }
+
+  /**
+   * Returns the value of the accepted characters between {@code start} and
+   * {@code stop}.
+   */
+  protected Object valueOf(CharSequence buffer, int start, int stop) {
+    return buffer.subSequence(start, stop).toString();
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    int stop = scan(buffer, position);
+    return stop - position < min ? -1 : stop;
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return min > 0 ? matcher : null;
+  }
+
+  @Override
+  protected boolean hasEqualProperties(Parser other) {
+    return super.hasEqualProperties(other) &&
+        Objects.equals(matcher, ((CharacterSpanParser) other).matcher) &&
+        min == ((CharacterSpanParser) other).min &&
+        max == ((CharacterSpanParser) other).max &&
+        Objects.equals(message, ((CharacterSpanParser) other).message);
+  }
+
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() +
+        Objects.hash(matcher, min, max, message);
+  }
+
+  @Override
+  public CharacterSpanParser copy() {
+    return new CharacterSpanParser(matcher, min, max, message);
+  }
+
+  @Override
+  public String toString() {
+    return super.toString() + "[" + message + ", " + min + ".." +
+        (max == RepeatingParser.UNBOUNDED ? "*" : max) + "]";
+  }
+}
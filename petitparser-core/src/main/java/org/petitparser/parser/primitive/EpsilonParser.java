@@ -1,6 +1,7 @@
 package org.petitparser.parser.primitive;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 
@@ -15,7 +16,12 @@ public class EpsilonParser extends Parser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    return state.success(null);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     return position;
   }
 
@@ -1,10 +1,12 @@
 package org.petitparser.parser.primitive;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * A parser that consumes nothing and always fails.
@@ -25,13 +27,30 @@ public class FailureParser extends Parser {
     this.message = Objects.requireNonNull(message, "Undefined message");
   }
 
+  /**
+   * Returns the error message of this parser.
+   */
+  public String getMessage() {
+    return message;
+  }
+
   @Override
   public Result parseOn(Context context) {
     return context.failure(message);
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    return state.failure(message);
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return CharacterPredicate.none();
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     return -1;
   }
 
@@ -41,6 +60,11 @@ public class FailureParser extends Parser {
         Objects.equals(message, ((FailureParser) other).message);
   }
 
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() + Objects.hashCode(message);
+  }
+
   @Override
   public FailureParser copy() {
     return new FailureParser(message);
@@ -0,0 +1,205 @@
+package org.petitparser.parser.primitive;
+
+import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Result;
+import org.petitparser.parser.Parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Parses one of a set of literal strings in a single pass over the input.
+ *
+ * <p>The literals are stored in a trie, so that the parser only reads each
+ * input character once, regardless of how many literals share a prefix. The
+ * parser returns the matched literal.
+ */
+public class LiteralSetParser extends Parser {
+
+  /**
+   * The strategy to select between multiple matching literals.
+   */
+  public enum Mode {
+
+    /**
+     * Selects the first matching literal in the order they were given, like
+     * an ordered choice of {@link StringParser}s.
+     */
+    ORDERED,
+
+    /**
+     * Selects the longest matching literal.
+     */
+    LONGEST
+  }
+
+  /**
+   * Constructs a parser that accepts the first of the provided {@code
+   * literals} that matches.
+   */
+  public static LiteralSetParser of(String... literals) {
+    return of(Mode.ORDERED, literals);
+  }
+
+  /**
+   * Constructs a parser that accepts one of the provided {@code literals},
+   * selected using {@code mode}.
+   */
+  public static LiteralSetParser of(Mode mode, String... literals) {
+    return new LiteralSetParser(mode, Arrays.asList(literals),
+        "any of " + Arrays.toString(literals) + " expected");
+  }
+
+  private final Mode mode;
+  private final List<String> literals;
+  private final String message;
+
+  private final char[][] keys;
+  private final int[][] children;
+  private final int[] terminals;
+
+  public LiteralSetParser(Mode mode, List<String> literals, String message) {
+    this.mode = Objects.requireNonNull(mode, "Undefined mode");
+    this.literals = new ArrayList<>(
+        Objects.requireNonNull(literals, "Undefined literals"));
+    this.message = Objects.requireNonNull(message, "Undefined message");
+
+    // Build the trie, every node knows the index of the first literal ending
+    // there, and its children are sorted by character.
+    List<char[]> keys = new ArrayList<>();
+    List<int[]> children = new ArrayList<>();
+    List<Integer> terminals = new ArrayList<>();
+    keys.add(new char[0]);
+    children.add(new int[0]);
+    terminals.add(-1);
+    for (int index = 0; index < this.literals.size(); index++) {
+      String literal = this.literals.get(index);
+      int node = 0;
+      for (int i = 0; i < literal.length(); i++) {
+        char character = literal.charAt(i);
+        char[] nodeKeys = keys.get(node);
+        int slot = Arrays.binarySearch(nodeKeys, character);
+        if (slot < 0) {
+          slot = -slot - 1;
+          int[] nodeChildren = children.get(node);
+          char[] newKeys = new char[nodeKeys.length + 1];
+          int[] newChildren = new int[nodeChildren.length + 1];
+          System.arraycopy(nodeKeys, 0, newKeys, 0, slot);
+          System.arraycopy(nodeChildren, 0, newChildren, 0, slot);
+          System.arraycopy(nodeKeys, slot, newKeys, slot + 1,
+              nodeKeys.length - slot);
+          System.arraycopy(nodeChildren, slot, newChildren, slot + 1,
+              nodeChildren.length - slot);
+          newKeys[slot] = character;
+          newChildren[slot] = keys.size();
+          keys.set(node, newKeys);
+          children.set(node, newChildren);
+          keys.add(new char[0]);
+          children.add(new int[0]);
+          terminals.add(-1);
+        }
+        node = children.get(node)[slot];
+      }
+      if (terminals.get(node) < 0) {
+        terminals.set(node, index);
+      }
+    }
+    this.keys = keys.toArray(new char[0][]);
+    this.children = children.toArray(new int[0][]);
+    this.terminals = terminals.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * Returns the literals this parser accepts.
+   */
+  public List<String> getLiterals() {
+    return literals;
+  }
+
+  /**
+   * Returns the index of the selected literal at {@code position}, or
+   * {@code -1}.
+   */
+  private int match(CharSequence buffer, int position) {
+    int length = buffer.length();
+    int node = 0;
+    int result = terminals[0];
+    while (position < length) {
+      char[] nodeKeys = keys[node];
+      if (nodeKeys.length == 0) {
+        break;
+      }
+      int slot = Arrays.binarySearch(nodeKeys, buffer.charAt(position++));
+      if (slot < 0) {
+        break;
+      }
+      node = children[node][slot];
+      int terminal = terminals[node];
+      if (terminal >= 0 && (result < 0 || mode == Mode.LONGEST ||
+          terminal < result)) {
+        result = terminal;
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public Result parseOn(Context context) {
+    int index = match(context.getBuffer(), context.getPosition());
+    if (index < 0) {
+      return context.failure(message);
+    }
+    String literal = literals.get(index);
+    return context.success(literal,
+        context.getPosition() + literal.length());
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    int index = match(state.getBuffer(), state.getPosition());
+    if (index < 0) {
+      return state.failure(message);
+    }
+    String literal = literals.get(index);
+    return state.success(literal, state.getPosition() + literal.length());
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    int index = match(buffer, position);
+    return index < 0 ? -1 : position + literals.get(index).length();
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return terminals[0] >= 0 ? null : CharacterPredicate.anyOf(
+        String.valueOf(keys[0]));
+  }
+
+  @Override
+  protected boolean hasEqualProperties(Parser other) {
+    return super.hasEqualProperties(other) &&
+        Objects.equals(mode, ((LiteralSetParser) other).mode) &&
+        Objects.equals(literals, ((LiteralSetParser) other).literals) &&
+        Objects.equals(message, ((LiteralSetParser) other).message);
+  }
+
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() + Objects.hash(mode, literals, message);
+  }
+
+  @Override
+  public LiteralSetParser copy() {
+    return new LiteralSetParser(mode, literals, message);
+  }
+
+  @Override
+  public String toString() {
+    return super.toString() + "[" + message + "]";
+  }
+}
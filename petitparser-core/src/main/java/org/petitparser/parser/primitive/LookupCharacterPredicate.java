@@ -0,0 +1,160 @@
+package org.petitparser.parser.primitive;
+
+import java.util.Arrays;
+
+/**
+ * Internal character predicate backed by a bitset over all characters.
+ *
+ * <p>The Latin-1 characters are looked up in a single flat table, all other
+ * characters in a two-level table of 256 blocks with 256 bits each. Blocks
+ * that match no or all characters are shared, so that sparse predicates (such
+ * as most patterns) stay small.
+ */
+final class LookupCharacterPredicate implements CharacterPredicate {
+
+  private static final long[] EMPTY = new long[4];
+  private static final long[] FULL = {-1L, -1L, -1L, -1L};
+
+  /**
+   * Tests if {@code predicate} is a built-in predicate that can be converted
+   * to a lookup predicate without evaluating custom code.
+   */
+  static boolean supports(CharacterPredicate predicate) {
+    return predicate instanceof LookupCharacterPredicate
+        || predicate instanceof ConstantCharacterPredicate
+        || predicate instanceof SingleCharacterPredicate
+        || predicate instanceof RangeCharacterPredicate
+        || predicate instanceof RangesCharacterPredicate;
+  }
+
+  /**
+   * Returns a lookup predicate equivalent to {@code predicate}.
+   */
+  static LookupCharacterPredicate of(CharacterPredicate predicate) {
+    if (predicate instanceof LookupCharacterPredicate) {
+      return (LookupCharacterPredicate) predicate;
+    } else if (predicate instanceof SingleCharacterPredicate) {
+      char character = ((SingleCharacterPredicate) predicate).character;
+      return of(new char[]{character}, new char[]{character});
+    } else if (predicate instanceof RangeCharacterPredicate) {
+      RangeCharacterPredicate range = (RangeCharacterPredicate) predicate;
+      return of(new char[]{range.start}, new char[]{range.stop});
+    } else if (predicate instanceof RangesCharacterPredicate) {
+      RangesCharacterPredicate ranges = (RangesCharacterPredicate) predicate;
+      return of(ranges.starts, ranges.stops);
+    }
+    long[][] blocks = new long[256][];
+    for (int block = 0; block < blocks.length; block++) {
+      long[] bits = new long[4];
+      for (int offset = 0; offset < 256; offset++) {
+        if (predicate.test((char) (block << 8 | offset))) {
+          bits[offset >>> 6] |= 1L << offset;
+        }
+      }
+      blocks[block] = share(bits);
+    }
+    return new LookupCharacterPredicate(blocks);
+  }
+
+  /**
+   * Returns a lookup predicate matching the character ranges between {@code
+   * starts} and {@code stops}.
+   */
+  static LookupCharacterPredicate of(char[] starts, char[] stops) {
+    long[][] blocks = new long[256][];
+    Arrays.fill(blocks, EMPTY);
+    for (int i = 0; i < starts.length; i++) {
+      for (int value = starts[i]; value <= stops[i]; value++) {
+        long[] bits = blocks[value >>> 8];
+        if (bits == EMPTY) {
+          blocks[value >>> 8] = bits = new long[4];
+        }
+        bits[(value >>> 6) & 3] |= 1L << value;
+      }
+    }
+    for (int block = 0; block < blocks.length; block++) {
+      blocks[block] = share(blocks[block]);
+    }
+    return new LookupCharacterPredicate(blocks);
+  }
+
+  private static long[] share(long[] bits) {
+    if (Arrays.equals(bits, EMPTY)) {
+      return EMPTY;
+    } else if (Arrays.equals(bits, FULL)) {
+      return FULL;
+    } else {
+      return bits;
+    }
+  }
+
+  private final long[] latin1;
+  private final long[][] blocks;
+
+  private LookupCharacterPredicate(long[][] blocks) {
+    this.latin1 = blocks[0];
+    this.blocks = blocks;
+  }
+
+  @Override
+  public boolean test(char value) {
+    if (value < 256) {
+      return (latin1[value >>> 6] & (1L << value)) != 0;
+    }
+    return (blocks[value >>> 8][(value >>> 6) & 3] & (1L << value)) != 0;
+  }
+
+  @Override
+  public LookupCharacterPredicate not() {
+    long[][] negated = new long[blocks.length][];
+    for (int block = 0; block < blocks.length; block++) {
+      long[] bits = blocks[block];
+      if (bits == EMPTY) {
+        negated[block] = FULL;
+      } else if (bits == FULL) {
+        negated[block] = EMPTY;
+      } else {
+        negated[block] = new long[bits.length];
+        for (int i = 0; i < bits.length; i++) {
+          negated[block][i] = ~bits[i];
+        }
+      }
+    }
+    return new LookupCharacterPredicate(negated);
+  }
+
+  @Override
+  public CharacterPredicate or(CharacterPredicate other) {
+    CharacterPredicate compiled = other.compile();
+    if (compiled == ConstantCharacterPredicate.ANY) {
+      return compiled;
+    } else if (compiled == ConstantCharacterPredicate.NONE) {
+      return this;
+    } else if (!supports(compiled)) {
+      return new OrCharacterPredicate(this, compiled);
+    }
+    LookupCharacterPredicate lookup = of(compiled);
+    long[][] union = new long[blocks.length][];
+    for (int block = 0; block < blocks.length; block++) {
+      long[] bits = blocks[block];
+      long[] otherBits = lookup.blocks[block];
+      if (bits == FULL || otherBits == EMPTY) {
+        union[block] = bits;
+      } else if (otherBits == FULL || bits == EMPTY) {
+        union[block] = otherBits;
+      } else {
+        union[block] = new long[bits.length];
+        for (int i = 0; i < bits.length; i++) {
+          union[block][i] = bits[i] | otherBits[i];
+        }
+        union[block] = share(union[block]);
+      }
+    }
+    return new LookupCharacterPredicate(union);
+  }
+
+  @Override
+  public CharacterPredicate compile() {
+    return this;
+  }
+}
@@ -1,11 +1,12 @@
 package org.petitparser.parser.primitive;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 
 import java.util.Objects;
-import java.util.function.Predicate;
+import java.util.Set;
 
 /**
  * Parses a sequence of characters.
@@ -24,7 +25,7 @@ public class StringParser extends Parser {
    * and that fails with the error provided error {@code message}.
    */
   public static Parser of(String value, String message) {
-    return new StringParser(value.length(), value::equals, message);
+    return new StringParser(value, false, message);
   }
 
   /**
@@ -41,51 +42,133 @@ public class StringParser extends Parser {
    * message}.
    */
   public static Parser ofIgnoringCase(String value, String message) {
-    return new StringParser(value.length(), value::equalsIgnoreCase, message);
+    return new StringParser(value, true, message);
   }
 
-  private final int size;
-  private final Predicate<String> predicate;
+  private final String value;
+  private final boolean ignoreCase;
   private final String message;
 
-  private StringParser(int size, Predicate<String> predicate, String message) {
-    this.size = size;
-    this.predicate = Objects.requireNonNull(predicate, "Undefined predicate");
+  private StringParser(String value, boolean ignoreCase, String message) {
+    this.value = Objects.requireNonNull(value, "Undefined value");
+    this.ignoreCase = ignoreCase;
     this.message = Objects.requireNonNull(message, "Undefined message");
   }
 
+  /**
+   * Returns the string this parser accepts.
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Returns {@code true}, if this parser accepts its string case insensitive.
+   */
+  public boolean isIgnoringCase() {
+    return ignoreCase;
+  }
+
+  /**
+   * Returns the error message of this parser.
+   */
+  public String getMessage() {
+    return message;
+  }
+
   @Override
   public Result parseOn(Context context) {
-    String buffer = context.getBuffer();
+    CharSequence buffer = context.getBuffer();
     int start = context.getPosition();
-    int stop = start + size;
-    if (stop <= buffer.length()) {
-      String result = buffer.substring(start, stop);
-      if (predicate.test(result)) {
-        return context.success(result, stop);
-      }
+    if (matches(buffer, start)) {
+      return context.success(result(buffer, start), start + value.length());
     }
     return context.failure(message);
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
-    int stop = position + size;
-    return stop <= buffer.length() &&
-        predicate.test(buffer.substring(position, stop)) ? stop : -1;
+  public boolean parseOn(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    if (matches(buffer, start)) {
+      return state.success(result(buffer, start), start + value.length());
+    }
+    return state.failure(message);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    return matches(buffer, position) ? position + value.length() : -1;
+  }
+
+  /**
+   * Compares the input at {@code start} with the string in place, so that
+   * failing attempts don't allocate.
+   */
+  private boolean matches(CharSequence buffer, int start) {
+    int size = value.length();
+    if (start + size > buffer.length()) {
+      return false;
+    }
+    if (buffer instanceof String) {
+      return ((String) buffer).regionMatches(ignoreCase, start, value, 0, size);
+    }
+    for (int i = 0; i < size; i++) {
+      char actual = buffer.charAt(start + i);
+      char expected = value.charAt(i);
+      if (actual != expected &&
+          !(ignoreCase && equalsIgnoringCase(actual, expected))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private String result(CharSequence buffer, int start) {
+    return ignoreCase ?
+        buffer.subSequence(start, start + value.length()).toString() : value;
+  }
+
+  /**
+   * Compares two characters case insensitive, the same way as {@link
+   * String#equalsIgnoreCase(String)}.
+   */
+  static boolean equalsIgnoringCase(char first, char second) {
+    char upperFirst = Character.toUpperCase(first);
+    char upperSecond = Character.toUpperCase(second);
+    return upperFirst == upperSecond || Character.toLowerCase(upperFirst) ==
+        Character.toLowerCase(upperSecond);
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    if (value.isEmpty()) {
+      return null;
+    }
+    char first = value.charAt(0);
+    return ignoreCase ?
+        character -> character == first ||
+            equalsIgnoringCase(character, first) :
+        CharacterPredicate.of(first);
   }
 
   @Override
   protected boolean hasEqualProperties(Parser other) {
     return super.hasEqualProperties(other) &&
-        Objects.equals(size, ((StringParser) other).size) &&
-        Objects.equals(predicate, ((StringParser) other).predicate) &&
+        Objects.equals(value, ((StringParser) other).value) &&
+        Objects.equals(ignoreCase, ((StringParser) other).ignoreCase) &&
         Objects.equals(message, ((StringParser) other).message);
   }
 
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() +
+        Objects.hash(value, ignoreCase, message);
+  }
+
   @Override
   public StringParser copy() {
-    return new StringParser(size, predicate, message);
+    return new StringParser(value, ignoreCase, message);
   }
 
   @Override
@@ -1,16 +1,21 @@
 package org.petitparser.parser.repeating;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
+import org.petitparser.context.Session;
 import org.petitparser.parser.Parser;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * A greedy repeating parser, commonly seen in regular expression
  * implementations. It aggressively consumes as much input as possible and then
- * backtracks to meet the 'limit' condition.
+ * backtracks to meet the 'limit' condition. It does not backtrack to
+ * positions before a {@link org.petitparser.parser.combinators.CutParser
+ * cut}, and drops them as soon as the cut is passed.
  */
 public class GreedyRepeatingParser extends LimitedRepeatingParser {
 
@@ -31,22 +36,35 @@ public class GreedyRepeatingParser extends LimitedRepeatingParser {
       elements.add(result.get());
       current = result;
     }
+    Session session = Session.current();
     List<Context> contexts = new ArrayList<>();
     contexts.add(current);
     while (max == UNBOUNDED || elements.size() < max) {
       Result result = delegate.parseOn(current);
       if (result.isFailure()) {
+        if (isCommitted(current.getPosition())) {
+          return result;
+        }
         break;
       }
       elements.add(result.get());
       contexts.add(current = result);
+      if (session != null && session.getCut() > contexts.get(0).getPosition()) {
+        int index = 0;
+        while (index < contexts.size() - 1 &&
+            contexts.get(index).getPosition() < session.getCut()) {
+          index++;
+        }
+        contexts.subList(0, index).clear();
+      }
     }
     while (true) {
-      Result limiter = limit.parseOn(contexts.get(contexts.size() - 1));
+      Context last = contexts.get(contexts.size() - 1);
+      Result limiter = limit.parseOn(last);
       if (limiter.isSuccess()) {
-        return contexts.get(contexts.size() - 1).success(elements);
+        return last.success(elements);
       }
-      if (elements.isEmpty()) {
+      if (elements.isEmpty() || isCommitted(last.getPosition())) {
         return limiter;
       }
       contexts.remove(contexts.size() - 1);
@@ -58,7 +76,68 @@ public class GreedyRepeatingParser extends LimitedRepeatingParser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    List<Object> elements =
+        state.isDiscardingValues() ? null : new ArrayList<>();
+    int repetitions = 0;
+    while (repetitions < min) {
+      if (!delegate.parseOn(state)) {
+        return false;
+      }
+      if (elements != null) {
+        elements.add(state.getValue());
+      }
+      repetitions++;
+    }
+    Session session = Session.current();
+    int[] positions = new int[8];
+    int count = 0;
+    positions[count++] = state.getPosition();
+    while (max == UNBOUNDED || repetitions < max) {
+      if (!delegate.parseOn(state)) {
+        if (isCommitted(positions[count - 1])) {
+          return false;
+        }
+        break;
+      }
+      if (elements != null) {
+        elements.add(state.getValue());
+      }
+      repetitions++;
+      if (count == positions.length) {
+        positions = Arrays.copyOf(positions, 2 * count);
+      }
+      positions[count++] = state.getPosition();
+      if (session != null && session.getCut() > positions[0]) {
+        int index = 0;
+        while (index < count - 1 && positions[index] < session.getCut()) {
+          index++;
+        }
+        System.arraycopy(positions, index, positions, 0, count - index);
+        count -= index;
+      }
+    }
+    while (true) {
+      state.setPosition(positions[count - 1]);
+      if (limit.parseOn(state)) {
+        return state.success(elements, positions[count - 1]);
+      }
+      if (repetitions == 0 || isCommitted(positions[count - 1])) {
+        return false;
+      }
+      count--;
+      repetitions--;
+      if (elements != null) {
+        elements.remove(elements.size() - 1);
+      }
+      if (count == 0) {
+        return false;
+      }
+    }
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     int count = 0;
     int current = position;
     while (count < min) {
@@ -69,15 +148,27 @@ public class GreedyRepeatingParser extends LimitedRepeatingParser {
       current = result;
       count++;
     }
+    Session session = Session.current();
     List<Integer> positions = new ArrayList<>();
     positions.add(current);
     while (max == UNBOUNDED || count < max) {
       int result = delegate.fastParseOn(buffer, current);
       if (result < 0) {
+        if (isCommitted(current)) {
+          return -1;
+        }
         break;
       }
       positions.add(current = result);
       count++;
+      if (session != null && session.getCut() > positions.get(0)) {
+        int index = 0;
+        while (index < positions.size() - 1 &&
+            positions.get(index) < session.getCut()) {
+          index++;
+        }
+        positions.subList(0, index).clear();
+      }
     }
     while (true) {
       int limiter =
@@ -85,7 +176,8 @@ public class GreedyRepeatingParser extends LimitedRepeatingParser {
       if (limiter >= 0) {
         return positions.get(positions.size() - 1);
       }
-      if (count == 0) {
+      if (count == 0 ||
+          isCommitted(positions.get(positions.size() - 1))) {
         return -1;
       }
       positions.remove(positions.size() - 1);
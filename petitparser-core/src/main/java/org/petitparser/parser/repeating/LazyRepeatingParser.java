@@ -1,6 +1,7 @@
 package org.petitparser.parser.repeating;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 
@@ -35,12 +36,14 @@ public class LazyRepeatingParser extends LimitedRepeatingParser {
       if (limiter.isSuccess()) {
         return current.success(elements);
       } else {
-        if (max != UNBOUNDED && elements.size() >= max) {
+        if (max != UNBOUNDED && elements.size() >= max ||
+            isCommitted(current.getPosition())) {
           return limiter;
         }
         Result result = delegate.parseOn(current);
         if (result.isFailure()) {
-          return limiter;
+          return isCommitted(current.getPosition()) ? result :
+              limiter;
         }
         elements.add(result.get());
         current = result;
@@ -49,7 +52,44 @@ public class LazyRepeatingParser extends LimitedRepeatingParser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    List<Object> elements =
+        state.isDiscardingValues() ? null : new ArrayList<>();
+    int count = 0;
+    while (count < min) {
+      if (!delegate.parseOn(state)) {
+        return false;
+      }
+      if (elements != null) {
+        elements.add(state.getValue());
+      }
+      count++;
+    }
+    while (true) {
+      int position = state.getPosition();
+      if (limit.parseOn(state)) {
+        return state.success(elements, position);
+      }
+      if (max != UNBOUNDED && count >= max ||
+          isCommitted(position)) {
+        return false;
+      }
+      String limiterMessage = state.getMessage();
+      int limiterPosition = state.getPosition();
+      state.setPosition(position);
+      if (!delegate.parseOn(state)) {
+        return !isCommitted(position) &&
+            state.failure(limiterMessage, limiterPosition);
+      }
+      if (elements != null) {
+        elements.add(state.getValue());
+      }
+      count++;
+    }
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     int count = 0;
     int current = position;
     while (count < min) {
@@ -65,7 +105,8 @@ public class LazyRepeatingParser extends LimitedRepeatingParser {
       if (limiter >= 0) {
         return current;
       } else {
-        if (max != UNBOUNDED && count >= max) {
+        if (max != UNBOUNDED && count >= max ||
+            isCommitted(current)) {
           return -1;
         }
         int result = delegate.fastParseOn(buffer, current);
@@ -1,6 +1,7 @@
 package org.petitparser.parser.repeating;
 
 import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
 
@@ -32,7 +33,8 @@ public class PossessiveRepeatingParser extends RepeatingParser {
     while (max == UNBOUNDED || elements.size() < max) {
       Result result = delegate.parseOn(current);
       if (result.isFailure()) {
-        return current.success(elements);
+        return isCommitted(current.getPosition()) ? result :
+            current.success(elements);
       }
       elements.add(result.get());
       current = result;
@@ -41,7 +43,36 @@ public class PossessiveRepeatingParser extends RepeatingParser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public boolean parseOn(ParseState state) {
+    List<Object> elements =
+        state.isDiscardingValues() ? null : new ArrayList<>();
+    int count = 0;
+    while (count < min) {
+      if (!delegate.parseOn(state)) {
+        return false;
+      }
+      if (elements != null) {
+        elements.add(state.getValue());
+      }
+      count++;
+    }
+    int position = state.getPosition();
+    while (max == UNBOUNDED || count < max) {
+      if (!delegate.parseOn(state)) {
+        return !isCommitted(position) &&
+            state.success(elements, position);
+      }
+      if (elements != null) {
+        elements.add(state.getValue());
+      }
+      count++;
+      position = state.getPosition();
+    }
+    return state.success(elements);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
     int count = 0;
     int current = position;
     while (count < min) {
@@ -55,7 +86,7 @@ public class PossessiveRepeatingParser extends RepeatingParser {
     while (max == UNBOUNDED || count < max) {
       int result = delegate.fastParseOn(buffer, current);
       if (result < 0) {
-        return current;
+        return isCommitted(current) ? result : current;
       }
       current = result;
       count++;
@@ -2,8 +2,10 @@ package org.petitparser.parser.repeating;
 
 import org.petitparser.parser.Parser;
 import org.petitparser.parser.combinators.DelegateParser;
+import org.petitparser.parser.primitive.CharacterPredicate;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * An abstract parser that repeatedly parses between 'min' and 'max' instances
@@ -30,6 +32,25 @@ public abstract class RepeatingParser extends DelegateParser {
     }
   }
 
+  /**
+   * Returns the minimum number of repetitions.
+   */
+  public int getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the maximum number of repetitions, or {@link #UNBOUNDED}.
+   */
+  public int getMax() {
+    return max;
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return min > 0 ? firstCharactersOf(delegate, seen) : null;
+  }
+
   @Override
   public boolean hasEqualProperties(Parser other) {
     return super.hasEqualProperties(other) &&
@@ -37,6 +58,11 @@ public abstract class RepeatingParser extends DelegateParser {
         Objects.equals(max, ((RepeatingParser) other).max);
   }
 
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() + Objects.hash(min, max);
+  }
+
   @Override
   public String toString() {
     return super.toString() + "[" + getRange() + "]";
@@ -0,0 +1,270 @@
+package org.petitparser.parser.repeating;
+
+import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Result;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.combinators.ListParser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A parser that parses a right recursive choice with a loop.
+ *
+ * <p>The parser is equivalent to a production {@code p} defined as the choice
+ * of some {@code before} alternatives, the sequence of some {@code elements}
+ * followed by {@code p} itself, and some {@code after} alternatives. Instead
+ * of recursing once per repetition of the elements, the parser collects the
+ * repetitions in a loop and folds the values into the nested lists the
+ * recursive production returns. If the production has an action, its {@code
+ * function} is applied to the values of the nested repetitions; the value of
+ * the outermost repetition is left to the action itself.
+ */
+public class RightRecursionParser extends ListParser {
+
+  private final int before;
+  private final int elements;
+  private final Function<Object, Object> function;
+
+  /**
+   * Constructs a parser for the choice of {@code before}, the sequence of
+   * {@code elements} followed by the recursion, and {@code after}.
+   *
+   * @param function the function applied to the values of nested
+   *                 repetitions, or {@code null}.
+   */
+  public RightRecursionParser(Parser[] before, Parser[] elements,
+      Parser[] after, Function<Object, Object> function) {
+    this(concat(before, elements, after), before.length, elements.length,
+        function);
+  }
+
+  private RightRecursionParser(Parser[] parsers, int before, int elements,
+      Function<Object, Object> function) {
+    super(parsers);
+    this.before = before;
+    this.elements = elements;
+    this.function = function;
+    if (elements == 0) {
+      throw new IllegalArgumentException("Recursion needs some elements.");
+    }
+  }
+
+  private static Parser[] concat(Parser[] before, Parser[] elements,
+      Parser[] after) {
+    Parser[] parsers = Arrays.copyOf(before,
+        before.length + elements.length + after.length);
+    System.arraycopy(elements, 0, parsers, before.length, elements.length);
+    System.arraycopy(after, 0, parsers, before.length + elements.length,
+        after.length);
+    return parsers;
+  }
+
+  @Override
+  public Result parseOn(Context context) {
+    ParseState state = new ParseState(context);
+    return state.toResult(parseOn(state));
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    List<Object[]> repetitions = new ArrayList<>();
+    int[] starts = new int[8];
+    int position = state.getPosition();
+    while (true) {
+      for (int i = 0; i < before; i++) {
+        state.setPosition(position);
+        if (parsers[i].parseOn(state)) {
+          return state.success(fold(repetitions, state.getValue()));
+        }
+        if (isCommitted(position)) {
+          return false;
+        }
+      }
+      state.setPosition(position);
+      Object[] values = new Object[elements];
+      boolean success = true;
+      for (int i = 0; i < elements && success; i++) {
+        success = parsers[before + i].parseOn(state);
+        values[i] = state.getValue();
+      }
+      if (!success) {
+        if (isCommitted(position)) {
+          return false;
+        }
+        break;
+      }
+      if (state.getPosition() == position) {
+        throw new IllegalStateException(
+            "Right recursion does not consume any input at " + position);
+      }
+      if (repetitions.size() == starts.length) {
+        starts = Arrays.copyOf(starts, 2 * starts.length);
+      }
+      starts[repetitions.size()] = position;
+      repetitions.add(values);
+      position = state.getPosition();
+    }
+    while (true) {
+      for (int i = before + elements; i < parsers.length; i++) {
+        state.setPosition(position);
+        if (parsers[i].parseOn(state)) {
+          return state.success(fold(repetitions, state.getValue()));
+        }
+        if (isCommitted(position)) {
+          return false;
+        }
+      }
+      if (repetitions.isEmpty()) {
+        return false;
+      }
+      repetitions.remove(repetitions.size() - 1);
+      position = starts[repetitions.size()];
+      if (isCommitted(position)) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Folds the values of the {@code repetitions} and the value of the
+   * innermost alternative into nested lists.
+   */
+  private Object fold(List<Object[]> repetitions, Object value) {
+    for (int i = repetitions.size() - 1; i >= 0; i--) {
+      if (function != null) {
+        value = function.apply(value);
+      }
+      List<Object> list = new ArrayList<>(elements + 1);
+      list.addAll(Arrays.asList(repetitions.get(i)));
+      list.add(value);
+      value = list;
+    }
+    return value;
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    int[] starts = new int[8];
+    int count = 0;
+    while (true) {
+      for (int i = 0; i < before; i++) {
+        int result = parsers[i].fastParseOn(buffer, position);
+        if (result >= 0 || isCommitted(position)) {
+          return result;
+        }
+      }
+      int current = position;
+      for (int i = 0; i < elements && current >= 0; i++) {
+        current = parsers[before + i].fastParseOn(buffer, current);
+      }
+      if (current < 0) {
+        if (isCommitted(position)) {
+          return -1;
+        }
+        break;
+      }
+      if (current == position) {
+        throw new IllegalStateException(
+            "Right recursion does not consume any input at " + position);
+      }
+      if (count == starts.length) {
+        starts = Arrays.copyOf(starts, 2 * count);
+      }
+      starts[count++] = position;
+      position = current;
+    }
+    while (true) {
+      for (int i = before + elements; i < parsers.length; i++) {
+        int result = parsers[i].fastParseOn(buffer, position);
+        if (result >= 0 || isCommitted(position)) {
+          return result;
+        }
+      }
+      if (count == 0) {
+        return -1;
+      }
+      position = starts[--count];
+      if (isCommitted(position)) {
+        return -1;
+      }
+    }
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    CharacterPredicate result = CharacterPredicate.none();
+    for (int i = 0; i < parsers.length; i++) {
+      if (i > before && i < before + elements) {
+        continue;
+      }
+      CharacterPredicate first = firstCharactersOf(parsers[i], seen);
+      if (first == null) {
+        return null;
+      }
+      result = result.or(first);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the alternatives tried before the recursive one.
+   */
+  public List<Parser> getBefore() {
+    return Arrays.asList(parsers).subList(0, before);
+  }
+
+  /**
+   * Returns the elements of the recursive alternative, without the recursion.
+   */
+  public List<Parser> getElements() {
+    return Arrays.asList(parsers).subList(before, before + elements);
+  }
+
+  /**
+   * Returns the alternatives tried after the recursive one.
+   */
+  public List<Parser> getAfter() {
+    return Arrays.asList(parsers).subList(before + elements, parsers.length);
+  }
+
+  /**
+   * Returns the function applied to the values of nested repetitions, or
+   * {@code null}.
+   */
+  public Function<Object, Object> getFunction() {
+    return function;
+  }
+
+  @Override
+  protected boolean hasEqualProperties(Parser other) {
+    RightRecursionParser otherRecursion = (RightRecursionParser) other;
+    return super.hasEqualProperties(other) &&
+        before == otherRecursion.before &&
+        elements == otherRecursion.elements &&
+        Objects.equals(function, otherRecursion.function);
+  }
+
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() +
+        Objects.hash(before, elements, function);
+  }
+
+  @Override
+  public RightRecursionParser copy() {
+    return new RightRecursionParser(Arrays.copyOf(parsers, parsers.length),
+        before, elements, function);
+  }
+
+  @Override
+  public String toString() {
+    return super.toString() + "[" + before + ", " + elements + "]";
+  }
+}
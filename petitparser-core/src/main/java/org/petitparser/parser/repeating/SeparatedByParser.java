@@ -0,0 +1,217 @@
+package org.petitparser.parser.repeating;
+
+import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Result;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.combinators.ListParser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A parser that parses its element one or more times, separated by a
+ * separator. The result is a single list with the parsed elements, and
+ * optionally the separators in between.
+ */
+public class SeparatedByParser extends ListParser {
+
+  /**
+   * The capacity of the first result list.
+   */
+  public static final int INITIAL_CAPACITY = 10;
+
+  /**
+   * The upper bound of the capacity of the result lists.
+   */
+  public static final int MAX_CAPACITY = 1024;
+
+  private final boolean includeSeparators;
+  private final boolean optionalSeparatorAtEnd;
+
+  /**
+   * The capacity of the next result list: the size of the last one, bounded
+   * by {@link #MAX_CAPACITY}. The number of elements is not known up front,
+   * but lists parsed repeatedly, like the members of the objects in a JSON
+   * array, tend to have similar sizes. Concurrent parses race on this field,
+   * which only affects the capacity.
+   */
+  private int capacity = INITIAL_CAPACITY;
+
+  /**
+   * Constructs a parser that parses {@code element} separated by {@code
+   * separator}.
+   *
+   * @param includeSeparators      if the separators are added to the result.
+   * @param optionalSeparatorAtEnd if a trailing separator is accepted.
+   */
+  public SeparatedByParser(Parser element, Parser separator,
+      boolean includeSeparators, boolean optionalSeparatorAtEnd) {
+    super(element, separator);
+    this.includeSeparators = includeSeparators;
+    this.optionalSeparatorAtEnd = optionalSeparatorAtEnd;
+  }
+
+  @Override
+  public Result parseOn(Context context) {
+    Parser element = parsers[0];
+    Parser separator = parsers[1];
+    Result result = element.parseOn(context);
+    if (result.isFailure()) {
+      return result;
+    }
+    List<Object> elements = new ArrayList<>(capacity);
+    elements.add(result.get());
+    Context current = result;
+    while (true) {
+      Result separated = separator.parseOn(current);
+      if (separated.isFailure()) {
+        return isCommitted(current.getPosition()) ? separated :
+            current.success(collected(elements));
+      }
+      result = element.parseOn(separated);
+      if (result.isFailure()) {
+        if (isCommitted(optionalSeparatorAtEnd ?
+            separated.getPosition() : current.getPosition())) {
+          return result;
+        }
+        if (optionalSeparatorAtEnd) {
+          if (includeSeparators) {
+            elements.add(separated.get());
+          }
+          return separated.success(collected(elements));
+        }
+        return current.success(collected(elements));
+      }
+      if (includeSeparators) {
+        elements.add(separated.get());
+      }
+      elements.add(result.get());
+      current = result;
+    }
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    Parser element = parsers[0];
+    Parser separator = parsers[1];
+    if (!element.parseOn(state)) {
+      return false;
+    }
+    List<Object> elements =
+        state.isDiscardingValues() ? null : new ArrayList<>(capacity);
+    if (elements != null) {
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!separator.parseOn(state)) {
+        return !isCommitted(position) &&
+            state.success(collected(elements), position);
+      }
+      Object separated = state.getValue();
+      int separatedPosition = state.getPosition();
+      if (!element.parseOn(state)) {
+        if (isCommitted(optionalSeparatorAtEnd ?
+            separatedPosition : position)) {
+          return false;
+        }
+        if (optionalSeparatorAtEnd) {
+          if (includeSeparators && elements != null) {
+            elements.add(separated);
+          }
+          return state.success(collected(elements), separatedPosition);
+        }
+        return state.success(collected(elements), position);
+      }
+      if (elements != null) {
+        if (includeSeparators) {
+          elements.add(separated);
+        }
+        elements.add(state.getValue());
+      }
+      position = state.getPosition();
+    }
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    Parser element = parsers[0];
+    Parser separator = parsers[1];
+    int current = element.fastParseOn(buffer, position);
+    if (current < 0) {
+      return current;
+    }
+    while (true) {
+      int separated = separator.fastParseOn(buffer, current);
+      if (separated < 0) {
+        return isCommitted(current) ? separated : current;
+      }
+      int result = element.fastParseOn(buffer, separated);
+      if (result < 0) {
+        int backtrack = optionalSeparatorAtEnd ? separated : current;
+        return isCommitted(backtrack) ? result : backtrack;
+      }
+      current = result;
+    }
+  }
+
+  /**
+   * Remembers the size of the completed result list for the next one.
+   */
+  private List<Object> collected(List<Object> elements) {
+    if (elements != null) {
+      capacity = Math.min(elements.size(), MAX_CAPACITY);
+    }
+    return elements;
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return firstCharactersOf(parsers[0], seen);
+  }
+
+  /**
+   * Tests if the separators are added to the result.
+   */
+  public boolean isIncludingSeparators() {
+    return includeSeparators;
+  }
+
+  /**
+   * Tests if a trailing separator is accepted.
+   */
+  public boolean isOptionalSeparatorAtEnd() {
+    return optionalSeparatorAtEnd;
+  }
+
+  @Override
+  protected boolean hasEqualProperties(Parser other) {
+    SeparatedByParser otherSeparated = (SeparatedByParser) other;
+    return super.hasEqualProperties(other) &&
+        includeSeparators == otherSeparated.includeSeparators &&
+        optionalSeparatorAtEnd == otherSeparated.optionalSeparatorAtEnd;
+  }
+
+  @Override
+  protected int hashProperties() {
+    return 31 * super.hashProperties() +
+        Objects.hash(includeSeparators, optionalSeparatorAtEnd);
+  }
+
+  @Override
+  public SeparatedByParser copy() {
+    return new SeparatedByParser(parsers[0], parsers[1], includeSeparators,
+        optionalSeparatorAtEnd);
+  }
+
+  @Override
+  public String toString() {
+    return super.toString() + "[" +
+        (includeSeparators ? "with" : "without") + " separators" +
+        (optionalSeparatorAtEnd ? ", optional at end" : "") + "]";
+  }
+}
@@ -0,0 +1,99 @@
+package org.petitparser.tools;
+
+import org.petitparser.context.Context;
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Result;
+import org.petitparser.parser.Parser;
+import org.petitparser.utils.Mirror;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The superclass of parsers generated by {@link ParserGenerator}.
+ *
+ * <p>A compiled parser behaves exactly like the parser graph it was generated
+ * from (its source), but runs specialized code instead of walking the graph.
+ * Parsers the generator does not know are called through their interpreted
+ * implementation.
+ */
+public abstract class CompiledParser extends Parser {
+
+  private final Parser source;
+
+  protected CompiledParser(Parser source) {
+    this.source = Objects.requireNonNull(source, "Undefined source parser");
+  }
+
+  protected CompiledParser() {
+    this.source = null;
+  }
+
+  /**
+   * Returns the parser graph this parser was generated from, or {@code null}
+   * if it was generated from a {@link GrammarDefinition}.
+   */
+  public Parser getSource() {
+    return source;
+  }
+
+  @Override
+  public Result parseOn(Context context) {
+    ParseState state = new ParseState(context);
+    return state.toResult(parseOn(state));
+  }
+
+  @Override
+  public abstract boolean parseOn(ParseState state);
+
+  @Override
+  public abstract int fastParseOn(CharSequence buffer, int position);
+
+  /**
+   * Returns the parsers reachable from {@code source} in the order the
+   * generator numbered them, verifies that there are {@code count} of them.
+   */
+  protected static Parser[] nodesOf(Parser source, int count) {
+    Parser[] nodes = Mirror.of(source).stream().toArray(Parser[]::new);
+    if (nodes.length != count) {
+      throw new IllegalArgumentException("Expected " + count +
+          " parsers, but got " + nodes.length);
+    }
+    return nodes;
+  }
+
+  /**
+   * Returns the parsers of the production {@code name} of {@code definition}
+   * in the order the generator numbered them, verifies that there are {@code
+   * count} of them.
+   */
+  protected static List<Parser> nodesOf(GrammarDefinition definition,
+      String name, int count) {
+    List<Parser> nodes = definition.getNodes(name);
+    if (nodes.size() != count) {
+      throw new IllegalArgumentException("Expected " + count +
+          " parsers in " + name + ", but got " + nodes.size());
+    }
+    return nodes;
+  }
+
+  /**
+   * Tests if {@code value} is at {@code position} of the {@code buffer}.
+   */
+  protected static boolean matches(CharSequence buffer, int position,
+      String value) {
+    int size = value.length();
+    if (position + size > buffer.length()) {
+      return false;
+    }
+    if (buffer instanceof String) {
+      return ((String) buffer).regionMatches(position, value, 0, size);
+    }
+    for (int i = 0; i < size; i++) {
+      if (buffer.charAt(position + i) != value.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -3,10 +3,16 @@ package org.petitparser.tools;
 import org.petitparser.context.Context;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
+import org.petitparser.parser.combinators.LeftRecursiveParser;
+import org.petitparser.utils.GrammarAnalyzer;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -30,11 +36,15 @@ import java.util.stream.Collectors;
  * Function)}.
  *
  * <p>To build the resulting grammar call {@link GrammarDefinition#build()}, or
- * wrap it in the class {@link GrammarParser}.
+ * wrap it in the class {@link GrammarParser}. Productions may be directly or
+ * indirectly left recursive, such as {@code expr := expr '+' term | term}.
+ * These are parsed with a {@link LeftRecursiveParser}, which returns the left
+ * associative result.
  */
 public class GrammarDefinition {
 
   private final Map<String, Parser> parsers = new HashMap<>();
+  private final Map<Parser, Parser> heads = new IdentityHashMap<>();
 
   /**
    * Returns a reference to the production with the given {@code name}.
@@ -94,7 +104,86 @@ public class GrammarDefinition {
    * Builds a parser starting from the provided production {@code name}.
    */
   public Parser build(String name) {
-    return resolve(new Reference(name));
+    Parser parser = resolve(new Reference(name));
+    growLeftRecursion(parser);
+    return heads.getOrDefault(parser, parser);
+  }
+
+  /**
+   * Wraps the productions that are part of a cycle of left recursive
+   * activations reachable from {@code parser} into a {@link
+   * LeftRecursiveParser}, so that the recursions are resolved at whichever
+   * production they are entered. Only the nullable parsers and the cycles of
+   * start activations are computed.
+   */
+  private void growLeftRecursion(Parser parser) {
+    GrammarAnalyzer analyzer = GrammarAnalyzer.of(parser);
+    Set<Parser> cycles = analyzer.getCycleSet();
+    if (cycles.isEmpty()) {
+      return;
+    }
+    Set<Parser> productions =
+        Collections.newSetFromMap(new IdentityHashMap<>());
+    productions.addAll(parsers.values());
+    Set<Parser> candidates =
+        Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Parser candidate : analyzer.getParsers()) {
+      if (cycles.contains(candidate) && productions.contains(candidate) &&
+          !heads.containsKey(candidate)) {
+        heads.put(candidate, new LeftRecursiveParser(candidate));
+        candidates.add(candidate);
+      }
+    }
+    for (Parser each : analyzer.getParsers()) {
+      for (Parser child : new ArrayList<>(each.getChildren())) {
+        if (candidates.contains(child) && heads.get(child) != each) {
+          each.replace(child, heads.get(child));
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the names of all productions.
+   */
+  Set<String> getNames() {
+    return parsers.keySet();
+  }
+
+  /**
+   * Returns the parsers of the production {@code name} in depth-first order.
+   * The traversal does not follow references, and stops at the parsers of
+   * other productions, so that it returns the same parsers before and after
+   * the definition has been built.
+   */
+  List<Parser> getNodes(String name) {
+    Parser parser = parsers.get(name);
+    if (parser == null) {
+      throw new IllegalStateException("Undefined production: " + name);
+    }
+    List<Parser> nodes = new ArrayList<>();
+    if (parser instanceof Reference) {
+      return nodes;
+    }
+    Set<Parser> roots = Collections.newSetFromMap(new IdentityHashMap<>());
+    roots.addAll(parsers.values());
+    Set<Parser> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    Deque<Parser> todo = new ArrayDeque<>();
+    todo.push(parser);
+    seen.add(parser);
+    while (!todo.isEmpty()) {
+      Parser current = todo.pop();
+      nodes.add(current);
+      List<Parser> children = current.getChildren();
+      for (int i = children.size() - 1; i >= 0; i--) {
+        Parser child = children.get(i);
+        if (!(child instanceof Reference) && !roots.contains(child) &&
+            seen.add(child)) {
+          todo.push(child);
+        }
+      }
+    }
+    return nodes;
   }
 
   private Parser resolve(Reference reference) {
@@ -1,6 +1,17 @@
 package org.petitparser.tools;
 
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.combinators.AdaptiveMemoizedParser;
 import org.petitparser.parser.combinators.DelegateParser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+import org.petitparser.utils.GrammarAnalyzer;
+import org.petitparser.utils.Mirror;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * A helper to build a parser from a {@link GrammarDefinition}.
@@ -15,8 +26,62 @@ public class GrammarParser extends DelegateParser {
     super(definition.build(name));
   }
 
+  /**
+   * Constructs a parser for the production {@code name}. If {@code
+   * memoizeAdaptively} is set, the productions are wrapped into an {@link
+   * AdaptiveMemoizedParser}, so that the productions that are repeatedly
+   * activated at the same position get memoized during parsing.
+   */
+  public GrammarParser(GrammarDefinition definition, String name,
+      boolean memoizeAdaptively) {
+    super(memoizeAdaptively ?
+        memoizeAdaptively(definition, definition.build(name)) :
+        definition.build(name));
+  }
+
+  private GrammarParser(Parser delegate) {
+    super(delegate);
+  }
+
+  /**
+   * Returns a copy of the graph of {@code parser}, where all references to the
+   * productions of {@code definition} go through an {@link
+   * AdaptiveMemoizedParser}. Left recursive productions are excluded, as they
+   * must be parsed again while their seed grows.
+   */
+  private static Parser memoizeAdaptively(GrammarDefinition definition,
+      Parser parser) {
+    Set<Parser> cycles = GrammarAnalyzer.of(parser).getCycleSet();
+    Set<Parser> productions = new HashSet<>();
+    for (String name : definition.getNames()) {
+      List<Parser> nodes = definition.getNodes(name);
+      if (!nodes.isEmpty() && !cycles.contains(nodes.get(0))) {
+        productions.add(nodes.get(0));
+      }
+    }
+    Map<Parser, Parser> copies = new HashMap<>();
+    Map<Parser, Parser> targets = new HashMap<>();
+    for (Parser each : Mirror.of(parser)) {
+      Parser copy = each.copy();
+      copies.put(each, copy);
+      targets.put(each, productions.contains(each) ?
+          new AdaptiveMemoizedParser(copy) : copy);
+    }
+    copies.forEach((each, copy) -> {
+      for (Parser child : each.getChildren()) {
+        copy.replace(child, targets.get(child));
+      }
+    });
+    return targets.get(parser);
+  }
+
+  @Override
+  protected CharacterPredicate firstCharacters(Set<Parser> seen) {
+    return firstCharactersOf(delegate, seen);
+  }
+
   @Override
-  public int fastParseOn(String buffer, int position) {
-    return delegate.fastParseOn(buffer, position);
+  public GrammarParser copy() {
+    return new GrammarParser(delegate);
   }
 }
\ No newline at end of file
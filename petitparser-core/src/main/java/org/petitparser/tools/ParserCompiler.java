@@ -0,0 +1,205 @@
+package org.petitparser.tools;
+
+import org.petitparser.parser.Parser;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.System.Logger.Level;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiles a parser graph to a specialized {@link CompiledParser} at runtime.
+ *
+ * <p>The source produced by {@link ParserGenerator} is compiled in memory
+ * using the system Java compiler, and loaded into a dedicated class loader
+ * that can be garbage collected together with the returned parser. If no
+ * compiler is available (for example when running on a JRE), or the
+ * compilation fails for any other reason, the original parser is returned and
+ * the cause is logged. The generated source only refers to the classes of
+ * this library, and is compiled against the location they were loaded from.
+ */
+public class ParserCompiler {
+
+  /**
+   * The package of the generated classes.
+   */
+  public static final String PACKAGE = "org.petitparser.generated";
+
+  private static final AtomicInteger COUNTER = new AtomicInteger();
+
+  private static final System.Logger LOGGER =
+      System.getLogger(ParserCompiler.class.getName());
+
+  private ParserCompiler() {
+  }
+
+  /**
+   * Returns a compiled parser equivalent to {@code parser}, or {@code parser}
+   * itself if it cannot be compiled. The reason is logged as a warning.
+   */
+  public static Parser compile(Parser parser) {
+    try {
+      return compileOrThrow(parser);
+    } catch (RuntimeException | LinkageError exception) {
+      LOGGER.log(Level.WARNING, "Unable to compile " + parser +
+          ", using the interpreted parser", exception);
+      return parser;
+    }
+  }
+
+  /**
+   * Returns a compiled parser equivalent to {@code parser}.
+   *
+   * @throws IllegalStateException if the parser cannot be compiled.
+   */
+  public static CompiledParser compileOrThrow(Parser parser) {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) {
+      throw new IllegalStateException("No Java compiler available");
+    }
+    String className = "CompiledParser" + COUNTER.incrementAndGet();
+    String qualifiedName = PACKAGE + "." + className;
+    String source = new ParserGenerator(parser).generate(PACKAGE, className);
+
+    StringWriter diagnostics = new StringWriter();
+    JavaFileObject unit = new SimpleJavaFileObject(
+        URI.create("string:///" + qualifiedName.replace('.', '/') +
+            JavaFileObject.Kind.SOURCE.extension),
+        JavaFileObject.Kind.SOURCE) {
+      @Override
+      public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+        return source;
+      }
+    };
+    Map<String, ByteArrayOutputStream> classes;
+    try (MemoryFileManager fileManager = new MemoryFileManager(
+        compiler.getStandardFileManager(null, null, null))) {
+      boolean success = compiler.getTask(diagnostics, fileManager, null,
+          options(), null, Collections.singletonList(unit)).call();
+      if (!success) {
+        throw new IllegalStateException(
+            "Unable to compile " + qualifiedName + ":\n" + diagnostics);
+      }
+      classes = fileManager.classes;
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    try {
+      Class<?> type = new MemoryClassLoader(classes)
+          .loadClass(qualifiedName);
+      return (CompiledParser) type.getConstructor(Parser.class)
+          .newInstance(parser);
+    } catch (ReflectiveOperationException exception) {
+      throw new IllegalStateException(
+          "Unable to instantiate " + qualifiedName, exception);
+    }
+  }
+
+  private static List<String> options() {
+    List<String> options = new ArrayList<>();
+    String path = locationOf(Parser.class);
+    if (path == null) {
+      path = System.getProperty("java.class.path");
+    }
+    Module module = Parser.class.getModule();
+    if (module.isNamed()) {
+      options.add("--module-path");
+      options.add(path);
+      options.add("--add-modules");
+      options.add(module.getName());
+    } else {
+      options.add("-classpath");
+      options.add(path);
+    }
+    options.add("-proc:none");
+    return options;
+  }
+
+  /**
+   * Returns the file system location {@code type} was loaded from, or {@code
+   * null} if unknown.
+   */
+  private static String locationOf(Class<?> type) {
+    CodeSource source = type.getProtectionDomain().getCodeSource();
+    if (source == null || source.getLocation() == null) {
+      return null;
+    }
+    try {
+      URI uri = source.getLocation().toURI();
+      return "file".equals(uri.getScheme()) ? new File(uri).getPath() : null;
+    } catch (URISyntaxException exception) {
+      return null;
+    }
+  }
+
+  /**
+   * Keeps the compiled class files in memory.
+   */
+  private static class MemoryFileManager
+      extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    private final Map<String, ByteArrayOutputStream> classes = new HashMap<>();
+
+    MemoryFileManager(StandardJavaFileManager fileManager) {
+      super(fileManager);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(JavaFileManager.Location location,
+        String className, JavaFileObject.Kind kind, FileObject sibling) {
+      return new SimpleJavaFileObject(
+          URI.create("bytes:///" + className.replace('.', '/') +
+              kind.extension), kind) {
+        @Override
+        public OutputStream openOutputStream() {
+          ByteArrayOutputStream stream = new ByteArrayOutputStream();
+          classes.put(className, stream);
+          return stream;
+        }
+      };
+    }
+  }
+
+  /**
+   * Defines the compiled classes on top of the loader of this library.
+   */
+  private static class MemoryClassLoader extends ClassLoader {
+
+    private final Map<String, ByteArrayOutputStream> classes;
+
+    MemoryClassLoader(Map<String, ByteArrayOutputStream> classes) {
+      super(ParserCompiler.class.getClassLoader());
+      this.classes = classes;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+      ByteArrayOutputStream stream = classes.get(name);
+      if (stream == null) {
+        throw new ClassNotFoundException(name);
+      }
+      byte[] bytes = stream.toByteArray();
+      return defineClass(name, bytes, 0, bytes.length);
+    }
+  }
+}
@@ -0,0 +1,850 @@
+package org.petitparser.tools;
+
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.actions.ActionParser;
+import org.petitparser.parser.actions.ConstantParser;
+import org.petitparser.parser.actions.FlattenParser;
+import org.petitparser.parser.actions.TokenParser;
+import org.petitparser.parser.actions.TrimmingParser;
+import org.petitparser.parser.combinators.AndParser;
+import org.petitparser.parser.combinators.ChoiceParser;
+import org.petitparser.parser.combinators.DelegateParser;
+import org.petitparser.parser.combinators.EndOfInputParser;
+import org.petitparser.parser.combinators.NotParser;
+import org.petitparser.parser.combinators.OptionalParser;
+import org.petitparser.parser.combinators.PickSequenceParser;
+import org.petitparser.parser.combinators.PredictiveChoiceParser;
+import org.petitparser.parser.combinators.SequenceParser;
+import org.petitparser.parser.combinators.SettableParser;
+import org.petitparser.parser.primitive.CharacterParser;
+import org.petitparser.parser.primitive.CharacterRepeatingParser;
+import org.petitparser.parser.primitive.CharacterSpanParser;
+import org.petitparser.parser.primitive.EpsilonParser;
+import org.petitparser.parser.primitive.FailureParser;
+import org.petitparser.parser.primitive.StringParser;
+import org.petitparser.parser.repeating.LazyRepeatingParser;
+import org.petitparser.parser.repeating.PossessiveRepeatingParser;
+import org.petitparser.parser.repeating.RepeatingParser;
+import org.petitparser.parser.repeating.SeparatedByParser;
+import org.petitparser.utils.FailureJoiner;
+import org.petitparser.utils.Mirror;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Generates the Java source of a {@link CompiledParser} from a parser graph.
+ *
+ * <p>Every parser in the graph becomes two methods, one for {@link
+ * Parser#fastParseOn(CharSequence, int)} and one for {@link
+ * Parser#parseOn(org.petitparser.context.ParseState)}, that directly call the
+ * methods of its children. The generated code replicates the interpreted
+ * implementations of the known parsers. Other parsers, and parsers with
+ * unsupported configurations, are called through their interpreted
+ * implementation. Graphs with parsers that {@link Parser#recordsCuts() record
+ * cuts} are not supported, as the generated choices, optionals and
+ * repetitions do not check for them.
+ *
+ * <p>A generator created from a parser graph produces a class whose
+ * constructor takes that graph, to retrieve functions, predicates and unknown
+ * parsers. A generator created from a {@link GrammarDefinition} produces a
+ * class whose constructor takes a new instance of that definition instead, and
+ * retrieves these objects from its productions without building it. Such
+ * classes are meant to be generated at build time and checked in.
+ */
+public class ParserGenerator {
+
+  private static final int INLINE_LITERAL = 8;
+
+  private final Parser root;
+  private final Parser[] nodes;
+  private final Map<Parser, Integer> indexes = new IdentityHashMap<>();
+
+  private final GrammarDefinition definition;
+  private final Map<Parser, String> productions = new IdentityHashMap<>();
+  private final Map<Parser, Integer> offsets = new IdentityHashMap<>();
+  private final Map<String, Integer> sizes = new HashMap<>();
+  private final Map<String, String> locals = new TreeMap<>();
+
+  /**
+   * Constructs a generator for the parser graph {@code root}.
+   */
+  public ParserGenerator(Parser root) {
+    this(Objects.requireNonNull(root, "Undefined parser"), null);
+  }
+
+  /**
+   * Constructs a generator for the production {@code name} of {@code
+   * definition}.
+   */
+  public ParserGenerator(GrammarDefinition definition, String name) {
+    this(definition.build(name), definition);
+    for (String production : new TreeSet<>(definition.getNames())) {
+      List<Parser> parsers = definition.getNodes(production);
+      for (int i = 0; i < parsers.size(); i++) {
+        productions.putIfAbsent(parsers.get(i), production);
+        offsets.putIfAbsent(parsers.get(i), i);
+      }
+      sizes.put(production, parsers.size());
+    }
+  }
+
+  private ParserGenerator(Parser root, GrammarDefinition definition) {
+    this.root = root;
+    this.nodes = Mirror.of(root).stream().toArray(Parser[]::new);
+    this.definition = definition;
+    for (int i = 0; i < nodes.length; i++) {
+      indexes.put(nodes[i], i);
+    }
+  }
+
+  /**
+   * Returns the parser graph this generator compiles.
+   */
+  public Parser getRoot() {
+    return root;
+  }
+
+  /**
+   * Returns the Java source of the class {@code className} in the package
+   * {@code packageName}.
+   *
+   * @throws IllegalStateException if the graph records cuts.
+   */
+  public String generate(String packageName, String className) {
+    for (Parser node : nodes) {
+      if (node.recordsCuts()) {
+        throw new IllegalStateException("Unable to generate " + node +
+            " that records cuts");
+      }
+    }
+    StringBuilder fields = new StringBuilder();
+    StringBuilder constructor = new StringBuilder();
+    StringBuilder methods = new StringBuilder();
+    locals.clear();
+    for (int i = 0; i < nodes.length; i++) {
+      generate(i, fields, constructor, methods);
+    }
+    if (definition != null) {
+      header(packageName, className, fields, constructor);
+    } else {
+      fields.append("\n  public ").append(className)
+          .append("(Parser source) {\n")
+          .append("    super(source);\n")
+          .append("    Parser[] nodes = nodesOf(source, ").append(nodes.length)
+          .append(");\n")
+          .append(constructor)
+          .append("  }\n");
+    }
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source.append("import org.petitparser.context.ParseState;\n")
+        .append("import org.petitparser.context.Token;\n")
+        .append("import org.petitparser.parser.Parser;\n")
+        .append("import org.petitparser.parser.primitive.CharacterPredicate;\n")
+        .append("import org.petitparser.tools.CompiledParser;\n\n")
+        .append("import java.util.ArrayList;\n")
+        .append("import java.util.List;\n")
+        .append("import java.util.function.Function;\n\n")
+        .append("/**\n")
+        .append(" * Generated by {@link org.petitparser.tools.ParserGenerator}, ")
+        .append("do not edit.\n")
+        .append(" */\n")
+        .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+        .append("public final class ").append(className)
+        .append(" extends CompiledParser {\n\n")
+        .append(fields)
+        .append("\n")
+        .append("  @Override\n")
+        .append("  public boolean parseOn(ParseState state) {\n")
+        .append("    return p0(state);\n")
+        .append("  }\n\n")
+        .append("  @Override\n")
+        .append("  public int fastParseOn(CharSequence buffer, int position) {\n")
+        .append("    return f0(buffer, position);\n")
+        .append("  }\n\n")
+        .append(usesSession())
+        .append("  @Override\n")
+        .append("  public ").append(className).append(" copy() {\n")
+        .append("    return new ").append(className)
+        .append(definition != null ? "(definition);\n" : "(getSource());\n")
+        .append("  }\n")
+        .append(methods)
+        .append("}\n");
+    return source.toString();
+  }
+
+  /**
+   * Returns the override of {@link Parser#usesSession()}, if a parser of the
+   * graph keeps state in the session; the compiled parser has no children
+   * the entry points could inspect.
+   */
+  private String usesSession() {
+    return Arrays.stream(nodes).anyMatch(Parser::usesSession) ?
+        "  @Override\n" +
+            "  public boolean usesSession() {\n" +
+            "    return true;\n" +
+            "  }\n\n" : "";
+  }
+
+  /**
+   * Adds the constructors of a class generated from a grammar definition.
+   */
+  private void header(String packageName, String className,
+      StringBuilder fields, StringBuilder constructor) {
+    Class<?> type = definition.getClass();
+    String name = type.getPackageName().equals(packageName) ?
+        type.getSimpleName() : type.getCanonicalName();
+    fields.append("  private final ").append(name).append(" definition;\n");
+    if (Modifier.isPublic(type.getModifiers())) {
+      try {
+        type.getConstructor();
+        fields.append("\n  public ").append(className).append("() {\n")
+            .append("    this(new ").append(name).append("());\n")
+            .append("  }\n");
+      } catch (NoSuchMethodException exception) {
+        // the definition needs to be passed in
+      }
+    }
+    fields.append("\n  public ").append(className).append("(")
+        .append(name).append(" definition) {\n")
+        .append("    this.definition = definition;\n");
+    for (Map.Entry<String, String> entry : locals.entrySet()) {
+      fields.append("    List<Parser> ").append(entry.getValue())
+          .append(" = nodesOf(definition, ").append(literal(entry.getKey()))
+          .append(", ").append(sizes.get(entry.getKey())).append(");\n");
+    }
+    fields.append(constructor).append("  }\n");
+  }
+
+  private void generate(int index, StringBuilder fields,
+      StringBuilder constructor, StringBuilder methods) {
+    Parser parser = nodes[index];
+    Class<?> type = parser.getClass();
+    List<Parser> children = parser.getChildren();
+    String fast;
+    String slow;
+    if (type == SequenceParser.class) {
+      StringBuilder fastBody = new StringBuilder();
+      StringBuilder slowBody = new StringBuilder(
+          "    List<Object> elements = new ArrayList<>(" + children.size() +
+              ");\n");
+      for (Parser child : children) {
+        fastBody.append("    position = ").append(fast(child))
+            .append(";\n")
+            .append("    if (position < 0) {\n")
+            .append("      return position;\n")
+            .append("    }\n");
+        slowBody.append("    if (!").append(slow(child)).append(") {\n")
+            .append("      return false;\n")
+            .append("    }\n")
+            .append("    elements.add(state.getValue());\n");
+      }
+      fast = fastBody.append("    return position;\n").toString();
+      slow = slowBody.append("    return state.success(elements);\n")
+          .toString();
+    } else if (type == PickSequenceParser.class) {
+      PickSequenceParser pick = (PickSequenceParser) parser;
+      int[] indexes = pick.getIndexes();
+      StringBuilder fastBody = new StringBuilder();
+      StringBuilder slowBody = new StringBuilder();
+      for (int i = 0; i < indexes.length; i++) {
+        slowBody.append("    Object value").append(i).append(" = null;\n");
+      }
+      for (int i = 0; i < children.size(); i++) {
+        Parser child = children.get(i);
+        fastBody.append("    position = ").append(fast(child))
+            .append(";\n")
+            .append("    if (position < 0) {\n")
+            .append("      return position;\n")
+            .append("    }\n");
+        slowBody.append("    if (!").append(slow(child)).append(") {\n")
+            .append("      return false;\n")
+            .append("    }\n");
+        for (int j = 0; j < indexes.length; j++) {
+          if (indexes[j] == i) {
+            slowBody.append("    value").append(j)
+                .append(" = state.getValue();\n");
+          }
+        }
+      }
+      fast = fastBody.append("    return position;\n").toString();
+      if (pick.isPermutation()) {
+        slowBody.append("    List<Object> elements = new ArrayList<>(")
+            .append(indexes.length).append(");\n");
+        for (int i = 0; i < indexes.length; i++) {
+          slowBody.append("    elements.add(value").append(i)
+              .append(");\n");
+        }
+        slow = slowBody.append("    return state.success(elements);\n")
+            .toString();
+      } else {
+        slow = slowBody.append("    return state.success(value0);\n")
+            .toString();
+      }
+    } else if ((type == ChoiceParser.class ||
+        type == PredictiveChoiceParser.class) && !children.isEmpty() &&
+        ((ChoiceParser) parser).getFailureJoiner()
+            instanceof FailureJoiner.SelectLast) {
+      StringBuilder fastBody = new StringBuilder("    int result = -1;\n");
+      StringBuilder slowBody = new StringBuilder(
+          "    int position = state.getPosition();\n");
+      for (int i = 0; i < children.size(); i++) {
+        Parser child = children.get(i);
+        fastBody.append("    result = ").append(fast(child)).append(";\n")
+            .append("    if (result >= 0) {\n")
+            .append("      return result;\n")
+            .append("    }\n");
+        if (i > 0) {
+          slowBody.append("    state.setPosition(position);\n");
+        }
+        if (i < children.size() - 1) {
+          slowBody.append("    if (").append(slow(child)).append(") {\n")
+              .append("      return true;\n")
+              .append("    }\n");
+        } else {
+          slowBody.append("    return ").append(slow(child)).append(";\n");
+        }
+      }
+      fast = fastBody.append("    return result;\n").toString();
+      slow = slowBody.toString();
+    } else if (type == OptionalParser.class) {
+      Parser child = children.get(0);
+      field(fields, constructor, "Object", "o" + index,
+          "((org.petitparser.parser.combinators.OptionalParser) " +
+              node(index) + ").getOtherwise()");
+      fast = "    int result = " + fast(child) + ";\n" +
+          "    return result < 0 ? position : result;\n";
+      slow = "    int position = state.getPosition();\n" +
+          "    return " + slow(child) + " || state.success(o" + index +
+          ", position);\n";
+    } else if (type == AndParser.class) {
+      Parser child = children.get(0);
+      fast = "    return " + fast(child) + " < 0 ? -1 : position;\n";
+      slow = "    int position = state.getPosition();\n" +
+          "    state.suspendExpected();\n" +
+          "    boolean success = " + slow(child) + ";\n" +
+          "    state.resumeExpected();\n" +
+          "    if (success) {\n" +
+          "      state.setPosition(position);\n" +
+          "      return true;\n" +
+          "    }\n" +
+          "    return state.failure(state.getMessage(), state.getPosition());\n";
+    } else if (type == NotParser.class) {
+      Parser child = children.get(0);
+      String message = literal(((NotParser) parser).getMessage());
+      fast = "    return " + fast(child) + " < 0 ? position : -1;\n";
+      slow = "    int position = state.getPosition();\n" +
+          "    state.suspendExpected();\n" +
+          "    boolean success = " + slow(child) + ";\n" +
+          "    state.resumeExpected();\n" +
+          "    if (success) {\n" +
+          "      return state.failure(" + message + ", position);\n" +
+          "    }\n" +
+          "    return state.success(null, position);\n";
+    } else if (type == EndOfInputParser.class) {
+      String message = literal(((EndOfInputParser) parser).getMessage());
+      fast = "    return position < buffer.length() ? -1 : position;\n";
+      slow = "    return state.getPosition() < state.getBuffer().length() ?\n" +
+          "        state.failure(" + message + ") : state.success(null);\n";
+    } else if (type == EpsilonParser.class) {
+      fast = "    return position;\n";
+      slow = "    return state.success(null);\n";
+    } else if (type == FailureParser.class) {
+      String message = literal(((FailureParser) parser).getMessage());
+      fast = "    return -1;\n";
+      slow = "    return state.failure(" + message + ");\n";
+    } else if (type == SettableParser.class || type == DelegateParser.class ||
+        type == GrammarParser.class) {
+      Parser child = children.get(0);
+      fast = "    return " + fast(child) + ";\n";
+      slow = "    return " + slow(child) + ";\n";
+    } else if (type == TokenParser.class) {
+      Parser child = children.get(0);
+      fast = "    return " + fast(child) + ";\n";
+      slow = "    int start = state.getPosition();\n" +
+          "    return " + slow(child) + " && state.success(new Token(\n" +
+          "        state.getBuffer(), start, state.getPosition(), " +
+          "state.getValue(),\n" +
+          "        state.getLineIndex()));\n";
+    } else if (type == FlattenParser.class) {
+      Parser child = children.get(0);
+      String message = ((FlattenParser) parser).getMessage();
+      fast = "    return " + fast(child) + ";\n";
+      if (message == null) {
+        slow = "    CharSequence buffer = state.getBuffer();\n" +
+            "    int start = state.getPosition();\n" +
+            "    return " + slow(child) + " && state.success(\n" +
+            "        buffer.subSequence(start, state.getPosition())" +
+            ".toString());\n";
+      } else {
+        slow = "    CharSequence buffer = state.getBuffer();\n" +
+            "    int start = state.getPosition();\n" +
+            "    int position = " + fast(child, "buffer", "start") + ";\n" +
+            "    if (position < 0) {\n" +
+            "      return state.failure(" + literal(message) + ");\n" +
+            "    }\n" +
+            "    return state.success(buffer.subSequence(start, position)" +
+            ".toString(),\n" +
+            "        position);\n";
+      }
+    } else if (type == ConstantParser.class) {
+      Parser child = children.get(0);
+      String message = ((ConstantParser) parser).getMessage();
+      field(fields, constructor, "Object", "k" + index,
+          "((org.petitparser.parser.actions.ConstantParser) " +
+              node(index) + ").getValue()");
+      fast = "    return " + fast(child) + ";\n";
+      slow = message == null ?
+          "    state.discardValues();\n" +
+              "    boolean success = " + slow(child) + ";\n" +
+              "    state.keepValues();\n" +
+              "    return success && state.success(k" + index + ");\n" :
+          "    int position = " + fast(child, "state.getBuffer()",
+              "state.getPosition()") + ";\n" +
+              "    if (position >= 0) {\n" +
+              "      return state.success(k" + index + ", position);\n" +
+              "    }\n" +
+              "    return state.failure(" + literal(message) + ");\n";
+    } else if (type == ActionParser.class) {
+      Parser child = children.get(0);
+      field(fields, constructor, "Function", "a" + index,
+          "((org.petitparser.parser.actions.ActionParser) " +
+              node(index) + ").getFunction()");
+      if (((ActionParser<?, ?>) parser).hasSideEffects()) {
+        fast = "    ParseState state = new ParseState(buffer, position);\n" +
+            "    return p" + index + "(state) ? state.getPosition() : -1;\n";
+      } else {
+        fast = "    return " + fast(child) + ";\n";
+      }
+      slow = "    return " + slow(child) + " &&\n" +
+          "        state.success(a" + index +
+          ".apply(state.getValue()));\n";
+    } else if (type == TrimmingParser.class) {
+      Parser child = children.get(0);
+      Parser left = children.get(1);
+      Parser right = children.get(2);
+      fast = trim(left, "    ") +
+          "    position = " + fast(child) + ";\n" +
+          "    if (position < 0) {\n" +
+          "      return position;\n" +
+          "    }\n" +
+          trim(right, "    ") +
+          "    return position;\n";
+      slow = "    CharSequence buffer = state.getBuffer();\n" +
+          "    int position = state.getPosition();\n" +
+          trim(left, "    ") +
+          "    state.setPosition(position);\n" +
+          "    if (!" + slow(child) + ") {\n" +
+          "      return false;\n" +
+          "    }\n" +
+          "    position = state.getPosition();\n" +
+          trim(right, "    ") +
+          "    state.setPosition(position);\n" +
+          "    return true;\n";
+    } else if (type == PossessiveRepeatingParser.class) {
+      Parser child = children.get(0);
+      int min = ((RepeatingParser) parser).getMin();
+      int max = ((RepeatingParser) parser).getMax();
+      boolean unbounded = max == RepeatingParser.UNBOUNDED;
+      String bounded = unbounded ? "true" :
+          "count < " + max;
+      fast = "    int count = 0;\n" +
+          "    int current = position;\n" +
+          "    while (count < " + min + ") {\n" +
+          "      int result = " + fast(child, "buffer", "current") + ";\n" +
+          "      if (result < 0) {\n" +
+          "        return result;\n" +
+          "      }\n" +
+          "      current = result;\n" +
+          "      count++;\n" +
+          "    }\n" +
+          "    while (" + bounded + ") {\n" +
+          "      int result = " + fast(child, "buffer", "current") + ";\n" +
+          "      if (result < 0) {\n" +
+          "        return current;\n" +
+          "      }\n" +
+          "      current = result;\n" +
+          "      count++;\n" +
+          "    }\n" +
+          (unbounded ? "" : "    return current;\n");
+      slow = "    List<Object> elements = new ArrayList<>();\n" +
+          "    while (elements.size() < " + min + ") {\n" +
+          "      if (!" + slow(child) + ") {\n" +
+          "        return false;\n" +
+          "      }\n" +
+          "      elements.add(state.getValue());\n" +
+          "    }\n" +
+          "    int position = state.getPosition();\n" +
+          "    while (" + bounded.replace("count", "elements.size()") +
+          ") {\n" +
+          "      if (!" + slow(child) + ") {\n" +
+          "        return state.success(elements, position);\n" +
+          "      }\n" +
+          "      elements.add(state.getValue());\n" +
+          "      position = state.getPosition();\n" +
+          "    }\n" +
+          (unbounded ? "" : "    return state.success(elements);\n");
+    } else if (type == SeparatedByParser.class) {
+      Parser element = children.get(0);
+      Parser separator = children.get(1);
+      SeparatedByParser separated = (SeparatedByParser) parser;
+      boolean include = separated.isIncludingSeparators();
+      boolean trailing = separated.isOptionalSeparatorAtEnd();
+      fast = "    int current = " + fast(element) + ";\n" +
+          "    if (current < 0) {\n" +
+          "      return current;\n" +
+          "    }\n" +
+          "    while (true) {\n" +
+          "      int separated = " + fast(separator, "buffer", "current") +
+          ";\n" +
+          "      if (separated < 0) {\n" +
+          "        return current;\n" +
+          "      }\n" +
+          "      int result = " + fast(element, "buffer", "separated") +
+          ";\n" +
+          "      if (result < 0) {\n" +
+          "        return " + (trailing ? "separated" : "current") + ";\n" +
+          "      }\n" +
+          "      current = result;\n" +
+          "    }\n";
+      String collected = "        s" + index + " = Math.min(elements.size(), " +
+          SeparatedByParser.MAX_CAPACITY + ");\n";
+      fields.append("  private int s").append(index).append(" = ")
+          .append(SeparatedByParser.INITIAL_CAPACITY).append(";\n");
+      slow = "    if (!" + slow(element) + ") {\n" +
+          "      return false;\n" +
+          "    }\n" +
+          "    List<Object> elements = new ArrayList<>(s" + index + ");\n" +
+          "    elements.add(state.getValue());\n" +
+          "    int position = state.getPosition();\n" +
+          "    while (true) {\n" +
+          "      if (!" + slow(separator) + ") {\n" +
+          collected +
+          "        return state.success(elements, position);\n" +
+          "      }\n" +
+          (include ? "      Object separated = state.getValue();\n" : "") +
+          (trailing ? "      int separatedPosition = state.getPosition();\n" :
+              "") +
+          "      if (!" + slow(element) + ") {\n" +
+          (trailing ? (include ? "        elements.add(separated);\n" : "") +
+              collected +
+              "        return state.success(elements, separatedPosition);\n" :
+              collected +
+              "        return state.success(elements, position);\n") +
+          "      }\n" +
+          (include ? "      elements.add(separated);\n" : "") +
+          "      elements.add(state.getValue());\n" +
+          "      position = state.getPosition();\n" +
+          "    }\n";
+    } else if (type == StringParser.class &&
+        !((StringParser) parser).isIgnoringCase()) {
+      String value = ((StringParser) parser).getValue();
+      String message = literal(((StringParser) parser).getMessage());
+      String matches = matches(value);
+      fast = "    return " + matches + " ?\n" +
+          "        position + " + value.length() + " : -1;\n";
+      slow = "    CharSequence buffer = state.getBuffer();\n" +
+          "    int position = state.getPosition();\n" +
+          "    if (" + matches + ") {\n" +
+          "      return state.success(" + literal(value) + ", position + " +
+          value.length() + ");\n" +
+          "    }\n" +
+          "    return state.failure(" + message + ");\n";
+    } else if (type == LazyRepeatingParser.class) {
+      Parser child = children.get(0);
+      Parser limit = children.get(1);
+      int min = ((RepeatingParser) parser).getMin();
+      int max = ((RepeatingParser) parser).getMax();
+      boolean unbounded = max == RepeatingParser.UNBOUNDED;
+      fast = "    int count = 0;\n" +
+          "    int current = position;\n" +
+          "    while (count < " + min + ") {\n" +
+          "      int result = " + fast(child, "buffer", "current") + ";\n" +
+          "      if (result < 0) {\n" +
+          "        return -1;\n" +
+          "      }\n" +
+          "      current = result;\n" +
+          "      count++;\n" +
+          "    }\n" +
+          "    while (true) {\n" +
+          "      if (" + fast(limit, "buffer", "current") + " >= 0) {\n" +
+          "        return current;\n" +
+          "      }\n" +
+          (unbounded ? "" :
+              "      if (count >= " + max + ") {\n" +
+              "        return -1;\n" +
+              "      }\n") +
+          "      int result = " + fast(child, "buffer", "current") + ";\n" +
+          "      if (result < 0) {\n" +
+          "        return -1;\n" +
+          "      }\n" +
+          "      current = result;\n" +
+          "      count++;\n" +
+          "    }\n";
+      slow = "    List<Object> elements = new ArrayList<>();\n" +
+          "    while (elements.size() < " + min + ") {\n" +
+          "      if (!" + slow(child) + ") {\n" +
+          "        return false;\n" +
+          "      }\n" +
+          "      elements.add(state.getValue());\n" +
+          "    }\n" +
+          "    while (true) {\n" +
+          "      int position = state.getPosition();\n" +
+          "      if (" + slow(limit) + ") {\n" +
+          "        return state.success(elements, position);\n" +
+          "      }\n" +
+          (unbounded ? "" :
+              "      if (elements.size() >= " + max + ") {\n" +
+              "        return false;\n" +
+              "      }\n") +
+          "      String limiterMessage = state.getMessage();\n" +
+          "      int limiterPosition = state.getPosition();\n" +
+          "      state.setPosition(position);\n" +
+          "      if (!" + slow(child) + ") {\n" +
+          "        return state.failure(limiterMessage, limiterPosition);\n" +
+          "      }\n" +
+          "      elements.add(state.getValue());\n" +
+          "    }\n";
+    } else if (type == CharacterParser.class) {
+      String message = literal(((CharacterParser) parser).getMessage());
+      field(fields, constructor, "CharacterPredicate", "c" + index,
+          "((org.petitparser.parser.primitive.CharacterParser) " +
+              node(index) + ").getPredicate()");
+      fast = "    return position < buffer.length() &&\n" +
+          "        c" + index + ".test(buffer.charAt(position)) ? " +
+          "position + 1 : -1;\n";
+      slow = "    CharSequence buffer = state.getBuffer();\n" +
+          "    int position = state.getPosition();\n" +
+          "    if (position < buffer.length()) {\n" +
+          "      char value = buffer.charAt(position);\n" +
+          "      if (c" + index + ".test(value)) {\n" +
+          "        return state.success(value, position + 1);\n" +
+          "      }\n" +
+          "    }\n" +
+          "    return state.failure(" + message + ");\n";
+    } else if (type == CharacterSpanParser.class ||
+        type == CharacterRepeatingParser.class) {
+      CharacterSpanParser span = (CharacterSpanParser) parser;
+      field(fields, constructor, "CharacterPredicate", "c" + index,
+          "((org.petitparser.parser.primitive.CharacterSpanParser) " +
+              node(index) + ").getPredicate()");
+      String limit = span.getMax() == RepeatingParser.UNBOUNDED ?
+          "    int limit = buffer.length();\n" :
+          "    int limit = Math.min(buffer.length(), start + " +
+              span.getMax() + ");\n";
+      String scan = limit +
+          "    int stop = start;\n" +
+          "    while (stop < limit && c" + index +
+          ".test(buffer.charAt(stop))) {\n" +
+          "      stop++;\n" +
+          "    }\n";
+      fast = "    int start = position;\n" + scan +
+          "    return stop - start < " + span.getMin() + " ? -1 : stop;\n";
+      slow = "    CharSequence buffer = state.getBuffer();\n" +
+          "    int start = state.getPosition();\n" + scan +
+          "    if (stop - start < " + span.getMin() + ") {\n" +
+          "      return state.failure(" + literal(span.getMessage()) +
+          ", stop);\n" +
+          "    }\n" +
+          (span.getMax() == RepeatingParser.UNBOUNDED ?
+              "    state.expected(" + literal(span.getMessage()) +
+                  ", stop);\n" :
+              "    if (stop - start != " + span.getMax() + ") {\n" +
+                  "      state.expected(" + literal(span.getMessage()) +
+                  ", stop);\n" +
+                  "    }\n");
+      if (type == CharacterSpanParser.class) {
+        slow += "    return state.success(buffer.subSequence(start, stop)" +
+            ".toString(), stop);\n";
+      } else {
+        slow += "    List<Object> elements = new ArrayList<>(stop - start);\n" +
+            "    for (int i = start; i < stop; i++) {\n" +
+            "      elements.add(buffer.charAt(i));\n" +
+            "    }\n" +
+            "    return state.success(elements, stop);\n";
+      }
+    } else {
+      if (definition != null && refersToProductions(parser)) {
+        throw new IllegalStateException("Unable to generate " + parser +
+            " that refers to other productions");
+      }
+      String name = isAccessible(type) ? type.getCanonicalName() : "Parser";
+      field(fields, constructor, name, "n" + index,
+          "(" + name + ") " + node(index));
+      fast = "    return n" + index + ".fastParseOn(buffer, position);\n";
+      slow = "    return n" + index + ".parseOn(state);\n";
+    }
+    String description = literal(parser.toString());
+    methods.append("\n  // ")
+        .append(description, 1, description.length() - 1)
+        .append("\n")
+        .append("  private int f").append(index)
+        .append("(CharSequence buffer, int position) {\n")
+        .append(fast)
+        .append("  }\n\n")
+        .append("  private boolean p").append(index)
+        .append("(ParseState state) {\n")
+        .append(slow)
+        .append("  }\n");
+  }
+
+  /**
+   * Returns the expression to access the parser at {@code index} in the
+   * constructor of the generated class.
+   */
+  private String node(int index) {
+    if (definition == null) {
+      return "nodes[" + index + "]";
+    }
+    String production = productions.get(nodes[index]);
+    String local = locals.computeIfAbsent(production, this::local);
+    return local + ".get(" + offsets.get(nodes[index]) + ")";
+  }
+
+  /**
+   * Returns the name of the variable holding the parsers of {@code
+   * production} in the constructor of the generated class.
+   */
+  private String local(String production) {
+    StringBuilder builder = new StringBuilder("nodes");
+    boolean upper = true;
+    for (char character : production.toCharArray()) {
+      if (Character.isJavaIdentifierPart(character)) {
+        builder.append(upper ? Character.toUpperCase(character) : character);
+        upper = false;
+      } else {
+        upper = true;
+      }
+    }
+    String name = builder.toString();
+    return locals.containsValue(name) ? name + locals.size() : name;
+  }
+
+  /**
+   * Tests if the interpreted {@code parser} refers to the parsers of other
+   * productions, which are unresolved in a definition that is not built.
+   */
+  private boolean refersToProductions(Parser parser) {
+    return Mirror.of(parser).stream()
+        .anyMatch(node -> node != parser && offsets.get(node) == 0);
+  }
+
+  /**
+   * Tests if the generated code can refer to the parser class {@code type},
+   * otherwise such parsers are referred to as {@link Parser}.
+   */
+  protected boolean isAccessible(Class<?> type) {
+    for (Class<?> current = type; current != null;
+         current = current.getEnclosingClass()) {
+      if (!Modifier.isPublic(current.getModifiers())) {
+        return false;
+      }
+    }
+    return type.getCanonicalName() != null && (definition != null ||
+        type.getModule() == Parser.class.getModule());
+  }
+
+  private static void field(StringBuilder fields, StringBuilder constructor,
+      String type, String name, String initializer) {
+    fields.append("  private final ").append(type).append(' ').append(name)
+        .append(";\n");
+    constructor.append("    this.").append(name).append(" = ")
+        .append(initializer).append(";\n");
+  }
+
+  /**
+   * Returns the condition that {@code value} is at {@code position} of the
+   * {@code buffer}, short literals are compared character by character.
+   */
+  private static String matches(String value) {
+    if (value.length() > INLINE_LITERAL) {
+      return "matches(buffer, position, " + literal(value) + ")";
+    }
+    StringBuilder builder = new StringBuilder("position + ")
+        .append(value.length()).append(" <= buffer.length()");
+    for (int i = 0; i < value.length(); i++) {
+      builder.append(" &&\n        buffer.charAt(position")
+          .append(i == 0 ? "" : " + " + i).append(") == ")
+          .append(character(value.charAt(i)));
+    }
+    return builder.toString();
+  }
+
+  private String trim(Parser parser, String indent) {
+    return indent + "for (int result; (result = " +
+        fast(parser, "buffer", "position") + ") >= 0; ) {\n" +
+        indent + "  position = result;\n" +
+        indent + "}\n";
+  }
+
+  private String fast(Parser parser) {
+    return fast(parser, "buffer", "position");
+  }
+
+  private String fast(Parser parser, String buffer, String position) {
+    return "f" + indexes.get(parser) + "(" + buffer + ", " + position + ")";
+  }
+
+  private String slow(Parser parser) {
+    return "p" + indexes.get(parser) + "(state)";
+  }
+
+  /**
+   * Returns {@code value} as a Java character literal.
+   */
+  static String character(char value) {
+    if (value == '\'') {
+      return "'\\''";
+    } else if (value == '"') {
+      return "'\"'";
+    }
+    String literal = literal(String.valueOf(value));
+    return "'" + literal.substring(1, literal.length() - 1) + "'";
+  }
+
+  /**
+   * Returns {@code value} as a Java string literal.
+   */
+  static String literal(String value) {
+    if (value == null) {
+      return "null";
+    }
+    StringBuilder builder = new StringBuilder("\"");
+    for (char character : value.toCharArray()) {
+      switch (character) {
+        case '"':
+          builder.append("\\\"");
+          break;
+        case '\\':
+          builder.append("\\\\");
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        case '\r':
+          builder.append("\\r");
+          break;
+        case '\t':
+          builder.append("\\t");
+          break;
+        default:
+          if (character < ' ' || character > '~') {
+            builder.append(String.format("\\u%04x", (int) character));
+          } else {
+            builder.append(character);
+          }
+      }
+    }
+    return builder.append('"').toString();
+  }
+}
@@ -56,6 +56,13 @@ public interface FailureJoiner extends BiFunction<Failure, Failure, Failure> {
       this.messageJoiner = messageJoiner;
     }
 
+    /**
+     * Returns the separator of joined messages.
+     */
+    public String getMessageJoiner() {
+      return messageJoiner;
+    }
+
     @Override
     public Failure apply(Failure first, Failure second) {
       return first.getPosition() > second.getPosition()
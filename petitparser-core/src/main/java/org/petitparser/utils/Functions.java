@@ -69,6 +69,28 @@ public class Functions {
    * Returns a function that returns a constant value.
    */
   public static <T> Function<Object, T> constant(T output) {
-    return input -> output;
+    return new Constant<>(output);
+  }
+
+  /**
+   * A function that returns a constant value, recognized by the {@link
+   * Optimizer}.
+   */
+  static class Constant<T> implements Function<Object, T> {
+
+    private final T output;
+
+    Constant(T output) {
+      this.output = output;
+    }
+
+    T getOutput() {
+      return output;
+    }
+
+    @Override
+    public T apply(Object input) {
+      return output;
+    }
   }
 }
@@ -0,0 +1,649 @@
+package org.petitparser.utils;
+
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.actions.TrimmingParser;
+import org.petitparser.parser.combinators.AndParser;
+import org.petitparser.parser.combinators.ChoiceParser;
+import org.petitparser.parser.combinators.EndOfInputParser;
+import org.petitparser.parser.combinators.MemoizedParser;
+import org.petitparser.parser.combinators.NotParser;
+import org.petitparser.parser.combinators.OptionalParser;
+import org.petitparser.parser.primitive.CharacterParser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+import org.petitparser.parser.primitive.CharacterSpanParser;
+import org.petitparser.parser.primitive.EpsilonParser;
+import org.petitparser.parser.primitive.LiteralSetParser;
+import org.petitparser.parser.primitive.StringParser;
+import org.petitparser.parser.repeating.LazyRepeatingParser;
+import org.petitparser.parser.repeating.LimitedRepeatingParser;
+import org.petitparser.parser.repeating.PossessiveRepeatingParser;
+import org.petitparser.parser.repeating.RepeatingParser;
+import org.petitparser.parser.repeating.RightRecursionParser;
+import org.petitparser.parser.repeating.SeparatedByParser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Computes static properties of a parser graph: which parsers are nullable,
+ * their first and follow sets, and the parsers that are part of a cycle that
+ * does not consume input. The analyzer also reports performance hazards, see
+ * {@link #lint()}.
+ *
+ * <p>First and follow sets contain terminal parsers, that is the parsers
+ * without children that consume input. Follow sets contain {@link
+ * #END_OF_INPUT}, if the parser can be followed by the end of the input.
+ */
+public class GrammarAnalyzer {
+
+  /**
+   * The sentinel in follow sets that stands for the end of the input.
+   */
+  public static final Parser END_OF_INPUT =
+      new EndOfInputParser("end of input expected");
+
+  /**
+   * Constructs an analyzer of the provided {@code parser}.
+   */
+  public static GrammarAnalyzer of(Parser parser) {
+    return new GrammarAnalyzer(parser);
+  }
+
+  private final Parser root;
+  private final List<Parser> parsers;
+  private final Map<Parser, List<List<Parser>>> sequences = new HashMap<>();
+  private final Set<Parser> nullable = new HashSet<>();
+  private final Map<Parser, Set<Parser>> startSets = new HashMap<>();
+  private Map<Parser, Set<Parser>> firstSets;
+  private Map<Parser, Set<Parser>> followSets;
+  private Set<Parser> cycleSet;
+  private Set<Parser> recursive;
+
+  private GrammarAnalyzer(Parser root) {
+    this.root = Objects.requireNonNull(root, "Undefined parser");
+    this.parsers = Mirror.of(root).stream().collect(Collectors.toList());
+    for (Parser parser : parsers) {
+      sequences.put(parser, sequencesOf(parser));
+    }
+    computeNullable();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " of " + root.toString();
+  }
+
+  /**
+   * Returns all parsers reachable from the analyzed parser.
+   */
+  public List<Parser> getParsers() {
+    return Collections.unmodifiableList(parsers);
+  }
+
+  /**
+   * Tests if {@code parser} can succeed without consuming input.
+   */
+  public boolean isNullable(Parser parser) {
+    checkParser(parser);
+    return nullable.contains(parser);
+  }
+
+  /**
+   * Returns the terminal parsers that {@code parser} can start with.
+   */
+  public Set<Parser> getFirstSet(Parser parser) {
+    checkParser(parser);
+    return Collections.unmodifiableSet(firstSets().get(parser));
+  }
+
+  /**
+   * Returns the terminal parsers that can follow {@code parser}, including
+   * {@link #END_OF_INPUT} if the parser can be followed by the end of the
+   * input.
+   */
+  public Set<Parser> getFollowSet(Parser parser) {
+    checkParser(parser);
+    return Collections.unmodifiableSet(followSets().get(parser));
+  }
+
+  /**
+   * Returns the parsers that can activate themselves without consuming
+   * input, that is the parsers of left recursive cycles.
+   */
+  public Set<Parser> getCycleSet() {
+    if (cycleSet == null) {
+      cycleSet = cyclic(this::startChildrenOf);
+    }
+    return Collections.unmodifiableSet(cycleSet);
+  }
+
+  /**
+   * Tests if {@code parser} can reach itself.
+   */
+  public boolean isRecursive(Parser parser) {
+    checkParser(parser);
+    return recursive().contains(parser);
+  }
+
+  private Set<Parser> recursive() {
+    if (recursive == null) {
+      recursive = cyclic(Parser::getChildren);
+    }
+    return recursive;
+  }
+
+  /**
+   * Returns the children that {@code parser} can activate at its own
+   * position, that is before consuming any input.
+   */
+  public List<Parser> getStartChildren(Parser parser) {
+    checkParser(parser);
+    return startChildrenOf(parser);
+  }
+
+  private void checkParser(Parser parser) {
+    if (!sequences.containsKey(parser)) {
+      throw new IllegalArgumentException("Unknown parser: " + parser);
+    }
+  }
+
+  /**
+   * Returns the alternative sequences of parsers that {@code parser} consumes,
+   * or {@code null} for a terminal parser. Repetitions refer to themselves.
+   * Lookahead parsers consume nothing, so their children are not included.
+   */
+  private static List<List<Parser>> sequencesOf(Parser parser) {
+    List<Parser> children = parser.getChildren();
+    List<List<Parser>> result = new ArrayList<>();
+    if (parser instanceof ChoiceParser) {
+      for (Parser child : children) {
+        result.add(Collections.singletonList(child));
+      }
+    } else if (parser instanceof OptionalParser) {
+      result.add(children);
+      result.add(Collections.emptyList());
+    } else if (parser instanceof AndParser || parser instanceof NotParser ||
+        parser instanceof EpsilonParser) {
+      result.add(Collections.emptyList());
+    } else if (parser instanceof RepeatingParser) {
+      RepeatingParser repeating = (RepeatingParser) parser;
+      Parser delegate = children.get(0);
+      if (repeating.getMin() == 0) {
+        result.add(Collections.emptyList());
+      }
+      result.add(Collections.singletonList(delegate));
+      if (repeating.getMax() != 1) {
+        result.add(Arrays.asList(delegate, parser));
+      }
+    } else if (parser instanceof SeparatedByParser) {
+      Parser element = children.get(0);
+      Parser separator = children.get(1);
+      result.add(Collections.singletonList(element));
+      result.add(Arrays.asList(element, separator, parser));
+      if (((SeparatedByParser) parser).isOptionalSeparatorAtEnd()) {
+        result.add(Arrays.asList(element, separator));
+      }
+    } else if (parser instanceof RightRecursionParser) {
+      RightRecursionParser recursion = (RightRecursionParser) parser;
+      for (Parser child : recursion.getBefore()) {
+        result.add(Collections.singletonList(child));
+      }
+      List<Parser> elements = new ArrayList<>(recursion.getElements());
+      elements.add(parser);
+      result.add(elements);
+      for (Parser child : recursion.getAfter()) {
+        result.add(Collections.singletonList(child));
+      }
+    } else if (parser instanceof TrimmingParser) {
+      Parser delegate = children.get(0);
+      result.add(Arrays.asList(children.get(1), parser));
+      result.add(Collections.singletonList(delegate));
+      result.add(Arrays.asList(delegate, children.get(2)));
+    } else if (children.isEmpty()) {
+      return null;
+    } else {
+      result.add(children);
+    }
+    return result;
+  }
+
+  /**
+   * Tests if the terminal {@code parser} can succeed without consuming input.
+   */
+  private static boolean isNullableTerminal(Parser parser) {
+    if (parser instanceof CharacterSpanParser) {
+      return ((CharacterSpanParser) parser).getMin() == 0;
+    } else if (parser instanceof StringParser) {
+      return ((StringParser) parser).getValue().isEmpty();
+    } else if (parser instanceof LiteralSetParser) {
+      return ((LiteralSetParser) parser).getLiterals().contains("");
+    }
+    return false;
+  }
+
+  /**
+   * Computes the nullable parsers with a worklist: a parser is only checked
+   * again when one of its children becomes nullable.
+   */
+  private void computeNullable() {
+    Map<Parser, List<Parser>> parents = new HashMap<>();
+    Deque<Parser> todo = new ArrayDeque<>();
+    for (Parser parser : parsers) {
+      List<List<Parser>> alternatives = sequences.get(parser);
+      if (alternatives != null) {
+        for (List<Parser> sequence : alternatives) {
+          for (Parser element : sequence) {
+            parents.computeIfAbsent(element, key -> new ArrayList<>())
+                .add(parser);
+          }
+        }
+      }
+      if (computeNullable(parser)) {
+        nullable.add(parser);
+        todo.add(parser);
+      }
+    }
+    while (!todo.isEmpty()) {
+      for (Parser parent : parents.getOrDefault(todo.pop(),
+          Collections.emptyList())) {
+        if (!nullable.contains(parent) && computeNullable(parent)) {
+          nullable.add(parent);
+          todo.add(parent);
+        }
+      }
+    }
+  }
+
+  private boolean computeNullable(Parser parser) {
+    List<List<Parser>> alternatives = sequences.get(parser);
+    if (alternatives == null) {
+      return isNullableTerminal(parser);
+    }
+    return alternatives.stream()
+        .anyMatch(sequence -> nullable.containsAll(sequence));
+  }
+
+  private Map<Parser, Set<Parser>> firstSets() {
+    if (firstSets == null) {
+      firstSets = new HashMap<>();
+      for (Parser parser : parsers) {
+        firstSets.put(parser, new LinkedHashSet<>());
+      }
+      computeFirstSets();
+    }
+    return firstSets;
+  }
+
+  private Map<Parser, Set<Parser>> followSets() {
+    if (followSets == null) {
+      Map<Parser, Set<Parser>> firstSets = firstSets();
+      followSets = new HashMap<>();
+      for (Parser parser : parsers) {
+        followSets.put(parser, new LinkedHashSet<>());
+      }
+      computeFollowSets(firstSets);
+    }
+    return followSets;
+  }
+
+  private void computeFirstSets() {
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (Parser parser : parsers) {
+        Set<Parser> firstSet = firstSets.get(parser);
+        List<List<Parser>> alternatives = sequences.get(parser);
+        if (alternatives == null) {
+          changed |= firstSet.add(parser);
+          continue;
+        }
+        for (List<Parser> sequence : alternatives) {
+          for (Parser element : sequence) {
+            changed |= firstSet.addAll(firstSets.get(element));
+            if (!nullable.contains(element)) {
+              break;
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private void computeFollowSets(Map<Parser, Set<Parser>> firstSets) {
+    followSets.get(root).add(END_OF_INPUT);
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (Parser parser : parsers) {
+        List<List<Parser>> alternatives = sequences.get(parser);
+        if (alternatives == null) {
+          continue;
+        }
+        for (List<Parser> sequence : alternatives) {
+          for (int i = 0; i < sequence.size(); i++) {
+            Set<Parser> followSet = followSets.get(sequence.get(i));
+            boolean nullableRest = true;
+            for (int j = i + 1; j < sequence.size() && nullableRest; j++) {
+              changed |= followSet.addAll(firstSets.get(sequence.get(j)));
+              nullableRest = nullable.contains(sequence.get(j));
+            }
+            if (nullableRest) {
+              changed |= followSet.addAll(followSets.get(parser));
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private List<Parser> startChildrenOf(Parser parser) {
+    Set<Parser> result = new LinkedHashSet<>();
+    List<List<Parser>> alternatives = sequences.get(parser);
+    if (alternatives != null) {
+      for (List<Parser> sequence : alternatives) {
+        for (Parser element : sequence) {
+          if (element != parser) {
+            result.add(element);
+          }
+          if (!nullable.contains(element)) {
+            break;
+          }
+        }
+      }
+    }
+    if (parser instanceof AndParser || parser instanceof NotParser) {
+      result.addAll(parser.getChildren());
+    } else if (parser instanceof LimitedRepeatingParser) {
+      result.add(parser.getChildren().get(1));
+    }
+    return new ArrayList<>(result);
+  }
+
+  /**
+   * Returns {@code parser} and the parsers it can activate transitively
+   * before consuming any input.
+   */
+  private Set<Parser> startSetOf(Parser parser) {
+    return startSets.computeIfAbsent(parser, key -> {
+      Set<Parser> result = new LinkedHashSet<>();
+      List<Parser> todo = new ArrayList<>();
+      result.add(key);
+      todo.add(key);
+      while (!todo.isEmpty()) {
+        for (Parser child : startChildrenOf(todo.remove(todo.size() - 1))) {
+          if (result.add(child)) {
+            todo.add(child);
+          }
+        }
+      }
+      return result;
+    });
+  }
+
+  /**
+   * Returns the parsers that can reach themselves through {@code edges}, that
+   * is the members of strongly connected components with more than one parser
+   * and the parsers with an edge to themselves. Uses Tarjan's algorithm in
+   * linear time, without recursion to support deep graphs.
+   */
+  private Set<Parser> cyclic(Function<Parser, List<Parser>> edges) {
+    Set<Parser> result = new LinkedHashSet<>();
+    Map<Parser, Integer> indexes = new HashMap<>();
+    Set<Parser> open = new HashSet<>();
+    Deque<Parser> component = new ArrayDeque<>();
+    Deque<Visit> visits = new ArrayDeque<>();
+    for (Parser parser : parsers) {
+      if (indexes.containsKey(parser)) {
+        continue;
+      }
+      visits.push(new Visit(parser, edges.apply(parser), indexes.size()));
+      indexes.put(parser, indexes.size());
+      open.add(parser);
+      component.push(parser);
+      while (!visits.isEmpty()) {
+        Visit visit = visits.peek();
+        if (visit.next < visit.children.size()) {
+          Parser child = visit.children.get(visit.next++);
+          Integer index = indexes.get(child);
+          if (index == null) {
+            visits.push(new Visit(child, edges.apply(child), indexes.size()));
+            indexes.put(child, indexes.size());
+            open.add(child);
+            component.push(child);
+          } else if (open.contains(child)) {
+            visit.lowLink = Math.min(visit.lowLink, index);
+          }
+          continue;
+        }
+        visits.pop();
+        if (visit.lowLink == indexes.get(visit.parser)) {
+          Parser member = component.pop();
+          open.remove(member);
+          if (member != visit.parser) {
+            result.add(member);
+            do {
+              member = component.pop();
+              open.remove(member);
+              result.add(member);
+            } while (member != visit.parser);
+          } else if (visit.children.contains(member)) {
+            result.add(member);
+          }
+        }
+        if (!visits.isEmpty()) {
+          visits.peek().lowLink =
+              Math.min(visits.peek().lowLink, visit.lowLink);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * A parser being visited by {@link #cyclic(Function)}.
+   */
+  private static class Visit {
+
+    final Parser parser;
+    final List<Parser> children;
+    int next;
+    int lowLink;
+
+    Visit(Parser parser, List<Parser> children, int index) {
+      this.parser = parser;
+      this.children = children;
+      this.lowLink = index;
+    }
+  }
+
+  /**
+   * Returns the performance hazards found in the analyzed parser:
+   *
+   * <ul>
+   * <li>repetitions of nullable parsers, which never terminate;</li>
+   * <li>lazy repetitions of any character, which try their limit at every
+   * position of the input;</li>
+   * <li>choice alternatives that are never tried, because an earlier
+   * alternative always succeeds first;</li>
+   * <li>choice alternatives and repetitions that backtrack over recursive
+   * parsers or other backtracking repetitions, which takes exponential time
+   * in the nesting depth of the input.</li>
+   * </ul>
+   */
+  public List<Issue> lint() {
+    List<Issue> issues = new ArrayList<>();
+    for (Parser parser : parsers) {
+      if (parser instanceof RepeatingParser) {
+        lintRepetition(issues, (RepeatingParser) parser);
+      } else if (parser instanceof SeparatedByParser) {
+        List<Parser> children = parser.getChildren();
+        if (nullable.containsAll(children)) {
+          issues.add(new Issue(Issue.Type.NULLABLE_REPETITION, parser,
+              "separated repetition of nullable parsers never terminates"));
+        }
+      } else if (parser instanceof ChoiceParser) {
+        lintChoice(issues, parser);
+      }
+    }
+    return issues;
+  }
+
+  private void lintRepetition(List<Issue> issues, RepeatingParser parser) {
+    Parser delegate = parser.getChildren().get(0);
+    if (parser.getMax() == RepeatingParser.UNBOUNDED &&
+        nullable.contains(delegate)) {
+      issues.add(new Issue(Issue.Type.NULLABLE_REPETITION, parser,
+          "unbounded repetition of a nullable parser never terminates"));
+    }
+    if (parser instanceof LazyRepeatingParser &&
+        delegate instanceof CharacterParser &&
+        ((CharacterParser) delegate).getPredicate() ==
+            CharacterPredicate.any()) {
+      issues.add(new Issue(Issue.Type.LAZY_SCAN, parser,
+          "lazy repetition of any character tries its limit at every " +
+              "position"));
+    }
+    if (parser instanceof LimitedRepeatingParser) {
+      for (Parser start : startSetOf(delegate)) {
+        if (start instanceof LimitedRepeatingParser) {
+          issues.add(new Issue(Issue.Type.EXPONENTIAL_BACKTRACKING, parser,
+              "backtracking repetition starts with the backtracking " +
+                  "repetition " + start));
+          break;
+        }
+      }
+    }
+  }
+
+  private void lintChoice(List<Issue> issues, Parser parser) {
+    List<Parser> alternatives = parser.getChildren();
+    for (int i = 1; i < alternatives.size(); i++) {
+      for (int j = 0; j < i; j++) {
+        if (shadows(alternatives.get(j), alternatives.get(i))) {
+          issues.add(new Issue(Issue.Type.SHADOWED_ALTERNATIVE, parser,
+              "alternative " + i + " is shadowed by alternative " + j));
+          break;
+        }
+      }
+    }
+    for (int i = 1; i < alternatives.size(); i++) {
+      for (int j = 0; j < i; j++) {
+        Parser common = commonRecursiveStart(alternatives.get(j),
+            alternatives.get(i));
+        if (common != null) {
+          issues.add(new Issue(Issue.Type.EXPONENTIAL_BACKTRACKING, parser,
+              "alternatives " + j + " and " + i + " both start with the " +
+                  "recursive parser " + common));
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Tests if {@code earlier} succeeds wherever {@code later} does.
+   */
+  private static boolean shadows(Parser earlier, Parser later) {
+    if (earlier instanceof OptionalParser ||
+        earlier instanceof EpsilonParser ||
+        earlier instanceof PossessiveRepeatingParser &&
+            ((RepeatingParser) earlier).getMin() == 0 ||
+        earlier instanceof CharacterSpanParser &&
+            ((CharacterSpanParser) earlier).getMin() == 0) {
+      return true;
+    } else if (earlier.isEqualTo(later)) {
+      return true;
+    } else if (earlier instanceof StringParser &&
+        later instanceof StringParser) {
+      StringParser first = (StringParser) earlier;
+      String second = ((StringParser) later).getValue();
+      return first.isIgnoringCase() ?
+          second.regionMatches(true, 0, first.getValue(), 0,
+              first.getValue().length()) :
+          !((StringParser) later).isIgnoringCase() &&
+              second.startsWith(first.getValue());
+    }
+    return false;
+  }
+
+  /**
+   * Returns a recursive parser that both {@code first} and {@code second}
+   * activate before consuming input, or {@code null}. Parsers reached through
+   * a {@link MemoizedParser} are not parsed again, so they are ignored.
+   */
+  private Parser commonRecursiveStart(Parser first, Parser second) {
+    Set<Parser> common = new LinkedHashSet<>(startSetOf(first));
+    common.retainAll(startSetOf(second));
+    if (common.stream().anyMatch(parser -> parser instanceof MemoizedParser)) {
+      return null;
+    }
+    return common.stream()
+        .filter(parser -> recursive().contains(parser) &&
+            sequences.get(parser) != null)
+        .findFirst().orElse(null);
+  }
+
+  /**
+   * A performance hazard found in a parser.
+   */
+  public static class Issue {
+
+    /**
+     * The types of hazards.
+     */
+    public enum Type {
+      NULLABLE_REPETITION,
+      LAZY_SCAN,
+      SHADOWED_ALTERNATIVE,
+      EXPONENTIAL_BACKTRACKING
+    }
+
+    private final Type type;
+    private final Parser parser;
+    private final String description;
+
+    private Issue(Type type, Parser parser, String description) {
+      this.type = type;
+      this.parser = parser;
+      this.description = description;
+    }
+
+    /**
+     * Returns the type of the hazard.
+     */
+    public Type getType() {
+      return type;
+    }
+
+    /**
+     * Returns the parser with the hazard.
+     */
+    public Parser getParser() {
+      return parser;
+    }
+
+    /**
+     * Returns a human readable description of the hazard.
+     */
+    public String getDescription() {
+      return description;
+    }
+
+    @Override
+    public String toString() {
+      return type + "\t" + description + "\t" + parser;
+    }
+  }
+}
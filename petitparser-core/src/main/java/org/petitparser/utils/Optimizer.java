@@ -1,15 +1,42 @@
 package org.petitparser.utils;
 
 import org.petitparser.parser.Parser;
+import org.petitparser.parser.actions.ActionParser;
+import org.petitparser.parser.actions.ConstantParser;
+import org.petitparser.parser.actions.ContinuationParser;
+import org.petitparser.parser.actions.FlattenParser;
+import org.petitparser.parser.actions.TokenParser;
+import org.petitparser.parser.combinators.AndParser;
+import org.petitparser.parser.combinators.ChoiceParser;
+import org.petitparser.parser.combinators.CountingChoiceParser;
 import org.petitparser.parser.combinators.DelegateParser;
+import org.petitparser.parser.combinators.ListParser;
+import org.petitparser.parser.combinators.NotParser;
+import org.petitparser.parser.combinators.PickSequenceParser;
+import org.petitparser.parser.combinators.PredictiveChoiceParser;
+import org.petitparser.parser.combinators.SequenceParser;
 import org.petitparser.parser.combinators.SettableParser;
+import org.petitparser.parser.primitive.CharacterParser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+import org.petitparser.parser.primitive.CharacterRepeatingParser;
+import org.petitparser.parser.primitive.CharacterSpanParser;
+import org.petitparser.parser.primitive.LiteralSetParser;
+import org.petitparser.parser.primitive.StringParser;
+import org.petitparser.parser.repeating.PossessiveRepeatingParser;
+import org.petitparser.parser.repeating.RepeatingParser;
+import org.petitparser.parser.repeating.RightRecursionParser;
+import org.petitparser.parser.repeating.SeparatedByParser;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Tools to transform and optimize parser graphs.
@@ -17,6 +44,7 @@ import java.util.function.Function;
 public class Optimizer {
 
   private final List<Function<Parser, Parser>> transformers = new ArrayList<>();
+  private final List<ParserInterner> interners = new ArrayList<>();
 
   /**
    * Adds a generic transformer.
@@ -40,22 +68,737 @@ public class Optimizer {
   }
 
   /**
-   * Adds a transformer that collapses unnecessary copies of parsers.
+   * Collapses unnecessary copies of parsers.
    */
   public Optimizer removeDuplicates() {
-    Set<Parser> uniques = new HashSet<>();
+    return removeDuplicates(new ParserInterner());
+  }
+
+  /**
+   * Collapses unnecessary copies of parsers, using the provided {@code
+   * interner}. Sharing an interner between grammars also collapses the copies
+   * across these grammars.
+   *
+   * <p>The copies are collapsed in the transformed graph, after the other
+   * transformers ran, because the interner needs the children of a parser to
+   * be interned before the parser itself (see {@link
+   * ParserInterner#internAll(Parser)}).
+   */
+  public Optimizer removeDuplicates(ParserInterner interner) {
+    interners.add(interner);
+    return this;
+  }
+
+  /**
+   * Adds a transformer that replaces choices with predictive choices, that
+   * only try the alternatives that can start with the next input character.
+   */
+  public Optimizer predictChoices() {
+    return add(parser -> {
+      if (ChoiceParser.class.equals(parser.getClass())) {
+        ChoiceParser choice = (ChoiceParser) parser;
+        if (choice.getChildren().stream()
+            .anyMatch(child -> child.getFirstCharacters() != null)) {
+          return new PredictiveChoiceParser(choice.getFailureJoiner(),
+              choice.getChildren().toArray(new Parser[0]));
+        }
+      }
+      return parser;
+    });
+  }
+
+  /**
+   * Adds a transformer that replaces choices with a {@link
+   * CountingChoiceParser}, that counts the successes of each alternative
+   * during the first {@code window} activations. Run the transformed parser
+   * on representative input, then use {@link #reorderChoices()}.
+   */
+  public Optimizer countChoices(long window) {
+    return add(parser -> {
+      if (ChoiceParser.class.equals(parser.getClass())) {
+        ChoiceParser choice = (ChoiceParser) parser;
+        return new CountingChoiceParser(choice.getFailureJoiner(), window,
+            choice.getChildren().toArray(new Parser[0]));
+      }
+      return parser;
+    });
+  }
+
+  /**
+   * Adds a transformer that replaces each {@link CountingChoiceParser} with a
+   * choice that tries the more frequently successful alternatives first. An
+   * alternative only moves before another one, if their first characters
+   * prove that they cannot both succeed at the same position. The last
+   * alternative keeps its place, so that the choice reports the same failure;
+   * choices that join failures are not reordered.
+   */
+  public Optimizer reorderChoices() {
+    return add(parser -> {
+      if (!CountingChoiceParser.class.equals(parser.getClass())) {
+        return parser;
+      }
+      CountingChoiceParser choice = (CountingChoiceParser) parser;
+      FailureJoiner joiner = choice.getFailureJoiner();
+      List<Parser> alternatives = new ArrayList<>(choice.getChildren());
+      if (joiner instanceof FailureJoiner.SelectLast) {
+        long[] hits = choice.getHits();
+        CharacterPredicate[] firsts = alternatives.stream()
+            .map(Parser::getFirstCharacters)
+            .map(first -> first == null ? null : first.compile())
+            .toArray(CharacterPredicate[]::new);
+        Integer[] order = new Integer[alternatives.size()];
+        for (int i = 0; i < order.length; i++) {
+          order[i] = i;
+        }
+        for (int i = 1; i < order.length - 1; i++) {
+          for (int j = i; j > 0 && hits[order[j - 1]] < hits[order[j]] &&
+              isDisjoint(firsts[order[j - 1]], firsts[order[j]]); j--) {
+            Integer swap = order[j];
+            order[j] = order[j - 1];
+            order[j - 1] = swap;
+          }
+        }
+        alternatives = Arrays.stream(order).map(choice.getChildren()::get)
+            .collect(Collectors.toList());
+      }
+      return new ChoiceParser(joiner, alternatives.toArray(new Parser[0]));
+    });
+  }
+
+  /**
+   * Tests if there is no character accepted by both {@code first} and
+   * {@code second}, unknown first characters are never disjoint.
+   */
+  private static boolean isDisjoint(CharacterPredicate first,
+      CharacterPredicate second) {
+    if (first == null || second == null) {
+      return false;
+    }
+    for (int value = Character.MIN_VALUE; value <= Character.MAX_VALUE;
+        value++) {
+      if (first.test((char) value) && second.test((char) value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Adds a transformer that replaces consecutive {@link StringParser}
+   * alternatives of a choice with a single {@link LiteralSetParser}.
+   */
+  public Optimizer mergeLiterals() {
+    return mergeAlternatives(
+        child -> StringParser.class.equals(child.getClass()) &&
+            !((StringParser) child).isIgnoringCase(),
+        literals -> new LiteralSetParser(LiteralSetParser.Mode.ORDERED,
+            literals.stream().map(each -> ((StringParser) each).getValue())
+                .collect(Collectors.toList()),
+            ((StringParser) literals.get(literals.size() - 1)).getMessage()));
+  }
+
+  /**
+   * Adds a transformer that replaces consecutive {@link CharacterParser}
+   * alternatives of a choice with a single {@link CharacterParser} accepting
+   * the union of their characters.
+   *
+   * <p>The merged parser fails with the message of the last alternative, like
+   * the choice does. The messages of the other alternatives are lost, thus
+   * {@link Parser#parseFarthest(CharSequence)} only reports the last one.
+   */
+  public Optimizer mergeCharacterClasses() {
+    return mergeAlternatives(
+        child -> CharacterParser.class.equals(child.getClass()),
+        characters -> CharacterParser.of(characters.stream()
+                .map(each -> ((CharacterParser) each).getPredicate())
+                .reduce(CharacterPredicate::or).get(),
+            ((CharacterParser) characters.get(characters.size() - 1))
+                .getMessage()));
+  }
+
+  /**
+   * Adds a transformer that fuses flattened sequences and fixed repetitions
+   * of literal characters into a single {@link StringParser}, and flattened
+   * fixed repetitions of a {@link CharacterParser} into a {@link
+   * CharacterSpanParser}. Other parsers are left unchanged, so that the values
+   * seen by actions keep their shape.
+   */
+  public Optimizer fuseLiterals() {
+    return add(parser -> {
+      if (!FlattenParser.class.equals(parser.getClass())) {
+        return parser;
+      }
+      String message = ((FlattenParser) parser).getMessage();
+      Parser child = parser.getChildren().get(0);
+      String literal = literalOf(child);
+      if (literal != null && message != null) {
+        // A flatten with a message fails at its start, like the literal.
+        return StringParser.of(literal, message);
+      }
+      if (PossessiveRepeatingParser.class.equals(child.getClass()) &&
+          CharacterParser.class.equals(
+              child.getChildren().get(0).getClass())) {
+        RepeatingParser repeating = (RepeatingParser) child;
+        CharacterParser character =
+            (CharacterParser) child.getChildren().get(0);
+        if (repeating.getMin() == repeating.getMax()) {
+          Parser span = new CharacterSpanParser(character.getPredicate(),
+              repeating.getMin(), repeating.getMax(), character.getMessage());
+          return message == null ? span : new FlattenParser(span, message);
+        }
+      }
+      return parser;
+    });
+  }
+
+  /**
+   * Adds a transformer that replaces possessive repetitions of a {@link
+   * CharacterParser} with a {@link CharacterRepeatingParser}, and flattened
+   * ones with a {@link CharacterSpanParser}. Both scan the input in a single
+   * loop, instead of calling the repeated parser for each character.
+   */
+  public Optimizer scanCharacters() {
+    return add(parser -> {
+      Class<?> type = parser.getClass();
+      if (FlattenParser.class.equals(type)) {
+        Parser child = parser.getChildren().get(0);
+        String message = ((FlattenParser) parser).getMessage();
+        if (isCharacterRepetition(child)) {
+          RepeatingParser repeating = (RepeatingParser) child;
+          CharacterParser character =
+              (CharacterParser) child.getChildren().get(0);
+          Parser span = new CharacterSpanParser(character.getPredicate(),
+              repeating.getMin(), repeating.getMax(), character.getMessage());
+          return message == null ? span : new FlattenParser(span, message);
+        }
+      } else if (isCharacterRepetition(parser)) {
+        RepeatingParser repeating = (RepeatingParser) parser;
+        CharacterParser character =
+            (CharacterParser) parser.getChildren().get(0);
+        return new CharacterRepeatingParser(character.getPredicate(),
+            repeating.getMin(), repeating.getMax(), character.getMessage());
+      }
+      return parser;
+    });
+  }
+
+  private static boolean isCharacterRepetition(Parser parser) {
+    return PossessiveRepeatingParser.class.equals(parser.getClass()) &&
+        CharacterParser.class.equals(
+            parser.getChildren().get(0).getClass());
+  }
+
+  /**
+   * Adds a transformer that composes the functions of directly nested {@link
+   * ActionParser}s into a single action. An action that returns a constant
+   * value (see {@link Functions#constant(Object)}) is replaced with a {@link
+   * ConstantParser}, which runs its delegate in recognizer mode; actions and
+   * a {@link FlattenParser} directly below it are dropped, as their values are
+   * not used.
+   */
+  @SuppressWarnings("unchecked")
+  public Optimizer fuseActions() {
+    Predicate<Parser> isPure = purity();
+    return add(parser -> {
+      if (!ActionParser.class.equals(parser.getClass())) {
+        return parser;
+      }
+      ActionParser<Object, Object> action =
+          (ActionParser<Object, Object>) parser;
+      Function<Object, Object> function = action.getFunction();
+      boolean hasSideEffects = action.hasSideEffects();
+      Parser delegate = parser.getChildren().get(0);
+      if (function instanceof Functions.Constant && !hasSideEffects) {
+        Object value = ((Functions.Constant<?>) function).getOutput();
+        while (ActionParser.class.equals(delegate.getClass()) &&
+            !((ActionParser<?, ?>) delegate).hasSideEffects()) {
+          delegate = delegate.getChildren().get(0);
+        }
+        if (isPure.test(delegate)) {
+          if (FlattenParser.class.equals(delegate.getClass())) {
+            return new ConstantParser(delegate.getChildren().get(0), value,
+                ((FlattenParser) delegate).getMessage());
+          }
+          return new ConstantParser(delegate, value);
+        }
+        delegate = parser.getChildren().get(0);
+      }
+      boolean fused = false;
+      while (ActionParser.class.equals(delegate.getClass()) &&
+          ((ActionParser<?, ?>) delegate).hasSideEffects() == hasSideEffects) {
+        function = ((ActionParser<Object, Object>) delegate).getFunction()
+            .andThen(function);
+        delegate = delegate.getChildren().get(0);
+        fused = true;
+      }
+      return fused ? new ActionParser<>(delegate, function, hasSideEffects) :
+          parser;
+    });
+  }
+
+  /**
+   * Adds a transformer that runs subgraphs whose values are discarded
+   * without building the values, by wrapping them into a {@link
+   * ConstantParser} without message. These are the delegate of a
+   * {@link FlattenParser} without message, the elements a {@link
+   * PickSequenceParser} does not pick, and the separators of a {@link
+   * SeparatedByParser} that drops them. Only subgraphs that build values and
+   * have no side effects are wrapped; failures are still reported by the
+   * original subgraph, that is parsed only once.
+   */
+  public Optimizer recognizeDiscarded() {
+    Predicate<Parser> isPure = purity();
+    Map<Parser, Boolean> cache = new HashMap<>();
+    Function<Parser, Parser> recognizer = parser -> {
+      if (parser instanceof ConstantParser || !isPure.test(parser) ||
+          !cache.computeIfAbsent(parser, each -> Mirror.of(each).stream()
+              .anyMatch(Optimizer::buildsValues))) {
+        return parser;
+      }
+      return new ConstantParser(parser, null);
+    };
     return add(parser -> {
-      Optional<Parser> target = uniques.stream()
-          .filter(each -> parser != each && parser.isEqualTo(each)).findFirst();
-      if (target.isPresent()) {
-        return target.get();
+      Class<?> type = parser.getClass();
+      if (FlattenParser.class.equals(type) &&
+          ((FlattenParser) parser).getMessage() == null) {
+        Parser child = parser.getChildren().get(0);
+        parser.replace(child, recognizer.apply(child));
+      } else if (PickSequenceParser.class.equals(type)) {
+        PickSequenceParser pick = (PickSequenceParser) parser;
+        int[] indexes = pick.getIndexes();
+        Parser[] children = pick.getChildren().toArray(new Parser[0]);
+        boolean[] picked = new boolean[children.length];
+        for (int index : indexes) {
+          picked[index] = true;
+        }
+        for (int i = 0; i < children.length; i++) {
+          if (!picked[i]) {
+            children[i] = recognizer.apply(children[i]);
+          }
+        }
+        if (!Arrays.asList(children).equals(pick.getChildren())) {
+          return pick.isPermutation() ?
+              new PickSequenceParser(indexes, children) :
+              new PickSequenceParser(indexes[0], children);
+        }
+      } else if (SeparatedByParser.class.equals(type) &&
+          !((SeparatedByParser) parser).isIncludingSeparators()) {
+        Parser separator = parser.getChildren().get(1);
+        if (separator != parser.getChildren().get(0)) {
+          parser.replace(separator, recognizer.apply(separator));
+        }
+      }
+      return parser;
+    });
+  }
+
+  /**
+   * Tests if {@code parser} builds a value, that is not needed in recognizer
+   * mode.
+   */
+  private static boolean buildsValues(Parser parser) {
+    return parser instanceof ListParser && !(parser instanceof ChoiceParser) ||
+        parser instanceof RepeatingParser ||
+        parser instanceof ActionParser ||
+        parser instanceof TokenParser ||
+        parser instanceof FlattenParser ||
+        parser instanceof CharacterSpanParser;
+  }
+
+  /**
+   * Returns a predicate that tests if a parser does not reach any parser with
+   * side effects, that is a {@link ContinuationParser} or an {@link
+   * ActionParser} with side effects. The results are cached.
+   */
+  private static Predicate<Parser> purity() {
+    Map<Parser, Boolean> pure = new HashMap<>();
+    return parser -> pure.computeIfAbsent(parser,
+        each -> Mirror.of(each).stream().noneMatch(node ->
+            node instanceof ContinuationParser ||
+                node instanceof ActionParser &&
+                    ((ActionParser<?, ?>) node).hasSideEffects()));
+  }
+
+  /**
+   * Adds a transformer that factors the common leading parsers out of
+   * consecutive sequence alternatives of a choice, so that they are parsed
+   * only once at a given position. The results are rebuilt with an action,
+   * so that they keep their original shape. Prefixes that might have side
+   * effects are not factored.
+   */
+  public Optimizer factorChoices() {
+    Predicate<Parser> isPure = purity();
+    return add(parser -> {
+      if (!ChoiceParser.class.equals(parser.getClass())) {
+        return parser;
+      }
+      ChoiceParser choice = (ChoiceParser) parser;
+      FailureJoiner joiner = choice.getFailureJoiner();
+      if (!(joiner instanceof FailureJoiner.SelectLast) &&
+          !(joiner instanceof FailureJoiner.SelectFarthest)) {
+        return parser;
+      }
+      List<Parser> alternatives = factorAlternatives(joiner,
+          choice.getChildren(), isPure);
+      return alternatives.equals(choice.getChildren()) ? parser :
+          choiceOf(joiner, alternatives);
+    });
+  }
+
+  /**
+   * Returns the {@code alternatives}, with runs of sequences that start with
+   * equal parsers replaced by a single factored parser.
+   */
+  private static List<Parser> factorAlternatives(FailureJoiner joiner,
+      List<Parser> alternatives, Predicate<Parser> isPure) {
+    List<Parser> result = new ArrayList<>();
+    int start = 0;
+    while (start < alternatives.size()) {
+      int stop = start + 1;
+      Parser first = alternatives.get(start);
+      if (isFactorable(first) && isPure.test(first.getChildren().get(0))) {
+        Parser head = first.getChildren().get(0);
+        while (stop < alternatives.size() &&
+            isFactorable(alternatives.get(stop)) &&
+            head.isEqualTo(alternatives.get(stop).getChildren().get(0))) {
+          stop++;
+        }
+      }
+      if (stop - start > 1) {
+        result.add(factorSequences(joiner, alternatives.subList(start, stop),
+            isPure));
       } else {
-        uniques.add(parser);
+        result.add(first);
+      }
+      start = stop;
+    }
+    return result;
+  }
+
+  /**
+   * Returns a parser equivalent to the choice of {@code sequences}, which all
+   * start with equal parsers.
+   */
+  private static Parser factorSequences(FailureJoiner joiner,
+      List<Parser> sequences, Predicate<Parser> isPure) {
+    List<Parser> prefix = sequences.get(0).getChildren();
+    int count = 1;
+    while (count < prefix.size() && isPure.test(prefix.get(count))) {
+      Parser parser = prefix.get(count);
+      int index = count;
+      if (!sequences.stream().allMatch(sequence ->
+          index < sequence.getChildren().size() &&
+              parser.isEqualTo(sequence.getChildren().get(index)))) {
+        break;
+      }
+      count++;
+    }
+    List<Parser> rests = new ArrayList<>();
+    for (Parser sequence : sequences) {
+      List<Parser> children = sequence.getChildren();
+      rests.add(new SequenceParser(children.subList(count, children.size())
+          .toArray(new Parser[0])));
+    }
+    Parser[] elements = prefix.subList(0, count)
+        .toArray(new Parser[count + 1]);
+    elements[count] = choiceOf(joiner,
+        factorAlternatives(joiner, rests, isPure));
+    return new SequenceParser(elements).map(unfactored(count));
+  }
+
+  private static boolean isFactorable(Parser parser) {
+    return SequenceParser.class.equals(parser.getClass()) &&
+        !parser.getChildren().isEmpty();
+  }
+
+  private static Parser choiceOf(FailureJoiner joiner, List<Parser> parsers) {
+    return parsers.size() == 1 ? parsers.get(0) :
+        new ChoiceParser(joiner, parsers.toArray(new Parser[0]));
+  }
+
+  /**
+   * Returns a function that appends the list at {@code count} to the {@code
+   * count} values before it.
+   */
+  private static Function<List<Object>, List<Object>> unfactored(int count) {
+    return list -> {
+      List<?> rest = (List<?>) list.get(count);
+      List<Object> result = new ArrayList<>(count + rest.size());
+      result.addAll(list.subList(0, count));
+      result.addAll(rest);
+      return result;
+    };
+  }
+
+  /**
+   * Adds a transformer that inlines nested list parsers where the shape of
+   * the results allows it: choices into choices with the same kind of failure
+   * joiner, and sequences into sequences whose values are discarded, that is
+   * below a {@link FlattenParser} or a {@link NotParser}, or at a position
+   * not picked by a {@link PickSequenceParser}. An {@link AndParser} returns
+   * the value of its delegate, thus its sequences are kept.
+   */
+  public Optimizer flattenLists() {
+    return add(parser -> {
+      Class<?> type = parser.getClass();
+      if (ChoiceParser.class.equals(type)) {
+        ChoiceParser choice = (ChoiceParser) parser;
+        FailureJoiner joiner = choice.getFailureJoiner();
+        if (!(joiner instanceof FailureJoiner.SelectLast) &&
+            !(joiner instanceof FailureJoiner.SelectFarthest)) {
+          return parser;
+        }
+        List<Parser> alternatives = new ArrayList<>();
+        addAlternatives(alternatives, choice, joiner.getClass(),
+            new HashSet<>());
+        return alternatives.equals(choice.getChildren()) ? parser :
+            new ChoiceParser(joiner, alternatives.toArray(new Parser[0]));
+      } else if (PickSequenceParser.class.equals(type)) {
+        PickSequenceParser pick = (PickSequenceParser) parser;
+        List<Parser> children = pick.getChildren();
+        int[] indexes = pick.getIndexes();
+        int[] offsets = new int[children.size()];
+        List<Parser> elements = new ArrayList<>();
+        for (int i = 0; i < children.size(); i++) {
+          offsets[i] = elements.size();
+          boolean picked = false;
+          for (int index : indexes) {
+            picked |= index == i;
+          }
+          if (picked) {
+            elements.add(children.get(i));
+          } else {
+            addElements(elements, children.get(i), new HashSet<>());
+          }
+        }
+        if (elements.equals(children)) {
+          return parser;
+        }
+        Parser[] array = elements.toArray(new Parser[0]);
+        if (!pick.isPermutation()) {
+          return new PickSequenceParser(offsets[indexes[0]], array);
+        }
+        for (int i = 0; i < indexes.length; i++) {
+          indexes[i] = offsets[indexes[i]];
+        }
+        return new PickSequenceParser(indexes, array);
+      } else if (FlattenParser.class.equals(type) ||
+          NotParser.class.equals(type)) {
+        Parser child = parser.getChildren().get(0);
+        if (!SequenceParser.class.equals(child.getClass())) {
+          return parser;
+        }
+        List<Parser> elements = new ArrayList<>();
+        addElements(elements, child, new HashSet<>());
+        if (!elements.equals(child.getChildren())) {
+          parser.replace(child,
+              new SequenceParser(elements.toArray(new Parser[0])));
+        }
+      }
+      return parser;
+    });
+  }
+
+  /**
+   * Adds the alternatives of {@code choice} to {@code alternatives}, inlining
+   * nested choices with a failure joiner of the type {@code joiner}.
+   */
+  private static void addAlternatives(List<Parser> alternatives,
+      ChoiceParser choice, Class<?> joiner, Set<Parser> seen) {
+    seen.add(choice);
+    for (Parser child : choice.getChildren()) {
+      if (ChoiceParser.class.equals(child.getClass()) &&
+          joiner.equals(((ChoiceParser) child).getFailureJoiner().getClass()) &&
+          !seen.contains(child)) {
+        addAlternatives(alternatives, (ChoiceParser) child, joiner, seen);
+      } else {
+        alternatives.add(child);
+      }
+    }
+  }
+
+  /**
+   * Adds the parsers that {@code parser} consists of to {@code elements},
+   * inlining nested sequences.
+   */
+  private static void addElements(List<Parser> elements, Parser parser,
+      Set<Parser> seen) {
+    if (SequenceParser.class.equals(parser.getClass()) &&
+        seen.add(parser)) {
+      for (Parser child : parser.getChildren()) {
+        addElements(elements, child, seen);
+      }
+    } else {
+      elements.add(parser);
+    }
+  }
+
+  /**
+   * Adds a transformer that replaces right recursive choices with a {@link
+   * RightRecursionParser}, so that the depth of the parser stack no longer
+   * grows with the number of repetitions. A choice is right recursive, if
+   * exactly one of its alternatives is a sequence that ends with a reference
+   * back to the choice, possibly through delegates and actions without side
+   * effects. The results keep their original nested shape.
+   */
+  public Optimizer removeRightRecursion() {
+    return add(parser -> {
+      if (!ChoiceParser.class.equals(parser.getClass()) ||
+          !(((ChoiceParser) parser).getFailureJoiner() instanceof
+              FailureJoiner.SelectLast)) {
+        return parser;
+      }
+      List<Parser> alternatives = parser.getChildren();
+      int index = -1;
+      Function<Object, Object> function = null;
+      for (int i = 0; i < alternatives.size(); i++) {
+        List<Parser> children = alternatives.get(i).getChildren();
+        if (!SequenceParser.class.equals(alternatives.get(i).getClass()) ||
+            children.size() < 2) {
+          continue;
+        }
+        List<Function<Object, Object>> functions =
+            recursionOf(children.get(children.size() - 1), alternatives);
+        if (functions != null && index >= 0) {
+          return parser;
+        } else if (functions != null) {
+          index = i;
+          function = functions.stream().reduce(Function::andThen)
+              .orElse(null);
+        }
+      }
+      if (index < 0) {
         return parser;
       }
+      List<Parser> children = alternatives.get(index).getChildren();
+      return new RightRecursionParser(
+          alternatives.subList(0, index).toArray(new Parser[0]),
+          children.subList(0, children.size() - 1).toArray(new Parser[0]),
+          alternatives.subList(index + 1, alternatives.size())
+              .toArray(new Parser[0]),
+          function);
     });
   }
 
+  /**
+   * Returns the functions of the actions on the path from {@code parser} to a
+   * choice with the given {@code alternatives} (innermost first), or {@code
+   * null} if {@code parser} does not resolve to such a choice.
+   */
+  @SuppressWarnings("unchecked")
+  private static List<Function<Object, Object>> recursionOf(Parser parser,
+      List<Parser> alternatives) {
+    List<Function<Object, Object>> functions = new ArrayList<>();
+    Set<Parser> seen = new HashSet<>();
+    while (seen.add(parser)) {
+      Class<?> type = parser.getClass();
+      if (ChoiceParser.class.equals(type)) {
+        return parser.getChildren().equals(alternatives) &&
+            ((ChoiceParser) parser).getFailureJoiner() instanceof
+                FailureJoiner.SelectLast ? functions : null;
+      } else if (ActionParser.class.equals(type)) {
+        ActionParser<Object, Object> action =
+            (ActionParser<Object, Object>) parser;
+        if (action.hasSideEffects()) {
+          return null;
+        }
+        functions.add(0, action.getFunction());
+      } else if (!DelegateParser.class.equals(type) &&
+          !SettableParser.class.equals(type)) {
+        return null;
+      }
+      parser = parser.getChildren().get(0);
+    }
+    return null;
+  }
+
+  /**
+   * Returns the literal string that {@code parser} accepts, or {@code null}.
+   */
+  private static String literalOf(Parser parser) {
+    if (CharacterParser.class.equals(parser.getClass())) {
+      CharacterPredicate predicate = ((CharacterParser) parser).getPredicate();
+      return predicate instanceof CharacterPredicate.SingleCharacterPredicate ?
+          String.valueOf(((CharacterPredicate.SingleCharacterPredicate)
+              predicate).getCharacter()) : null;
+    } else if (StringParser.class.equals(parser.getClass())) {
+      StringParser string = (StringParser) parser;
+      return string.isIgnoringCase() ? null : string.getValue();
+    } else if (SequenceParser.class.equals(parser.getClass())) {
+      StringBuilder builder = new StringBuilder();
+      for (Parser child : parser.getChildren()) {
+        String literal = literalOf(child);
+        if (literal == null) {
+          return null;
+        }
+        builder.append(literal);
+      }
+      return builder.toString();
+    } else if (PossessiveRepeatingParser.class.equals(parser.getClass()) &&
+        ((RepeatingParser) parser).getMin() ==
+            ((RepeatingParser) parser).getMax()) {
+      String literal = literalOf(parser.getChildren().get(0));
+      if (literal == null) {
+        return null;
+      }
+      StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < ((RepeatingParser) parser).getMin(); i++) {
+        builder.append(literal);
+      }
+      return builder.toString();
+    }
+    return null;
+  }
+
+  /**
+   * Adds a transformer that replaces runs of consecutive alternatives of a
+   * choice accepted by {@code mergeable} with the parser returned by {@code
+   * merger}. The merged parser is expected to fail with the message of the
+   * last alternative of the run, so that the choice reports the same failure.
+   */
+  private Optimizer mergeAlternatives(Predicate<Parser> mergeable,
+      Function<List<Parser>, Parser> merger) {
+    return add(parser -> {
+      if (!ChoiceParser.class.equals(parser.getClass())) {
+        return parser;
+      }
+      ChoiceParser choice = (ChoiceParser) parser;
+      FailureJoiner joiner = choice.getFailureJoiner();
+      if (!(joiner instanceof FailureJoiner.SelectLast) &&
+          !(joiner instanceof FailureJoiner.SelectFarthest)) {
+        return parser;
+      }
+      List<Parser> alternatives = new ArrayList<>();
+      List<Parser> run = new ArrayList<>();
+      for (Parser child : choice.getChildren()) {
+        if (mergeable.test(child)) {
+          run.add(child);
+        } else {
+          addRun(alternatives, run, merger);
+          alternatives.add(child);
+        }
+      }
+      addRun(alternatives, run, merger);
+      if (alternatives.size() == choice.getChildren().size()) {
+        return parser;
+      } else if (alternatives.size() == 1) {
+        return alternatives.get(0);
+      } else {
+        return new ChoiceParser(joiner, alternatives.toArray(new Parser[0]));
+      }
+    });
+  }
+
+  private static void addRun(List<Parser> alternatives, List<Parser> run,
+      Function<List<Parser>, Parser> merger) {
+    if (run.size() > 1) {
+      alternatives.add(merger.apply(run));
+    } else {
+      alternatives.addAll(run);
+    }
+    run.clear();
+  }
+
   /**
    * Transforms the provided parsers using the selected optimizations.
    */
@@ -63,6 +806,10 @@ public class Optimizer {
     Function<Parser, Parser> transformer =
         transformers.stream().reduce(Function::andThen)
             .orElse(Function.identity());
-    return Mirror.of(parser).transform(transformer);
+    Parser result = Mirror.of(parser).transform(transformer);
+    for (ParserInterner interner : interners) {
+      result = interner.internAll(result);
+    }
+    return result;
   }
 }
@@ -0,0 +1,122 @@
+package org.petitparser.utils;
+
+import org.petitparser.parser.Parser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A table of structurally unique parsers (hash-consing).
+ *
+ * <p>Parsers are interned bottom-up: once the children of a parser are
+ * interned, two parsers are equal if they have the same class, equal
+ * properties and identical children. Thus parsers are indexed by a hash of
+ * their class, their properties and the identities of their children, and
+ * finding an equal parser does not descend into the children. An interner can
+ * be shared by several grammars, for example through {@link
+ * Optimizer#removeDuplicates(ParserInterner)}, to share their identical parts.
+ */
+public class ParserInterner {
+
+  private final Map<Integer, List<Parser>> parsers = new HashMap<>();
+  private int size;
+
+  /**
+   * Returns a known parser with the same class and properties as {@code
+   * parser} and identical children, or registers and returns {@code parser}
+   * itself. The children of {@code parser} are expected to be interned
+   * already, see {@link #internAll(Parser)}.
+   */
+  public synchronized Parser intern(Parser parser) {
+    List<Parser> children = parser.getChildren();
+    int hash = parser.fingerprint(0);
+    for (Parser child : children) {
+      hash = 31 * hash + System.identityHashCode(child);
+    }
+    List<Parser> candidates =
+        parsers.computeIfAbsent(hash, key -> new ArrayList<>(1));
+    for (Parser candidate : candidates) {
+      if (candidate == parser ||
+          hasIdenticalChildren(children, candidate.getChildren()) &&
+              parser.isEqualTo(candidate)) {
+        return candidate;
+      }
+    }
+    candidates.add(parser);
+    size++;
+    return parser;
+  }
+
+  private static boolean hasIdenticalChildren(List<Parser> children,
+      List<Parser> others) {
+    if (children.size() != others.size()) {
+      return false;
+    }
+    for (int i = 0; i < children.size(); i++) {
+      if (children.get(i) != others.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Interns the parsers reachable from {@code parser}, children before their
+   * parents, and returns the interned {@code parser}. The children of the
+   * reachable parsers are replaced with their interned parsers in place, thus
+   * the graph should be a private copy, like the result of {@link
+   * Mirror#transform(java.util.function.Function)}.
+   *
+   * <p>A parser that refers back to one of its ancestors is interned before
+   * that ancestor is, thus the parsers of a cycle are only collapsed with
+   * parsers that refer to the very same ancestor.
+   */
+  public synchronized Parser internAll(Parser parser) {
+    Map<Parser, Parser> interned = new IdentityHashMap<>();
+    Parser result = internAll(parser, interned);
+    for (Map.Entry<Parser, Parser> entry : interned.entrySet()) {
+      if (entry.getKey() == entry.getValue()) {
+        replaceChildren(entry.getKey(), interned);
+      }
+    }
+    return result;
+  }
+
+  private Parser internAll(Parser parser, Map<Parser, Parser> interned) {
+    Parser known = interned.get(parser);
+    if (known != null) {
+      return known;
+    }
+    interned.put(parser, parser);
+    for (Parser child : new ArrayList<>(parser.getChildren())) {
+      internAll(child, interned);
+    }
+    replaceChildren(parser, interned);
+    Parser result = intern(parser);
+    interned.put(parser, result);
+    return result;
+  }
+
+  /**
+   * Replaces the children of {@code parser} with their interned parsers.
+   */
+  private static void replaceChildren(Parser parser,
+      Map<Parser, Parser> interned) {
+    for (Parser child : new ArrayList<>(parser.getChildren())) {
+      Parser target = interned.get(child);
+      if (target != null && target != child) {
+        parser.replace(child, target);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of unique parsers registered.
+   */
+  public synchronized int size() {
+    return size;
+  }
+}
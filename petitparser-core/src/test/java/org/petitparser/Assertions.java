@@ -1,5 +1,6 @@
 package org.petitparser;
 
+import org.petitparser.context.Context;
 import org.petitparser.context.ParseError;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
@@ -24,6 +25,7 @@ public class Assertions {
     assertNull("No message expected", result.getMessage());
     assertEquals("Fast parse", position, parser.fastParseOn(input, 0));
     assertTrue("Accept", parser.accept(input));
+    assertContextParse(parser, input, result);
   }
 
   public static <T> void assertSuccess(Parser parser, String input, T result) {
@@ -40,6 +42,7 @@ public class Assertions {
     assertNull("No message expected", result.getMessage());
     assertEquals("Fast parse", position, parser.fastParseOn(input, 0));
     assertTrue("Accept", parser.accept(input));
+    assertContextParse(parser, input, result);
   }
 
   public static <T> void assertFailure(Parser parser, String input) {
@@ -68,6 +71,7 @@ public class Assertions {
     assertEquals("Expected fast parse failure", -1,
         parser.fastParseOn(input, 0));
     assertFalse("Accept", parser.accept(input));
+    assertContextParse(parser, input, result);
     try {
       result.get();
     } catch (ParseError error) {
@@ -78,4 +82,15 @@ public class Assertions {
     fail("Result#get() did not throw a ParseError");
   }
 
+  private static void assertContextParse(
+      Parser parser, String input, Result expected) {
+    Result actual = parser.parseOn(new Context(input, 0));
+    assertEquals("Context parse", expected.isSuccess(), actual.isSuccess());
+    assertEquals("Context position", expected.getPosition(),
+        actual.getPosition());
+    assertEquals("Context message", expected.getMessage(), actual.getMessage());
+    if (expected.isSuccess()) {
+      assertEquals("Context result", (Object) expected.get(), actual.get());
+    }
+  }
 }
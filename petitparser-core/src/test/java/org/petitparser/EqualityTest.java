@@ -2,11 +2,20 @@ package org.petitparser;
 
 import org.junit.Test;
 import org.petitparser.parser.Parser;
+import org.petitparser.parser.actions.ConstantParser;
+import org.petitparser.parser.combinators.AdaptiveMemoizedParser;
+import org.petitparser.parser.combinators.CountingChoiceParser;
 import org.petitparser.parser.combinators.DelegateParser;
+import org.petitparser.parser.combinators.LeftRecursiveParser;
 import org.petitparser.parser.primitive.CharacterParser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+import org.petitparser.parser.primitive.CharacterRepeatingParser;
+import org.petitparser.parser.primitive.CharacterSpanParser;
 import org.petitparser.parser.primitive.EpsilonParser;
 import org.petitparser.parser.primitive.FailureParser;
+import org.petitparser.parser.primitive.LiteralSetParser;
 import org.petitparser.parser.primitive.StringParser;
+import org.petitparser.parser.repeating.RightRecursionParser;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,6 +47,7 @@ public class EqualityTest {
     assertTrue(parser.isEqualTo(copy));
     assertTrue(copy.isEqualTo(parser));
     assertTrue(parser.isEqualTo(parser));
+    assertEquals(parser.fingerprint(), copy.fingerprint());
     // check replacing
     List<Parser> replaced = new ArrayList<>();
     for (int i = 0; i < copy.getChildren().size(); i++) {
@@ -118,6 +128,17 @@ public class EqualityTest {
     verify(FailureParser.withMessage("failure"));
   }
 
+  @Test
+  public void constant() {
+    verify(new ConstantParser(CharacterParser.digit(), 1, "digit"));
+  }
+
+  @Test
+  public void counting() {
+    verify(new CountingChoiceParser(100, CharacterParser.digit(),
+        CharacterParser.word()));
+  }
+
   @Test
   public void flatten1() {
     verify(CharacterParser.digit().flatten());
@@ -133,6 +154,26 @@ public class EqualityTest {
     verify(CharacterParser.digit().map(Function.identity()));
   }
 
+  @Test
+  public void memoizeAdaptively() {
+    verify(new AdaptiveMemoizedParser(CharacterParser.digit(), 10, 0.5));
+  }
+
+  @Test
+  public void cut() {
+    verify(CharacterParser.digit().cut());
+  }
+
+  @Test
+  public void leftRecursive() {
+    verify(new LeftRecursiveParser(CharacterParser.digit()));
+  }
+
+  @Test
+  public void memoize() {
+    verify(CharacterParser.digit().memoize());
+  }
+
   @Test
   public void not() {
     verify(CharacterParser.digit().not());
@@ -178,6 +219,28 @@ public class EqualityTest {
     verify(CharacterParser.digit().repeatLazy(CharacterParser.word(), 2, 3));
   }
 
+  @Test
+  public void pick() {
+    verify(CharacterParser.digit().seq(CharacterParser.word()).pick(1));
+  }
+
+  @Test
+  public void permute() {
+    verify(CharacterParser.digit().seq(CharacterParser.word()).permute(1, 0));
+  }
+
+  @Test
+  public void rightRecursion() {
+    verify(new RightRecursionParser(new Parser[]{of('.')},
+        new Parser[]{CharacterParser.digit(), of(',')},
+        new Parser[]{CharacterParser.digit()}, null));
+  }
+
+  @Test
+  public void separatedBy() {
+    verify(CharacterParser.digit().separatedBy(CharacterParser.word()));
+  }
+
   @Test
   public void seq() {
     verify(CharacterParser.digit().seq(CharacterParser.word()));
@@ -208,6 +271,23 @@ public class EqualityTest {
     verify(StringParser.of("ab"));
   }
 
+  @Test
+  public void characterRepeating() {
+    verify(new CharacterRepeatingParser(CharacterPredicate.of('a'), 1, 2,
+        "a expected"));
+  }
+
+  @Test
+  public void characterSpan() {
+    verify(new CharacterSpanParser(CharacterPredicate.of('a'), 1, 2,
+        "a expected"));
+  }
+
+  @Test
+  public void literalSet() {
+    verify(LiteralSetParser.of("ab", "cd"));
+  }
+
   @Test
   public void stringIgnoringCase() {
     verify(StringParser.ofIgnoringCase("ab"));
@@ -3,10 +3,18 @@ package org.petitparser;
 import org.junit.Test;
 import org.petitparser.context.Context;
 import org.petitparser.context.Failure;
+import org.petitparser.context.MemoTable;
+import org.petitparser.context.ParseState;
 import org.petitparser.context.Result;
+import org.petitparser.context.Session;
 import org.petitparser.context.Token;
 import org.petitparser.parser.Parser;
+import org.petitparser.parser.actions.ConstantParser;
+import org.petitparser.parser.combinators.AdaptiveMemoizedParser;
 import org.petitparser.parser.combinators.ChoiceParser;
+import org.petitparser.parser.combinators.DelegateParser;
+import org.petitparser.parser.combinators.MemoizedParser;
+import org.petitparser.parser.combinators.PickSequenceParser;
 import org.petitparser.parser.combinators.SettableParser;
 import org.petitparser.parser.primitive.CharacterParser;
 import org.petitparser.parser.primitive.StringParser;
@@ -20,6 +28,7 @@ import java.util.function.Function;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.petitparser.Assertions.assertFailure;
 import static org.petitparser.Assertions.assertSuccess;
@@ -219,6 +228,54 @@ public class ParsersTest {
     assertSuccess(parser, "1234", "1234");
   }
 
+  @Test
+  public void testConstant() {
+    Parser parser = new ConstantParser(
+        CharacterParser.digit().repeat(2, RepeatingParser.UNBOUNDED), 42);
+    assertFailure(parser, "", 0, "digit expected");
+    assertFailure(parser, "1a", 1, "digit expected");
+    assertSuccess(parser, "12", 42);
+    assertSuccess(parser, "123", 42);
+  }
+
+  @Test
+  public void testConstantParsesOnce() {
+    int[] calls = {0};
+    Parser digits = CharacterParser.of(value -> {
+      calls[0]++;
+      return Character.isDigit(value);
+    }, "digit expected").plus().seq(of('!'));
+    Parser parser = new ConstantParser(digits, 42);
+    assertEquals("'!' expected", parser.parse("12a").getMessage());
+    assertEquals(3, calls[0]);
+    assertEquals(42, (int) parser.parse("12!").get());
+  }
+
+  @Test
+  public void testConstantMemoized() {
+    List<Character> letters = Arrays.asList('a', 'b', 'c');
+    Parser memoized = CharacterParser.letter().plus().memoize();
+    Parser parser = new ConstantParser(memoized, 1)
+        .seq(CharacterParser.digit()).or(memoized);
+    assertSuccess(parser, "abc", letters);
+    assertSuccess(parser, "abc1", Arrays.asList(1, '1'));
+    Parser adaptive = new AdaptiveMemoizedParser(
+        CharacterParser.letter().plus(), 1, 0);
+    parser = new ConstantParser(adaptive, 1)
+        .seq(CharacterParser.digit()).or(adaptive);
+    assertSuccess(parser, "abc", letters);
+    assertSuccess(parser, "abc", letters);
+  }
+
+  @Test
+  public void testConstantWithMessage() {
+    Parser parser = new ConstantParser(
+        CharacterParser.digit().repeat(2, RepeatingParser.UNBOUNDED), 42,
+        "gimme a number");
+    assertFailure(parser, "1a", 0, "gimme a number");
+    assertSuccess(parser, "12", 42);
+  }
+
   @Test
   public void testMap() {
     Parser parser = CharacterParser.digit()
@@ -274,6 +331,219 @@ public class ParsersTest {
     assertFailure(parser, "12", 1, "letter expected");
   }
 
+  @Test
+  public void testPickSequence() {
+    Parser parser = CharacterParser.digit()
+        .seq(CharacterParser.letter(), CharacterParser.digit()).pick(1);
+    assertTrue(parser instanceof PickSequenceParser);
+    assertSuccess(parser, "1a2", 'a');
+    assertFailure(parser, "1a", 2, "digit expected");
+    assertEquals(3, parser.fastParseOn("1a2", 0));
+    assertEquals(-1, parser.fastParseOn("1a", 0));
+  }
+
+  @Test
+  public void testPermuteSequence() {
+    Parser parser = CharacterParser.digit()
+        .seq(CharacterParser.letter(), CharacterParser.digit())
+        .permute(2, -3, 2);
+    assertTrue(parser instanceof PickSequenceParser);
+    assertSuccess(parser, "1a2", Arrays.asList('2', '1', '2'));
+    assertFailure(parser, "1a", 2, "digit expected");
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testPickOutOfRange() {
+    CharacterParser.digit().seq(CharacterParser.letter()).pick(2)
+        .parse("1a");
+  }
+
+  @Test
+  public void testDelegate() {
+    Parser digits = new DelegateParser(CharacterParser.digit().plus()) {
+      @Override
+      public Result parseOn(Context context) {
+        throw new UnsupportedOperationException();
+      }
+    };
+    ParseState state = new ParseState("12a", 0);
+    assertTrue(digits.parseOn(state));
+    assertEquals(Arrays.asList('1', '2'), state.getValue());
+    assertEquals(2, digits.fastParseOn("12a", 0));
+    assertTrue(digits.accept("12"));
+  }
+
+  @Test
+  public void testMemoize() {
+    MemoizedParser letters = CharacterParser.letter().plus().memoize();
+    Parser parser = letters.seq(of('1')).or(letters.seq(of('2'))).flatten();
+    assertSuccess(parser, "ab1", "ab1");
+    assertSuccess(parser, "ab2", "ab2");
+    assertFailure(parser, "ab3", 2, "'2' expected");
+    assertFailure(parser, "", 0, "letter expected");
+  }
+
+  @Test
+  public void testMemoizeCounts() {
+    MemoizedParser letters = CharacterParser.letter().plus().memoize();
+    Parser parser = letters.seq(of('1')).or(letters.seq(of('2')));
+    assertNull(letters.getMemoTable());
+    Session previous = Session.open("ab2");
+    try {
+      assertTrue(parser.accept("ab2"));
+      MemoTable table = letters.getMemoTable();
+      assertEquals(1, table.getHitCount());
+      assertEquals(1, table.getMissCount());
+    } finally {
+      Session.close(previous);
+    }
+    previous = Session.open("ab2");
+    try {
+      assertTrue(parser.parse("ab2").isSuccess());
+      assertTrue(parser.parse("ab2").isSuccess());
+      MemoTable table = letters.getMemoTable();
+      assertEquals(3, table.getHitCount());
+      assertEquals(1, table.getMissCount());
+    } finally {
+      Session.close(previous);
+    }
+    assertNull(letters.getMemoTable());
+  }
+
+  @Test
+  public void testMemoizeScopedToParse() {
+    List<String> calls = new ArrayList<>();
+    MemoizedParser parser = CharacterParser.digit()
+        .mapWithSideEffects((Character value) -> calls.add("" + value))
+        .memoize();
+    Parser twice = parser.and().seq(parser);
+    assertTrue(twice.parse("1").isSuccess());
+    assertTrue(twice.parse("2").isSuccess());
+    assertEquals(Arrays.asList("1", "2"), calls);
+    assertNull(parser.getMemoTable());
+  }
+
+  @Test
+  public void testSessionOpenedLazily() {
+    Parser plain = of('a').map((Character value) -> Session.current());
+    assertNull(plain.parse("a").get());
+    Parser memoized = plain.memoize().map((Session session) -> {
+      assertTrue(session == Session.current());
+      return session;
+    });
+    Session session = memoized.parse("a").get();
+    assertTrue(session != null);
+    assertNull(Session.current());
+    SettableParser settable = of('a').settable();
+    Parser root = settable.map((Character value) -> Session.current());
+    assertNull(root.parse("a").get());
+    settable.set(of('a').memoize());
+    assertTrue(root.parse("a").get() != null);
+  }
+
+  @Test
+  public void testAdaptiveMemoize() {
+    AdaptiveMemoizedParser letters =
+        new AdaptiveMemoizedParser(CharacterParser.letter().plus(), 4, 0.1);
+    Parser parser = letters.seq(of('1')).or(letters.seq(of('2'))).flatten();
+    assertFalse(letters.isMemoizing());
+    for (int i = 0; i < 4; i++) {
+      assertSuccess(parser, "ab2", "ab2");
+    }
+    assertTrue(letters.isMemoizing());
+    assertFailure(parser, "ab3", 2, "'2' expected");
+    Parser single = letters.end();
+    for (int i = 0; i < 8; i++) {
+      assertTrue(single.accept("abc"));
+    }
+    assertFalse(letters.isMemoizing());
+  }
+
+  /**
+   * Asserts a failure in all parse modes, each one in its own session.
+   */
+  private static void assertCutFailure(Parser parser, String input,
+      int position, String message) {
+    Result result = parser.parse(input);
+    assertTrue(result.isFailure());
+    assertEquals(position, result.getPosition());
+    assertEquals(message, result.getMessage());
+    assertFalse(parser.accept(input));
+    Session previous = Session.open(input);
+    try {
+      Result context = parser.parseOn(new Context(input, 0));
+      assertTrue(context.isFailure());
+      assertEquals(position, context.getPosition());
+      assertEquals(message, context.getMessage());
+    } finally {
+      Session.close(previous);
+    }
+  }
+
+  @Test
+  public void testCutChoice() {
+    Parser parser = StringParser.of("let").cut()
+        .seq(of(' '), CharacterParser.digit())
+        .or(CharacterParser.letter().plus().flatten());
+    assertEquals(Arrays.asList("let", ' ', '1'), parser.parse("let 1").get());
+    assertEquals("abc", parser.parse("abc").get());
+    assertTrue(parser.accept("le"));
+    assertCutFailure(parser, "let x", 4, "digit expected");
+    Parser uncut = StringParser.of("let")
+        .seq(of(' '), CharacterParser.digit())
+        .or(CharacterParser.letter().plus().flatten());
+    assertEquals("let", uncut.parse("let x").get());
+  }
+
+  @Test
+  public void testCutRepeating() {
+    Parser record = of('#').cut().seq(CharacterParser.digit()).flatten();
+    assertEquals(Arrays.asList("#1", "#2"), record.star().parse("#1#2").get());
+    assertCutFailure(record.star(), "#1#2#x", 5, "digit expected");
+    assertCutFailure(record.optional(), "#x", 1, "digit expected");
+    assertCutFailure(record.separatedBy(of(',')), "#1,#x", 4,
+        "digit expected");
+    assertCutFailure(record.starLazy(CharacterParser.letter()), "#1#x", 3,
+        "digit expected");
+  }
+
+  @Test
+  public void testCutGreedy() {
+    Parser parser = CharacterParser.any().cut()
+        .starGreedy(CharacterParser.digit());
+    assertCutFailure(parser, "abc1", 4, "digit expected");
+    assertEquals(3, CharacterParser.any().starGreedy(CharacterParser.digit())
+        .parse("abc1").getPosition());
+    Parser letters = of('#').cut().seq(CharacterParser.letter()
+        .cut().starGreedy(CharacterParser.digit()), CharacterParser.digit());
+    assertEquals(4, letters.parse("#ab1").getPosition());
+    assertTrue(letters.accept("#ab1"));
+  }
+
+  @Test
+  public void testCutWithoutSession() {
+    Parser parser = of('a').cut().seq(of('b')).or(of('a'));
+    assertTrue(parser.parseOn(new Context("ac", 0)).isSuccess());
+    assertEquals(1, parser.fastParseOn("ac", 0));
+  }
+
+  @Test
+  public void testCutReleasesMemoTable() {
+    MemoTable table = new MemoTable();
+    for (int i = 0; i < 100; i++) {
+      table.putStop(i, i + 1);
+    }
+    table.release(60);
+    assertEquals(40, table.size());
+    assertEquals(MemoTable.UNKNOWN, table.getStop(59));
+    assertNull(table.get(10));
+    assertEquals(61, table.getStop(60));
+    assertEquals(100, table.getStop(99));
+    table.putStop(10, 11);
+    assertEquals(11, table.getStop(10));
+    assertEquals(41, table.size());
+  }
+
   @Test
   public void testNeg1() {
     Parser parser = CharacterParser.digit().neg();
@@ -641,6 +911,42 @@ public class ParsersTest {
         Arrays.asList('a', 'b', 'a', 'b', 'a', 'b'));
   }
 
+  @Test
+  public void testSeparatedByWithoutSeparators() {
+    Parser parser = of('a').separatedBy(of('b'), false, false);
+    assertFailure(parser, "", "'a' expected");
+    assertSuccess(parser, "a", Arrays.asList('a'));
+    assertSuccess(parser, "ab", Arrays.asList('a'), 1);
+    assertSuccess(parser, "aba", Arrays.asList('a', 'a'));
+    assertSuccess(parser, "ababa", Arrays.asList('a', 'a', 'a'));
+    assertSuccess(parser, "ababab", Arrays.asList('a', 'a', 'a'), 5);
+  }
+
+  @Test
+  public void testSeparatedByVaryingSizes() {
+    Parser parser = of('a').separatedBy(of('b'), false, false);
+    StringBuilder input = new StringBuilder("a");
+    List<Character> expected = new ArrayList<>(Arrays.asList('a'));
+    for (int i = 0; i < 2000; i++) {
+      input.append("ba");
+      expected.add('a');
+    }
+    assertSuccess(parser, input.toString(), expected);
+    assertSuccess(parser, "aba", Arrays.asList('a', 'a'));
+    assertSuccess(parser, input.toString(), expected);
+  }
+
+  @Test
+  public void testDelimitedByWithoutSeparators() {
+    Parser parser = of('a').separatedBy(of('b'), false, true);
+    assertFailure(parser, "", "'a' expected");
+    assertSuccess(parser, "a", Arrays.asList('a'));
+    assertSuccess(parser, "ab", Arrays.asList('a'));
+    assertSuccess(parser, "aba", Arrays.asList('a', 'a'));
+    assertSuccess(parser, "ababab", Arrays.asList('a', 'a', 'a'));
+    assertSuccess(parser, "abbab", Arrays.asList('a'), 2);
+  }
+
   @Test
   public void testContinuationDelegating() {
     Parser parser = CharacterParser.digit().callCC(Function::apply);
@@ -1,14 +1,23 @@
 package org.petitparser;
 
 import org.junit.Test;
+import org.petitparser.context.ParseError;
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Result;
+import org.petitparser.context.Token;
 import org.petitparser.parser.Parser;
+import org.petitparser.parser.combinators.ChoiceParser;
+import org.petitparser.utils.FailureJoiner;
 
+import java.nio.CharBuffer;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.petitparser.parser.primitive.CharacterParser.any;
 import static org.petitparser.parser.primitive.CharacterParser.digit;
 import static org.petitparser.parser.primitive.CharacterParser.of;
 
@@ -24,6 +33,122 @@ public class ParsingTest {
     assertFalse(parser.parse("b").isSuccess());
   }
 
+  @Test
+  public void testParseCharSequence() {
+    Parser parser = digit().plus().flatten().end();
+    assertEquals("123", parser.parse(new StringBuilder("123")).get());
+    assertEquals("123", parser.parse(CharBuffer.wrap("123")).get());
+    assertFalse(parser.parse(new StringBuilder("12a")).isSuccess());
+  }
+
+  @Test
+  public void testParseRange() {
+    Parser parser = digit().plus().flatten().token().end();
+    StringBuilder buffer = new StringBuilder("ab123cd");
+    Result result = parser.parse(buffer, 2, 5);
+    assertTrue(result.isSuccess());
+    assertEquals(5, result.getPosition());
+    Token token = result.get();
+    assertEquals("123", token.getValue());
+    assertEquals("123", token.getInput());
+    assertEquals(2, token.getStart());
+    assertEquals(5, token.getStop());
+    assertEquals(1, token.getLine());
+    assertEquals(3, token.getColumn());
+    assertFalse(parser.parse(buffer, 1, 5).isSuccess());
+    assertFalse(parser.parse(buffer, 2, 6).isSuccess());
+    assertEquals(5, parser.parse("ab123", 2, 5).getPosition());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testParseInvalidRange() {
+    of('a').parse("abc", 2, 4);
+  }
+
+  @Test
+  public void testParseState() {
+    Parser parser = digit().plus().flatten().trim();
+    ParseState state = new ParseState(" 12 ", 0);
+    assertTrue(parser.parseOn(state));
+    assertEquals("12", state.getValue());
+    assertEquals(4, state.getPosition());
+    state.reset("a", 0);
+    assertFalse(parser.parseOn(state));
+    assertEquals("digit expected", state.getMessage());
+    assertEquals(0, state.getPosition());
+    state.reset("x3", 1);
+    assertTrue(parser.parseOn(state));
+    assertEquals("3", state.getValue());
+    assertEquals(2, state.getPosition());
+  }
+
+  @Test
+  public void testParseStateFarthestFailure() {
+    Parser parser = of('a').seq(of('b')).or(of('a').seq(of('c'))).or(digit());
+    ParseState state = new ParseState("ax", 0);
+    assertFalse(parser.parseOn(state));
+    assertEquals(0, state.getPosition());
+    assertEquals("digit expected", state.getMessage());
+    assertEquals(1, state.getFarthestPosition());
+    assertEquals(Arrays.asList("'b' expected", "'c' expected"),
+        state.getExpected());
+    state.reset("1", 0);
+    assertTrue(parser.parseOn(state));
+    assertEquals(0, state.getFarthestPosition());
+    assertEquals(Arrays.asList("'a' expected"), state.getExpected());
+  }
+
+  @Test
+  public void testParseFarthest() {
+    Parser parser = of('a').seq(of('b')).or(of('a').seq(of('c'))).or(digit());
+    assertEquals('1', (char) parser.parseFarthest("1").get());
+    Result result = parser.parseFarthest("ax");
+    assertTrue(result.isFailure());
+    assertEquals(1, result.getPosition());
+    assertEquals("'b' expected OR 'c' expected", result.getMessage());
+  }
+
+  @Test
+  public void testParseFarthestLookahead() {
+    Result result = of('a').not().seq(of('b')).parseFarthest("c");
+    assertEquals(0, result.getPosition());
+    assertEquals("'b' expected", result.getMessage());
+    result = of('a').and().seq(of('a')).parseFarthest("c");
+    assertEquals(0, result.getPosition());
+    assertEquals("'a' expected", result.getMessage());
+    result = of('a').seq(of('b')).not().seq(any()).parseFarthest("ab");
+    assertEquals(0, result.getPosition());
+    assertEquals("unexpected", result.getMessage());
+  }
+
+  @Test
+  public void testChoiceJoinsFailures() {
+    Parser[] parsers = {of('a').seq(of('b')), of('a').seq(of('c')), of('d')};
+    ParseState state = new ParseState("ax", 0);
+    assertFalse(new ChoiceParser(parsers).parseOn(state));
+    assertEquals(0, state.getPosition());
+    assertEquals("'d' expected", state.getMessage());
+    state.reset("ax", 0);
+    assertFalse(new ChoiceParser(new FailureJoiner.SelectFarthestJoined(),
+        parsers).parseOn(state));
+    assertEquals(1, state.getPosition());
+    assertEquals("'b' expected OR 'c' expected", state.getMessage());
+  }
+
+  @Test
+  public void testParseValue() {
+    Parser parser = of('a').seq(of('b')).or(digit());
+    assertEquals('1', (char) parser.parseValue("1"));
+    try {
+      parser.parseValue("ax");
+      fail("Expected a ParseError");
+    } catch (ParseError error) {
+      assertEquals(1, error.getFailure().getPosition());
+      assertEquals("'b' expected", error.getMessage());
+      assertEquals(0, error.getStackTrace().length);
+    }
+  }
+
   @Test
   public void testAccepts() {
     Parser parser = of('a');
@@ -31,6 +156,13 @@ public class ParsingTest {
     assertFalse(parser.accept("b"));
   }
 
+  @Test
+  public void testAcceptsRange() {
+    Parser parser = digit().plus().end();
+    assertTrue(parser.accept("ab123cd", 2, 5));
+    assertFalse(parser.accept("ab123cd", 2, 6));
+  }
+
   @Test
   public void testMatches() {
     Parser parser = digit().seq(digit()).flatten();
@@ -2,15 +2,24 @@ package org.petitparser;
 
 import org.junit.Test;
 import org.petitparser.parser.Parser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+import org.petitparser.parser.primitive.CharacterRepeatingParser;
+import org.petitparser.parser.primitive.CharacterSpanParser;
 import org.petitparser.parser.primitive.EpsilonParser;
 import org.petitparser.parser.primitive.FailureParser;
+import org.petitparser.parser.primitive.LiteralSetParser;
 import org.petitparser.parser.primitive.StringParser;
 
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.petitparser.Assertions.assertFailure;
 import static org.petitparser.Assertions.assertSuccess;
 
 /**
- * Tests {@link EpsilonParser}, {@link FailureParser} and {@link StringParser}.
+ * Tests {@link EpsilonParser}, {@link FailureParser}, {@link StringParser},
+ * {@link LiteralSetParser} and {@link CharacterSpanParser}.
  */
 public class PrimitiveTest {
 
@@ -69,4 +78,86 @@ public class PrimitiveTest {
     assertFailure(parser, "f", "wrong");
     assertFailure(parser, "Fo", "wrong");
   }
+
+  @Test
+  public void testStringCharSequence() {
+    Parser parser = StringParser.ofIgnoringCase("foo");
+    assertEquals("fOo", parser.parse(new StringBuilder("fOo")).get());
+    assertFalse(parser.accept(new StringBuilder("fOx")));
+    assertEquals("foo", StringParser.of("foo").parse(
+        new StringBuilder("foo")).get());
+  }
+
+  @Test
+  public void testLiteralSet() {
+    Parser parser = LiteralSetParser.of("<", "<=", "<<", "=");
+    assertSuccess(parser, "<", "<");
+    assertSuccess(parser, "<=", "<", 1);
+    assertSuccess(parser, "<<", "<", 1);
+    assertSuccess(parser, "=", "=");
+    assertFailure(parser, "", "any of [<, <=, <<, =] expected");
+    assertFailure(parser, ">", "any of [<, <=, <<, =] expected");
+  }
+
+  @Test
+  public void testLiteralSetOrdered() {
+    Parser parser = LiteralSetParser.of("<=", "<", "<<=");
+    assertSuccess(parser, "<=", "<=");
+    assertSuccess(parser, "<<=", "<", 1);
+    assertSuccess(parser, "<>", "<", 1);
+  }
+
+  @Test
+  public void testLiteralSetLongest() {
+    Parser parser = LiteralSetParser.of(LiteralSetParser.Mode.LONGEST,
+        "<", "<=", "<<", "<<=", "=");
+    assertSuccess(parser, "<", "<");
+    assertSuccess(parser, "<=", "<=");
+    assertSuccess(parser, "<<", "<<");
+    assertSuccess(parser, "<<=", "<<=");
+    assertSuccess(parser, "<<<", "<<", 2);
+    assertSuccess(parser, "=", "=");
+    assertFailure(parser, "");
+    assertFailure(parser, "a");
+  }
+
+  @Test
+  public void testLiteralSetEmpty() {
+    Parser parser = LiteralSetParser.of("ab", "");
+    assertSuccess(parser, "ab", "ab");
+    assertSuccess(parser, "a", "", 0);
+    assertSuccess(parser, "", "");
+  }
+
+  @Test
+  public void testCharacterSpan() {
+    Parser parser = new CharacterSpanParser(
+        CharacterPredicate.pattern("0-9a-f"), 2, 4, "hex expected");
+    assertSuccess(parser, "0a", "0a");
+    assertSuccess(parser, "0a1b", "0a1b");
+    assertSuccess(parser, "0a1b2", "0a1b", 4);
+    assertSuccess(parser, "0a-", "0a", 2);
+    assertFailure(parser, "", 0, "hex expected");
+    assertFailure(parser, "0", 1, "hex expected");
+    assertFailure(parser, "0x", 1, "hex expected");
+  }
+
+  @Test
+  public void testCharacterSpanUnbounded() {
+    Parser parser = new CharacterSpanParser(
+        CharacterPredicate.range('a', 'z'), 0, -1, "letter expected");
+    assertSuccess(parser, "", "");
+    assertSuccess(parser, "abc", "abc");
+    assertSuccess(parser, "abc1", "abc", 3);
+  }
+
+  @Test
+  public void testCharacterRepeating() {
+    Parser parser = new CharacterRepeatingParser(
+        CharacterPredicate.pattern("0-9a-f"), 2, 4, "hex expected");
+    assertSuccess(parser, "0a", Arrays.asList('0', 'a'));
+    assertSuccess(parser, "0a1b2", Arrays.asList('0', 'a', '1', 'b'), 4);
+    assertFailure(parser, "", 0, "hex expected");
+    assertFailure(parser, "0x", 1, "hex expected");
+  }
 }
@@ -1,6 +1,8 @@
 package org.petitparser;
 
 import org.junit.Test;
+import org.petitparser.context.LineIndex;
+import org.petitparser.context.Result;
 import org.petitparser.context.Token;
 import org.petitparser.parser.Parser;
 
@@ -11,6 +13,8 @@ import java.util.stream.Collectors;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.petitparser.parser.primitive.CharacterParser.any;
 
 /**
@@ -95,6 +99,44 @@ public class TokenTest {
     assertArrayEquals(expected, actual);
   }
 
+  @Test
+  public void testLineIndex() {
+    LineIndex index = new LineIndex(buffer);
+    assertEquals(4, index.getLineCount());
+    List<Token> newlines =
+        Token.NEWLINE_PARSER.token().matchesSkipping(buffer);
+    for (int position = 0; position <= buffer.length(); position++) {
+      int line = 1, offset = 0;
+      for (Token token : newlines) {
+        if (position < token.getStop()) {
+          break;
+        }
+        line++;
+        offset = token.getStop();
+      }
+      assertEquals(line, index.getLine(position));
+      assertEquals(position - offset + 1, index.getColumn(position));
+    }
+  }
+
+  @Test
+  public void testLineIndexShared() {
+    Parser parser = any().token().star();
+    Result result = parser.parse(buffer);
+    List<Token> tokens = result.get();
+    for (Token token : tokens) {
+      assertSame(result.getLineIndex(), token.getLineIndex());
+    }
+    assertNotSame(result.getLineIndex(), parser.parse(buffer).getLineIndex());
+  }
+
+  @Test
+  public void testLineIndexEmpty() {
+    LineIndex index = new LineIndex("");
+    assertEquals(1, index.getLineCount());
+    assertArrayEquals(new int[]{1, 1}, index.lineAndColumnOf(0));
+  }
+
   @Test
   public void testHashCode() {
     Set<Integer> uniques =
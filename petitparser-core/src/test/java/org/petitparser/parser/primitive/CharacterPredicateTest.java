@@ -2,6 +2,7 @@ package org.petitparser.parser.primitive;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
@@ -210,4 +211,68 @@ public class CharacterPredicateTest {
     assertTrue(predicate.test('o'));
     assertFalse(predicate.test('p'));
   }
+
+  @Test
+  public void testCompile() {
+    CharacterPredicate[] predicates = {
+        CharacterPredicate.any(),
+        CharacterPredicate.none(),
+        CharacterPredicate.of('a'),
+        CharacterPredicate.range('a', 'z'),
+        CharacterPredicate.pattern("a-z0-9_\u00C0-\u00D6\u0370-\u037D\uFFFF"),
+        CharacterPredicate.pattern("^a-z\u2000-\u2FFF"),
+        CharacterPredicate.noneOf("abc"),
+        CharacterPredicate.of('x').not(),
+        Character::isLetter};
+    for (CharacterPredicate predicate : predicates) {
+      CharacterPredicate compiled = predicate.compile();
+      CharacterPredicate negated = compiled.not();
+      for (int value = Character.MIN_VALUE; value <= Character.MAX_VALUE;
+           value++) {
+        assertEquals(predicate.test((char) value),
+            compiled.test((char) value));
+        assertEquals(!predicate.test((char) value),
+            negated.test((char) value));
+      }
+      assertSame(compiled, compiled.compile());
+    }
+  }
+
+  @Test
+  public void testOr() {
+    CharacterPredicate[] predicates = {
+        CharacterPredicate.any(),
+        CharacterPredicate.none(),
+        CharacterPredicate.range('a', 'z'),
+        CharacterPredicate.pattern("^a-z\u2000-\u2FFF"),
+        Character::isDigit};
+    for (CharacterPredicate first : predicates) {
+      for (CharacterPredicate second : predicates) {
+        CharacterPredicate union = first.compile().or(second).compile();
+        for (int value = Character.MIN_VALUE; value <= Character.MAX_VALUE;
+             value++) {
+          assertEquals(first.test((char) value) || second.test((char) value),
+              union.test((char) value));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testCompileCustom() {
+    int[] calls = {0};
+    CharacterPredicate predicate = value -> {
+      calls[0]++;
+      return value == 'a';
+    };
+    assertSame(predicate, predicate.compile());
+    CharacterParser parser = CharacterParser.of(predicate.not(), "not a");
+    assertEquals(0, calls[0]);
+    assertTrue(parser.accept("b"));
+    assertEquals(1, calls[0]);
+    CharacterPredicate lookup = CharacterPredicate.lookup(predicate);
+    assertTrue(lookup.test('a'));
+    assertFalse(lookup.test('b'));
+    assertSame(lookup, lookup.compile());
+  }
 }
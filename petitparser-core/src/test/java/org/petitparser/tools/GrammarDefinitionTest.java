@@ -1,16 +1,25 @@
 package org.petitparser.tools;
 
 import org.junit.Test;
+import org.petitparser.context.Context;
+import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
+import org.petitparser.parser.combinators.AdaptiveMemoizedParser;
 import org.petitparser.parser.primitive.EpsilonParser;
+import org.petitparser.parser.primitive.StringParser;
+import org.petitparser.utils.Mirror;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.petitparser.parser.primitive.CharacterParser.anyOf;
 import static org.petitparser.parser.primitive.CharacterParser.digit;
 import static org.petitparser.parser.primitive.CharacterParser.letter;
 import static org.petitparser.parser.primitive.CharacterParser.of;
@@ -98,6 +107,106 @@ public class GrammarDefinitionTest {
     }
   }
 
+  class BacktrackingGrammarDefinition extends GrammarDefinition {
+    BacktrackingGrammarDefinition() {
+      def("start", ref("expression").end());
+      def("expression", ref("term").seq(of('+'), ref("expression"))
+          .or(ref("term").seq(of('-'), ref("expression")))
+          .or(ref("term")));
+      def("term", of('(').seq(ref("expression"), of(')'))
+          .or(digit().plus().flatten()));
+    }
+  }
+
+  class LeftRecursiveGrammarDefinition extends GrammarDefinition {
+    LeftRecursiveGrammarDefinition() {
+      def("start", ref("expression").end());
+      def("expression", ref("expression").seq(of('+'), ref("term"))
+          .or(ref("expression").seq(of('-'), ref("term")))
+          .or(ref("term")));
+      def("term", ref("term").seq(of('*'), ref("number"))
+          .or(ref("number")));
+      def("number", digit().plus().flatten());
+    }
+  }
+
+  class LeftRecursiveParserDefinition extends LeftRecursiveGrammarDefinition {
+    LeftRecursiveParserDefinition() {
+      action("number", (Function<String, Integer>) Integer::parseInt);
+      action("expression", GrammarDefinitionTest::evaluate);
+      action("term", GrammarDefinitionTest::evaluate);
+    }
+  }
+
+  private static Object evaluate(Object value) {
+    if (!(value instanceof List)) {
+      return value;
+    }
+    List<?> list = (List<?>) value;
+    int left = (Integer) list.get(0);
+    int right = (Integer) list.get(2);
+    switch ((Character) list.get(1)) {
+      case '+':
+        return left + right;
+      case '-':
+        return left - right;
+      default:
+        return left * right;
+    }
+  }
+
+  class IndirectLeftRecursiveGrammarDefinition extends GrammarDefinition {
+    IndirectLeftRecursiveGrammarDefinition() {
+      def("start", ref("a").end());
+      def("a", ref("b").seq(of('x')).or(of('y')));
+      def("b", ref("a").seq(of('z')));
+    }
+  }
+
+  class InterlockingLeftRecursiveGrammarDefinition extends GrammarDefinition {
+    InterlockingLeftRecursiveGrammarDefinition() {
+      def("start", ref("a").end());
+      def("a", ref("b").seq(of('x')).or(of('a')));
+      def("b", ref("a").seq(of('y')).or(ref("c").seq(of('z'))).or(of('b')));
+      def("c", ref("b").seq(of('w')).or(of('c')));
+    }
+  }
+
+  /**
+   * The Java primary expressions of Warth et al., "Packrat Parsers Can
+   * Support Left Recursion".
+   */
+  class JavaPrimaryGrammarDefinition extends GrammarDefinition {
+    JavaPrimaryGrammarDefinition() {
+      def("start", ref("primary").end());
+      def("primary", ref("primaryNoNewArray"));
+      def("primaryNoNewArray", ref("classInstanceCreationExpression")
+          .or(ref("methodInvocation"), ref("fieldAccess"),
+              ref("arrayAccess"), StringParser.of("this")));
+      def("classInstanceCreationExpression", StringParser.of("new ")
+          .seq(ref("classOrInterfaceType"), StringParser.of("()"))
+          .or(ref("primary").seq(StringParser.of(".new "),
+              ref("identifier"), StringParser.of("()"))));
+      def("methodInvocation", ref("primary")
+          .seq(of('.'), ref("methodName"), StringParser.of("()"))
+          .or(ref("methodName").seq(StringParser.of("()"))));
+      def("fieldAccess", ref("primary").seq(of('.'), ref("identifier"))
+          .or(StringParser.of("super.").seq(ref("identifier"))));
+      def("arrayAccess", ref("primary")
+          .seq(of('['), ref("expression"), of(']'))
+          .or(ref("expressionName")
+              .seq(of('['), ref("expression"), of(']'))));
+      def("classOrInterfaceType", ref("className")
+          .or(ref("interfaceTypeName")));
+      def("className", anyOf("CD"));
+      def("interfaceTypeName", anyOf("IJ"));
+      def("identifier", anyOf("xy").or(ref("classOrInterfaceType")));
+      def("methodName", anyOf("mn"));
+      def("expressionName", ref("identifier"));
+      def("expression", anyOf("ij"));
+    }
+  }
+
   private final GrammarDefinition grammarDefinition =
       new ListGrammarDefinition();
   private final GrammarDefinition parserDefinition = new ListParserDefinition();
@@ -108,6 +217,15 @@ public class GrammarDefinitionTest {
   private final GrammarDefinition expressionDefinition =
       new ExpressionGrammarDefinition();
 
+  @Test
+  public void testGrammarParserCopy() {
+    Parser parser = new GrammarParser(new ListParserDefinition());
+    Parser copy = parser.copy();
+    assertEquals(GrammarParser.class, copy.getClass());
+    assertTrue(parser.isEqualTo(copy));
+    assertEquals(Arrays.asList(1, ",", 2), copy.parse("1,2").get());
+  }
+
   @Test
   public void testGrammar() {
     Parser parser = grammarDefinition.build();
@@ -241,4 +359,127 @@ public class GrammarDefinitionTest {
     assertTrue(parser.accept("1 + (2 * 3)"));
     assertTrue(parser.accept("(1 + 2) * 3"));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testAdaptiveMemoization() {
+    Parser plain = new GrammarParser(new BacktrackingGrammarDefinition(),
+        "start");
+    Parser adaptive = new GrammarParser(new BacktrackingGrammarDefinition(),
+        "start", true);
+    for (String input : Arrays.asList("1", "1+2", "(1-2)+3", "((1))", "(1",
+        "1+")) {
+      assertEquals(plain.parse(input).toString(),
+          adaptive.parse(input).toString());
+    }
+    String nested = String.join("", Collections.nCopies(30, "(")) + "1" +
+        String.join("", Collections.nCopies(30, ")"));
+    assertTrue(adaptive.accept(nested));
+    assertTrue(Mirror.of(adaptive).stream()
+        .anyMatch(parser -> parser instanceof AdaptiveMemoizedParser &&
+            ((AdaptiveMemoizedParser) parser).isMemoizing()));
+  }
+
+  @Test
+  public void testAdaptiveMemoizationProductions() {
+    Parser parser = new GrammarParser(expressionDefinition, "start", true);
+    assertEquals(9, Mirror.of(parser).stream()
+        .filter(each -> each instanceof AdaptiveMemoizedParser).count());
+    assertTrue(parser.accept("1 + (2 * 3)"));
+  }
+
+  @Test
+  public void testLeftRecursiveGrammar() {
+    Parser parser = new GrammarParser(new LeftRecursiveGrammarDefinition());
+    assertEquals("1", parser.parse("1").get());
+    assertEquals(Arrays.asList(Arrays.asList("1", '+', "2"), '+', "3"),
+        parser.parse("1+2+3").get());
+    assertEquals(Arrays.asList("1", '-', Arrays.asList("2", '*', "3")),
+        parser.parse("1-2*3").get());
+    assertEquals(Arrays.asList(Arrays.asList("1", '*', "2"), '-', "3"),
+        parser.parseOn(new Context("1*2-3", 0)).get());
+    assertTrue(parser.accept("1+2*3-4"));
+    assertFalse(parser.accept("1+"));
+    assertFalse(parser.accept("+1"));
+    Result failure = parser.parse("1+*");
+    assertTrue(failure.isFailure());
+    assertEquals(1, failure.getPosition());
+    assertEquals("end of input expected", failure.getMessage());
+    assertEquals(2, parser.parseFarthest("1+*").getPosition());
+  }
+
+  @Test
+  public void testLeftRecursiveParser() {
+    Parser parser = new GrammarParser(new LeftRecursiveParserDefinition());
+    assertEquals(5, (int) parser.parse("10-3-2").get());
+    assertEquals(10, (int) parser.parse("2*3+4").get());
+    assertEquals(14, (int) parser.parse("2+3*4").get());
+    String input = String.join("+", Collections.nCopies(10000, "1"));
+    assertEquals(10000, (int) parser.parse(input).get());
+    assertTrue(parser.accept(input));
+  }
+
+  @Test
+  public void testIndirectLeftRecursiveGrammar() {
+    Parser parser =
+        new GrammarParser(new IndirectLeftRecursiveGrammarDefinition());
+    assertEquals('y', (char) parser.parse("y").get());
+    assertEquals(Arrays.asList(Arrays.asList('y', 'z'), 'x'),
+        parser.parse("yzx").get());
+    assertTrue(parser.accept("yzxzx"));
+    assertFalse(parser.accept("yz"));
+    assertFalse(parser.accept("x"));
+  }
+
+  @Test
+  public void testInterlockingLeftRecursiveGrammar() {
+    Parser parser =
+        new GrammarParser(new InterlockingLeftRecursiveGrammarDefinition());
+    for (String input : Arrays.asList("a", "bx", "ayx", "ayxyx", "czx",
+        "czxyx", "bwzx", "czwzx", "czwzxyx")) {
+      assertTrue(input, parser.accept(input));
+      assertTrue(input, parser.parse(input).isSuccess());
+    }
+    assertEquals(Arrays.asList(Arrays.asList('a', 'y'), 'x'),
+        parser.parse("ayx").get());
+    for (String input : Arrays.asList("", "ay", "ax", "b", "cz", "ayxw",
+        "ayxwzx", "ayxywzx")) {
+      assertFalse(input, parser.accept(input));
+      assertFalse(input, parser.parse(input).isSuccess());
+    }
+  }
+
+  @Test
+  public void testJavaPrimaryGrammar() {
+    Parser parser = new GrammarParser(new JavaPrimaryGrammarDefinition());
+    for (String input : Arrays.asList("this", "this.x", "this.x.y",
+        "this.x.m()", "x[i][j].y", "this.new C().m()", "this.x[j].new C()",
+        "super.x.m()", "m().n()", "C[i].y[j]", "x[i].new D().y[j].m()")) {
+      assertTrue(input, parser.accept(input));
+      assertTrue(input, parser.parse(input).isSuccess());
+    }
+    // The ordered choice commits to "new C()", which is not left recursive.
+    for (String input : Arrays.asList("", "x", "this.", "new C", "m()[",
+        "this.m", "new C().x[j].m()")) {
+      assertFalse(input, parser.accept(input));
+      assertFalse(input, parser.parse(input).isSuccess());
+    }
+  }
+
+  @Test
+  public void testLeftRecursiveGrammarBuiltTwice() {
+    GrammarDefinition definition = new LeftRecursiveGrammarDefinition();
+    Parser first = definition.build("expression");
+    Parser second = definition.build("expression");
+    assertSame(first, second);
+    assertEquals(Arrays.asList(Arrays.asList("1", '+', "2"), '+', "3"),
+        second.parse("1+2+3").get());
+  }
+
+  @Test
+  public void testLeftRecursiveAdaptiveMemoization() {
+    Parser parser = new GrammarParser(new LeftRecursiveParserDefinition(),
+        "start", true);
+    String input = String.join("+", Collections.nCopies(2000, "2*3"));
+    assertEquals(12000, (int) parser.parse(input).get());
+  }
+}
@@ -0,0 +1,164 @@
+package org.petitparser.tools;
+
+import org.junit.Test;
+import org.petitparser.context.Result;
+import org.petitparser.context.Token;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.combinators.SettableParser;
+import org.petitparser.utils.Optimizer;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.petitparser.parser.primitive.CharacterParser.digit;
+import static org.petitparser.parser.primitive.CharacterParser.letter;
+import static org.petitparser.parser.primitive.CharacterParser.noneOf;
+import static org.petitparser.parser.primitive.CharacterParser.of;
+import static org.petitparser.parser.primitive.StringParser.of;
+
+/**
+ * Tests {@link ParserCompiler} and {@link ParserGenerator}.
+ */
+public class ParserCompilerTest {
+
+  private static final List<String> INPUTS = Arrays.asList("", "1", "-12",
+      "1.5", "1.", "abc", "abc1", "[]", "[1]", "[ 1 , 2 ]", "[1,[2,[3]]]",
+      "[1,", "[1 2]", "\"\"", "\"abc\"", "\"abc", "true", "tru", "null",
+      " [ true , null , \"x\" ] ", "[1]]", "#", "x=1", "é", "[\"€\"]");
+
+  private static Parser grammar() {
+    SettableParser value = SettableParser.undefined();
+    Parser number = of('-').optional()
+        .seq(digit().plus())
+        .seq(of('.').seq(digit().plus()).optional())
+        .flatten("number expected")
+        .map(Double::parseDouble);
+    Parser string = of('"')
+        .seq(noneOf("\"").star().flatten())
+        .seq(of('"'))
+        .pick(1);
+    Parser identifier = letter().seq(letter().or(digit()).star()).token();
+    Parser array = of('[').trim()
+        .seq(value.separatedBy(of(',').trim()).optional())
+        .seq(of(']').trim());
+    Parser keyword = of("true").or(of("null"), of("false"))
+        .seq(letter().not("keyword expected"))
+        .pick(0);
+    value.set(number.or(string, array, keyword, identifier,
+        of('#').and().seq(of('#')))
+        .trim());
+    return value.end();
+  }
+
+  private static void assertEquivalent(Parser expected, Parser actual) {
+    for (String input : INPUTS) {
+      Result expectedResult = expected.parse(input);
+      Result actualResult = actual.parse(input);
+      assertEquals(input, expectedResult.isSuccess(),
+          actualResult.isSuccess());
+      assertEquals(input, expectedResult.getPosition(),
+          actualResult.getPosition());
+      if (expectedResult.isSuccess()) {
+        assertEquals(input, normalize(expectedResult.get()),
+            normalize(actualResult.get()));
+      } else {
+        assertEquals(input, expectedResult.getMessage(),
+            actualResult.getMessage());
+      }
+      assertEquals(input, expected.accept(input), actual.accept(input));
+      assertEquals(input, expected.fastParseOn(input, 0),
+          actual.fastParseOn(input, 0));
+      Result expectedFarthest = expected.parseFarthest(input);
+      Result actualFarthest = actual.parseFarthest(input);
+      assertEquals(input, expectedFarthest.getPosition(),
+          actualFarthest.getPosition());
+      assertEquals(input, expectedFarthest.getMessage(),
+          actualFarthest.getMessage());
+    }
+  }
+
+  private static Object normalize(Object value) {
+    if (value instanceof Token) {
+      Token token = (Token) value;
+      return Arrays.asList(token.getStart(), token.getStop(),
+          (Object) token.getValue());
+    }
+    return value;
+  }
+
+  @Test
+  public void testCompile() {
+    Parser parser = grammar();
+    CompiledParser compiled = ParserCompiler.compileOrThrow(parser);
+    assertSame(parser, compiled.getSource());
+    assertEquivalent(parser, compiled);
+  }
+
+  @Test
+  public void testCompileOptimized() {
+    Parser parser = new Optimizer()
+        .removeDelegates()
+        .flattenLists()
+        .scanCharacters()
+        .fuseActions()
+        .recognizeDiscarded()
+        .predictChoices()
+        .mergeLiterals()
+        .transform(grammar());
+    Parser compiled = ParserCompiler.compileOrThrow(parser);
+    assertEquivalent(parser, compiled);
+  }
+
+  @Test
+  public void testCompileCopy() {
+    Parser compiled = ParserCompiler.compile(grammar());
+    Parser copy = compiled.copy();
+    assertEquals(compiled.getClass(), copy.getClass());
+    assertEquivalent(compiled, copy);
+  }
+
+  @Test
+  public void testCompileMemoized() {
+    Parser letters = letter().plus().memoize();
+    Parser parser = letters.seq(of('1')).or(letters.seq(of('2')));
+    CompiledParser compiled = ParserCompiler.compileOrThrow(parser);
+    assertTrue(compiled.usesSession());
+    assertFalse(ParserCompiler.compileOrThrow(grammar()).usesSession());
+    assertEquivalent(parser, compiled);
+  }
+
+  @Test
+  public void testCompileCut() {
+    Parser parser = of('a').cut().seq(of('b')).or(of('a').seq(of('c')));
+    assertFalse(parser.accept("ac"));
+    try {
+      ParserCompiler.compileOrThrow(parser);
+      fail("Expected an IllegalStateException");
+    } catch (IllegalStateException exception) {
+      assertTrue(exception.getMessage().contains("records cuts"));
+    }
+    assertSame(parser, ParserCompiler.compile(parser));
+  }
+
+  @Test
+  public void testGenerate() {
+    String source = new ParserGenerator(digit().plus().flatten())
+        .generate("com.example", "Digits");
+    assertTrue(source.startsWith("package com.example;"));
+    assertTrue(source.contains("public final class Digits " +
+        "extends CompiledParser"));
+    assertTrue(source.contains("\"digit expected\""));
+  }
+
+  @Test
+  public void testLiteral() {
+    assertEquals("null", ParserGenerator.literal(null));
+    assertEquals("\"a\\\"b\\\\c\\n\\u20ac\"",
+        ParserGenerator.literal("a\"b\\c\n€"));
+  }
+}
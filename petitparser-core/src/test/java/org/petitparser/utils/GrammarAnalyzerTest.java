@@ -0,0 +1,194 @@
+package org.petitparser.utils;
+
+import org.junit.Test;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.combinators.SettableParser;
+import org.petitparser.parser.primitive.EpsilonParser;
+import org.petitparser.parser.primitive.StringParser;
+import org.petitparser.utils.GrammarAnalyzer.Issue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.petitparser.parser.combinators.SettableParser.undefined;
+import static org.petitparser.parser.primitive.CharacterParser.any;
+import static org.petitparser.parser.primitive.CharacterParser.digit;
+import static org.petitparser.parser.primitive.CharacterParser.of;
+
+/**
+ * Tests {@link GrammarAnalyzer}.
+ */
+public class GrammarAnalyzerTest {
+
+  @Test
+  public void testNullable() {
+    Parser a = of('a');
+    Parser b = of('b');
+    Parser sequence = a.optional().seq(b);
+    Parser choice = a.or(new EpsilonParser());
+    Parser parser = sequence.or(choice, b.star(), a.and());
+    GrammarAnalyzer analyzer = GrammarAnalyzer.of(parser);
+    assertFalse(analyzer.isNullable(a));
+    assertFalse(analyzer.isNullable(sequence));
+    assertTrue(analyzer.isNullable(choice));
+    assertTrue(analyzer.isNullable(parser));
+  }
+
+  @Test
+  public void testFirstSet() {
+    Parser a = of('a');
+    Parser b = of('b');
+    Parser c = of('c');
+    Parser parser = a.optional().seq(b).or(c.and().seq(c));
+    GrammarAnalyzer analyzer = GrammarAnalyzer.of(parser);
+    assertEquals(set(a, b, c), analyzer.getFirstSet(parser));
+    assertEquals(set(a), analyzer.getFirstSet(a));
+  }
+
+  @Test
+  public void testFollowSet() {
+    Parser a = of('a');
+    Parser b = of('b');
+    Parser c = of('c');
+    Parser star = b.star();
+    Parser parser = a.seq(star, c.optional());
+    GrammarAnalyzer analyzer = GrammarAnalyzer.of(parser);
+    assertEquals(set(b, c, GrammarAnalyzer.END_OF_INPUT),
+        analyzer.getFollowSet(a));
+    assertEquals(set(b, c, GrammarAnalyzer.END_OF_INPUT),
+        analyzer.getFollowSet(b));
+    assertEquals(set(GrammarAnalyzer.END_OF_INPUT), analyzer.getFollowSet(c));
+    assertEquals(set(GrammarAnalyzer.END_OF_INPUT),
+        analyzer.getFollowSet(parser));
+  }
+
+  @Test
+  public void testFollowSetRecursive() {
+    SettableParser list = undefined();
+    Parser a = of('a');
+    Parser comma = of(',');
+    list.set(a.seq(comma, list).or(a));
+    GrammarAnalyzer analyzer = GrammarAnalyzer.of(list);
+    assertEquals(set(comma, GrammarAnalyzer.END_OF_INPUT),
+        analyzer.getFollowSet(a));
+    assertEquals(set(a), analyzer.getFollowSet(comma));
+  }
+
+  @Test
+  public void testCycleSet() {
+    SettableParser left = undefined();
+    Parser sequence = left.seq(of('+'));
+    Parser choice = sequence.or(digit());
+    left.set(choice);
+    GrammarAnalyzer analyzer = GrammarAnalyzer.of(left);
+    assertEquals(set(left, choice, sequence), analyzer.getCycleSet());
+    assertTrue(analyzer.isRecursive(left));
+  }
+
+  @Test
+  public void testCycleSetRightRecursive() {
+    SettableParser right = undefined();
+    right.set(digit().seq(right).or(digit()));
+    GrammarAnalyzer analyzer = GrammarAnalyzer.of(right);
+    assertEquals(Collections.emptySet(), analyzer.getCycleSet());
+    assertTrue(analyzer.isRecursive(right));
+  }
+
+  @Test
+  public void testCycleSetDeep() {
+    SettableParser head = undefined();
+    Parser parser = head;
+    for (int i = 0; i < 100000; i++) {
+      parser = parser.optional();
+    }
+    head.set(parser.or(of('a')));
+    GrammarAnalyzer analyzer = GrammarAnalyzer.of(head);
+    assertEquals(analyzer.getParsers().size() - 1,
+        analyzer.getCycleSet().size());
+    assertTrue(analyzer.isRecursive(head));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownParser() {
+    GrammarAnalyzer.of(digit()).isNullable(digit());
+  }
+
+  @Test
+  public void testLintNullableRepetition() {
+    Parser parser = digit().optional().star();
+    assertEquals(Arrays.asList(Issue.Type.NULLABLE_REPETITION),
+        types(GrammarAnalyzer.of(parser).lint()));
+  }
+
+  @Test
+  public void testLintLazyScan() {
+    Parser parser = StringParser.of("/*")
+        .seq(any().starLazy(StringParser.of("*/")), StringParser.of("*/"));
+    List<Issue> issues = GrammarAnalyzer.of(parser).lint();
+    assertEquals(Arrays.asList(Issue.Type.LAZY_SCAN), types(issues));
+    assertEquals(parser.getChildren().get(1), issues.get(0).getParser());
+  }
+
+  @Test
+  public void testLintShadowedAlternative() {
+    Parser parser = StringParser.of("<")
+        .or(StringParser.of("<="), digit().optional(), of('x'));
+    List<Issue> issues = GrammarAnalyzer.of(parser).lint();
+    assertEquals(Arrays.asList(Issue.Type.SHADOWED_ALTERNATIVE,
+        Issue.Type.SHADOWED_ALTERNATIVE), types(issues));
+    assertEquals("alternative 1 is shadowed by alternative 0",
+        issues.get(0).getDescription());
+    assertEquals("alternative 3 is shadowed by alternative 2",
+        issues.get(1).getDescription());
+  }
+
+  @Test
+  public void testLintExponentialChoice() {
+    SettableParser expression = undefined();
+    Parser term = digit().or(of('(').seq(expression, of(')')));
+    expression.set(term.seq(of('+'), expression).or(term));
+    List<Issue> issues = GrammarAnalyzer.of(expression).lint();
+    assertEquals(Arrays.asList(Issue.Type.EXPONENTIAL_BACKTRACKING),
+        types(issues));
+  }
+
+  @Test
+  public void testLintExponentialChoiceMemoized() {
+    SettableParser expression = undefined();
+    Parser term = digit().or(of('(').seq(expression, of(')'))).memoize();
+    expression.set(term.seq(of('+'), expression).or(term));
+    assertEquals(Collections.emptyList(),
+        GrammarAnalyzer.of(expression).lint());
+  }
+
+  @Test
+  public void testLintExponentialRepetition() {
+    Parser parser = digit().plusGreedy(of('1')).plusGreedy(of('!'))
+        .seq(of('!'));
+    assertEquals(Arrays.asList(Issue.Type.EXPONENTIAL_BACKTRACKING),
+        types(GrammarAnalyzer.of(parser).lint()));
+  }
+
+  @Test
+  public void testLintClean() {
+    SettableParser list = undefined();
+    list.set(of('[').seq(list.separatedBy(of(',')).optional(), of(']'))
+        .or(digit().plus().flatten()));
+    assertEquals(Collections.emptyList(), GrammarAnalyzer.of(list).lint());
+  }
+
+  private static HashSet<Parser> set(Parser... parsers) {
+    return new HashSet<>(Arrays.asList(parsers));
+  }
+
+  private static List<Issue.Type> types(List<Issue> issues) {
+    return issues.stream().map(GrammarAnalyzer.Issue::getType)
+        .collect(Collectors.toList());
+  }
+}
@@ -1,12 +1,41 @@
 package org.petitparser.utils;
 
 import org.junit.Test;
+import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
+import org.petitparser.parser.actions.ActionParser;
+import org.petitparser.parser.actions.ConstantParser;
+import org.petitparser.parser.actions.FlattenParser;
+import org.petitparser.parser.combinators.ChoiceParser;
+import org.petitparser.parser.combinators.CountingChoiceParser;
+import org.petitparser.parser.combinators.PickSequenceParser;
+import org.petitparser.parser.combinators.PredictiveChoiceParser;
+import org.petitparser.parser.combinators.SequenceParser;
+import org.petitparser.parser.combinators.SettableParser;
+import org.petitparser.parser.primitive.CharacterParser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+import org.petitparser.parser.primitive.CharacterRepeatingParser;
+import org.petitparser.parser.primitive.CharacterSpanParser;
+import org.petitparser.parser.primitive.LiteralSetParser;
+import org.petitparser.parser.primitive.StringParser;
+import org.petitparser.parser.repeating.RepeatingParser;
+import org.petitparser.parser.repeating.RightRecursionParser;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.petitparser.parser.primitive.CharacterParser.anyOf;
+import static org.petitparser.parser.primitive.CharacterParser.digit;
 import static org.petitparser.parser.primitive.CharacterParser.lowerCase;
+import static org.petitparser.parser.primitive.CharacterParser.of;
+import static org.petitparser.parser.primitive.CharacterParser.whitespace;
 
 /**
  * Tests {@link Optimizer}.
@@ -49,4 +78,509 @@ public class OptimizerTest {
     assertNotEquals(input.getChildren().get(0), input.getChildren().get(1));
     assertEquals(output.getChildren().get(0), output.getChildren().get(1));
   }
+
+  @Test
+  public void testRemoveDuplicatesAcrossGrammars() {
+    ParserInterner interner = new ParserInterner();
+    Parser first = new Optimizer().removeDuplicates(interner)
+        .transform(lowerCase().seq(digit().plus()));
+    Parser second = new Optimizer().removeDuplicates(interner)
+        .transform(digit().plus().or(lowerCase()));
+    assertEquals(first.getChildren().get(0), second.getChildren().get(1));
+    assertEquals(first.getChildren().get(1), second.getChildren().get(0));
+    assertEquals(5, interner.size());
+  }
+
+  @Test
+  public void testInterner() {
+    ParserInterner interner = new ParserInterner();
+    Parser parser = interner.internAll(StringParser.of("abc").optional());
+    assertEquals(parser, interner.intern(parser));
+    assertEquals(parser, interner.intern(parser.copy()));
+    assertEquals(parser,
+        interner.internAll(StringParser.of("abc").optional()));
+    assertNotEquals(parser,
+        interner.internAll(StringParser.of("abd").optional()));
+    assertEquals(4, interner.size());
+  }
+
+  @Test
+  public void testInternerComparesChildrenByIdentity() {
+    ParserInterner interner = new ParserInterner();
+    Parser parser = interner.intern(StringParser.of("abc").optional());
+    assertNotEquals(parser, interner.intern(StringParser.of("abc").optional()));
+  }
+
+  @Test
+  public void testInternerCycle() {
+    SettableParser list = SettableParser.undefined();
+    list.set(of('a').seq(list).or(of('a').seq(of('b'))));
+    Parser input = list.seq(list);
+    Parser output = new Optimizer().removeDuplicates().transform(input);
+    assertTrue(input.isEqualTo(output));
+    assertSameResults(input, output, "", "ab", "aabab", "aabaab", "aabb");
+  }
+
+  @Test
+  public void testFirstCharacters() {
+    CharacterPredicate first = of('a').seq(digit()).or(of('b').plus())
+        .trim().getFirstCharacters();
+    assertTrue(first.test('a'));
+    assertTrue(first.test('b'));
+    assertTrue(first.test(' '));
+    assertFalse(first.test('1'));
+    assertNull(of('a').optional().getFirstCharacters());
+    assertNull(of('a').star().getFirstCharacters());
+    assertNull(of('a').or(of('b').not()).getFirstCharacters());
+    assertNull(of('a').and().getFirstCharacters());
+  }
+
+  @Test
+  public void testPredictChoices() {
+    Parser input = of('a').seq(of('b')).or(of('a').seq(of('c')))
+        .or(digit().plus()).or(of('x').optional()).or(of('-'));
+    Parser output = new Optimizer().predictChoices().transform(input);
+    assertTrue(output instanceof PredictiveChoiceParser);
+    assertSameResults(input, output, "ab", "ac", "ad", "12", "x", "-", "",
+        "?", "\u00e9", "\u4e00");
+  }
+
+  @Test
+  public void testPredictChoicesFailure() {
+    Parser input = of('a').or(of('b')).or(digit());
+    Parser output = new Optimizer().predictChoices().transform(input);
+    assertTrue(output instanceof PredictiveChoiceParser);
+    assertEquals("digit expected", output.parse("c").getMessage());
+    assertEquals("digit expected", output.parse("").getMessage());
+    assertEquals('b', (char) output.parse("b").get());
+  }
+
+  @Test
+  public void testPredictChoicesMiss() {
+    int[] calls = {0};
+    CharacterPredicate counting = value -> {
+      calls[0]++;
+      return value == 'b';
+    };
+    Parser input = of('a').or(CharacterParser.of(counting, "b expected"))
+        .or(digit());
+    Parser output = new Optimizer().predictChoices().transform(input);
+    assertTrue(output instanceof PredictiveChoiceParser);
+    assertTrue(output.accept("a"));
+    calls[0] = 0;
+    assertEquals("digit expected", output.parse("c").getMessage());
+    assertEquals(0, calls[0]);
+    assertEquals('b', (char) output.parse("b").get());
+    assertEquals(1, calls[0]);
+  }
+
+  @Test
+  public void testPredictChoicesReplaced() {
+    SettableParser settable = SettableParser.with(of('a'));
+    Parser output = new PredictiveChoiceParser(settable.seq(of('!')),
+        digit());
+    assertTrue(output.accept("a!"));
+    assertFalse(output.accept("b!"));
+    settable.set(of('b'));
+    assertTrue(output.accept("b!"));
+    assertFalse(output.accept("a!"));
+  }
+
+  @Test
+  public void testPredictChoicesUnknown() {
+    Parser input = of('a').optional().or(whitespace().star());
+    Parser output = new Optimizer().predictChoices().transform(input);
+    assertTrue(output.isEqualTo(input));
+  }
+
+  @Test
+  public void testMergeLiterals() {
+    Parser input = StringParser.of("<=").or(StringParser.of("<"))
+        .or(StringParser.of("="));
+    Parser output = new Optimizer().mergeLiterals().transform(input);
+    assertTrue(output instanceof LiteralSetParser);
+    assertEquals("<=", output.parse("<=").get());
+    assertEquals("<", output.parse("<>").get());
+    assertEquals("= expected", output.parse(">").getMessage());
+  }
+
+  @Test
+  public void testMergeLiteralsPartially() {
+    Parser input = digit().or(StringParser.of("ab"))
+        .or(StringParser.of("cd")).or(StringParser.ofIgnoringCase("ef"));
+    Parser output = new Optimizer().mergeLiterals().transform(input);
+    assertEquals(3, output.getChildren().size());
+    assertTrue(output.getChildren().get(1) instanceof LiteralSetParser);
+    assertEquals("cd", output.parse("cd").get());
+    assertEquals("EF", output.parse("EF").get());
+    assertEquals("ef expected", output.parse("x").getMessage());
+  }
+
+  @Test
+  public void testMergeCharacterClasses() {
+    Parser input = of('-').or(digit());
+    Parser output = new Optimizer().mergeCharacterClasses().transform(input);
+    assertTrue(output instanceof CharacterParser);
+    assertEquals('-', (char) output.parse("-").get());
+    assertEquals('7', (char) output.parse("7").get());
+    assertEquals("digit expected", output.parse("a").getMessage());
+    assertEquals("digit expected", output.parse("").getMessage());
+  }
+
+  @Test
+  public void testMergeCharacterClassesFarthest() {
+    Parser input = of('-').or(digit()).seq(of('x'));
+    Parser output = new Optimizer().mergeCharacterClasses().transform(input);
+    assertTrue(output.getChildren().get(0) instanceof CharacterParser);
+    assertEquals("'-' expected OR digit expected",
+        input.parseFarthest("a").getMessage());
+    assertEquals("digit expected", output.parseFarthest("a").getMessage());
+    assertEquals(input.parse("a").getMessage(),
+        output.parse("a").getMessage());
+  }
+
+  @Test
+  public void testMergeCharacterClassesNegated() {
+    Parser input = of('x').or(anyOf("xyz").neg("no xyz expected"));
+    Parser output = new Optimizer().mergeCharacterClasses().transform(input);
+    assertTrue(output instanceof CharacterParser);
+    assertEquals('x', (char) output.parse("x").get());
+    assertEquals('a', (char) output.parse("a").get());
+    assertEquals("no xyz expected", output.parse("y").getMessage());
+  }
+
+  @Test
+  public void testMergeCharacterClassesPartially() {
+    Parser input = of('a').or(StringParser.of("bc"), of('d'), of('e'),
+        whitespace());
+    Parser output = new Optimizer().mergeCharacterClasses().transform(input);
+    assertEquals(3, output.getChildren().size());
+    assertTrue(output.getChildren().get(2) instanceof CharacterParser);
+    assertEquals("bc", output.parse("bc").get());
+    assertEquals('e', (char) output.parse("e").get());
+    assertEquals(' ', (char) output.parse(" ").get());
+    assertEquals("whitespace expected", output.parse("x").getMessage());
+  }
+
+  @Test
+  public void testFuseLiterals() {
+    Parser input = of('a').seq(of('b'), StringParser.of("cd"), of('e').times(2))
+        .flatten("abcdee expected");
+    Parser output = new Optimizer().fuseLiterals().transform(input);
+    assertTrue(output instanceof StringParser);
+    assertEquals("abcdee", output.parse("abcdee").get());
+    assertEquals("abcdee expected", output.parse("abcde").getMessage());
+    assertEquals(0, output.parse("abcde").getPosition());
+  }
+
+  @Test
+  public void testFuseLiteralsKeepsValues() {
+    Parser input = of('a').seq(of('b')).map(List.class::cast)
+        .seq(of('c').seq(of('d')).flatten());
+    Parser output = new Optimizer().fuseLiterals().transform(input);
+    assertTrue(output.isEqualTo(input));
+    assertEquals(Arrays.asList(Arrays.asList('a', 'b'), "cd"),
+        output.parse("abcd").get());
+  }
+
+  @Test
+  public void testFuseLiteralsSpan() {
+    Parser input = CharacterParser.pattern("0-9A-Fa-f").times(4).flatten();
+    Parser output = new Optimizer().fuseLiterals().transform(input);
+    assertTrue(output instanceof CharacterSpanParser);
+    assertSameResults(input, output, "", "12aF", "12aF3", "12x", "1");
+  }
+
+  @Test
+  public void testFlattenListsChoice() {
+    Parser input = of('a').or(of('b').or(of('c'), of('d')),
+        of('e').or(of('f')));
+    Parser output = new Optimizer().flattenLists().transform(input);
+    assertEquals(6, output.getChildren().size());
+    assertEquals("'f' expected", output.parse("x").getMessage());
+  }
+
+  @Test
+  public void testFlattenListsChoiceJoiner() {
+    Parser input = of('a').or(new FailureJoiner.SelectFarthest(),
+        of('b').or(of('c')));
+    Parser output = new Optimizer().flattenLists().transform(input);
+    assertTrue(output.isEqualTo(input));
+  }
+
+  @Test
+  public void testFlattenListsFlatten() {
+    Parser input = of('a').seq(of('b')).seq(of('c').seq(of('d'))).flatten();
+    Parser output = new Optimizer().flattenLists().transform(input);
+    assertEquals(4, output.getChildren().get(0).getChildren().size());
+    assertEquals("abcd", output.parse("abcd").get());
+    assertEquals(2, output.parse("abx").getPosition());
+  }
+
+  @Test
+  public void testFlattenListsAnd() {
+    Parser input = new SequenceParser(new SequenceParser(of('a'), of('b')),
+        of('c')).and();
+    Parser output = new Optimizer().flattenLists().transform(input);
+    assertTrue(output.isEqualTo(input));
+    assertEquals(Arrays.asList(Arrays.asList('a', 'b'), 'c'),
+        output.parse("abc").get());
+  }
+
+  @Test
+  public void testFlattenListsPick() {
+    Parser input = new SequenceParser(of('a').seq(of('b')),
+        of('c').seq(of('d')), of('e').seq(of('f'))).permute(2, 1);
+    Parser output = new Optimizer().flattenLists().transform(input);
+    assertTrue(output instanceof PickSequenceParser);
+    assertEquals(4, output.getChildren().size());
+    assertEquals(Arrays.asList(Arrays.asList('e', 'f'),
+        Arrays.asList('c', 'd')), output.parse("abcdef").get());
+  }
+
+  @Test
+  public void testFlattenListsKeepsValues() {
+    Parser input = of('a').seq(of('b')).seq(of('c').seq(of('d')));
+    Parser output = new Optimizer().flattenLists().transform(input);
+    assertTrue(output.isEqualTo(input));
+  }
+
+  @Test
+  public void testScanCharacters() {
+    Parser input = CharacterParser.letter().repeat(2, 3)
+        .seq(digit().star().flatten(), digit().plus().flatten("number"));
+    Parser output = new Optimizer().scanCharacters().transform(input);
+    assertTrue(output.getChildren().get(0) instanceof CharacterRepeatingParser);
+    assertTrue(output.getChildren().get(1) instanceof CharacterSpanParser);
+    assertTrue(output.getChildren().get(2) instanceof FlattenParser);
+    assertSameResults(input, output, "", "a", "ab1", "abcd1", "ab12x",
+        "abc", "abc12");
+  }
+
+  @Test
+  public void testScanCharactersFarthest() {
+    Parser input = CharacterParser.letter().plus().flatten()
+        .seq(whitespace().star(), digit().repeat(0, 2).flatten(), of('='));
+    Parser output = new Optimizer().scanCharacters().transform(input);
+    assertTrue(output.getChildren().get(0) instanceof CharacterSpanParser);
+    assertTrue(output.getChildren().get(1) instanceof CharacterRepeatingParser);
+    assertTrue(output.getChildren().get(2) instanceof CharacterSpanParser);
+    for (String string : Arrays.asList("", "a", "ab x", "a 1x", "a 12x",
+        "a  =", "a=")) {
+      Result expected = input.parseFarthest(string);
+      Result actual = output.parseFarthest(string);
+      assertEquals(string, expected.isSuccess(), actual.isSuccess());
+      assertEquals(string, expected.getPosition(), actual.getPosition());
+      if (expected.isFailure()) {
+        assertEquals(string, expected.getMessage(), actual.getMessage());
+      }
+    }
+  }
+
+  @Test
+  public void testFactorChoices() {
+    Parser name = lowerCase().plus().flatten();
+    Parser input = StringParser.of("<").seq(name, of('/'), of('>'))
+        .or(StringParser.of("<").seq(name, of('>')),
+            StringParser.of("<").seq(of('!')), of('x'));
+    Parser output = new Optimizer().factorChoices().transform(input);
+    assertEquals(2, output.getChildren().size());
+    assertSameResults(input, output, "", "<", "<a", "<ab/>", "<ab>",
+        "<ab/", "<!", "<a!", "x", "y");
+  }
+
+  @Test
+  public void testFactorChoicesWithSideEffects() {
+    Parser prefix = of('a').mapWithSideEffects(Function.identity());
+    Parser input = prefix.seq(of('b')).or(prefix.seq(of('c')));
+    Parser output = new Optimizer().factorChoices().transform(input);
+    assertTrue(output.isEqualTo(input));
+  }
+
+  @Test
+  public void testFuseActions() {
+    Parser input = digit().plus()
+        .map((List<Character> list) -> list.size())
+        .map((Integer size) -> size * 2)
+        .map((Integer size) -> size + 1);
+    Parser output = new Optimizer().fuseActions().transform(input);
+    assertTrue(output instanceof ActionParser);
+    assertTrue(output.getChildren().get(0) instanceof RepeatingParser);
+    assertEquals(7, (int) output.parse("123").get());
+    assertEquals("digit expected", output.parse("a").getMessage());
+  }
+
+  @Test
+  public void testFuseActionsConstant() {
+    Parser input = StringParser.of("true").flatten("Expected 'true'").trim()
+        .map(Functions.constant(true));
+    Parser output = new Optimizer().fuseActions().transform(input);
+    assertTrue(output instanceof ConstantParser);
+    assertSameResults(input, output, "true", " true ", "tru", " x", "");
+  }
+
+  @Test
+  public void testFuseActionsConstantFlatten() {
+    Parser input = digit().plus().flatten("number").map(String::length)
+        .map(Functions.constant(0));
+    Parser output = new Optimizer().fuseActions().transform(input);
+    assertTrue(output instanceof ConstantParser);
+    assertTrue(output.getChildren().get(0) instanceof RepeatingParser);
+    assertEquals(0, (int) output.parse("12").get());
+    assertEquals("number", output.parse("a").getMessage());
+  }
+
+  @Test
+  public void testFuseActionsWithSideEffects() {
+    Parser input = digit().mapWithSideEffects(Function.identity())
+        .map(Functions.constant(0));
+    Parser output = new Optimizer().fuseActions().transform(input);
+    assertTrue(output.isEqualTo(input));
+  }
+
+  @Test
+  public void testRecognizeDiscarded() {
+    Parser digits = digit().plus();
+    Parser input = digits.seq(of('.').seq(digits).optional()).flatten()
+        .seq(of(',').separatedBy(whitespace().plus(), false, false))
+        .seq(of('!').seq(of('!')), of(';')).pick(1);
+    Parser output = new Optimizer().recognizeDiscarded().transform(input);
+    Parser flatten = output.getChildren().get(0).getChildren().get(0);
+    assertTrue(output.getChildren().get(0) instanceof ConstantParser);
+    assertTrue(flatten.getChildren().get(0) instanceof ConstantParser);
+    assertTrue(output.getChildren().get(1).getChildren().get(1)
+        instanceof ConstantParser);
+    assertTrue(output.getChildren().get(2) instanceof ConstantParser);
+    assertTrue(output.getChildren().get(3) instanceof CharacterParser);
+    assertSameResults(input, output, "", "1", "1.", "1.5", "12.34", "1,",
+        "1, ,!!;", "1,,!;", "1.5,  ,!!;", "x");
+  }
+
+  @Test
+  public void testRecognizeDiscardedWithSideEffects() {
+    Parser input = digit().plus().mapWithSideEffects(Function.identity())
+        .flatten();
+    Parser output = new Optimizer().recognizeDiscarded().transform(input);
+    assertTrue(output.isEqualTo(input));
+  }
+
+  @Test
+  public void testCountChoices() {
+    Parser input = of('a').or(of('b'), of('c')).star();
+    Parser output = new Optimizer().countChoices(5).transform(input);
+    CountingChoiceParser choice =
+        (CountingChoiceParser) output.getChildren().get(0);
+    assertEquals(Arrays.asList('c', 'c', 'b', 'c'), output.parse("ccbc").get());
+    assertTrue(choice.isCounting());
+    assertEquals(Arrays.asList(0L, 1L, 3L), toList(choice.getHits()));
+    assertEquals(3, output.fastParseOn("aaa", 0));
+    assertFalse(choice.isCounting());
+    assertEquals(Arrays.asList(0L, 1L, 3L), toList(choice.getHits()));
+  }
+
+  @Test
+  public void testReorderChoices() {
+    Parser a = of('a');
+    Parser b = of('b');
+    Parser c = of('c');
+    Parser d = of('d');
+    Parser input = a.or(b, c, d).star();
+    Parser counting = new Optimizer().countChoices(1000).transform(input);
+    counting.parse("cccbcbddddd");
+    Parser output = new Optimizer().reorderChoices().transform(counting);
+    assertTrue(output.getChildren().get(0).getClass() == ChoiceParser.class);
+    assertTrue(output.getChildren().get(0).isEqualTo(c.or(b, a, d)));
+    assertEquals(input.getChildren().get(0).parse("x").getMessage(),
+        output.getChildren().get(0).parse("x").getMessage());
+  }
+
+  @Test
+  public void testReorderChoicesOverlapping() {
+    Parser ab = StringParser.of("ab");
+    Parser a = of('a');
+    Parser y = of('y');
+    Parser x = of('x');
+    Parser input = ab.or(a, y, x).star();
+    Parser counting = new Optimizer().countChoices(1000).transform(input);
+    counting.parse("ayyyyy");
+    Parser output = new Optimizer().reorderChoices().transform(counting);
+    assertTrue(output.getChildren().get(0).isEqualTo(y.or(ab, a, x)));
+  }
+
+  @Test
+  public void testRemoveRightRecursion() {
+    SettableParser list = SettableParser.undefined();
+    list.set(digit().seq(of(','), list).or(digit()));
+    Parser output = new Optimizer().removeRightRecursion().transform(list);
+    assertTrue(output.getChildren().get(0) instanceof RightRecursionParser);
+    assertSameResults(list, output, "", "1", "1,", "1,2", "1,2,3", "1,,2",
+        "1,2,x", "x");
+  }
+
+  @Test
+  public void testRemoveRightRecursionAction() {
+    SettableParser list = SettableParser.undefined();
+    list.set(digit().seq(of(','), list).or(digit())
+        .map(value -> "<" + value + ">"));
+    Parser output = new Optimizer().removeRightRecursion().transform(list);
+    assertTrue(output.getChildren().get(0).getChildren().get(0)
+        instanceof RightRecursionParser);
+    assertSameResults(list, output, "", "1", "1,", "1,2", "1,2,3", "1,,2");
+  }
+
+  @Test
+  public void testRemoveRightRecursionAlternatives() {
+    SettableParser list = SettableParser.undefined();
+    list.set(of('.').or(digit().seq(list), digit().seq(of('!'))));
+    Parser output = new Optimizer().removeRightRecursion().transform(list);
+    assertTrue(output.getChildren().get(0) instanceof RightRecursionParser);
+    assertSameResults(list, output, "", ".", "1.", "123.", "1!", "12!",
+        "12", "1x", "x");
+  }
+
+  @Test
+  public void testRemoveRightRecursionDepth() {
+    SettableParser list = SettableParser.undefined();
+    list.set(digit().seq(of(','), list).or(digit()));
+    Parser output = new Optimizer().removeRightRecursion().transform(list);
+    StringBuilder input = new StringBuilder("0");
+    for (int i = 0; i < 100000; i++) {
+      input.append(",").append(i % 10);
+    }
+    assertTrue(output.parse(input.toString()).isSuccess());
+    assertEquals(input.length(), output.fastParseOn(input, 0));
+  }
+
+  @Test
+  public void testRemoveRightRecursionWithSideEffects() {
+    SettableParser list = SettableParser.undefined();
+    list.set(digit().seq(of(','), list).or(digit())
+        .mapWithSideEffects(Function.identity()));
+    Parser output = new Optimizer().removeRightRecursion().transform(list);
+    assertTrue(output.isEqualTo(list));
+  }
+
+  private static List<Long> toList(long[] values) {
+    return Arrays.stream(values).boxed().collect(Collectors.toList());
+  }
+
+  /**
+   * Asserts that {@code output} parses the {@code strings} the same way as
+   * the unoptimized {@code input}.
+   */
+  private static void assertSameResults(Parser input, Parser output,
+      String... strings) {
+    for (String string : strings) {
+      Result expected = input.parse(string);
+      Result actual = output.parse(string);
+      assertEquals(string, expected.isSuccess(), actual.isSuccess());
+      assertEquals(string, expected.getPosition(), actual.getPosition());
+      assertEquals(string, expected.isSuccess() ? expected.get() :
+          expected.getMessage(), actual.isSuccess() ? actual.get() :
+          actual.getMessage());
+      assertEquals(string, input.accept(string), output.accept(string));
+      assertEquals(string, input.fastParseOn(string, 0),
+          output.fastParseOn(string, 0));
+    }
+  }
 }
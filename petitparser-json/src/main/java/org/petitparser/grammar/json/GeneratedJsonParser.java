@@ -0,0 +1,2204 @@
+package org.petitparser.grammar.json;
+
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Token;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+import org.petitparser.tools.CompiledParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Generated by {@link org.petitparser.tools.ParserGenerator}, do not edit.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class GeneratedJsonParser extends CompiledParser {
+
+  private final Function a3;
+  private final CharacterPredicate c6;
+  private final CharacterPredicate c7;
+  private final Object o8;
+  private int s9 = 10;
+  private final CharacterPredicate c11;
+  private final CharacterPredicate c12;
+  private final CharacterPredicate c14;
+  private final CharacterPredicate c15;
+  private final Function a16;
+  private final CharacterPredicate c19;
+  private final CharacterPredicate c20;
+  private final Object o21;
+  private int s22 = 10;
+  private final CharacterPredicate c24;
+  private final CharacterPredicate c25;
+  private final CharacterPredicate c28;
+  private final CharacterPredicate c29;
+  private final CharacterPredicate c31;
+  private final CharacterPredicate c32;
+  private final Function a33;
+  private final CharacterPredicate c35;
+  private final Function a38;
+  private final CharacterPredicate c40;
+  private final Function a43;
+  private final CharacterPredicate c45;
+  private final Function a48;
+  private final CharacterPredicate c50;
+  private final Object o53;
+  private final CharacterPredicate c56;
+  private final Object o57;
+  private final CharacterPredicate c58;
+  private final CharacterPredicate c59;
+  private final Object o60;
+  private final CharacterPredicate c63;
+  private final CharacterPredicate c64;
+  private final CharacterPredicate c67;
+  private final CharacterPredicate c68;
+  private final Object o69;
+  private final CharacterPredicate c70;
+  private final CharacterPredicate c72;
+  private final Function a73;
+  private final CharacterPredicate c75;
+  private final CharacterPredicate c78;
+  private final Function a79;
+  private final CharacterPredicate c83;
+  private final Function a85;
+  private final Function a86;
+  private final CharacterPredicate c88;
+  private final CharacterPredicate c89;
+  private final CharacterPredicate c90;
+  private final JsonParserDefinition definition;
+
+  public GeneratedJsonParser() {
+    this(new JsonParserDefinition());
+  }
+
+  public GeneratedJsonParser(JsonParserDefinition definition) {
+    this.definition = definition;
+    List<Parser> nodesArray = nodesOf(definition, "array", 9);
+    List<Parser> nodesCharacterEscape = nodesOf(definition, "characterEscape", 5);
+    List<Parser> nodesCharacterNormal = nodesOf(definition, "characterNormal", 1);
+    List<Parser> nodesCharacterOctal = nodesOf(definition, "characterOctal", 6);
+    List<Parser> nodesElements = nodesOf(definition, "elements", 4);
+    List<Parser> nodesFalseToken = nodesOf(definition, "falseToken", 5);
+    List<Parser> nodesMembers = nodesOf(definition, "members", 4);
+    List<Parser> nodesNullToken = nodesOf(definition, "nullToken", 5);
+    List<Parser> nodesNumberPrimitive = nodesOf(definition, "numberPrimitive", 19);
+    List<Parser> nodesNumberToken = nodesOf(definition, "numberToken", 4);
+    List<Parser> nodesObject = nodesOf(definition, "object", 9);
+    List<Parser> nodesPair = nodesOf(definition, "pair", 4);
+    List<Parser> nodesStringPrimitive = nodesOf(definition, "stringPrimitive", 5);
+    List<Parser> nodesStringToken = nodesOf(definition, "stringToken", 2);
+    List<Parser> nodesTrueToken = nodesOf(definition, "trueToken", 5);
+    this.a3 = ((org.petitparser.parser.actions.ActionParser) nodesArray.get(0)).getFunction();
+    this.c6 = ((org.petitparser.parser.primitive.CharacterParser) nodesArray.get(8)).getPredicate();
+    this.c7 = ((org.petitparser.parser.primitive.CharacterParser) nodesArray.get(7)).getPredicate();
+    this.o8 = ((org.petitparser.parser.combinators.OptionalParser) nodesArray.get(5)).getOtherwise();
+    this.c11 = ((org.petitparser.parser.primitive.CharacterParser) nodesElements.get(3)).getPredicate();
+    this.c12 = ((org.petitparser.parser.primitive.CharacterParser) nodesElements.get(2)).getPredicate();
+    this.c14 = ((org.petitparser.parser.primitive.CharacterParser) nodesArray.get(4)).getPredicate();
+    this.c15 = ((org.petitparser.parser.primitive.CharacterParser) nodesArray.get(3)).getPredicate();
+    this.a16 = ((org.petitparser.parser.actions.ActionParser) nodesObject.get(0)).getFunction();
+    this.c19 = ((org.petitparser.parser.primitive.CharacterParser) nodesObject.get(8)).getPredicate();
+    this.c20 = ((org.petitparser.parser.primitive.CharacterParser) nodesObject.get(7)).getPredicate();
+    this.o21 = ((org.petitparser.parser.combinators.OptionalParser) nodesObject.get(5)).getOtherwise();
+    this.c24 = ((org.petitparser.parser.primitive.CharacterParser) nodesMembers.get(3)).getPredicate();
+    this.c25 = ((org.petitparser.parser.primitive.CharacterParser) nodesMembers.get(2)).getPredicate();
+    this.c28 = ((org.petitparser.parser.primitive.CharacterParser) nodesPair.get(3)).getPredicate();
+    this.c29 = ((org.petitparser.parser.primitive.CharacterParser) nodesPair.get(2)).getPredicate();
+    this.c31 = ((org.petitparser.parser.primitive.CharacterParser) nodesObject.get(4)).getPredicate();
+    this.c32 = ((org.petitparser.parser.primitive.CharacterParser) nodesObject.get(3)).getPredicate();
+    this.a33 = ((org.petitparser.parser.actions.ActionParser) nodesNullToken.get(0)).getFunction();
+    this.c35 = ((org.petitparser.parser.primitive.CharacterParser) nodesNullToken.get(4)).getPredicate();
+    this.a38 = ((org.petitparser.parser.actions.ActionParser) nodesFalseToken.get(0)).getFunction();
+    this.c40 = ((org.petitparser.parser.primitive.CharacterParser) nodesFalseToken.get(4)).getPredicate();
+    this.a43 = ((org.petitparser.parser.actions.ActionParser) nodesTrueToken.get(0)).getFunction();
+    this.c45 = ((org.petitparser.parser.primitive.CharacterParser) nodesTrueToken.get(4)).getPredicate();
+    this.a48 = ((org.petitparser.parser.actions.ActionParser) nodesNumberToken.get(0)).getFunction();
+    this.c50 = ((org.petitparser.parser.primitive.CharacterParser) nodesNumberToken.get(3)).getPredicate();
+    this.o53 = ((org.petitparser.parser.combinators.OptionalParser) nodesNumberPrimitive.get(12)).getOtherwise();
+    this.c56 = ((org.petitparser.parser.primitive.CharacterParser) nodesNumberPrimitive.get(18)).getPredicate();
+    this.o57 = ((org.petitparser.parser.combinators.OptionalParser) nodesNumberPrimitive.get(15)).getOtherwise();
+    this.c58 = ((org.petitparser.parser.primitive.CharacterParser) nodesNumberPrimitive.get(16)).getPredicate();
+    this.c59 = ((org.petitparser.parser.primitive.CharacterParser) nodesNumberPrimitive.get(14)).getPredicate();
+    this.o60 = ((org.petitparser.parser.combinators.OptionalParser) nodesNumberPrimitive.get(7)).getOtherwise();
+    this.c63 = ((org.petitparser.parser.primitive.CharacterParser) nodesNumberPrimitive.get(11)).getPredicate();
+    this.c64 = ((org.petitparser.parser.primitive.CharacterParser) nodesNumberPrimitive.get(9)).getPredicate();
+    this.c67 = ((org.petitparser.parser.primitive.CharacterParser) nodesNumberPrimitive.get(6)).getPredicate();
+    this.c68 = ((org.petitparser.parser.primitive.CharacterParser) nodesNumberPrimitive.get(4)).getPredicate();
+    this.o69 = ((org.petitparser.parser.combinators.OptionalParser) nodesNumberPrimitive.get(1)).getOtherwise();
+    this.c70 = ((org.petitparser.parser.primitive.CharacterParser) nodesNumberPrimitive.get(2)).getPredicate();
+    this.c72 = ((org.petitparser.parser.primitive.CharacterParser) nodesStringToken.get(1)).getPredicate();
+    this.a73 = ((org.petitparser.parser.actions.ActionParser) nodesStringPrimitive.get(0)).getFunction();
+    this.c75 = ((org.petitparser.parser.primitive.CharacterParser) nodesStringPrimitive.get(4)).getPredicate();
+    this.c78 = ((org.petitparser.parser.primitive.CharacterParser) nodesCharacterNormal.get(0)).getPredicate();
+    this.a79 = ((org.petitparser.parser.actions.ActionParser) nodesCharacterOctal.get(0)).getFunction();
+    this.c83 = ((org.petitparser.parser.primitive.CharacterParser) nodesCharacterOctal.get(5)).getPredicate();
+    this.a85 = ((org.petitparser.parser.actions.ActionParser) nodesCharacterEscape.get(0)).getFunction();
+    this.a86 = ((org.petitparser.parser.actions.ActionParser) nodesCharacterEscape.get(1)).getFunction();
+    this.c88 = ((org.petitparser.parser.primitive.CharacterParser) nodesCharacterEscape.get(4)).getPredicate();
+    this.c89 = ((org.petitparser.parser.primitive.CharacterParser) nodesCharacterEscape.get(3)).getPredicate();
+    this.c90 = ((org.petitparser.parser.primitive.CharacterParser) nodesStringPrimitive.get(2)).getPredicate();
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    return p0(state);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    return f0(buffer, position);
+  }
+
+  @Override
+  public GeneratedJsonParser copy() {
+    return new GeneratedJsonParser(definition);
+  }
+
+  // PickSequenceParser[0]
+  private int f0(CharSequence buffer, int position) {
+    position = f2(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f1(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p0(ParseState state) {
+    Object value0 = null;
+    if (!p2(state)) {
+      return false;
+    }
+    value0 = state.getValue();
+    if (!p1(state)) {
+      return false;
+    }
+    return state.success(value0);
+  }
+
+  // EndOfInputParser[end of input expected]
+  private int f1(CharSequence buffer, int position) {
+    return position < buffer.length() ? -1 : position;
+  }
+
+  private boolean p1(ParseState state) {
+    return state.getPosition() < state.getBuffer().length() ?
+        state.failure("end of input expected") : state.success(null);
+  }
+
+  // ChoiceParser
+  private int f2(CharSequence buffer, int position) {
+    int result = -1;
+    result = f71(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f48(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f43(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f38(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f33(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f16(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f3(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p2(ParseState state) {
+    int position = state.getPosition();
+    if (p71(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p48(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p43(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p38(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p33(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p16(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p3(state);
+  }
+
+  // ActionParser
+  private int f3(CharSequence buffer, int position) {
+    return f4(buffer, position);
+  }
+
+  private boolean p3(ParseState state) {
+    return p4(state) &&
+        state.success(a3.apply(state.getValue()));
+  }
+
+  // SequenceParser
+  private int f4(CharSequence buffer, int position) {
+    position = f13(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f8(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f5(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p4(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p13(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p8(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p5(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f5(CharSequence buffer, int position) {
+    for (int result; (result = f6(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f7(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f6(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p5(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f6(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p7(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f6(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f6(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c6.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p6(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c6.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // CharacterParser[']' expected]
+  private int f7(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c7.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p7(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c7.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("']' expected");
+  }
+
+  // OptionalParser
+  private int f8(CharSequence buffer, int position) {
+    int result = f9(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p8(ParseState state) {
+    int position = state.getPosition();
+    return p9(state) || state.success(o8, position);
+  }
+
+  // SeparatedByParser[without separators]
+  private int f9(CharSequence buffer, int position) {
+    int current = f2(buffer, position);
+    if (current < 0) {
+      return current;
+    }
+    while (true) {
+      int separated = f10(buffer, current);
+      if (separated < 0) {
+        return current;
+      }
+      int result = f2(buffer, separated);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+    }
+  }
+
+  private boolean p9(ParseState state) {
+    if (!p2(state)) {
+      return false;
+    }
+    List<Object> elements = new ArrayList<>(s9);
+    elements.add(state.getValue());
+    int position = state.getPosition();
+    while (true) {
+      if (!p10(state)) {
+        s9 = Math.min(elements.size(), 1024);
+        return state.success(elements, position);
+      }
+      if (!p2(state)) {
+        s9 = Math.min(elements.size(), 1024);
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // TrimmingParser
+  private int f10(CharSequence buffer, int position) {
+    for (int result; (result = f11(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f12(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f11(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p10(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f11(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p12(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f11(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f11(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c11.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p11(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c11.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // CharacterParser[',' expected]
+  private int f12(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c12.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p12(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c12.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("',' expected");
+  }
+
+  // TrimmingParser
+  private int f13(CharSequence buffer, int position) {
+    for (int result; (result = f14(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f15(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f14(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p13(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f14(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p15(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f14(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f14(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c14.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p14(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c14.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // CharacterParser['[' expected]
+  private int f15(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c15.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p15(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c15.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'[' expected");
+  }
+
+  // ActionParser
+  private int f16(CharSequence buffer, int position) {
+    return f17(buffer, position);
+  }
+
+  private boolean p16(ParseState state) {
+    return p17(state) &&
+        state.success(a16.apply(state.getValue()));
+  }
+
+  // SequenceParser
+  private int f17(CharSequence buffer, int position) {
+    position = f30(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f21(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f18(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p17(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p30(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p21(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p18(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f18(CharSequence buffer, int position) {
+    for (int result; (result = f19(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f20(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f19(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p18(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f19(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p20(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f19(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f19(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c19.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p19(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c19.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // CharacterParser['}' expected]
+  private int f20(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c20.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p20(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c20.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'}' expected");
+  }
+
+  // OptionalParser
+  private int f21(CharSequence buffer, int position) {
+    int result = f22(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p21(ParseState state) {
+    int position = state.getPosition();
+    return p22(state) || state.success(o21, position);
+  }
+
+  // SeparatedByParser[without separators]
+  private int f22(CharSequence buffer, int position) {
+    int current = f26(buffer, position);
+    if (current < 0) {
+      return current;
+    }
+    while (true) {
+      int separated = f23(buffer, current);
+      if (separated < 0) {
+        return current;
+      }
+      int result = f26(buffer, separated);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+    }
+  }
+
+  private boolean p22(ParseState state) {
+    if (!p26(state)) {
+      return false;
+    }
+    List<Object> elements = new ArrayList<>(s22);
+    elements.add(state.getValue());
+    int position = state.getPosition();
+    while (true) {
+      if (!p23(state)) {
+        s22 = Math.min(elements.size(), 1024);
+        return state.success(elements, position);
+      }
+      if (!p26(state)) {
+        s22 = Math.min(elements.size(), 1024);
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // TrimmingParser
+  private int f23(CharSequence buffer, int position) {
+    for (int result; (result = f24(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f25(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f24(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p23(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f24(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p25(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f24(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f24(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c24.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p24(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c24.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // CharacterParser[',' expected]
+  private int f25(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c25.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p25(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c25.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("',' expected");
+  }
+
+  // SequenceParser
+  private int f26(CharSequence buffer, int position) {
+    position = f71(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f27(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f2(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p26(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p71(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p27(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p2(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f27(CharSequence buffer, int position) {
+    for (int result; (result = f28(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f29(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f28(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p27(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f28(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p29(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f28(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f28(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c28.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p28(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c28.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // CharacterParser[':' expected]
+  private int f29(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c29.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p29(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c29.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("':' expected");
+  }
+
+  // TrimmingParser
+  private int f30(CharSequence buffer, int position) {
+    for (int result; (result = f31(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f32(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f31(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p30(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f31(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p32(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f31(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f31(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c31.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p31(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c31.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // CharacterParser['{' expected]
+  private int f32(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c32.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p32(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c32.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'{' expected");
+  }
+
+  // ActionParser
+  private int f33(CharSequence buffer, int position) {
+    return f34(buffer, position);
+  }
+
+  private boolean p33(ParseState state) {
+    return p34(state) &&
+        state.success(a33.apply(state.getValue()));
+  }
+
+  // TrimmingParser
+  private int f34(CharSequence buffer, int position) {
+    for (int result; (result = f35(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f36(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f35(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p34(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f35(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p36(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f35(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f35(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c35.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p35(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c35.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // FlattenParser
+  private int f36(CharSequence buffer, int position) {
+    return f37(buffer, position);
+  }
+
+  private boolean p36(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    int position = f37(buffer, start);
+    if (position < 0) {
+      return state.failure("Expected 'null'");
+    }
+    return state.success(buffer.subSequence(start, position).toString(),
+        position);
+  }
+
+  // StringParser[null expected]
+  private int f37(CharSequence buffer, int position) {
+    return position + 4 <= buffer.length() &&
+        buffer.charAt(position) == 'n' &&
+        buffer.charAt(position + 1) == 'u' &&
+        buffer.charAt(position + 2) == 'l' &&
+        buffer.charAt(position + 3) == 'l' ?
+        position + 4 : -1;
+  }
+
+  private boolean p37(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 4 <= buffer.length() &&
+        buffer.charAt(position) == 'n' &&
+        buffer.charAt(position + 1) == 'u' &&
+        buffer.charAt(position + 2) == 'l' &&
+        buffer.charAt(position + 3) == 'l') {
+      return state.success("null", position + 4);
+    }
+    return state.failure("null expected");
+  }
+
+  // ActionParser
+  private int f38(CharSequence buffer, int position) {
+    return f39(buffer, position);
+  }
+
+  private boolean p38(ParseState state) {
+    return p39(state) &&
+        state.success(a38.apply(state.getValue()));
+  }
+
+  // TrimmingParser
+  private int f39(CharSequence buffer, int position) {
+    for (int result; (result = f40(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f41(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f40(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p39(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f40(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p41(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f40(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f40(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c40.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p40(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c40.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // FlattenParser
+  private int f41(CharSequence buffer, int position) {
+    return f42(buffer, position);
+  }
+
+  private boolean p41(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    int position = f42(buffer, start);
+    if (position < 0) {
+      return state.failure("Expected 'false'");
+    }
+    return state.success(buffer.subSequence(start, position).toString(),
+        position);
+  }
+
+  // StringParser[false expected]
+  private int f42(CharSequence buffer, int position) {
+    return position + 5 <= buffer.length() &&
+        buffer.charAt(position) == 'f' &&
+        buffer.charAt(position + 1) == 'a' &&
+        buffer.charAt(position + 2) == 'l' &&
+        buffer.charAt(position + 3) == 's' &&
+        buffer.charAt(position + 4) == 'e' ?
+        position + 5 : -1;
+  }
+
+  private boolean p42(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 5 <= buffer.length() &&
+        buffer.charAt(position) == 'f' &&
+        buffer.charAt(position + 1) == 'a' &&
+        buffer.charAt(position + 2) == 'l' &&
+        buffer.charAt(position + 3) == 's' &&
+        buffer.charAt(position + 4) == 'e') {
+      return state.success("false", position + 5);
+    }
+    return state.failure("false expected");
+  }
+
+  // ActionParser
+  private int f43(CharSequence buffer, int position) {
+    return f44(buffer, position);
+  }
+
+  private boolean p43(ParseState state) {
+    return p44(state) &&
+        state.success(a43.apply(state.getValue()));
+  }
+
+  // TrimmingParser
+  private int f44(CharSequence buffer, int position) {
+    for (int result; (result = f45(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f46(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f45(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p44(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f45(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p46(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f45(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f45(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c45.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p45(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c45.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // FlattenParser
+  private int f46(CharSequence buffer, int position) {
+    return f47(buffer, position);
+  }
+
+  private boolean p46(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    int position = f47(buffer, start);
+    if (position < 0) {
+      return state.failure("Expected 'true'");
+    }
+    return state.success(buffer.subSequence(start, position).toString(),
+        position);
+  }
+
+  // StringParser[true expected]
+  private int f47(CharSequence buffer, int position) {
+    return position + 4 <= buffer.length() &&
+        buffer.charAt(position) == 't' &&
+        buffer.charAt(position + 1) == 'r' &&
+        buffer.charAt(position + 2) == 'u' &&
+        buffer.charAt(position + 3) == 'e' ?
+        position + 4 : -1;
+  }
+
+  private boolean p47(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 4 <= buffer.length() &&
+        buffer.charAt(position) == 't' &&
+        buffer.charAt(position + 1) == 'r' &&
+        buffer.charAt(position + 2) == 'u' &&
+        buffer.charAt(position + 3) == 'e') {
+      return state.success("true", position + 4);
+    }
+    return state.failure("true expected");
+  }
+
+  // ActionParser
+  private int f48(CharSequence buffer, int position) {
+    return f49(buffer, position);
+  }
+
+  private boolean p48(ParseState state) {
+    return p49(state) &&
+        state.success(a48.apply(state.getValue()));
+  }
+
+  // TrimmingParser
+  private int f49(CharSequence buffer, int position) {
+    for (int result; (result = f50(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f51(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f50(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p49(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f50(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p51(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f50(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f50(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c50.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p50(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c50.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // FlattenParser
+  private int f51(CharSequence buffer, int position) {
+    return f52(buffer, position);
+  }
+
+  private boolean p51(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    int position = f52(buffer, start);
+    if (position < 0) {
+      return state.failure("Expected number");
+    }
+    return state.success(buffer.subSequence(start, position).toString(),
+        position);
+  }
+
+  // SequenceParser
+  private int f52(CharSequence buffer, int position) {
+    position = f69(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f65(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f60(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f53(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p52(ParseState state) {
+    List<Object> elements = new ArrayList<>(4);
+    if (!p69(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p65(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p60(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p53(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // OptionalParser
+  private int f53(CharSequence buffer, int position) {
+    int result = f54(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p53(ParseState state) {
+    int position = state.getPosition();
+    return p54(state) || state.success(o53, position);
+  }
+
+  // SequenceParser
+  private int f54(CharSequence buffer, int position) {
+    position = f59(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f57(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f55(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p54(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p59(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p57(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p55(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f55(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f56(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f56(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p55(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p56(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p56(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // CharacterParser[digit expected]
+  private int f56(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c56.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p56(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c56.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("digit expected");
+  }
+
+  // OptionalParser
+  private int f57(CharSequence buffer, int position) {
+    int result = f58(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p57(ParseState state) {
+    int position = state.getPosition();
+    return p58(state) || state.success(o57, position);
+  }
+
+  // CharacterParser[any of '-+' expected]
+  private int f58(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c58.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p58(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c58.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("any of '-+' expected");
+  }
+
+  // CharacterParser[any of 'eE' expected]
+  private int f59(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c59.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p59(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c59.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("any of 'eE' expected");
+  }
+
+  // OptionalParser
+  private int f60(CharSequence buffer, int position) {
+    int result = f61(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p60(ParseState state) {
+    int position = state.getPosition();
+    return p61(state) || state.success(o60, position);
+  }
+
+  // SequenceParser
+  private int f61(CharSequence buffer, int position) {
+    position = f64(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f62(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p61(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p64(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p62(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f62(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f63(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f63(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p62(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p63(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p63(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // CharacterParser[digit expected]
+  private int f63(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c63.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p63(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c63.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("digit expected");
+  }
+
+  // CharacterParser['.' expected]
+  private int f64(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c64.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p64(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c64.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'.' expected");
+  }
+
+  // ChoiceParser
+  private int f65(CharSequence buffer, int position) {
+    int result = -1;
+    result = f68(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f66(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p65(ParseState state) {
+    int position = state.getPosition();
+    if (p68(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p66(state);
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f66(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f67(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f67(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p66(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p67(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p67(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // CharacterParser[digit expected]
+  private int f67(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c67.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p67(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c67.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("digit expected");
+  }
+
+  // CharacterParser['0' expected]
+  private int f68(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c68.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p68(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c68.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'0' expected");
+  }
+
+  // OptionalParser
+  private int f69(CharSequence buffer, int position) {
+    int result = f70(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p69(ParseState state) {
+    int position = state.getPosition();
+    return p70(state) || state.success(o69, position);
+  }
+
+  // CharacterParser['-' expected]
+  private int f70(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c70.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p70(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c70.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'-' expected");
+  }
+
+  // TrimmingParser
+  private int f71(CharSequence buffer, int position) {
+    for (int result; (result = f72(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f73(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f72(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p71(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f72(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p73(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f72(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f72(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c72.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p72(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c72.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // ActionParser
+  private int f73(CharSequence buffer, int position) {
+    return f74(buffer, position);
+  }
+
+  private boolean p73(ParseState state) {
+    return p74(state) &&
+        state.success(a73.apply(state.getValue()));
+  }
+
+  // SequenceParser
+  private int f74(CharSequence buffer, int position) {
+    position = f90(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f76(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f75(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p74(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p90(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p76(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p75(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // CharacterParser['\"' expected]
+  private int f75(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c75.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p75(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c75.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'\"' expected");
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f76(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f77(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f77(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p76(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p77(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p77(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // ChoiceParser
+  private int f77(CharSequence buffer, int position) {
+    int result = -1;
+    result = f85(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f79(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f78(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p77(ParseState state) {
+    int position = state.getPosition();
+    if (p85(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p79(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p78(state);
+  }
+
+  // CharacterParser[CharacterParser[any of '\"\\' expected] not expected]
+  private int f78(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c78.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p78(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c78.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("CharacterParser[any of '\"\\' expected] not expected");
+  }
+
+  // ActionParser
+  private int f79(CharSequence buffer, int position) {
+    return f80(buffer, position);
+  }
+
+  private boolean p79(ParseState state) {
+    return p80(state) &&
+        state.success(a79.apply(state.getValue()));
+  }
+
+  // SequenceParser
+  private int f80(CharSequence buffer, int position) {
+    position = f84(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f81(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p80(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p84(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p81(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // FlattenParser
+  private int f81(CharSequence buffer, int position) {
+    return f82(buffer, position);
+  }
+
+  private boolean p81(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    return p82(state) && state.success(
+        buffer.subSequence(start, state.getPosition()).toString());
+  }
+
+  // PossessiveRepeatingParser[4..4]
+  private int f82(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 4) {
+      int result = f83(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (count < 4) {
+      int result = f83(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+    return current;
+  }
+
+  private boolean p82(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 4) {
+      if (!p83(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (elements.size() < 4) {
+      if (!p83(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+    return state.success(elements);
+  }
+
+  // CharacterParser[[0-9A-Fa-f] expected]
+  private int f83(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c83.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p83(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c83.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("[0-9A-Fa-f] expected");
+  }
+
+  // StringParser[\\u expected]
+  private int f84(CharSequence buffer, int position) {
+    return position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '\\' &&
+        buffer.charAt(position + 1) == 'u' ?
+        position + 2 : -1;
+  }
+
+  private boolean p84(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '\\' &&
+        buffer.charAt(position + 1) == 'u') {
+      return state.success("\\u", position + 2);
+    }
+    return state.failure("\\u expected");
+  }
+
+  // ActionParser
+  private int f85(CharSequence buffer, int position) {
+    return f86(buffer, position);
+  }
+
+  private boolean p85(ParseState state) {
+    return p86(state) &&
+        state.success(a85.apply(state.getValue()));
+  }
+
+  // ActionParser
+  private int f86(CharSequence buffer, int position) {
+    return f87(buffer, position);
+  }
+
+  private boolean p86(ParseState state) {
+    return p87(state) &&
+        state.success(a86.apply(state.getValue()));
+  }
+
+  // SequenceParser
+  private int f87(CharSequence buffer, int position) {
+    position = f89(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f88(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p87(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p89(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p88(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // CharacterParser[any of '\"brtf\\n/' expected]
+  private int f88(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c88.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p88(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c88.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("any of '\"brtf\\n/' expected");
+  }
+
+  // CharacterParser['\\' expected]
+  private int f89(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c89.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p89(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c89.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'\\' expected");
+  }
+
+  // CharacterParser['\"' expected]
+  private int f90(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c90.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p90(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c90.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'\"' expected");
+  }
+}
@@ -7,14 +7,16 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.petitparser.parser.primitive.CharacterParser.of;
+
 /**
  * JSON parser definition.
  */
 public class JsonParserDefinition extends JsonGrammarDefinition {
 
   public JsonParserDefinition() {
-    action("elements", Functions.withoutSeparators());
-    action("members", Functions.withoutSeparators());
+    redef("elements", ref("value").separatedBy(of(',').trim(), false, false));
+    redef("members", ref("pair").separatedBy(of(',').trim(), false, false));
     action("array", (List<List<?>> input) -> {
       return input.get(1) != null ? input.get(1) : new ArrayList<>();
     });
@@ -0,0 +1,63 @@
+package org.petitparser.grammar.json;
+
+import org.junit.Test;
+import org.petitparser.context.Result;
+import org.petitparser.parser.Parser;
+import org.petitparser.tools.ParserGenerator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests {@link GeneratedJsonParser}.
+ *
+ * <p>Run with {@code -Dpetitparser.generate=true} to update the generated
+ * source after changing the grammar.
+ */
+public class GeneratedJsonParserTest {
+
+  private static final Path SOURCE = Paths.get("src/main/java/org/" +
+      "petitparser/grammar/json/GeneratedJsonParser.java");
+
+  private static final List<String> INPUTS = Arrays.asList("", "[]", "{}",
+      " [ \"a\" , \"b\" ] ", "[[\"a\"]]", "{\"a\": 1, \"b\": [true, false]}",
+      "{\"a\": null}", "-12.5e-3", "0", "01", "\"\\u00e4\\n\"", "\"\\x\"",
+      "[1, 2,]", "{\"a\" 1}", "tru", "nul", "[", "\"abc");
+
+  @Test
+  public void testGeneratedSource() throws IOException {
+    String source = new ParserGenerator(new JsonParserDefinition(), "start")
+        .generate("org.petitparser.grammar.json", "GeneratedJsonParser");
+    if (Boolean.getBoolean("petitparser.generate")) {
+      Files.write(SOURCE, source.getBytes(StandardCharsets.UTF_8));
+    }
+    assertEquals(new String(Files.readAllBytes(SOURCE),
+        StandardCharsets.UTF_8), source);
+  }
+
+  @Test
+  public void testGeneratedParser() {
+    Parser expected = new JsonParser();
+    Parser actual = new GeneratedJsonParser();
+    for (String input : INPUTS) {
+      Result expectedResult = expected.parse(input);
+      Result actualResult = actual.parse(input);
+      assertEquals(input, expectedResult.isSuccess(),
+          actualResult.isSuccess());
+      assertEquals(input, expectedResult.getPosition(),
+          actualResult.getPosition());
+      assertEquals(input, expectedResult.isSuccess() ?
+          expectedResult.get() : expectedResult.getMessage(),
+          actualResult.isSuccess() ?
+              actualResult.get() : actualResult.getMessage());
+      assertEquals(input, expected.accept(input), actual.accept(input));
+    }
+  }
+}
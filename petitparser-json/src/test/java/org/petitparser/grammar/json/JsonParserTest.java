@@ -3,7 +3,9 @@ package org.petitparser.grammar.json;
 import org.junit.Test;
 import org.petitparser.context.Result;
 import org.petitparser.parser.Parser;
+import org.petitparser.utils.Optimizer;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -281,6 +283,17 @@ public class JsonParserTest {
     assertInvalid("nullified");
   }
 
+  @Test
+  public void testParseFarthest() {
+    for (Parser each : Arrays.asList(parser, parser.copy(),
+        new Optimizer().transform(parser))) {
+      Result result = each.parseFarthest("{\"a\" 1}");
+      assertTrue(result.isFailure());
+      assertEquals(5, result.getPosition());
+      assertEquals("':' expected", result.getMessage());
+    }
+  }
+
   private Result assertValid(String input) {
     Result result = parser.parse(input);
     assertTrue(result.isSuccess());
@@ -0,0 +1,6331 @@
+package org.petitparser.grammar.smalltalk;
+
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Token;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+import org.petitparser.tools.CompiledParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Generated by {@link org.petitparser.tools.ParserGenerator}, do not edit.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class GeneratedSmalltalkParser extends CompiledParser {
+
+  private final CharacterPredicate c9;
+  private final CharacterPredicate c11;
+  private final CharacterPredicate c12;
+  private final CharacterPredicate c13;
+  private final CharacterPredicate c14;
+  private final CharacterPredicate c16;
+  private final CharacterPredicate c29;
+  private final CharacterPredicate c32;
+  private final CharacterPredicate c33;
+  private final Object o42;
+  private final Object o44;
+  private int s45 = 10;
+  private final CharacterPredicate c87;
+  private final CharacterPredicate c93;
+  private final CharacterPredicate c99;
+  private final CharacterPredicate c108;
+  private final CharacterPredicate c111;
+  private final CharacterPredicate c113;
+  private final CharacterPredicate c116;
+  private final CharacterPredicate c118;
+  private final CharacterPredicate c161;
+  private final CharacterPredicate c162;
+  private final CharacterPredicate c171;
+  private final CharacterPredicate c174;
+  private final CharacterPredicate c175;
+  private final Object o177;
+  private final CharacterPredicate c180;
+  private final CharacterPredicate c181;
+  private final CharacterPredicate c183;
+  private final Object o185;
+  private final CharacterPredicate c186;
+  private final Object o188;
+  private final CharacterPredicate c189;
+  private final Object o202;
+  private final Object o218;
+  private final SmalltalkDefinition definition;
+
+  public GeneratedSmalltalkParser() {
+    this(new SmalltalkDefinition());
+  }
+
+  public GeneratedSmalltalkParser(SmalltalkDefinition definition) {
+    this.definition = definition;
+    List<Parser> nodesArray = nodesOf(definition, "array", 11);
+    List<Parser> nodesBinary = nodesOf(definition, "binary", 2);
+    List<Parser> nodesChar = nodesOf(definition, "char", 3);
+    List<Parser> nodesComment = nodesOf(definition, "comment", 6);
+    List<Parser> nodesDigits = nodesOf(definition, "digits", 2);
+    List<Parser> nodesExponent = nodesOf(definition, "exponent", 2);
+    List<Parser> nodesExponentLetter = nodesOf(definition, "exponentLetter", 1);
+    List<Parser> nodesFalseToken = nodesOf(definition, "falseToken", 6);
+    List<Parser> nodesFloat = nodesOf(definition, "float", 3);
+    List<Parser> nodesIdentifier = nodesOf(definition, "identifier", 4);
+    List<Parser> nodesKeyword = nodesOf(definition, "keyword", 2);
+    List<Parser> nodesKeywordExpression = nodesOf(definition, "keywordExpression", 2);
+    List<Parser> nodesMantissa = nodesOf(definition, "mantissa", 2);
+    List<Parser> nodesNilToken = nodesOf(definition, "nilToken", 6);
+    List<Parser> nodesNumber = nodesOf(definition, "number", 3);
+    List<Parser> nodesPeriod = nodesOf(definition, "period", 1);
+    List<Parser> nodesRadixDigits = nodesOf(definition, "radixDigits", 2);
+    List<Parser> nodesRadixInteger = nodesOf(definition, "radixInteger", 2);
+    List<Parser> nodesScaledDecimal = nodesOf(definition, "scaledDecimal", 3);
+    List<Parser> nodesString = nodesOf(definition, "string", 7);
+    List<Parser> nodesTemporaries = nodesOf(definition, "temporaries", 9);
+    List<Parser> nodesTrueToken = nodesOf(definition, "trueToken", 6);
+    List<Parser> nodesUnary = nodesOf(definition, "unary", 3);
+    List<Parser> nodesWhitespace = nodesOf(definition, "whitespace", 2);
+    this.c9 = ((org.petitparser.parser.primitive.CharacterParser) nodesComment.get(5)).getPredicate();
+    this.c11 = ((org.petitparser.parser.primitive.CharacterParser) nodesComment.get(4)).getPredicate();
+    this.c12 = ((org.petitparser.parser.primitive.CharacterParser) nodesComment.get(3)).getPredicate();
+    this.c13 = ((org.petitparser.parser.primitive.CharacterParser) nodesComment.get(1)).getPredicate();
+    this.c14 = ((org.petitparser.parser.primitive.CharacterParser) nodesWhitespace.get(1)).getPredicate();
+    this.c16 = ((org.petitparser.parser.primitive.CharacterParser) nodesPeriod.get(0)).getPredicate();
+    this.c29 = ((org.petitparser.parser.primitive.CharacterParser) nodesUnary.get(2)).getPredicate();
+    this.c32 = ((org.petitparser.parser.primitive.CharacterParser) nodesIdentifier.get(3)).getPredicate();
+    this.c33 = ((org.petitparser.parser.primitive.CharacterParser) nodesIdentifier.get(1)).getPredicate();
+    this.o42 = ((org.petitparser.parser.combinators.OptionalParser) nodesArray.get(4)).getOtherwise();
+    this.o44 = ((org.petitparser.parser.combinators.OptionalParser) nodesArray.get(7)).getOtherwise();
+    this.c87 = ((org.petitparser.parser.primitive.CharacterParser) nodesFalseToken.get(5)).getPredicate();
+    this.c93 = ((org.petitparser.parser.primitive.CharacterParser) nodesTrueToken.get(5)).getPredicate();
+    this.c99 = ((org.petitparser.parser.primitive.CharacterParser) nodesNilToken.get(5)).getPredicate();
+    this.c108 = ((org.petitparser.parser.primitive.CharacterParser) nodesString.get(6)).getPredicate();
+    this.c111 = ((org.petitparser.parser.primitive.CharacterParser) nodesString.get(5)).getPredicate();
+    this.c113 = ((org.petitparser.parser.primitive.CharacterParser) nodesString.get(1)).getPredicate();
+    this.c116 = ((org.petitparser.parser.primitive.CharacterParser) nodesKeyword.get(1)).getPredicate();
+    this.c118 = ((org.petitparser.parser.primitive.CharacterParser) nodesBinary.get(1)).getPredicate();
+    this.c161 = ((org.petitparser.parser.primitive.CharacterParser) nodesChar.get(2)).getPredicate();
+    this.c162 = ((org.petitparser.parser.primitive.CharacterParser) nodesChar.get(1)).getPredicate();
+    this.c171 = ((org.petitparser.parser.primitive.CharacterParser) nodesDigits.get(1)).getPredicate();
+    this.c174 = ((org.petitparser.parser.primitive.CharacterParser) nodesRadixDigits.get(1)).getPredicate();
+    this.c175 = ((org.petitparser.parser.primitive.CharacterParser) nodesRadixInteger.get(1)).getPredicate();
+    this.o177 = ((org.petitparser.parser.combinators.OptionalParser) nodesFloat.get(1)).getOtherwise();
+    this.c180 = ((org.petitparser.parser.primitive.CharacterParser) nodesExponent.get(1)).getPredicate();
+    this.c181 = ((org.petitparser.parser.primitive.CharacterParser) nodesExponentLetter.get(0)).getPredicate();
+    this.c183 = ((org.petitparser.parser.primitive.CharacterParser) nodesMantissa.get(1)).getPredicate();
+    this.o185 = ((org.petitparser.parser.combinators.OptionalParser) nodesScaledDecimal.get(2)).getOtherwise();
+    this.c186 = ((org.petitparser.parser.primitive.CharacterParser) nodesScaledDecimal.get(1)).getPredicate();
+    this.o188 = ((org.petitparser.parser.combinators.OptionalParser) nodesNumber.get(1)).getOtherwise();
+    this.c189 = ((org.petitparser.parser.primitive.CharacterParser) nodesNumber.get(2)).getPredicate();
+    this.o202 = ((org.petitparser.parser.combinators.OptionalParser) nodesKeywordExpression.get(1)).getOtherwise();
+    this.o218 = ((org.petitparser.parser.combinators.OptionalParser) nodesTemporaries.get(0)).getOtherwise();
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    return p0(state);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    return f0(buffer, position);
+  }
+
+  @Override
+  public GeneratedSmalltalkParser copy() {
+    return new GeneratedSmalltalkParser(definition);
+  }
+
+  // PickSequenceParser[0]
+  private int f0(CharSequence buffer, int position) {
+    position = f2(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f1(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p0(ParseState state) {
+    Object value0 = null;
+    if (!p2(state)) {
+      return false;
+    }
+    value0 = state.getValue();
+    if (!p1(state)) {
+      return false;
+    }
+    return state.success(value0);
+  }
+
+  // EndOfInputParser[end of input expected]
+  private int f1(CharSequence buffer, int position) {
+    return position < buffer.length() ? -1 : position;
+  }
+
+  private boolean p1(ParseState state) {
+    return state.getPosition() < state.getBuffer().length() ?
+        state.failure("end of input expected") : state.success(null);
+  }
+
+  // SequenceParser
+  private int f2(CharSequence buffer, int position) {
+    position = f241(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f3(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p2(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p241(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p3(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // SequenceParser
+  private int f3(CharSequence buffer, int position) {
+    position = f240(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f228(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f227(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f218(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f217(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f228(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f216(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f4(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p3(ParseState state) {
+    List<Object> elements = new ArrayList<>(8);
+    if (!p240(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p228(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p227(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p218(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p217(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p228(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p216(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p4(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // ChoiceParser
+  private int f4(CharSequence buffer, int position) {
+    int result = -1;
+    result = f211(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f17(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f5(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p4(ParseState state) {
+    int position = state.getPosition();
+    if (p211(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p17(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p5(state);
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f5(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p5(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p6(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p6(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // TrimmingParser
+  private int f6(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f15(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p6(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p15(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // ChoiceParser
+  private int f7(CharSequence buffer, int position) {
+    int result = -1;
+    result = f14(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f8(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p7(ParseState state) {
+    int position = state.getPosition();
+    if (p14(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p8(state);
+  }
+
+  // SequenceParser
+  private int f8(CharSequence buffer, int position) {
+    position = f13(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f10(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f9(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p8(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p13(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p10(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p9(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // CharacterParser['\"' expected]
+  private int f9(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c9.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p9(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c9.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'\"' expected");
+  }
+
+  // LazyRepeatingParser[0..*]
+  private int f10(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f12(buffer, current);
+      if (result < 0) {
+        return -1;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      if (f11(buffer, current) >= 0) {
+        return current;
+      }
+      int result = f12(buffer, current);
+      if (result < 0) {
+        return -1;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p10(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p12(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    while (true) {
+      int position = state.getPosition();
+      if (p11(state)) {
+        return state.success(elements, position);
+      }
+      String limiterMessage = state.getMessage();
+      int limiterPosition = state.getPosition();
+      state.setPosition(position);
+      if (!p12(state)) {
+        return state.failure(limiterMessage, limiterPosition);
+      }
+      elements.add(state.getValue());
+    }
+  }
+
+  // CharacterParser['\"' expected]
+  private int f11(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c11.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p11(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c11.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'\"' expected");
+  }
+
+  // CharacterParser[any character expected]
+  private int f12(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c12.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p12(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c12.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("any character expected");
+  }
+
+  // CharacterParser['\"' expected]
+  private int f13(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c13.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p13(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c13.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'\"' expected");
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f14(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c14.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p14(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c14.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // TokenParser
+  private int f15(CharSequence buffer, int position) {
+    return f16(buffer, position);
+  }
+
+  private boolean p15(ParseState state) {
+    int start = state.getPosition();
+    return p16(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // CharacterParser['.' expected]
+  private int f16(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c16.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p16(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c16.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'.' expected");
+  }
+
+  // SequenceParser
+  private int f17(CharSequence buffer, int position) {
+    position = f19(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f18(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p17(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p19(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p18(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f18(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p18(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p6(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p6(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // SequenceParser
+  private int f19(CharSequence buffer, int position) {
+    position = f208(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f20(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p19(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p208(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p20(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // SequenceParser
+  private int f20(CharSequence buffer, int position) {
+    position = f203(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f21(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p20(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p203(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p21(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // SequenceParser
+  private int f21(CharSequence buffer, int position) {
+    position = f201(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f22(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p21(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p201(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p22(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f22(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f23(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f23(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p22(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p23(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p23(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // SequenceParser
+  private int f23(CharSequence buffer, int position) {
+    position = f198(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f24(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p23(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p198(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p24(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // ChoiceParser
+  private int f24(CharSequence buffer, int position) {
+    int result = -1;
+    result = f192(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f34(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f25(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p24(ParseState state) {
+    int position = state.getPosition();
+    if (p192(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p34(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p25(state);
+  }
+
+  // TrimmingParser
+  private int f25(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f26(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p25(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p26(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f26(CharSequence buffer, int position) {
+    return f27(buffer, position);
+  }
+
+  private boolean p26(ParseState state) {
+    int start = state.getPosition();
+    return p27(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // SequenceParser
+  private int f27(CharSequence buffer, int position) {
+    position = f30(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f28(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p27(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p30(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p28(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // NotParser[unexpected]
+  private int f28(CharSequence buffer, int position) {
+    return f29(buffer, position) < 0 ? position : -1;
+  }
+
+  private boolean p28(ParseState state) {
+    int position = state.getPosition();
+    state.suspendExpected();
+    boolean success = p29(state);
+    state.resumeExpected();
+    if (success) {
+      return state.failure("unexpected", position);
+    }
+    return state.success(null, position);
+  }
+
+  // CharacterParser[':' expected]
+  private int f29(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c29.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p29(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c29.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("':' expected");
+  }
+
+  // SequenceParser
+  private int f30(CharSequence buffer, int position) {
+    position = f33(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f31(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p30(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p33(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p31(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f31(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f32(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f32(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p31(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p32(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p32(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // CharacterParser[[a-zA-Z0-9_] expected]
+  private int f32(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c32.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p32(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c32.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("[a-zA-Z0-9_] expected");
+  }
+
+  // CharacterParser[[a-zA-Z_] expected]
+  private int f33(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c33.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p33(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c33.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("[a-zA-Z_] expected");
+  }
+
+  // SequenceParser
+  private int f34(CharSequence buffer, int position) {
+    position = f190(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f35(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p34(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p190(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p35(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // SequenceParser
+  private int f35(CharSequence buffer, int position) {
+    position = f37(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f36(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p35(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p37(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p36(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f36(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f25(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f25(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p36(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p25(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p25(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // ChoiceParser
+  private int f37(CharSequence buffer, int position) {
+    int result = -1;
+    result = f84(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f82(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f56(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f49(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f38(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p37(ParseState state) {
+    int position = state.getPosition();
+    if (p84(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p82(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p56(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p49(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p38(state);
+  }
+
+  // SequenceParser
+  private int f38(CharSequence buffer, int position) {
+    position = f46(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f42(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f39(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p38(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p46(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p42(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p39(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f39(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f40(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p39(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p40(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f40(CharSequence buffer, int position) {
+    return f41(buffer, position);
+  }
+
+  private boolean p40(ParseState state) {
+    int start = state.getPosition();
+    return p41(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[} expected]
+  private int f41(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '}' ?
+        position + 1 : -1;
+  }
+
+  private boolean p41(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '}') {
+      return state.success("}", position + 1);
+    }
+    return state.failure("} expected");
+  }
+
+  // OptionalParser
+  private int f42(CharSequence buffer, int position) {
+    int result = f43(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p42(ParseState state) {
+    int position = state.getPosition();
+    return p43(state) || state.success(o42, position);
+  }
+
+  // SequenceParser
+  private int f43(CharSequence buffer, int position) {
+    position = f45(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f44(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p43(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p45(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p44(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // OptionalParser
+  private int f44(CharSequence buffer, int position) {
+    int result = f6(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p44(ParseState state) {
+    int position = state.getPosition();
+    return p6(state) || state.success(o44, position);
+  }
+
+  // SeparatedByParser[with separators]
+  private int f45(CharSequence buffer, int position) {
+    int current = f20(buffer, position);
+    if (current < 0) {
+      return current;
+    }
+    while (true) {
+      int separated = f6(buffer, current);
+      if (separated < 0) {
+        return current;
+      }
+      int result = f20(buffer, separated);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+    }
+  }
+
+  private boolean p45(ParseState state) {
+    if (!p20(state)) {
+      return false;
+    }
+    List<Object> elements = new ArrayList<>(s45);
+    elements.add(state.getValue());
+    int position = state.getPosition();
+    while (true) {
+      if (!p6(state)) {
+        s45 = Math.min(elements.size(), 1024);
+        return state.success(elements, position);
+      }
+      Object separated = state.getValue();
+      if (!p20(state)) {
+        s45 = Math.min(elements.size(), 1024);
+        return state.success(elements, position);
+      }
+      elements.add(separated);
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // TrimmingParser
+  private int f46(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f47(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p46(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p47(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f47(CharSequence buffer, int position) {
+    return f48(buffer, position);
+  }
+
+  private boolean p47(ParseState state) {
+    int start = state.getPosition();
+    return p48(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[{ expected]
+  private int f48(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '{' ?
+        position + 1 : -1;
+  }
+
+  private boolean p48(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '{') {
+      return state.success("{", position + 1);
+    }
+    return state.failure("{ expected");
+  }
+
+  // SequenceParser
+  private int f49(CharSequence buffer, int position) {
+    position = f53(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f20(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f50(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p49(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p53(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p20(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p50(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f50(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f51(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p50(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p51(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f51(CharSequence buffer, int position) {
+    return f52(buffer, position);
+  }
+
+  private boolean p51(ParseState state) {
+    int start = state.getPosition();
+    return p52(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[) expected]
+  private int f52(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ')' ?
+        position + 1 : -1;
+  }
+
+  private boolean p52(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ')') {
+      return state.success(")", position + 1);
+    }
+    return state.failure(") expected");
+  }
+
+  // TrimmingParser
+  private int f53(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f54(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p53(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p54(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f54(CharSequence buffer, int position) {
+    return f55(buffer, position);
+  }
+
+  private boolean p54(ParseState state) {
+    int start = state.getPosition();
+    return p55(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[( expected]
+  private int f55(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '(' ?
+        position + 1 : -1;
+  }
+
+  private boolean p55(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '(') {
+      return state.success("(", position + 1);
+    }
+    return state.failure("( expected");
+  }
+
+  // SequenceParser
+  private int f56(CharSequence buffer, int position) {
+    position = f79(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f60(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f57(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p56(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p79(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p60(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p57(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f57(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f58(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p57(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p58(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f58(CharSequence buffer, int position) {
+    return f59(buffer, position);
+  }
+
+  private boolean p58(ParseState state) {
+    int start = state.getPosition();
+    return p59(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[] expected]
+  private int f59(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ']' ?
+        position + 1 : -1;
+  }
+
+  private boolean p59(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ']') {
+      return state.success("]", position + 1);
+    }
+    return state.failure("] expected");
+  }
+
+  // SequenceParser
+  private int f60(CharSequence buffer, int position) {
+    position = f63(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f61(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p60(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p63(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p61(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // SequenceParser
+  private int f61(CharSequence buffer, int position) {
+    position = f218(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f62(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f4(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p61(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p218(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p62(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p4(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f62(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p62(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p6(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p6(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // ChoiceParser
+  private int f63(CharSequence buffer, int position) {
+    int result = -1;
+    result = f65(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f64(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p63(ParseState state) {
+    int position = state.getPosition();
+    if (p65(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p64(state);
+  }
+
+  // EpsilonParser
+  private int f64(CharSequence buffer, int position) {
+    return position;
+  }
+
+  private boolean p64(ParseState state) {
+    return state.success(null);
+  }
+
+  // SequenceParser
+  private int f65(CharSequence buffer, int position) {
+    position = f74(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f66(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p65(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p74(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p66(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // ChoiceParser
+  private int f66(CharSequence buffer, int position) {
+    int result = -1;
+    result = f71(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f67(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p66(ParseState state) {
+    int position = state.getPosition();
+    if (p71(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p67(state);
+  }
+
+  // AndParser
+  private int f67(CharSequence buffer, int position) {
+    return f68(buffer, position) < 0 ? -1 : position;
+  }
+
+  private boolean p67(ParseState state) {
+    int position = state.getPosition();
+    state.suspendExpected();
+    boolean success = p68(state);
+    state.resumeExpected();
+    if (success) {
+      state.setPosition(position);
+      return true;
+    }
+    return state.failure(state.getMessage(), state.getPosition());
+  }
+
+  // TrimmingParser
+  private int f68(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f69(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p68(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p69(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f69(CharSequence buffer, int position) {
+    return f70(buffer, position);
+  }
+
+  private boolean p69(ParseState state) {
+    int start = state.getPosition();
+    return p70(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[] expected]
+  private int f70(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ']' ?
+        position + 1 : -1;
+  }
+
+  private boolean p70(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ']') {
+      return state.success("]", position + 1);
+    }
+    return state.failure("] expected");
+  }
+
+  // TrimmingParser
+  private int f71(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f72(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p71(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p72(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f72(CharSequence buffer, int position) {
+    return f73(buffer, position);
+  }
+
+  private boolean p72(ParseState state) {
+    int start = state.getPosition();
+    return p73(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[| expected]
+  private int f73(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '|' ?
+        position + 1 : -1;
+  }
+
+  private boolean p73(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '|') {
+      return state.success("|", position + 1);
+    }
+    return state.failure("| expected");
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f74(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f75(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f75(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p74(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p75(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p75(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // SequenceParser
+  private int f75(CharSequence buffer, int position) {
+    position = f76(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f82(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p75(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p76(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p82(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f76(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f77(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p76(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p77(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f77(CharSequence buffer, int position) {
+    return f78(buffer, position);
+  }
+
+  private boolean p77(ParseState state) {
+    int start = state.getPosition();
+    return p78(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[: expected]
+  private int f78(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ':' ?
+        position + 1 : -1;
+  }
+
+  private boolean p78(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ':') {
+      return state.success(":", position + 1);
+    }
+    return state.failure(": expected");
+  }
+
+  // TrimmingParser
+  private int f79(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f80(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p79(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p80(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f80(CharSequence buffer, int position) {
+    return f81(buffer, position);
+  }
+
+  private boolean p80(ParseState state) {
+    int start = state.getPosition();
+    return p81(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[[ expected]
+  private int f81(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '[' ?
+        position + 1 : -1;
+  }
+
+  private boolean p81(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '[') {
+      return state.success("[", position + 1);
+    }
+    return state.failure("[ expected");
+  }
+
+  // TrimmingParser
+  private int f82(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f83(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p82(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p83(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f83(CharSequence buffer, int position) {
+    return f30(buffer, position);
+  }
+
+  private boolean p83(ParseState state) {
+    int start = state.getPosition();
+    return p30(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // ChoiceParser
+  private int f84(CharSequence buffer, int position) {
+    int result = -1;
+    result = f165(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f163(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f158(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f131(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f123(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f103(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f97(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f91(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f85(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p84(ParseState state) {
+    int position = state.getPosition();
+    if (p165(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p163(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p158(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p131(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p123(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p103(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p97(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p91(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p85(state);
+  }
+
+  // SequenceParser
+  private int f85(CharSequence buffer, int position) {
+    position = f88(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f86(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p85(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p88(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p86(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // NotParser[unexpected]
+  private int f86(CharSequence buffer, int position) {
+    return f87(buffer, position) < 0 ? position : -1;
+  }
+
+  private boolean p86(ParseState state) {
+    int position = state.getPosition();
+    state.suspendExpected();
+    boolean success = p87(state);
+    state.resumeExpected();
+    if (success) {
+      return state.failure("unexpected", position);
+    }
+    return state.success(null, position);
+  }
+
+  // CharacterParser[letter or digit expected]
+  private int f87(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c87.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p87(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c87.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("letter or digit expected");
+  }
+
+  // TrimmingParser
+  private int f88(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f89(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p88(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p89(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f89(CharSequence buffer, int position) {
+    return f90(buffer, position);
+  }
+
+  private boolean p89(ParseState state) {
+    int start = state.getPosition();
+    return p90(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[false expected]
+  private int f90(CharSequence buffer, int position) {
+    return position + 5 <= buffer.length() &&
+        buffer.charAt(position) == 'f' &&
+        buffer.charAt(position + 1) == 'a' &&
+        buffer.charAt(position + 2) == 'l' &&
+        buffer.charAt(position + 3) == 's' &&
+        buffer.charAt(position + 4) == 'e' ?
+        position + 5 : -1;
+  }
+
+  private boolean p90(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 5 <= buffer.length() &&
+        buffer.charAt(position) == 'f' &&
+        buffer.charAt(position + 1) == 'a' &&
+        buffer.charAt(position + 2) == 'l' &&
+        buffer.charAt(position + 3) == 's' &&
+        buffer.charAt(position + 4) == 'e') {
+      return state.success("false", position + 5);
+    }
+    return state.failure("false expected");
+  }
+
+  // SequenceParser
+  private int f91(CharSequence buffer, int position) {
+    position = f94(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f92(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p91(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p94(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p92(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // NotParser[unexpected]
+  private int f92(CharSequence buffer, int position) {
+    return f93(buffer, position) < 0 ? position : -1;
+  }
+
+  private boolean p92(ParseState state) {
+    int position = state.getPosition();
+    state.suspendExpected();
+    boolean success = p93(state);
+    state.resumeExpected();
+    if (success) {
+      return state.failure("unexpected", position);
+    }
+    return state.success(null, position);
+  }
+
+  // CharacterParser[letter or digit expected]
+  private int f93(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c93.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p93(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c93.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("letter or digit expected");
+  }
+
+  // TrimmingParser
+  private int f94(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f95(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p94(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p95(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f95(CharSequence buffer, int position) {
+    return f96(buffer, position);
+  }
+
+  private boolean p95(ParseState state) {
+    int start = state.getPosition();
+    return p96(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[true expected]
+  private int f96(CharSequence buffer, int position) {
+    return position + 4 <= buffer.length() &&
+        buffer.charAt(position) == 't' &&
+        buffer.charAt(position + 1) == 'r' &&
+        buffer.charAt(position + 2) == 'u' &&
+        buffer.charAt(position + 3) == 'e' ?
+        position + 4 : -1;
+  }
+
+  private boolean p96(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 4 <= buffer.length() &&
+        buffer.charAt(position) == 't' &&
+        buffer.charAt(position + 1) == 'r' &&
+        buffer.charAt(position + 2) == 'u' &&
+        buffer.charAt(position + 3) == 'e') {
+      return state.success("true", position + 4);
+    }
+    return state.failure("true expected");
+  }
+
+  // SequenceParser
+  private int f97(CharSequence buffer, int position) {
+    position = f100(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f98(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p97(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p100(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p98(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // NotParser[unexpected]
+  private int f98(CharSequence buffer, int position) {
+    return f99(buffer, position) < 0 ? position : -1;
+  }
+
+  private boolean p98(ParseState state) {
+    int position = state.getPosition();
+    state.suspendExpected();
+    boolean success = p99(state);
+    state.resumeExpected();
+    if (success) {
+      return state.failure("unexpected", position);
+    }
+    return state.success(null, position);
+  }
+
+  // CharacterParser[letter or digit expected]
+  private int f99(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c99.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p99(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c99.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("letter or digit expected");
+  }
+
+  // TrimmingParser
+  private int f100(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f101(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p100(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p101(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f101(CharSequence buffer, int position) {
+    return f102(buffer, position);
+  }
+
+  private boolean p101(ParseState state) {
+    int start = state.getPosition();
+    return p102(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[nil expected]
+  private int f102(CharSequence buffer, int position) {
+    return position + 3 <= buffer.length() &&
+        buffer.charAt(position) == 'n' &&
+        buffer.charAt(position + 1) == 'i' &&
+        buffer.charAt(position + 2) == 'l' ?
+        position + 3 : -1;
+  }
+
+  private boolean p102(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 3 <= buffer.length() &&
+        buffer.charAt(position) == 'n' &&
+        buffer.charAt(position + 1) == 'i' &&
+        buffer.charAt(position + 2) == 'l') {
+      return state.success("nil", position + 3);
+    }
+    return state.failure("nil expected");
+  }
+
+  // SequenceParser
+  private int f103(CharSequence buffer, int position) {
+    position = f119(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f104(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p103(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p119(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p104(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f104(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f105(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p104(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p105(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f105(CharSequence buffer, int position) {
+    return f106(buffer, position);
+  }
+
+  private boolean p105(ParseState state) {
+    int start = state.getPosition();
+    return p106(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // ChoiceParser
+  private int f106(CharSequence buffer, int position) {
+    int result = -1;
+    result = f27(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f117(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f114(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f107(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p106(ParseState state) {
+    int position = state.getPosition();
+    if (p27(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p117(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p114(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p107(state);
+  }
+
+  // SequenceParser
+  private int f107(CharSequence buffer, int position) {
+    position = f113(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f109(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f108(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p107(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p113(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p109(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p108(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // CharacterParser[''' expected]
+  private int f108(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c108.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p108(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c108.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("''' expected");
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f109(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f110(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f110(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p109(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p110(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p110(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // ChoiceParser
+  private int f110(CharSequence buffer, int position) {
+    int result = -1;
+    result = f112(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f111(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p110(ParseState state) {
+    int position = state.getPosition();
+    if (p112(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p111(state);
+  }
+
+  // CharacterParser[[^'] expected]
+  private int f111(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c111.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p111(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c111.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("[^'] expected");
+  }
+
+  // StringParser['' expected]
+  private int f112(CharSequence buffer, int position) {
+    return position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '\'' &&
+        buffer.charAt(position + 1) == '\'' ?
+        position + 2 : -1;
+  }
+
+  private boolean p112(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '\'' &&
+        buffer.charAt(position + 1) == '\'') {
+      return state.success("''", position + 2);
+    }
+    return state.failure("'' expected");
+  }
+
+  // CharacterParser[''' expected]
+  private int f113(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c113.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p113(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c113.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("''' expected");
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f114(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f115(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f115(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p114(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p115(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p115(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // SequenceParser
+  private int f115(CharSequence buffer, int position) {
+    position = f30(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f116(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p115(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p30(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p116(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // CharacterParser[':' expected]
+  private int f116(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c116.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p116(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c116.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("':' expected");
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f117(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f118(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f118(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p117(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p118(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p118(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // CharacterParser[[!%&*+,-/<=>?@\\|~] expected]
+  private int f118(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c118.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p118(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c118.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("[!%&*+,-/<=>?@\\|~] expected");
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f119(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f120(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f120(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p119(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p120(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p120(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // TrimmingParser
+  private int f120(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f121(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p120(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p121(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f121(CharSequence buffer, int position) {
+    return f122(buffer, position);
+  }
+
+  private boolean p121(ParseState state) {
+    int start = state.getPosition();
+    return p122(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[# expected]
+  private int f122(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '#' ?
+        position + 1 : -1;
+  }
+
+  private boolean p122(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '#') {
+      return state.success("#", position + 1);
+    }
+    return state.failure("# expected");
+  }
+
+  // SequenceParser
+  private int f123(CharSequence buffer, int position) {
+    position = f128(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f127(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f124(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p123(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p128(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p127(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p124(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f124(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f125(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p124(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p125(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f125(CharSequence buffer, int position) {
+    return f126(buffer, position);
+  }
+
+  private boolean p125(ParseState state) {
+    int start = state.getPosition();
+    return p126(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[] expected]
+  private int f126(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ']' ?
+        position + 1 : -1;
+  }
+
+  private boolean p126(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ']') {
+      return state.success("]", position + 1);
+    }
+    return state.failure("] expected");
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f127(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f165(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f165(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p127(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p165(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p165(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // TrimmingParser
+  private int f128(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f129(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p128(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p129(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f129(CharSequence buffer, int position) {
+    return f130(buffer, position);
+  }
+
+  private boolean p129(ParseState state) {
+    int start = state.getPosition();
+    return p130(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[#[ expected]
+  private int f130(CharSequence buffer, int position) {
+    return position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '#' &&
+        buffer.charAt(position + 1) == '[' ?
+        position + 2 : -1;
+  }
+
+  private boolean p130(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '#' &&
+        buffer.charAt(position + 1) == '[') {
+      return state.success("#[", position + 2);
+    }
+    return state.failure("#[ expected");
+  }
+
+  // SequenceParser
+  private int f131(CharSequence buffer, int position) {
+    position = f155(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f135(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f132(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p131(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p155(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p135(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p132(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f132(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f133(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p132(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p133(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f133(CharSequence buffer, int position) {
+    return f134(buffer, position);
+  }
+
+  private boolean p133(ParseState state) {
+    int start = state.getPosition();
+    return p134(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[) expected]
+  private int f134(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ')' ?
+        position + 1 : -1;
+  }
+
+  private boolean p134(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ')') {
+      return state.success(")", position + 1);
+    }
+    return state.failure(") expected");
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f135(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f136(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f136(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p135(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p136(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p136(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // ChoiceParser
+  private int f136(CharSequence buffer, int position) {
+    int result = -1;
+    result = f84(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f153(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f145(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f137(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p136(ParseState state) {
+    int position = state.getPosition();
+    if (p84(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p153(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p145(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p137(state);
+  }
+
+  // SequenceParser
+  private int f137(CharSequence buffer, int position) {
+    position = f142(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f141(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f138(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p137(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p142(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p141(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p138(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f138(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f139(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p138(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p139(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f139(CharSequence buffer, int position) {
+    return f140(buffer, position);
+  }
+
+  private boolean p139(ParseState state) {
+    int start = state.getPosition();
+    return p140(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[] expected]
+  private int f140(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ']' ?
+        position + 1 : -1;
+  }
+
+  private boolean p140(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ']') {
+      return state.success("]", position + 1);
+    }
+    return state.failure("] expected");
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f141(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f165(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f165(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p141(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p165(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p165(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // TrimmingParser
+  private int f142(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f143(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p142(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p143(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f143(CharSequence buffer, int position) {
+    return f144(buffer, position);
+  }
+
+  private boolean p143(ParseState state) {
+    int start = state.getPosition();
+    return p144(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[[ expected]
+  private int f144(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '[' ?
+        position + 1 : -1;
+  }
+
+  private boolean p144(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '[') {
+      return state.success("[", position + 1);
+    }
+    return state.failure("[ expected");
+  }
+
+  // SequenceParser
+  private int f145(CharSequence buffer, int position) {
+    position = f150(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f149(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f146(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p145(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p150(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p149(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p146(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f146(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f147(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p146(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p147(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f147(CharSequence buffer, int position) {
+    return f148(buffer, position);
+  }
+
+  private boolean p147(ParseState state) {
+    int start = state.getPosition();
+    return p148(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[) expected]
+  private int f148(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ')' ?
+        position + 1 : -1;
+  }
+
+  private boolean p148(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ')') {
+      return state.success(")", position + 1);
+    }
+    return state.failure(") expected");
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f149(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f136(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f136(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p149(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p136(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p136(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // TrimmingParser
+  private int f150(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f151(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p150(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p151(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f151(CharSequence buffer, int position) {
+    return f152(buffer, position);
+  }
+
+  private boolean p151(ParseState state) {
+    int start = state.getPosition();
+    return p152(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[( expected]
+  private int f152(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '(' ?
+        position + 1 : -1;
+  }
+
+  private boolean p152(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '(') {
+      return state.success("(", position + 1);
+    }
+    return state.failure("( expected");
+  }
+
+  // TrimmingParser
+  private int f153(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f154(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p153(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p154(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f154(CharSequence buffer, int position) {
+    return f106(buffer, position);
+  }
+
+  private boolean p154(ParseState state) {
+    int start = state.getPosition();
+    return p106(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // TrimmingParser
+  private int f155(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f156(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p155(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p156(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f156(CharSequence buffer, int position) {
+    return f157(buffer, position);
+  }
+
+  private boolean p156(ParseState state) {
+    int start = state.getPosition();
+    return p157(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[#( expected]
+  private int f157(CharSequence buffer, int position) {
+    return position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '#' &&
+        buffer.charAt(position + 1) == '(' ?
+        position + 2 : -1;
+  }
+
+  private boolean p157(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '#' &&
+        buffer.charAt(position + 1) == '(') {
+      return state.success("#(", position + 2);
+    }
+    return state.failure("#( expected");
+  }
+
+  // TrimmingParser
+  private int f158(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f159(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p158(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p159(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f159(CharSequence buffer, int position) {
+    return f160(buffer, position);
+  }
+
+  private boolean p159(ParseState state) {
+    int start = state.getPosition();
+    return p160(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // SequenceParser
+  private int f160(CharSequence buffer, int position) {
+    position = f162(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f161(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p160(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p162(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p161(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // CharacterParser[any character expected]
+  private int f161(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c161.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p161(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c161.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("any character expected");
+  }
+
+  // CharacterParser['$' expected]
+  private int f162(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c162.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p162(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c162.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'$' expected");
+  }
+
+  // TrimmingParser
+  private int f163(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f164(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p163(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p164(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f164(CharSequence buffer, int position) {
+    return f107(buffer, position);
+  }
+
+  private boolean p164(ParseState state) {
+    int start = state.getPosition();
+    return p107(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // TrimmingParser
+  private int f165(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f166(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p165(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p166(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f166(CharSequence buffer, int position) {
+    return f167(buffer, position);
+  }
+
+  private boolean p166(ParseState state) {
+    int start = state.getPosition();
+    return p167(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // SequenceParser
+  private int f167(CharSequence buffer, int position) {
+    position = f188(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f168(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p167(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p188(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p168(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // ChoiceParser
+  private int f168(CharSequence buffer, int position) {
+    int result = -1;
+    result = f184(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f176(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f169(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p168(ParseState state) {
+    int position = state.getPosition();
+    if (p184(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p176(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p169(state);
+  }
+
+  // ChoiceParser
+  private int f169(CharSequence buffer, int position) {
+    int result = -1;
+    result = f172(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f170(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p169(ParseState state) {
+    int position = state.getPosition();
+    if (p172(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p170(state);
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f170(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f171(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f171(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p170(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p171(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p171(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // CharacterParser[digit expected]
+  private int f171(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c171.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p171(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c171.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("digit expected");
+  }
+
+  // SequenceParser
+  private int f172(CharSequence buffer, int position) {
+    position = f170(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f175(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f173(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p172(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p170(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p175(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p173(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f173(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f174(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f174(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p173(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p174(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p174(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // CharacterParser[[0-9A-Z] expected]
+  private int f174(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c174.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p174(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c174.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("[0-9A-Z] expected");
+  }
+
+  // CharacterParser['r' expected]
+  private int f175(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c175.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p175(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c175.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'r' expected");
+  }
+
+  // SequenceParser
+  private int f176(CharSequence buffer, int position) {
+    position = f182(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f177(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p176(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p182(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p177(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // OptionalParser
+  private int f177(CharSequence buffer, int position) {
+    int result = f178(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p177(ParseState state) {
+    int position = state.getPosition();
+    return p178(state) || state.success(o177, position);
+  }
+
+  // SequenceParser
+  private int f178(CharSequence buffer, int position) {
+    position = f181(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f179(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p178(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p181(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p179(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // SequenceParser
+  private int f179(CharSequence buffer, int position) {
+    position = f180(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f170(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p179(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p180(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p170(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // CharacterParser['-' expected]
+  private int f180(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c180.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p180(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c180.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'-' expected");
+  }
+
+  // CharacterParser[[edq] expected]
+  private int f181(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c181.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p181(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c181.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("[edq] expected");
+  }
+
+  // SequenceParser
+  private int f182(CharSequence buffer, int position) {
+    position = f170(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f183(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f170(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p182(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p170(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p183(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p170(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // CharacterParser['.' expected]
+  private int f183(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c183.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p183(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c183.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'.' expected");
+  }
+
+  // SequenceParser
+  private int f184(CharSequence buffer, int position) {
+    position = f187(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f186(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f185(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p184(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p187(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p186(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p185(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // OptionalParser
+  private int f185(CharSequence buffer, int position) {
+    int result = f170(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p185(ParseState state) {
+    int position = state.getPosition();
+    return p170(state) || state.success(o185, position);
+  }
+
+  // CharacterParser['s' expected]
+  private int f186(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c186.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p186(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c186.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'s' expected");
+  }
+
+  // ChoiceParser
+  private int f187(CharSequence buffer, int position) {
+    int result = -1;
+    result = f170(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f182(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p187(ParseState state) {
+    int position = state.getPosition();
+    if (p170(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p182(state);
+  }
+
+  // OptionalParser
+  private int f188(CharSequence buffer, int position) {
+    int result = f189(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p188(ParseState state) {
+    int position = state.getPosition();
+    return p189(state) || state.success(o188, position);
+  }
+
+  // CharacterParser['-' expected]
+  private int f189(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c189.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p189(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c189.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'-' expected");
+  }
+
+  // TrimmingParser
+  private int f190(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f191(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p190(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p191(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f191(CharSequence buffer, int position) {
+    return f117(buffer, position);
+  }
+
+  private boolean p191(ParseState state) {
+    int start = state.getPosition();
+    return p117(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f192(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f193(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f193(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p192(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p193(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p193(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // SequenceParser
+  private int f193(CharSequence buffer, int position) {
+    position = f196(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f194(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p193(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p196(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p194(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // SequenceParser
+  private int f194(CharSequence buffer, int position) {
+    position = f35(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f195(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p194(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p35(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p195(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f195(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f34(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f34(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p195(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p34(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p34(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // TrimmingParser
+  private int f196(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f197(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p196(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p197(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f197(CharSequence buffer, int position) {
+    return f115(buffer, position);
+  }
+
+  private boolean p197(ParseState state) {
+    int start = state.getPosition();
+    return p115(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // TrimmingParser
+  private int f198(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f199(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p198(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p199(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f199(CharSequence buffer, int position) {
+    return f200(buffer, position);
+  }
+
+  private boolean p199(ParseState state) {
+    int start = state.getPosition();
+    return p200(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[; expected]
+  private int f200(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ';' ?
+        position + 1 : -1;
+  }
+
+  private boolean p200(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ';') {
+      return state.success(";", position + 1);
+    }
+    return state.failure("; expected");
+  }
+
+  // SequenceParser
+  private int f201(CharSequence buffer, int position) {
+    position = f194(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f202(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p201(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p194(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p202(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // OptionalParser
+  private int f202(CharSequence buffer, int position) {
+    int result = f192(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p202(ParseState state) {
+    int position = state.getPosition();
+    return p192(state) || state.success(o202, position);
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f203(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f204(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f204(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p203(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p204(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p204(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // SequenceParser
+  private int f204(CharSequence buffer, int position) {
+    position = f82(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f205(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p204(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p82(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p205(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f205(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f206(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p205(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p206(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f206(CharSequence buffer, int position) {
+    return f207(buffer, position);
+  }
+
+  private boolean p206(ParseState state) {
+    int start = state.getPosition();
+    return p207(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[:= expected]
+  private int f207(CharSequence buffer, int position) {
+    return position + 2 <= buffer.length() &&
+        buffer.charAt(position) == ':' &&
+        buffer.charAt(position + 1) == '=' ?
+        position + 2 : -1;
+  }
+
+  private boolean p207(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 2 <= buffer.length() &&
+        buffer.charAt(position) == ':' &&
+        buffer.charAt(position + 1) == '=') {
+      return state.success(":=", position + 2);
+    }
+    return state.failure(":= expected");
+  }
+
+  // TrimmingParser
+  private int f208(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f209(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p208(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p209(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f209(CharSequence buffer, int position) {
+    return f210(buffer, position);
+  }
+
+  private boolean p209(ParseState state) {
+    int start = state.getPosition();
+    return p210(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[^ expected]
+  private int f210(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '^' ?
+        position + 1 : -1;
+  }
+
+  private boolean p210(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '^') {
+      return state.success("^", position + 1);
+    }
+    return state.failure("^ expected");
+  }
+
+  // SequenceParser
+  private int f211(CharSequence buffer, int position) {
+    position = f20(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f212(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p211(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p20(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p212(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // ChoiceParser
+  private int f212(CharSequence buffer, int position) {
+    int result = -1;
+    result = f214(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f213(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p212(ParseState state) {
+    int position = state.getPosition();
+    if (p214(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p213(state);
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f213(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p213(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p6(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p6(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // SequenceParser
+  private int f214(CharSequence buffer, int position) {
+    position = f215(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f4(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p214(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p215(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p4(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f215(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p215(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p6(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p6(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f216(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p216(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p6(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p6(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f217(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p217(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p6(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p6(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // OptionalParser
+  private int f218(CharSequence buffer, int position) {
+    int result = f219(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p218(ParseState state) {
+    int position = state.getPosition();
+    return p219(state) || state.success(o218, position);
+  }
+
+  // SequenceParser
+  private int f219(CharSequence buffer, int position) {
+    position = f224(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f223(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f220(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p219(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p224(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p223(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p220(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f220(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f221(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p220(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p221(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f221(CharSequence buffer, int position) {
+    return f222(buffer, position);
+  }
+
+  private boolean p221(ParseState state) {
+    int start = state.getPosition();
+    return p222(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[| expected]
+  private int f222(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '|' ?
+        position + 1 : -1;
+  }
+
+  private boolean p222(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '|') {
+      return state.success("|", position + 1);
+    }
+    return state.failure("| expected");
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f223(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f82(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f82(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p223(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p82(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p82(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // TrimmingParser
+  private int f224(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f225(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p224(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p225(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f225(CharSequence buffer, int position) {
+    return f226(buffer, position);
+  }
+
+  private boolean p225(ParseState state) {
+    int start = state.getPosition();
+    return p226(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[| expected]
+  private int f226(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '|' ?
+        position + 1 : -1;
+  }
+
+  private boolean p226(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '|') {
+      return state.success("|", position + 1);
+    }
+    return state.failure("| expected");
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f227(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p227(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p6(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p6(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f228(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f229(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f229(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p228(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p229(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p229(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // SequenceParser
+  private int f229(CharSequence buffer, int position) {
+    position = f237(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f233(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f230(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p229(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p237(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p233(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p230(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f230(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f231(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p230(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p231(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f231(CharSequence buffer, int position) {
+    return f232(buffer, position);
+  }
+
+  private boolean p231(ParseState state) {
+    int start = state.getPosition();
+    return p232(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[> expected]
+  private int f232(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '>' ?
+        position + 1 : -1;
+  }
+
+  private boolean p232(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '>') {
+      return state.success(">", position + 1);
+    }
+    return state.failure("> expected");
+  }
+
+  // ChoiceParser
+  private int f233(CharSequence buffer, int position) {
+    int result = -1;
+    result = f235(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f82(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f234(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p233(ParseState state) {
+    int position = state.getPosition();
+    if (p235(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p82(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p234(state);
+  }
+
+  // SequenceParser
+  private int f234(CharSequence buffer, int position) {
+    position = f190(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f136(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p234(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p190(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p136(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f235(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f236(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f236(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p235(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p236(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p236(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // SequenceParser
+  private int f236(CharSequence buffer, int position) {
+    position = f196(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f136(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p236(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p196(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p136(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // TrimmingParser
+  private int f237(CharSequence buffer, int position) {
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    position = f238(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    return position;
+  }
+
+  private boolean p237(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    if (!p238(state)) {
+      return false;
+    }
+    position = state.getPosition();
+    for (int result; (result = f7(buffer, position)) >= 0; ) {
+      position = result;
+    }
+    state.setPosition(position);
+    return true;
+  }
+
+  // TokenParser
+  private int f238(CharSequence buffer, int position) {
+    return f239(buffer, position);
+  }
+
+  private boolean p238(ParseState state) {
+    int start = state.getPosition();
+    return p239(state) && state.success(new Token(
+        state.getBuffer(), start, state.getPosition(), state.getValue(),
+        state.getLineIndex()));
+  }
+
+  // StringParser[< expected]
+  private int f239(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '<' ?
+        position + 1 : -1;
+  }
+
+  private boolean p239(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '<') {
+      return state.success("<", position + 1);
+    }
+    return state.failure("< expected");
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f240(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f6(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p240(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p6(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p6(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // ChoiceParser
+  private int f241(CharSequence buffer, int position) {
+    int result = -1;
+    result = f243(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f82(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f242(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p241(ParseState state) {
+    int position = state.getPosition();
+    if (p243(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p82(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p242(state);
+  }
+
+  // SequenceParser
+  private int f242(CharSequence buffer, int position) {
+    position = f190(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f82(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p242(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p190(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p82(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f243(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f244(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f244(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p243(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p244(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p244(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // SequenceParser
+  private int f244(CharSequence buffer, int position) {
+    position = f196(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f82(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p244(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p196(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p82(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+}
@@ -0,0 +1,65 @@
+package org.petitparser.grammar.smalltalk;
+
+import org.junit.Test;
+import org.petitparser.context.Result;
+import org.petitparser.parser.Parser;
+import org.petitparser.tools.ParserGenerator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests {@link GeneratedSmalltalkParser}.
+ *
+ * <p>Run with {@code -Dpetitparser.generate=true} to update the generated
+ * source after changing the grammar.
+ */
+public class GeneratedSmalltalkParserTest {
+
+  private static final Path SOURCE = Paths.get("src/main/java/org/" +
+      "petitparser/grammar/smalltalk/GeneratedSmalltalkParser.java");
+
+  private static final List<String> INPUTS = Arrays.asList("", "foo",
+      "foo: a bar: b ^ a + b", "+ a ^ self",
+      "foo\n  \"comment\"\n  | a b |\n  a := #(1 $a 'str' #sym 2r101 1.5e2).\n" +
+          "  b := [:x | x * 2] value: 3.\n  ^ {a. b} yourself; size",
+      "foo <primitive: 1> ^ #[1 2 3]", "foo ^ 1 +", "foo [", "foo: ^ 1");
+
+  @Test
+  public void testGeneratedSource() throws IOException {
+    String source = new ParserGenerator(new SmalltalkDefinition(), "start")
+        .generate("org.petitparser.grammar.smalltalk",
+            "GeneratedSmalltalkParser");
+    if (Boolean.getBoolean("petitparser.generate")) {
+      Files.write(SOURCE, source.getBytes(StandardCharsets.UTF_8));
+    }
+    assertEquals(new String(Files.readAllBytes(SOURCE),
+        StandardCharsets.UTF_8), source);
+  }
+
+  @Test
+  public void testGeneratedParser() {
+    Parser expected = new SmalltalkDefinition().build();
+    Parser actual = new GeneratedSmalltalkParser();
+    for (String input : INPUTS) {
+      Result expectedResult = expected.parse(input);
+      Result actualResult = actual.parse(input);
+      assertEquals(input, expectedResult.isSuccess(),
+          actualResult.isSuccess());
+      assertEquals(input, expectedResult.getPosition(),
+          actualResult.getPosition());
+      assertEquals(input, expectedResult.isSuccess() ?
+          expectedResult.get() : expectedResult.getMessage(),
+          actualResult.isSuccess() ?
+              actualResult.get() : actualResult.getMessage());
+      assertEquals(input, expected.accept(input), actual.accept(input));
+    }
+  }
+}
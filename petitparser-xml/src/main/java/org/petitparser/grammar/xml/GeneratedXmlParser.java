@@ -0,0 +1,2707 @@
+package org.petitparser.grammar.xml;
+
+import org.petitparser.context.ParseState;
+import org.petitparser.context.Token;
+import org.petitparser.parser.Parser;
+import org.petitparser.parser.primitive.CharacterPredicate;
+import org.petitparser.tools.CompiledParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Generated by {@link org.petitparser.tools.ParserGenerator}, do not edit.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class GeneratedXmlParser extends CompiledParser {
+
+  private final Function a2;
+  private final Function a4;
+  private final Function a12;
+  private final CharacterPredicate c18;
+  private final Function a20;
+  private final CharacterPredicate c26;
+  private final Function a28;
+  private final Object o31;
+  private final CharacterPredicate c36;
+  private final CharacterPredicate c38;
+  private final CharacterPredicate c42;
+  private final CharacterPredicate c43;
+  private final Function a45;
+  private final org.petitparser.grammar.xml.XmlCharacterParser n46;
+  private final CharacterPredicate c48;
+  private final Function a50;
+  private final CharacterPredicate c53;
+  private final Function a56;
+  private final CharacterPredicate c59;
+  private final Function a61;
+  private final CharacterPredicate c64;
+  private final CharacterPredicate c65;
+  private final CharacterPredicate c66;
+  private final CharacterPredicate c67;
+  private final CharacterPredicate c71;
+  private final Function a74;
+  private final Function a76;
+  private final org.petitparser.grammar.xml.XmlCharacterParser n80;
+  private final org.petitparser.grammar.xml.XmlCharacterParser n84;
+  private final Function a87;
+  private final Object o89;
+  private final Function a90;
+  private int s94 = 10;
+  private final CharacterPredicate c100;
+  private final CharacterPredicate c104;
+  private final Object o108;
+  private final XmlDefinition definition;
+
+  public GeneratedXmlParser(XmlDefinition definition) {
+    this.definition = definition;
+    List<Parser> nodesAttribute = nodesOf(definition, "attribute", 3);
+    List<Parser> nodesAttributeValue = nodesOf(definition, "attributeValue", 2);
+    List<Parser> nodesAttributeValueDouble = nodesOf(definition, "attributeValueDouble", 25);
+    List<Parser> nodesAttributeValueSingle = nodesOf(definition, "attributeValueSingle", 25);
+    List<Parser> nodesCdata = nodesOf(definition, "cdata", 8);
+    List<Parser> nodesCharacterData = nodesOf(definition, "characterData", 23);
+    List<Parser> nodesComment = nodesOf(definition, "comment", 8);
+    List<Parser> nodesDoctype = nodesOf(definition, "doctype", 16);
+    List<Parser> nodesDocument = nodesOf(definition, "document", 4);
+    List<Parser> nodesElement = nodesOf(definition, "element", 9);
+    List<Parser> nodesNameChar = nodesOf(definition, "nameChar", 1);
+    List<Parser> nodesNameStartChar = nodesOf(definition, "nameStartChar", 1);
+    List<Parser> nodesProcessing = nodesOf(definition, "processing", 10);
+    List<Parser> nodesQualified = nodesOf(definition, "qualified", 1);
+    List<Parser> nodesSpace = nodesOf(definition, "space", 2);
+    List<Parser> nodesSpaceOptional = nodesOf(definition, "space optional", 2);
+    this.a2 = ((org.petitparser.parser.actions.ActionParser) nodesDocument.get(0)).getFunction();
+    this.a4 = ((org.petitparser.parser.actions.ActionParser) nodesElement.get(0)).getFunction();
+    this.a12 = ((org.petitparser.parser.actions.ActionParser) nodesCdata.get(0)).getFunction();
+    this.c18 = ((org.petitparser.parser.primitive.CharacterParser) nodesCdata.get(5)).getPredicate();
+    this.a20 = ((org.petitparser.parser.actions.ActionParser) nodesComment.get(0)).getFunction();
+    this.c26 = ((org.petitparser.parser.primitive.CharacterParser) nodesComment.get(5)).getPredicate();
+    this.a28 = ((org.petitparser.parser.actions.ActionParser) nodesProcessing.get(0)).getFunction();
+    this.o31 = ((org.petitparser.parser.combinators.OptionalParser) nodesProcessing.get(3)).getOtherwise();
+    this.c36 = ((org.petitparser.parser.primitive.CharacterParser) nodesProcessing.get(7)).getPredicate();
+    this.c38 = ((org.petitparser.parser.primitive.CharacterParser) nodesSpace.get(1)).getPredicate();
+    this.c42 = ((org.petitparser.parser.primitive.CharacterParser) nodesNameChar.get(0)).getPredicate();
+    this.c43 = ((org.petitparser.parser.primitive.CharacterParser) nodesNameStartChar.get(0)).getPredicate();
+    this.a45 = ((org.petitparser.parser.actions.ActionParser) nodesCharacterData.get(0)).getFunction();
+    this.n46 = (org.petitparser.grammar.xml.XmlCharacterParser) nodesCharacterData.get(1);
+    this.c48 = ((org.petitparser.parser.primitive.CharacterParser) nodesAttributeValueDouble.get(23)).getPredicate();
+    this.a50 = ((org.petitparser.parser.actions.ActionParser) nodesAttributeValueDouble.get(19)).getFunction();
+    this.c53 = ((org.petitparser.parser.primitive.CharacterParser) nodesAttributeValueDouble.get(22)).getPredicate();
+    this.a56 = ((org.petitparser.parser.actions.ActionParser) nodesAttributeValueDouble.get(15)).getFunction();
+    this.c59 = ((org.petitparser.parser.primitive.CharacterParser) nodesAttributeValueDouble.get(18)).getPredicate();
+    this.a61 = ((org.petitparser.parser.actions.ActionParser) nodesAttributeValueDouble.get(11)).getFunction();
+    this.c64 = ((org.petitparser.parser.primitive.CharacterParser) nodesAttributeValueDouble.get(14)).getPredicate();
+    this.c65 = ((org.petitparser.parser.primitive.CharacterParser) nodesAttributeValueDouble.get(10)).getPredicate();
+    this.c66 = ((org.petitparser.parser.primitive.CharacterParser) nodesAttributeValueDouble.get(7)).getPredicate();
+    this.c67 = ((org.petitparser.parser.primitive.CharacterParser) nodesAttributeValueDouble.get(4)).getPredicate();
+    this.c71 = ((org.petitparser.parser.primitive.CharacterParser) nodesSpaceOptional.get(1)).getPredicate();
+    this.a74 = ((org.petitparser.parser.actions.ActionParser) nodesAttribute.get(0)).getFunction();
+    this.a76 = ((org.petitparser.parser.actions.ActionParser) nodesAttributeValue.get(0)).getFunction();
+    this.n80 = (org.petitparser.grammar.xml.XmlCharacterParser) nodesAttributeValueSingle.get(2);
+    this.n84 = (org.petitparser.grammar.xml.XmlCharacterParser) nodesAttributeValueDouble.get(2);
+    this.a87 = ((org.petitparser.parser.actions.ActionParser) nodesQualified.get(0)).getFunction();
+    this.o89 = ((org.petitparser.parser.combinators.OptionalParser) nodesDocument.get(3)).getOtherwise();
+    this.a90 = ((org.petitparser.parser.actions.ActionParser) nodesDoctype.get(0)).getFunction();
+    this.c100 = ((org.petitparser.parser.primitive.CharacterParser) nodesDoctype.get(12)).getPredicate();
+    this.c104 = ((org.petitparser.parser.primitive.CharacterParser) nodesDoctype.get(8)).getPredicate();
+    this.o108 = ((org.petitparser.parser.combinators.OptionalParser) nodesDocument.get(2)).getOtherwise();
+  }
+
+  @Override
+  public boolean parseOn(ParseState state) {
+    return p0(state);
+  }
+
+  @Override
+  public int fastParseOn(CharSequence buffer, int position) {
+    return f0(buffer, position);
+  }
+
+  @Override
+  public GeneratedXmlParser copy() {
+    return new GeneratedXmlParser(definition);
+  }
+
+  // PickSequenceParser[0]
+  private int f0(CharSequence buffer, int position) {
+    position = f2(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f1(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p0(ParseState state) {
+    Object value0 = null;
+    if (!p2(state)) {
+      return false;
+    }
+    value0 = state.getValue();
+    if (!p1(state)) {
+      return false;
+    }
+    return state.success(value0);
+  }
+
+  // EndOfInputParser[end of input expected]
+  private int f1(CharSequence buffer, int position) {
+    return position < buffer.length() ? -1 : position;
+  }
+
+  private boolean p1(ParseState state) {
+    return state.getPosition() < state.getBuffer().length() ?
+        state.failure("end of input expected") : state.success(null);
+  }
+
+  // ActionParser
+  private int f2(CharSequence buffer, int position) {
+    return f3(buffer, position);
+  }
+
+  private boolean p2(ParseState state) {
+    return p3(state) &&
+        state.success(a2.apply(state.getValue()));
+  }
+
+  // SequenceParser
+  private int f3(CharSequence buffer, int position) {
+    position = f108(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f106(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f89(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f106(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f4(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f106(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p3(ParseState state) {
+    List<Object> elements = new ArrayList<>(6);
+    if (!p108(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p106(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p89(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p106(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p4(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p106(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // ActionParser
+  private int f4(CharSequence buffer, int position) {
+    return f5(buffer, position);
+  }
+
+  private boolean p4(ParseState state) {
+    return p5(state) &&
+        state.success(a4.apply(state.getValue()));
+  }
+
+  // SequenceParser
+  private int f5(CharSequence buffer, int position) {
+    position = f88(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f87(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f72(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f70(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f6(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p5(ParseState state) {
+    List<Object> elements = new ArrayList<>(5);
+    if (!p88(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p87(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p72(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p70(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p6(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // ChoiceParser
+  private int f6(CharSequence buffer, int position) {
+    int result = -1;
+    result = f69(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f7(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p6(ParseState state) {
+    int position = state.getPosition();
+    if (p69(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p7(state);
+  }
+
+  // SequenceParser
+  private int f7(CharSequence buffer, int position) {
+    position = f68(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f10(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f9(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f87(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f70(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f8(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p7(ParseState state) {
+    List<Object> elements = new ArrayList<>(6);
+    if (!p68(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p10(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p9(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p87(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p70(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p8(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // StringParser[> expected]
+  private int f8(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '>' ?
+        position + 1 : -1;
+  }
+
+  private boolean p8(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '>') {
+      return state.success(">", position + 1);
+    }
+    return state.failure("> expected");
+  }
+
+  // StringParser[</ expected]
+  private int f9(CharSequence buffer, int position) {
+    return position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '<' &&
+        buffer.charAt(position + 1) == '/' ?
+        position + 2 : -1;
+  }
+
+  private boolean p9(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '<' &&
+        buffer.charAt(position + 1) == '/') {
+      return state.success("</", position + 2);
+    }
+    return state.failure("</ expected");
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f10(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f11(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f11(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p10(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p11(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p11(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // ChoiceParser
+  private int f11(CharSequence buffer, int position) {
+    int result = -1;
+    result = f45(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f4(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f28(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f20(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f12(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p11(ParseState state) {
+    int position = state.getPosition();
+    if (p45(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p4(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p28(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p20(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p12(state);
+  }
+
+  // ActionParser
+  private int f12(CharSequence buffer, int position) {
+    return f13(buffer, position);
+  }
+
+  private boolean p12(ParseState state) {
+    return p13(state) &&
+        state.success(a12.apply(state.getValue()));
+  }
+
+  // SequenceParser
+  private int f13(CharSequence buffer, int position) {
+    position = f19(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f15(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f14(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p13(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p19(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p15(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p14(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // StringParser[]]> expected]
+  private int f14(CharSequence buffer, int position) {
+    return position + 3 <= buffer.length() &&
+        buffer.charAt(position) == ']' &&
+        buffer.charAt(position + 1) == ']' &&
+        buffer.charAt(position + 2) == '>' ?
+        position + 3 : -1;
+  }
+
+  private boolean p14(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 3 <= buffer.length() &&
+        buffer.charAt(position) == ']' &&
+        buffer.charAt(position + 1) == ']' &&
+        buffer.charAt(position + 2) == '>') {
+      return state.success("]]>", position + 3);
+    }
+    return state.failure("]]> expected");
+  }
+
+  // FlattenParser
+  private int f15(CharSequence buffer, int position) {
+    return f16(buffer, position);
+  }
+
+  private boolean p15(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    int position = f16(buffer, start);
+    if (position < 0) {
+      return state.failure("Expected CDATA content");
+    }
+    return state.success(buffer.subSequence(start, position).toString(),
+        position);
+  }
+
+  // LazyRepeatingParser[0..*]
+  private int f16(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f18(buffer, current);
+      if (result < 0) {
+        return -1;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      if (f17(buffer, current) >= 0) {
+        return current;
+      }
+      int result = f18(buffer, current);
+      if (result < 0) {
+        return -1;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p16(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p18(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    while (true) {
+      int position = state.getPosition();
+      if (p17(state)) {
+        return state.success(elements, position);
+      }
+      String limiterMessage = state.getMessage();
+      int limiterPosition = state.getPosition();
+      state.setPosition(position);
+      if (!p18(state)) {
+        return state.failure(limiterMessage, limiterPosition);
+      }
+      elements.add(state.getValue());
+    }
+  }
+
+  // StringParser[]]> expected]
+  private int f17(CharSequence buffer, int position) {
+    return position + 3 <= buffer.length() &&
+        buffer.charAt(position) == ']' &&
+        buffer.charAt(position + 1) == ']' &&
+        buffer.charAt(position + 2) == '>' ?
+        position + 3 : -1;
+  }
+
+  private boolean p17(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 3 <= buffer.length() &&
+        buffer.charAt(position) == ']' &&
+        buffer.charAt(position + 1) == ']' &&
+        buffer.charAt(position + 2) == '>') {
+      return state.success("]]>", position + 3);
+    }
+    return state.failure("]]> expected");
+  }
+
+  // CharacterParser[any character expected]
+  private int f18(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c18.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p18(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c18.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("any character expected");
+  }
+
+  // StringParser[<![CDATA[ expected]
+  private int f19(CharSequence buffer, int position) {
+    return matches(buffer, position, "<![CDATA[") ?
+        position + 9 : -1;
+  }
+
+  private boolean p19(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (matches(buffer, position, "<![CDATA[")) {
+      return state.success("<![CDATA[", position + 9);
+    }
+    return state.failure("<![CDATA[ expected");
+  }
+
+  // ActionParser
+  private int f20(CharSequence buffer, int position) {
+    return f21(buffer, position);
+  }
+
+  private boolean p20(ParseState state) {
+    return p21(state) &&
+        state.success(a20.apply(state.getValue()));
+  }
+
+  // SequenceParser
+  private int f21(CharSequence buffer, int position) {
+    position = f27(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f23(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f22(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p21(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p27(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p23(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p22(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // StringParser[--> expected]
+  private int f22(CharSequence buffer, int position) {
+    return position + 3 <= buffer.length() &&
+        buffer.charAt(position) == '-' &&
+        buffer.charAt(position + 1) == '-' &&
+        buffer.charAt(position + 2) == '>' ?
+        position + 3 : -1;
+  }
+
+  private boolean p22(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 3 <= buffer.length() &&
+        buffer.charAt(position) == '-' &&
+        buffer.charAt(position + 1) == '-' &&
+        buffer.charAt(position + 2) == '>') {
+      return state.success("-->", position + 3);
+    }
+    return state.failure("--> expected");
+  }
+
+  // FlattenParser
+  private int f23(CharSequence buffer, int position) {
+    return f24(buffer, position);
+  }
+
+  private boolean p23(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    int position = f24(buffer, start);
+    if (position < 0) {
+      return state.failure("Expected comment content");
+    }
+    return state.success(buffer.subSequence(start, position).toString(),
+        position);
+  }
+
+  // LazyRepeatingParser[0..*]
+  private int f24(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f26(buffer, current);
+      if (result < 0) {
+        return -1;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      if (f25(buffer, current) >= 0) {
+        return current;
+      }
+      int result = f26(buffer, current);
+      if (result < 0) {
+        return -1;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p24(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p26(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    while (true) {
+      int position = state.getPosition();
+      if (p25(state)) {
+        return state.success(elements, position);
+      }
+      String limiterMessage = state.getMessage();
+      int limiterPosition = state.getPosition();
+      state.setPosition(position);
+      if (!p26(state)) {
+        return state.failure(limiterMessage, limiterPosition);
+      }
+      elements.add(state.getValue());
+    }
+  }
+
+  // StringParser[--> expected]
+  private int f25(CharSequence buffer, int position) {
+    return position + 3 <= buffer.length() &&
+        buffer.charAt(position) == '-' &&
+        buffer.charAt(position + 1) == '-' &&
+        buffer.charAt(position + 2) == '>' ?
+        position + 3 : -1;
+  }
+
+  private boolean p25(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 3 <= buffer.length() &&
+        buffer.charAt(position) == '-' &&
+        buffer.charAt(position + 1) == '-' &&
+        buffer.charAt(position + 2) == '>') {
+      return state.success("-->", position + 3);
+    }
+    return state.failure("--> expected");
+  }
+
+  // CharacterParser[any character expected]
+  private int f26(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c26.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p26(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c26.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("any character expected");
+  }
+
+  // StringParser[<!-- expected]
+  private int f27(CharSequence buffer, int position) {
+    return position + 4 <= buffer.length() &&
+        buffer.charAt(position) == '<' &&
+        buffer.charAt(position + 1) == '!' &&
+        buffer.charAt(position + 2) == '-' &&
+        buffer.charAt(position + 3) == '-' ?
+        position + 4 : -1;
+  }
+
+  private boolean p27(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 4 <= buffer.length() &&
+        buffer.charAt(position) == '<' &&
+        buffer.charAt(position + 1) == '!' &&
+        buffer.charAt(position + 2) == '-' &&
+        buffer.charAt(position + 3) == '-') {
+      return state.success("<!--", position + 4);
+    }
+    return state.failure("<!-- expected");
+  }
+
+  // ActionParser
+  private int f28(CharSequence buffer, int position) {
+    return f29(buffer, position);
+  }
+
+  private boolean p28(ParseState state) {
+    return p29(state) &&
+        state.success(a28.apply(state.getValue()));
+  }
+
+  // SequenceParser
+  private int f29(CharSequence buffer, int position) {
+    position = f44(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f39(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f31(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f30(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p29(ParseState state) {
+    List<Object> elements = new ArrayList<>(4);
+    if (!p44(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p39(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p31(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p30(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // StringParser[?> expected]
+  private int f30(CharSequence buffer, int position) {
+    return position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '?' &&
+        buffer.charAt(position + 1) == '>' ?
+        position + 2 : -1;
+  }
+
+  private boolean p30(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '?' &&
+        buffer.charAt(position + 1) == '>') {
+      return state.success("?>", position + 2);
+    }
+    return state.failure("?> expected");
+  }
+
+  // OptionalParser
+  private int f31(CharSequence buffer, int position) {
+    int result = f32(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p31(ParseState state) {
+    int position = state.getPosition();
+    return p32(state) || state.success(o31, position);
+  }
+
+  // PickSequenceParser[1]
+  private int f32(CharSequence buffer, int position) {
+    position = f37(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f33(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p32(ParseState state) {
+    Object value0 = null;
+    if (!p37(state)) {
+      return false;
+    }
+    if (!p33(state)) {
+      return false;
+    }
+    value0 = state.getValue();
+    return state.success(value0);
+  }
+
+  // FlattenParser
+  private int f33(CharSequence buffer, int position) {
+    return f34(buffer, position);
+  }
+
+  private boolean p33(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    int position = f34(buffer, start);
+    if (position < 0) {
+      return state.failure("Expected processing instruction content");
+    }
+    return state.success(buffer.subSequence(start, position).toString(),
+        position);
+  }
+
+  // LazyRepeatingParser[0..*]
+  private int f34(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f36(buffer, current);
+      if (result < 0) {
+        return -1;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      if (f35(buffer, current) >= 0) {
+        return current;
+      }
+      int result = f36(buffer, current);
+      if (result < 0) {
+        return -1;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p34(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p36(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    while (true) {
+      int position = state.getPosition();
+      if (p35(state)) {
+        return state.success(elements, position);
+      }
+      String limiterMessage = state.getMessage();
+      int limiterPosition = state.getPosition();
+      state.setPosition(position);
+      if (!p36(state)) {
+        return state.failure(limiterMessage, limiterPosition);
+      }
+      elements.add(state.getValue());
+    }
+  }
+
+  // StringParser[?> expected]
+  private int f35(CharSequence buffer, int position) {
+    return position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '?' &&
+        buffer.charAt(position + 1) == '>' ?
+        position + 2 : -1;
+  }
+
+  private boolean p35(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '?' &&
+        buffer.charAt(position + 1) == '>') {
+      return state.success("?>", position + 2);
+    }
+    return state.failure("?> expected");
+  }
+
+  // CharacterParser[any character expected]
+  private int f36(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c36.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p36(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c36.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("any character expected");
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f37(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f38(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f38(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p37(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p38(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p38(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f38(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c38.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p38(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c38.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // FlattenParser
+  private int f39(CharSequence buffer, int position) {
+    return f40(buffer, position);
+  }
+
+  private boolean p39(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    int position = f40(buffer, start);
+    if (position < 0) {
+      return state.failure("Expected name");
+    }
+    return state.success(buffer.subSequence(start, position).toString(),
+        position);
+  }
+
+  // SequenceParser
+  private int f40(CharSequence buffer, int position) {
+    position = f43(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f41(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p40(ParseState state) {
+    List<Object> elements = new ArrayList<>(2);
+    if (!p43(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p41(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f41(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f42(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f42(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p41(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p42(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p42(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // CharacterParser[[-.0-9\u00b7\u0300-\u036f\u203f-\u2040:A-Z_a-z\u00c0-\u00d6\u00d8-\u00f6\u00f8-\u02ff\u0370-\u037d\u037f-\u1fff\u200c-\u200d\u2070-\u218f\u2c00-\u2fef\u3001\ud7ff\uf900-\ufdcf\ufdf0-\ufffd] expected]
+  private int f42(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c42.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p42(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c42.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("[-.0-9\u00b7\u0300-\u036f\u203f-\u2040:A-Z_a-z\u00c0-\u00d6\u00d8-\u00f6\u00f8-\u02ff\u0370-\u037d\u037f-\u1fff\u200c-\u200d\u2070-\u218f\u2c00-\u2fef\u3001\ud7ff\uf900-\ufdcf\ufdf0-\ufffd] expected");
+  }
+
+  // CharacterParser[Expected name]
+  private int f43(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c43.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p43(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c43.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("Expected name");
+  }
+
+  // StringParser[<? expected]
+  private int f44(CharSequence buffer, int position) {
+    return position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '<' &&
+        buffer.charAt(position + 1) == '?' ?
+        position + 2 : -1;
+  }
+
+  private boolean p44(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '<' &&
+        buffer.charAt(position + 1) == '?') {
+      return state.success("<?", position + 2);
+    }
+    return state.failure("<? expected");
+  }
+
+  // ActionParser
+  private int f45(CharSequence buffer, int position) {
+    return f46(buffer, position);
+  }
+
+  private boolean p45(ParseState state) {
+    return p46(state) &&
+        state.success(a45.apply(state.getValue()));
+  }
+
+  // XmlCharacterParser
+  private int f46(CharSequence buffer, int position) {
+    return n46.fastParseOn(buffer, position);
+  }
+
+  private boolean p46(ParseState state) {
+    return n46.parseOn(state);
+  }
+
+  // PickSequenceParser[1]
+  private int f47(CharSequence buffer, int position) {
+    position = f67(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f49(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f48(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p47(ParseState state) {
+    Object value0 = null;
+    if (!p67(state)) {
+      return false;
+    }
+    if (!p49(state)) {
+      return false;
+    }
+    value0 = state.getValue();
+    if (!p48(state)) {
+      return false;
+    }
+    return state.success(value0);
+  }
+
+  // CharacterParser[';' expected]
+  private int f48(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c48.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p48(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c48.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("';' expected");
+  }
+
+  // ChoiceParser
+  private int f49(CharSequence buffer, int position) {
+    int result = -1;
+    result = f54(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f50(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p49(ParseState state) {
+    int position = state.getPosition();
+    if (p54(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p50(state);
+  }
+
+  // ActionParser
+  private int f50(CharSequence buffer, int position) {
+    return f51(buffer, position);
+  }
+
+  private boolean p50(ParseState state) {
+    return p51(state) &&
+        state.success(a50.apply(state.getValue()));
+  }
+
+  // FlattenParser
+  private int f51(CharSequence buffer, int position) {
+    return f52(buffer, position);
+  }
+
+  private boolean p51(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    int position = f52(buffer, start);
+    if (position < 0) {
+      return state.failure("Expected named character reference");
+    }
+    return state.success(buffer.subSequence(start, position).toString(),
+        position);
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f52(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f53(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f53(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p52(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p53(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p53(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // CharacterParser[letter or digit expected]
+  private int f53(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c53.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p53(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c53.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("letter or digit expected");
+  }
+
+  // PickSequenceParser[1]
+  private int f54(CharSequence buffer, int position) {
+    position = f66(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f55(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p54(ParseState state) {
+    Object value0 = null;
+    if (!p66(state)) {
+      return false;
+    }
+    if (!p55(state)) {
+      return false;
+    }
+    value0 = state.getValue();
+    return state.success(value0);
+  }
+
+  // ChoiceParser
+  private int f55(CharSequence buffer, int position) {
+    int result = -1;
+    result = f60(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f56(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p55(ParseState state) {
+    int position = state.getPosition();
+    if (p60(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p56(state);
+  }
+
+  // ActionParser
+  private int f56(CharSequence buffer, int position) {
+    return f57(buffer, position);
+  }
+
+  private boolean p56(ParseState state) {
+    return p57(state) &&
+        state.success(a56.apply(state.getValue()));
+  }
+
+  // FlattenParser
+  private int f57(CharSequence buffer, int position) {
+    return f58(buffer, position);
+  }
+
+  private boolean p57(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    int position = f58(buffer, start);
+    if (position < 0) {
+      return state.failure("Expected decimal character reference");
+    }
+    return state.success(buffer.subSequence(start, position).toString(),
+        position);
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f58(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f59(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f59(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p58(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p59(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p59(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // CharacterParser[digit expected]
+  private int f59(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c59.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p59(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c59.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("digit expected");
+  }
+
+  // PickSequenceParser[1]
+  private int f60(CharSequence buffer, int position) {
+    position = f65(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f61(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p60(ParseState state) {
+    Object value0 = null;
+    if (!p65(state)) {
+      return false;
+    }
+    if (!p61(state)) {
+      return false;
+    }
+    value0 = state.getValue();
+    return state.success(value0);
+  }
+
+  // ActionParser
+  private int f61(CharSequence buffer, int position) {
+    return f62(buffer, position);
+  }
+
+  private boolean p61(ParseState state) {
+    return p62(state) &&
+        state.success(a61.apply(state.getValue()));
+  }
+
+  // FlattenParser
+  private int f62(CharSequence buffer, int position) {
+    return f63(buffer, position);
+  }
+
+  private boolean p62(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    int position = f63(buffer, start);
+    if (position < 0) {
+      return state.failure("Expected hexadecimal character reference");
+    }
+    return state.success(buffer.subSequence(start, position).toString(),
+        position);
+  }
+
+  // PossessiveRepeatingParser[1..*]
+  private int f63(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 1) {
+      int result = f64(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f64(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p63(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 1) {
+      if (!p64(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p64(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // CharacterParser[[A-Fa-f0-9] expected]
+  private int f64(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c64.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p64(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c64.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("[A-Fa-f0-9] expected");
+  }
+
+  // CharacterParser[[xX] expected]
+  private int f65(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c65.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p65(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c65.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("[xX] expected");
+  }
+
+  // CharacterParser['#' expected]
+  private int f66(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c66.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p66(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c66.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'#' expected");
+  }
+
+  // CharacterParser['&' expected]
+  private int f67(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c67.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p67(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c67.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("'&' expected");
+  }
+
+  // StringParser[> expected]
+  private int f68(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '>' ?
+        position + 1 : -1;
+  }
+
+  private boolean p68(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '>') {
+      return state.success(">", position + 1);
+    }
+    return state.failure("> expected");
+  }
+
+  // StringParser[/> expected]
+  private int f69(CharSequence buffer, int position) {
+    return position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '/' &&
+        buffer.charAt(position + 1) == '>' ?
+        position + 2 : -1;
+  }
+
+  private boolean p69(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 2 <= buffer.length() &&
+        buffer.charAt(position) == '/' &&
+        buffer.charAt(position + 1) == '>') {
+      return state.success("/>", position + 2);
+    }
+    return state.failure("/> expected");
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f70(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f71(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f71(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p70(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p71(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p71(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // CharacterParser[whitespace expected]
+  private int f71(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c71.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p71(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c71.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("whitespace expected");
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f72(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f73(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f73(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p72(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p73(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p73(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // PickSequenceParser[1]
+  private int f73(CharSequence buffer, int position) {
+    position = f37(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f74(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p73(ParseState state) {
+    Object value0 = null;
+    if (!p37(state)) {
+      return false;
+    }
+    if (!p74(state)) {
+      return false;
+    }
+    value0 = state.getValue();
+    return state.success(value0);
+  }
+
+  // ActionParser
+  private int f74(CharSequence buffer, int position) {
+    return f75(buffer, position);
+  }
+
+  private boolean p74(ParseState state) {
+    return p75(state) &&
+        state.success(a74.apply(state.getValue()));
+  }
+
+  // SequenceParser
+  private int f75(CharSequence buffer, int position) {
+    position = f87(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f70(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f86(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f70(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f76(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p75(ParseState state) {
+    List<Object> elements = new ArrayList<>(5);
+    if (!p87(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p70(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p86(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p70(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p76(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // ActionParser
+  private int f76(CharSequence buffer, int position) {
+    return f77(buffer, position);
+  }
+
+  private boolean p76(ParseState state) {
+    return p77(state) &&
+        state.success(a76.apply(state.getValue()));
+  }
+
+  // ChoiceParser
+  private int f77(CharSequence buffer, int position) {
+    int result = -1;
+    result = f82(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f78(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p77(ParseState state) {
+    int position = state.getPosition();
+    if (p82(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p78(state);
+  }
+
+  // SequenceParser
+  private int f78(CharSequence buffer, int position) {
+    position = f81(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f80(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f79(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p78(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p81(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p80(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p79(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // StringParser[' expected]
+  private int f79(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '\'' ?
+        position + 1 : -1;
+  }
+
+  private boolean p79(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '\'') {
+      return state.success("'", position + 1);
+    }
+    return state.failure("' expected");
+  }
+
+  // XmlCharacterParser
+  private int f80(CharSequence buffer, int position) {
+    return n80.fastParseOn(buffer, position);
+  }
+
+  private boolean p80(ParseState state) {
+    return n80.parseOn(state);
+  }
+
+  // StringParser[' expected]
+  private int f81(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '\'' ?
+        position + 1 : -1;
+  }
+
+  private boolean p81(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '\'') {
+      return state.success("'", position + 1);
+    }
+    return state.failure("' expected");
+  }
+
+  // SequenceParser
+  private int f82(CharSequence buffer, int position) {
+    position = f85(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f84(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f83(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p82(ParseState state) {
+    List<Object> elements = new ArrayList<>(3);
+    if (!p85(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p84(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p83(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // StringParser[\" expected]
+  private int f83(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '"' ?
+        position + 1 : -1;
+  }
+
+  private boolean p83(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '"') {
+      return state.success("\"", position + 1);
+    }
+    return state.failure("\" expected");
+  }
+
+  // XmlCharacterParser
+  private int f84(CharSequence buffer, int position) {
+    return n84.fastParseOn(buffer, position);
+  }
+
+  private boolean p84(ParseState state) {
+    return n84.parseOn(state);
+  }
+
+  // StringParser[\" expected]
+  private int f85(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '"' ?
+        position + 1 : -1;
+  }
+
+  private boolean p85(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '"') {
+      return state.success("\"", position + 1);
+    }
+    return state.failure("\" expected");
+  }
+
+  // StringParser[= expected]
+  private int f86(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '=' ?
+        position + 1 : -1;
+  }
+
+  private boolean p86(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '=') {
+      return state.success("=", position + 1);
+    }
+    return state.failure("= expected");
+  }
+
+  // ActionParser
+  private int f87(CharSequence buffer, int position) {
+    return f39(buffer, position);
+  }
+
+  private boolean p87(ParseState state) {
+    return p39(state) &&
+        state.success(a87.apply(state.getValue()));
+  }
+
+  // StringParser[< expected]
+  private int f88(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '<' ?
+        position + 1 : -1;
+  }
+
+  private boolean p88(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '<') {
+      return state.success("<", position + 1);
+    }
+    return state.failure("< expected");
+  }
+
+  // OptionalParser
+  private int f89(CharSequence buffer, int position) {
+    int result = f90(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p89(ParseState state) {
+    int position = state.getPosition();
+    return p90(state) || state.success(o89, position);
+  }
+
+  // ActionParser
+  private int f90(CharSequence buffer, int position) {
+    return f91(buffer, position);
+  }
+
+  private boolean p90(ParseState state) {
+    return p91(state) &&
+        state.success(a90.apply(state.getValue()));
+  }
+
+  // SequenceParser
+  private int f91(CharSequence buffer, int position) {
+    position = f105(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f37(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f93(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f70(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f92(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p91(ParseState state) {
+    List<Object> elements = new ArrayList<>(5);
+    if (!p105(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p37(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p93(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p70(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p92(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // StringParser[> expected]
+  private int f92(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '>' ?
+        position + 1 : -1;
+  }
+
+  private boolean p92(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '>') {
+      return state.success(">", position + 1);
+    }
+    return state.failure("> expected");
+  }
+
+  // FlattenParser
+  private int f93(CharSequence buffer, int position) {
+    return f94(buffer, position);
+  }
+
+  private boolean p93(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int start = state.getPosition();
+    int position = f94(buffer, start);
+    if (position < 0) {
+      return state.failure("Expected doctype content");
+    }
+    return state.success(buffer.subSequence(start, position).toString(),
+        position);
+  }
+
+  // SeparatedByParser[with separators]
+  private int f94(CharSequence buffer, int position) {
+    int current = f95(buffer, position);
+    if (current < 0) {
+      return current;
+    }
+    while (true) {
+      int separated = f37(buffer, current);
+      if (separated < 0) {
+        return current;
+      }
+      int result = f95(buffer, separated);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+    }
+  }
+
+  private boolean p94(ParseState state) {
+    if (!p95(state)) {
+      return false;
+    }
+    List<Object> elements = new ArrayList<>(s94);
+    elements.add(state.getValue());
+    int position = state.getPosition();
+    while (true) {
+      if (!p37(state)) {
+        s94 = Math.min(elements.size(), 1024);
+        return state.success(elements, position);
+      }
+      Object separated = state.getValue();
+      if (!p95(state)) {
+        s94 = Math.min(elements.size(), 1024);
+        return state.success(elements, position);
+      }
+      elements.add(separated);
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // ChoiceParser
+  private int f95(CharSequence buffer, int position) {
+    int result = -1;
+    result = f39(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f76(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f96(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p95(ParseState state) {
+    int position = state.getPosition();
+    if (p39(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p76(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p96(state);
+  }
+
+  // SequenceParser
+  private int f96(CharSequence buffer, int position) {
+    position = f102(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f101(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f98(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    position = f97(buffer, position);
+    if (position < 0) {
+      return position;
+    }
+    return position;
+  }
+
+  private boolean p96(ParseState state) {
+    List<Object> elements = new ArrayList<>(4);
+    if (!p102(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p101(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p98(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    if (!p97(state)) {
+      return false;
+    }
+    elements.add(state.getValue());
+    return state.success(elements);
+  }
+
+  // StringParser[] expected]
+  private int f97(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ']' ?
+        position + 1 : -1;
+  }
+
+  private boolean p97(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ']') {
+      return state.success("]", position + 1);
+    }
+    return state.failure("] expected");
+  }
+
+  // LazyRepeatingParser[0..*]
+  private int f98(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f100(buffer, current);
+      if (result < 0) {
+        return -1;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      if (f99(buffer, current) >= 0) {
+        return current;
+      }
+      int result = f100(buffer, current);
+      if (result < 0) {
+        return -1;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p98(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p100(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    while (true) {
+      int position = state.getPosition();
+      if (p99(state)) {
+        return state.success(elements, position);
+      }
+      String limiterMessage = state.getMessage();
+      int limiterPosition = state.getPosition();
+      state.setPosition(position);
+      if (!p100(state)) {
+        return state.failure(limiterMessage, limiterPosition);
+      }
+      elements.add(state.getValue());
+    }
+  }
+
+  // StringParser[] expected]
+  private int f99(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ']' ?
+        position + 1 : -1;
+  }
+
+  private boolean p99(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == ']') {
+      return state.success("]", position + 1);
+    }
+    return state.failure("] expected");
+  }
+
+  // CharacterParser[any character expected]
+  private int f100(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c100.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p100(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c100.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("any character expected");
+  }
+
+  // StringParser[[ expected]
+  private int f101(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '[' ?
+        position + 1 : -1;
+  }
+
+  private boolean p101(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '[') {
+      return state.success("[", position + 1);
+    }
+    return state.failure("[ expected");
+  }
+
+  // LazyRepeatingParser[0..*]
+  private int f102(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f104(buffer, current);
+      if (result < 0) {
+        return -1;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      if (f103(buffer, current) >= 0) {
+        return current;
+      }
+      int result = f104(buffer, current);
+      if (result < 0) {
+        return -1;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p102(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p104(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    while (true) {
+      int position = state.getPosition();
+      if (p103(state)) {
+        return state.success(elements, position);
+      }
+      String limiterMessage = state.getMessage();
+      int limiterPosition = state.getPosition();
+      state.setPosition(position);
+      if (!p104(state)) {
+        return state.failure(limiterMessage, limiterPosition);
+      }
+      elements.add(state.getValue());
+    }
+  }
+
+  // StringParser[[ expected]
+  private int f103(CharSequence buffer, int position) {
+    return position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '[' ?
+        position + 1 : -1;
+  }
+
+  private boolean p103(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position + 1 <= buffer.length() &&
+        buffer.charAt(position) == '[') {
+      return state.success("[", position + 1);
+    }
+    return state.failure("[ expected");
+  }
+
+  // CharacterParser[any character expected]
+  private int f104(CharSequence buffer, int position) {
+    return position < buffer.length() &&
+        c104.test(buffer.charAt(position)) ? position + 1 : -1;
+  }
+
+  private boolean p104(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (position < buffer.length()) {
+      char value = buffer.charAt(position);
+      if (c104.test(value)) {
+        return state.success(value, position + 1);
+      }
+    }
+    return state.failure("any character expected");
+  }
+
+  // StringParser[<!DOCTYPE expected]
+  private int f105(CharSequence buffer, int position) {
+    return matches(buffer, position, "<!DOCTYPE") ?
+        position + 9 : -1;
+  }
+
+  private boolean p105(ParseState state) {
+    CharSequence buffer = state.getBuffer();
+    int position = state.getPosition();
+    if (matches(buffer, position, "<!DOCTYPE")) {
+      return state.success("<!DOCTYPE", position + 9);
+    }
+    return state.failure("<!DOCTYPE expected");
+  }
+
+  // PossessiveRepeatingParser[0..*]
+  private int f106(CharSequence buffer, int position) {
+    int count = 0;
+    int current = position;
+    while (count < 0) {
+      int result = f107(buffer, current);
+      if (result < 0) {
+        return result;
+      }
+      current = result;
+      count++;
+    }
+    while (true) {
+      int result = f107(buffer, current);
+      if (result < 0) {
+        return current;
+      }
+      current = result;
+      count++;
+    }
+  }
+
+  private boolean p106(ParseState state) {
+    List<Object> elements = new ArrayList<>();
+    while (elements.size() < 0) {
+      if (!p107(state)) {
+        return false;
+      }
+      elements.add(state.getValue());
+    }
+    int position = state.getPosition();
+    while (true) {
+      if (!p107(state)) {
+        return state.success(elements, position);
+      }
+      elements.add(state.getValue());
+      position = state.getPosition();
+    }
+  }
+
+  // ChoiceParser
+  private int f107(CharSequence buffer, int position) {
+    int result = -1;
+    result = f37(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f20(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    result = f28(buffer, position);
+    if (result >= 0) {
+      return result;
+    }
+    return result;
+  }
+
+  private boolean p107(ParseState state) {
+    int position = state.getPosition();
+    if (p37(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    if (p20(state)) {
+      return true;
+    }
+    state.setPosition(position);
+    return p28(state);
+  }
+
+  // OptionalParser
+  private int f108(CharSequence buffer, int position) {
+    int result = f28(buffer, position);
+    return result < 0 ? position : result;
+  }
+
+  private boolean p108(ParseState state) {
+    int position = state.getPosition();
+    return p28(state) || state.success(o108, position);
+  }
+}
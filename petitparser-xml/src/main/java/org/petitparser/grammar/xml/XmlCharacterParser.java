@@ -335,7 +335,7 @@ public class XmlCharacterParser extends Parser {
 
   @Override
   public Result parseOn(Context context) {
-    String input = context.getBuffer();
+    CharSequence input = context.getBuffer();
     StringBuilder output = new StringBuilder();
     int position = context.getPosition();
     int start = position;
@@ -368,7 +368,7 @@ public class XmlCharacterParser extends Parser {
   }
 
   @Override
-  public int fastParseOn(String buffer, int position) {
+  public int fastParseOn(CharSequence buffer, int position) {
     int start = position;
     int length = buffer.length();
     while (position < length) {
@@ -0,0 +1,72 @@
+package org.petitparser.grammar.xml;
+
+import org.junit.Test;
+import org.petitparser.context.Result;
+import org.petitparser.grammar.xml.ast.XmlNode;
+import org.petitparser.parser.Parser;
+import org.petitparser.tools.ParserGenerator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests {@link GeneratedXmlParser}.
+ *
+ * <p>Run with {@code -Dpetitparser.generate=true} to update the generated
+ * source after changing the grammar.
+ */
+public class GeneratedXmlParserTest {
+
+  private static final Path SOURCE = Paths.get("src/main/java/org/" +
+      "petitparser/grammar/xml/GeneratedXmlParser.java");
+
+  private static final List<String> INPUTS = Arrays.asList("", "<data/>",
+      "<data></data>", "<data attr=\"1\" other='2'>text &amp; &#x41;</data>",
+      "<?xml version=\"1.0\" encoding=\"UTF-8\"?><schema><!-- <foo /> -->" +
+          "</schema>",
+      "<?xml foo?>\n<!DOCTYPE name [ something ]>\n" +
+          "<ns:foo attr=\"not namespaced\" n1:ans=\"namespace 1\">\n" +
+          "  <element/>\n  <![CDATA[cdata]]>\n  <?processing instruction?>\n" +
+          "</ns:foo>",
+      "<data>", "<data attr=1/>", "<!-- comment", "text");
+
+  @Test
+  public void testGeneratedSource() throws IOException {
+    String source = new ParserGenerator(
+        new XmlDefinition<>(new XmlBuilder()), "start")
+        .generate("org.petitparser.grammar.xml", "GeneratedXmlParser");
+    if (Boolean.getBoolean("petitparser.generate")) {
+      Files.write(SOURCE, source.getBytes(StandardCharsets.UTF_8));
+    }
+    assertEquals(new String(Files.readAllBytes(SOURCE),
+        StandardCharsets.UTF_8), source);
+  }
+
+  @Test
+  public void testGeneratedParser() {
+    Parser expected = new XmlParser();
+    Parser actual = new GeneratedXmlParser(
+        new XmlDefinition<>(new XmlBuilder()));
+    for (String input : INPUTS) {
+      Result expectedResult = expected.parse(input);
+      Result actualResult = actual.parse(input);
+      assertEquals(input, expectedResult.isSuccess(),
+          actualResult.isSuccess());
+      assertEquals(input, expectedResult.getPosition(),
+          actualResult.getPosition());
+      assertEquals(input, expectedResult.isSuccess() ?
+          expectedResult.<XmlNode>get().toXmlString() :
+          expectedResult.getMessage(), actualResult.isSuccess() ?
+          actualResult.<XmlNode>get().toXmlString() :
+          actualResult.getMessage());
+      assertEquals(input, expected.accept(input), actual.accept(input));
+    }
+  }
+}